@@ -0,0 +1,133 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.response.AttendanceSeasonStatsResponse;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Season dashboard of one activity: rates and streaks per member, and the per-occurrence
+ * heatmap of its session, computed from attendance rows (one per member and occurrence,
+ * as read from {@code t_attendance}) and from bitsets (one row per member, as read from
+ * {@code t_attendance_bitmap}).
+ *
+ * <p>Measures the aggregation only. The bitset path also reads {@code sessions} times
+ * fewer rows from the database, which this benchmark leaves out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceRateBenchmark {
+
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    @Param({"30", "300"})
+    private int members;
+
+    @Param({"35"})
+    private int sessions;
+
+    private List<MarkRow> markRows;
+    private List<AttendanceBitmapRow> bitmapRows;
+
+    /**
+     * Attendance row as the row-count path reads it, ordered by subscription and date.
+     */
+    record MarkRow(Long subscriptionId, Long familyMemberId, int occurrence, AttendanceStatus status) {
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        markRows = new ArrayList<>(members * sessions);
+        bitmapRows = new ArrayList<>(members);
+        for (long subscriptionId = 1; subscriptionId <= members; subscriptionId++) {
+            long[] bits = new long[STATUSES.length];
+            for (int occurrence = 0; occurrence < sessions; occurrence++) {
+                // Mostly present, as in a real season
+                AttendanceStatus status = random.nextInt(10) < 7
+                    ? AttendanceStatus.PRESENT : STATUSES[random.nextInt(STATUSES.length)];
+                markRows.add(new MarkRow(subscriptionId, subscriptionId, occurrence, status));
+                bits[status.ordinal()] |= 1L << occurrence;
+            }
+            bitmapRows.add(new AttendanceBitmapRow(subscriptionId, subscriptionId, "Child", "Dupont", 1L,
+                bits[AttendanceStatus.PRESENT.ordinal()], bits[AttendanceStatus.ABSENT.ordinal()],
+                bits[AttendanceStatus.EXCUSED.ordinal()], bits[AttendanceStatus.LATE.ordinal()]));
+        }
+    }
+
+    @Benchmark
+    public List<AttendanceSeasonStatsResponse> seasonStatsFromRows() {
+        List<AttendanceSeasonStatsResponse> stats = new ArrayList<>(members);
+        int index = 0;
+        while (index < markRows.size()) {
+            MarkRow first = markRows.get(index);
+            Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
+            int run = 0;
+            int longestStreak = 0;
+            for (; index < markRows.size() && markRows.get(index).subscriptionId().equals(first.subscriptionId());
+                 index++) {
+                AttendanceStatus status = markRows.get(index).status();
+                counts.merge(status, 1, Integer::sum);
+                run = status == AttendanceStatus.PRESENT || status == AttendanceStatus.LATE ? run + 1 : 0;
+                longestStreak = Math.max(longestStreak, run);
+            }
+
+            int present = counts.getOrDefault(AttendanceStatus.PRESENT, 0);
+            int absent = counts.getOrDefault(AttendanceStatus.ABSENT, 0);
+            int excused = counts.getOrDefault(AttendanceStatus.EXCUSED, 0);
+            int late = counts.getOrDefault(AttendanceStatus.LATE, 0);
+            int total = present + absent + excused + late;
+            stats.add(new AttendanceSeasonStatsResponse(first.subscriptionId(), first.familyMemberId(),
+                "Child", "Dupont", total, present, absent, excused, late,
+                total > 0 ? (double) present / total * 100.0 : 0.0, run, longestStreak));
+        }
+        return stats;
+    }
+
+    @Benchmark
+    public List<AttendanceSeasonStatsResponse> seasonStatsFromBitsets() {
+        return AttendanceAnalyticsServiceImpl.toSeasonStats(bitmapRows);
+    }
+
+    @Benchmark
+    public int[][] heatmapFromRows() {
+        int[][] counts = new int[STATUSES.length][AttendanceBitset.OCCURRENCES_PER_SEASON];
+        for (MarkRow row : markRows) {
+            counts[row.status().ordinal()][row.occurrence()]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[][] heatmapFromBitsets() {
+        int[][] counts = new int[STATUSES.length][AttendanceBitset.OCCURRENCES_PER_SEASON];
+        for (AttendanceBitmapRow row : bitmapRows) {
+            AttendanceBitset.addOccurrences(row.presentBits(), counts[AttendanceStatus.PRESENT.ordinal()]);
+            AttendanceBitset.addOccurrences(row.absentBits(), counts[AttendanceStatus.ABSENT.ordinal()]);
+            AttendanceBitset.addOccurrences(row.excusedBits(), counts[AttendanceStatus.EXCUSED.ordinal()]);
+            AttendanceBitset.addOccurrences(row.lateBits(), counts[AttendanceStatus.LATE.ordinal()]);
+        }
+        return counts;
+    }
+}
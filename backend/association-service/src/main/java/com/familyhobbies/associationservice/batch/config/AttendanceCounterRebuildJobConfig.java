@@ -0,0 +1,56 @@
+package com.familyhobbies.associationservice.batch.config;
+
+import com.familyhobbies.associationservice.batch.tasklet.AttendanceCounterRebuildTasklet;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Spring Batch job configuration for rebuilding the attendance counters.
+ *
+ * <p>Job: {@code attendanceCounterRebuildJob}
+ * <ul>
+ *   <li>Step: {@code rebuildAttendanceCountersStep} -- single transaction</li>
+ *   <li>Tasklet: {@link AttendanceCounterRebuildTasklet} -- DELETE + INSERT ... SELECT
+ *       ... GROUP BY over {@code t_attendance}</li>
+ * </ul>
+ *
+ * <p>The counters are kept up to date by {@code AttendanceServiceImpl}; this job is only
+ * needed after attendance rows were written by other means. It is launched on demand
+ * from {@code POST /api/v1/admin/batch/attendance-counter-rebuild}, not scheduled.
+ *
+ * <p>The {@link RunIdIncrementer} ensures each trigger creates a new job instance.
+ */
+@Configuration
+public class AttendanceCounterRebuildJobConfig {
+
+    private final AttendanceCounterRepository attendanceCounterRepository;
+
+    public AttendanceCounterRebuildJobConfig(AttendanceCounterRepository attendanceCounterRepository) {
+        this.attendanceCounterRepository = attendanceCounterRepository;
+    }
+
+    @Bean
+    public Job attendanceCounterRebuildJob(JobRepository jobRepository,
+                                           Step rebuildAttendanceCountersStep) {
+        return new JobBuilder("attendanceCounterRebuildJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(rebuildAttendanceCountersStep)
+                .build();
+    }
+
+    @Bean
+    public Step rebuildAttendanceCountersStep(JobRepository jobRepository,
+                                              PlatformTransactionManager transactionManager) {
+        return new StepBuilder("rebuildAttendanceCountersStep", jobRepository)
+                .tasklet(new AttendanceCounterRebuildTasklet(attendanceCounterRepository), transactionManager)
+                .build();
+    }
+}
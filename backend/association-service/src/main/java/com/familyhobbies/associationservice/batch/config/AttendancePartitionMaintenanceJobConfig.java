@@ -0,0 +1,80 @@
+package com.familyhobbies.associationservice.batch.config;
+
+import com.familyhobbies.associationservice.batch.tasklet.AttendancePartitionArchiveTasklet;
+import com.familyhobbies.associationservice.batch.tasklet.AttendancePartitionCreationTasklet;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * Spring Batch job configuration for the monthly partitions of {@code t_attendance}.
+ *
+ * <p>Job: {@code attendancePartitionMaintenanceJob}
+ * <ul>
+ *   <li>Step: {@code createAttendancePartitionsStep} -- {@link AttendancePartitionCreationTasklet},
+ *       partitions for the current month and the next
+ *       {@code batch.attendance-partitions.months-ahead} months (default 3)</li>
+ *   <li>Step: {@code archiveAttendancePartitionsStep} -- {@link AttendancePartitionArchiveTasklet},
+ *       one transaction per partition older than
+ *       {@code batch.attendance-partitions.retention-months} (default 36), archived as
+ *       gzip CSV under {@code batch.attendance-partitions.archive-dir}, then detached and dropped</li>
+ * </ul>
+ *
+ * <p>Both steps are idempotent. Partitions are only created and dropped on PostgreSQL,
+ * where changeset 022 partitions the table; elsewhere both steps log and finish.
+ *
+ * <p>The {@link RunIdIncrementer} ensures each trigger creates a new job instance.
+ */
+@Configuration
+public class AttendancePartitionMaintenanceJobConfig {
+
+    private final AttendanceRepository attendanceRepository;
+
+    public AttendancePartitionMaintenanceJobConfig(AttendanceRepository attendanceRepository) {
+        this.attendanceRepository = attendanceRepository;
+    }
+
+    @Bean
+    public Job attendancePartitionMaintenanceJob(JobRepository jobRepository,
+                                                 Step createAttendancePartitionsStep,
+                                                 Step archiveAttendancePartitionsStep) {
+        return new JobBuilder("attendancePartitionMaintenanceJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(createAttendancePartitionsStep)
+                .next(archiveAttendancePartitionsStep)
+                .build();
+    }
+
+    @Bean
+    public Step createAttendancePartitionsStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.attendance-partitions.months-ahead:3}") int monthsAhead) {
+        return new StepBuilder("createAttendancePartitionsStep", jobRepository)
+                .tasklet(new AttendancePartitionCreationTasklet(attendanceRepository, monthsAhead),
+                        transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step archiveAttendancePartitionsStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.attendance-partitions.retention-months:36}") int retentionMonths,
+            @Value("${batch.attendance-partitions.archive-dir:attendance-archive}") Path archiveDirectory) {
+        return new StepBuilder("archiveAttendancePartitionsStep", jobRepository)
+                .tasklet(new AttendancePartitionArchiveTasklet(
+                        attendanceRepository, retentionMonths, archiveDirectory), transactionManager)
+                .build();
+    }
+}
@@ -17,7 +17,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  *
  * <p>Provides:
  * <ul>
- *   <li>{@code batchTaskExecutor} -- thread pool for async job execution</li>
+ *   <li>{@code batchTaskExecutor} -- thread pool for async job execution and partitioned steps</li>
  *   <li>{@code asyncJobLauncher} -- non-blocking job launcher for REST triggers</li>
  * </ul>
  */
@@ -25,13 +25,15 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class BatchConfig {
 
     /**
-     * Thread pool for background batch execution.
-     * Sized conservatively: 2 core, 4 max, 10 queue depth.
+     * Thread pool for background batch execution and partitioned steps.
+     * Sized conservatively: 4 threads, 10 queue depth. Core size equals max size
+     * because the pool only grows past its core size once the queue is full,
+     * which would run the subscription expiry partitions two at a time.
      */
     @Bean(name = "batchTaskExecutor")
     public TaskExecutor batchTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
+        executor.setCorePoolSize(4);
         executor.setMaxPoolSize(4);
         executor.setQueueCapacity(10);
         executor.setThreadNamePrefix("batch-");
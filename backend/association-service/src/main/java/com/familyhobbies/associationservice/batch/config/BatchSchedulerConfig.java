@@ -18,6 +18,7 @@ import org.springframework.scheduling.annotation.Scheduled;
  * <p>Schedule overview:
  * <ul>
  *   <li>{@code helloAssoSyncJob}: 02:00 daily (S7-001)</li>
+ *   <li>{@code attendancePartitionMaintenanceJob}: 03:30 daily</li>
  *   <li>{@code subscriptionExpiryJob}: 06:00 daily (S7-002)</li>
  * </ul>
  *
@@ -39,14 +40,17 @@ public class BatchSchedulerConfig {
     private final JobLauncher jobLauncher;
     private final Job helloAssoSyncJob;
     private final Job subscriptionExpiryJob;
+    private final Job attendancePartitionMaintenanceJob;
 
     public BatchSchedulerConfig(
             JobLauncher jobLauncher,
             @Qualifier("helloAssoSyncJob") Job helloAssoSyncJob,
-            @Qualifier("subscriptionExpiryJob") Job subscriptionExpiryJob) {
+            @Qualifier("subscriptionExpiryJob") Job subscriptionExpiryJob,
+            @Qualifier("attendancePartitionMaintenanceJob") Job attendancePartitionMaintenanceJob) {
         this.jobLauncher = jobLauncher;
         this.helloAssoSyncJob = helloAssoSyncJob;
         this.subscriptionExpiryJob = subscriptionExpiryJob;
+        this.attendancePartitionMaintenanceJob = attendancePartitionMaintenanceJob;
     }
 
     /**
@@ -68,6 +72,17 @@ public class BatchSchedulerConfig {
         launchJob("subscriptionExpiryJob", subscriptionExpiryJob);
     }
 
+    /**
+     * Trigger attendance partition maintenance daily at 3:30 AM.
+     *
+     * <p>Creates the upcoming monthly partitions of {@code t_attendance} and archives
+     * the ones past retention. Idempotent: daily runs only act around month boundaries.
+     */
+    @Scheduled(cron = "${batch.attendance-partitions.cron:0 30 3 * * *}")
+    public void runAttendancePartitionMaintenanceJob() {
+        launchJob("attendancePartitionMaintenanceJob", attendancePartitionMaintenanceJob);
+    }
+
     private void launchJob(String jobName, Job job) {
         try {
             JobParameters params = new JobParametersBuilder()
@@ -6,7 +6,6 @@ import com.familyhobbies.associationservice.batch.policy.HelloAssoSkipPolicy;
 import com.familyhobbies.associationservice.batch.processor.HelloAssoItemProcessor;
 import com.familyhobbies.associationservice.batch.reader.HelloAssoItemReader;
 import com.familyhobbies.associationservice.batch.writer.HelloAssoItemWriter;
-import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.errorhandling.exception.container.ExternalApiException;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -24,9 +23,10 @@ import org.springframework.transaction.PlatformTransactionManager;
  * <p>Job: {@code helloAssoSyncJob}
  * <ul>
  *   <li>Step: {@code fetchOrganizationsStep}</li>
- *   <li>Chunk size: 50 (matches HelloAsso API page size)</li>
+ *   <li>Chunk size: 50 (matches HelloAsso API page size), upserted in one batch</li>
  *   <li>Skip policy: {@link HelloAssoSkipPolicy}</li>
  *   <li>Retry: 3 attempts on {@link ExternalApiException}</li>
+ *   <li>Restart: resumes from the page checkpointed by {@link HelloAssoItemReader}</li>
  * </ul>
  */
 @Configuration
@@ -67,7 +67,7 @@ public class HelloAssoSyncJobConfig {
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager) {
         return new StepBuilder("fetchOrganizationsStep", jobRepository)
-                .<HelloAssoOrganization, Association>chunk(CHUNK_SIZE, transactionManager)
+                .<HelloAssoOrganization, HelloAssoOrganization>chunk(CHUNK_SIZE, transactionManager)
                 .reader(helloAssoItemReader)
                 .processor(helloAssoItemProcessor)
                 .writer(helloAssoItemWriter)
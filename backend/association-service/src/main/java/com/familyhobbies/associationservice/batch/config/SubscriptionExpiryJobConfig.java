@@ -1,114 +1,101 @@
 package com.familyhobbies.associationservice.batch.config;
 
 import com.familyhobbies.associationservice.batch.listener.SubscriptionExpiryJobListener;
-import com.familyhobbies.associationservice.batch.processor.SubscriptionExpiryProcessor;
-import com.familyhobbies.associationservice.entity.Subscription;
-import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
-import jakarta.persistence.EntityManagerFactory;
+import com.familyhobbies.associationservice.batch.partitioner.SubscriptionExpiryPartitioner;
+import com.familyhobbies.associationservice.batch.tasklet.SubscriptionExpiryTasklet;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDate;
-import java.util.Map;
-
 /**
  * Spring Batch job configuration for subscription expiry processing.
  *
  * <p>Job: {@code subscriptionExpiryJob}
  * <ul>
- *   <li>Step: {@code processExpiredSubscriptionsStep}</li>
- *   <li>Reader: {@link JpaPagingItemReader} -- ACTIVE subs where endDate &lt; TODAY</li>
- *   <li>Processor: {@link SubscriptionExpiryProcessor} -- set EXPIRED + timestamp</li>
- *   <li>Writer: {@link JpaItemWriter} -- batch persist updated subscriptions</li>
+ *   <li>Step: {@code processExpiredSubscriptionsStep} -- partition manager</li>
+ *   <li>Partitioner: {@link SubscriptionExpiryPartitioner} -- id ranges of
+ *       ACTIVE subs where endDate &lt; TODAY</li>
+ *   <li>Worker step: {@code expireSubscriptionsPartitionStep}, run in parallel on
+ *       {@code batchTaskExecutor}</li>
+ *   <li>Tasklet: {@link SubscriptionExpiryTasklet} -- set-based
+ *       {@code UPDATE ... RETURNING} within the partition's id range,
+ *       repeated until a short batch comes back</li>
  *   <li>Listener: {@link SubscriptionExpiryJobListener} -- Kafka events + logging</li>
- *   <li>Chunk size: 100</li>
+ *   <li>Batch size: 1000 rows per statement and transaction</li>
+ *   <li>Grid size: {@code batch.subscription-expiry.grid-size}, default 4 (the pool size)</li>
  * </ul>
  *
+ * <p>The previous reader/processor/writer pipeline paged through ACTIVE rows by
+ * offset while the writer moved them out of the predicate, which skipped records,
+ * and loaded, dirty-checked and updated every entity one by one. The tasklet never
+ * loads an entity and keeps no offset.
+ *
  * <p>No skip policy needed: data is read from local DB (no transient API errors).
  * If the database is unavailable, the entire job should fail and be retried.
  *
  * <p>The {@link RunIdIncrementer} ensures each manual or scheduled trigger
- * creates a new job instance, allowing re-runs on the same day.
+ * creates a new job instance, allowing re-runs on the same day. Relaunching a
+ * failed execution with the same parameters restarts it: completed partitions
+ * are skipped and only the failed ones run again, on their original id range
+ * and cutoff.
  */
 @Configuration
 public class SubscriptionExpiryJobConfig {
 
-    private static final int CHUNK_SIZE = 100;
-    private static final int PAGE_SIZE = 100;
+    private static final int EXPIRY_BATCH_SIZE = 1000;
+    private static final String WORKER_STEP_NAME = "expireSubscriptionsPartitionStep";
 
-    private final EntityManagerFactory entityManagerFactory;
-    private final SubscriptionExpiryProcessor subscriptionExpiryProcessor;
+    private final SubscriptionRepository subscriptionRepository;
+    private final ActivityRepository activityRepository;
     private final SubscriptionExpiryJobListener subscriptionExpiryJobListener;
 
     public SubscriptionExpiryJobConfig(
-            EntityManagerFactory entityManagerFactory,
-            SubscriptionExpiryProcessor subscriptionExpiryProcessor,
+            SubscriptionRepository subscriptionRepository,
+            ActivityRepository activityRepository,
             SubscriptionExpiryJobListener subscriptionExpiryJobListener) {
-        this.entityManagerFactory = entityManagerFactory;
-        this.subscriptionExpiryProcessor = subscriptionExpiryProcessor;
+        this.subscriptionRepository = subscriptionRepository;
+        this.activityRepository = activityRepository;
         this.subscriptionExpiryJobListener = subscriptionExpiryJobListener;
     }
 
     /**
-     * JPA paging reader that selects ACTIVE subscriptions past their end date.
-     *
-     * <p>Uses a JPQL query with named parameters. The cutoff date is
-     * computed fresh per step execution via {@code @StepScope}, ensuring
-     * the date is always current and not stale from bean creation time.
-     *
-     * <p>Page size matches chunk size for optimal DB read efficiency.
+     * Splits the subscriptions to expire into id ranges, one per worker step.
      */
     @Bean
-    @StepScope
-    public JpaPagingItemReader<Subscription> expiredSubscriptionReader() {
-        return new JpaPagingItemReaderBuilder<Subscription>()
-                .name("expiredSubscriptionReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString(
-                        "SELECT s FROM Subscription s "
-                        + "WHERE s.status = :status "
-                        + "AND s.endDate < :cutoff "
-                        + "ORDER BY s.endDate ASC")
-                .parameterValues(Map.of(
-                        "status", SubscriptionStatus.ACTIVE,
-                        "cutoff", LocalDate.now()))
-                .pageSize(PAGE_SIZE)
-                .build();
+    public SubscriptionExpiryPartitioner subscriptionExpiryPartitioner() {
+        return new SubscriptionExpiryPartitioner(subscriptionRepository);
     }
 
     /**
-     * JPA item writer that persists updated subscription entities.
-     *
-     * <p>Uses the same {@link EntityManagerFactory} as the reader.
-     * Spring Batch manages the transaction boundaries per chunk.
+     * Tasklet expiring up to {@value #EXPIRY_BATCH_SIZE} subscriptions per invocation.
+     * Stateless: shared by all worker steps.
      */
     @Bean
-    public JpaItemWriter<Subscription> subscriptionExpiryWriter() {
-        JpaItemWriter<Subscription> writer = new JpaItemWriter<>();
-        writer.setEntityManagerFactory(entityManagerFactory);
-        return writer;
+    public SubscriptionExpiryTasklet subscriptionExpiryTasklet() {
+        return new SubscriptionExpiryTasklet(
+                subscriptionRepository,
+                activityRepository,
+                subscriptionExpiryJobListener,
+                EXPIRY_BATCH_SIZE);
     }
 
     /**
-     * Single-step job that processes all expired subscriptions.
-     *
-     * <p>Flow: expiredSubscriptionReader -> subscriptionExpiryProcessor
-     * -> subscriptionExpiryWriter
+     * Job that processes all expired subscriptions through one partitioned step.
      *
      * <p>The listener handles structured logging of job start/end and
      * publishes Kafka events for each expired subscription after the
-     * chunk is committed.
+     * batch transaction is committed.
      */
     @Bean
     public Job subscriptionExpiryJob(JobRepository jobRepository,
@@ -121,25 +108,43 @@ public class SubscriptionExpiryJobConfig {
     }
 
     /**
-     * Step definition: chunk-oriented processing of expired subscriptions.
+     * Partition manager step: splits the work with {@link SubscriptionExpiryPartitioner}
+     * and runs one worker step per id range on {@code batchTaskExecutor}.
      *
-     * <p>Chunk size of 100 balances transaction size with throughput.
-     * No fault tolerance (skip/retry) is configured because:
+     * <p>Keep the grid size within the pool size plus queue capacity of
+     * {@code batchTaskExecutor}: partitions beyond that are rejected.
+     */
+    @Bean
+    public Step processExpiredSubscriptionsStep(
+            JobRepository jobRepository,
+            Step expireSubscriptionsPartitionStep,
+            @Qualifier("batchTaskExecutor") TaskExecutor batchTaskExecutor,
+            @Value("${batch.subscription-expiry.grid-size:4}") int gridSize) {
+        return new StepBuilder("processExpiredSubscriptionsStep", jobRepository)
+                .partitioner(WORKER_STEP_NAME, subscriptionExpiryPartitioner())
+                .step(expireSubscriptionsPartitionStep)
+                .gridSize(gridSize)
+                .taskExecutor(batchTaskExecutor)
+                .build();
+    }
+
+    /**
+     * Worker step definition: the tasklet is repeated, one transaction per batch,
+     * while it returns {@code CONTINUABLE}. Chunk listeners run around every
+     * repetition, so events are published per committed batch.
+     *
+     * <p>No fault tolerance (skip/retry) is configured because:
      * <ul>
-     *   <li>Reader queries local DB -- no transient external API errors</li>
-     *   <li>Writer updates local DB -- failures indicate real problems</li>
-     *   <li>If DB is down, the entire job should fail (not silently skip)</li>
+     *   <li>The statement targets the local DB -- no transient external API errors</li>
+     *   <li>If DB is down, the partition should fail (not silently skip) and be restarted</li>
      * </ul>
      */
     @Bean
-    public Step processExpiredSubscriptionsStep(
+    public Step expireSubscriptionsPartitionStep(
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager) {
-        return new StepBuilder("processExpiredSubscriptionsStep", jobRepository)
-                .<Subscription, Subscription>chunk(CHUNK_SIZE, transactionManager)
-                .reader(expiredSubscriptionReader())
-                .processor(subscriptionExpiryProcessor)
-                .writer(subscriptionExpiryWriter())
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .tasklet(subscriptionExpiryTasklet(), transactionManager)
                 .listener(subscriptionExpiryJobListener)
                 .build();
     }
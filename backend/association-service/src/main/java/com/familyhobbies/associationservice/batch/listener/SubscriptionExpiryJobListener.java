@@ -1,6 +1,6 @@
 package com.familyhobbies.associationservice.batch.listener;
 
-import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.repository.ExpiredSubscription;
 import com.familyhobbies.common.event.SubscriptionExpiredEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +15,10 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener for the subscription expiry batch job.
@@ -27,11 +30,15 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *   <li>Publish {@link SubscriptionExpiredEvent} to Kafka after each chunk</li>
  * </ul>
  *
+ * <p>Registered on the job and on the partitioned worker step. Job totals are
+ * taken from the partition manager step, which aggregates its workers' counts.
+ *
  * <p>Kafka topic: {@code family-hobbies.subscription.expired}
  * <p>Kafka key: subscriptionId (ensures ordering per subscription)
  *
- * <p>Thread safety: uses {@link CopyOnWriteArrayList} for the pending events
- * buffer because Spring Batch may invoke callbacks from the batch thread pool.
+ * <p>Thread safety: partitions run in parallel on the batch thread pool, so each
+ * worker step execution gets its own pending events buffer, keyed by step execution
+ * id. A partition runs on a single thread, so the buffers themselves are plain lists.
  */
 @Component
 public class SubscriptionExpiryJobListener
@@ -42,14 +49,18 @@ public class SubscriptionExpiryJobListener
 
     private static final String TOPIC = "family-hobbies.subscription.expired";
 
+    /** Separator Spring Batch puts between a worker step name and its partition name. */
+    private static final String PARTITION_SEPARATOR = ":";
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     /**
-     * Buffer of subscriptions that were expired in the current chunk.
-     * Populated by the processor/writer, drained in afterChunk.
+     * Buffers of events for the subscriptions expired in the current chunk,
+     * one per worker step execution id.
+     * Populated by the expiry step, drained in afterChunk.
      */
-    private final CopyOnWriteArrayList<Subscription> pendingEvents =
-            new CopyOnWriteArrayList<>();
+    private final Map<Long, List<SubscriptionExpiredEvent>> pendingEvents =
+            new ConcurrentHashMap<>();
 
     public SubscriptionExpiryJobListener(
             KafkaTemplate<String, Object> kafkaTemplate) {
@@ -73,11 +84,15 @@ public class SubscriptionExpiryJobListener
                 : LocalDateTime.now();
         Duration duration = Duration.between(startTime, endTime);
 
-        long writeCount = jobExecution.getStepExecutions().stream()
+        List<StepExecution> topLevelSteps = jobExecution.getStepExecutions().stream()
+                .filter(step -> !step.getStepName().contains(PARTITION_SEPARATOR))
+                .toList();
+
+        long writeCount = topLevelSteps.stream()
                 .mapToLong(StepExecution::getWriteCount)
                 .sum();
 
-        long readCount = jobExecution.getStepExecutions().stream()
+        long readCount = topLevelSteps.stream()
                 .mapToLong(StepExecution::getReadCount)
                 .sum();
 
@@ -105,70 +120,69 @@ public class SubscriptionExpiryJobListener
 
     @Override
     public void beforeChunk(ChunkContext context) {
-        pendingEvents.clear();
+        pendingEvents.remove(stepExecutionId(context));
     }
 
     @Override
     public void afterChunk(ChunkContext context) {
-        if (pendingEvents.isEmpty()) {
+        List<SubscriptionExpiredEvent> events = pendingEvents.remove(stepExecutionId(context));
+        if (events == null || events.isEmpty()) {
             return;
         }
 
         log.debug("Publishing {} SubscriptionExpiredEvents to Kafka",
-                pendingEvents.size());
+                events.size());
 
-        for (Subscription subscription : pendingEvents) {
+        for (SubscriptionExpiredEvent event : events) {
             try {
-                Long activityId = subscription.getActivity() != null
-                        ? subscription.getActivity().getId() : null;
-                Long associationId = subscription.getActivity() != null
-                        && subscription.getActivity().getAssociation() != null
-                        ? subscription.getActivity().getAssociation().getId() : null;
-
-                SubscriptionExpiredEvent event = SubscriptionExpiredEvent.of(
-                        subscription.getId(),
-                        subscription.getUserId(),
-                        subscription.getFamilyMemberId(),
-                        subscription.getFamilyId(),
-                        associationId,
-                        activityId,
-                        subscription.getExpiredAt());
-
                 kafkaTemplate.send(TOPIC,
-                        subscription.getId().toString(),
+                        event.getSubscriptionId().toString(),
                         event);
 
                 log.debug("Published SubscriptionExpiredEvent: "
                         + "subscriptionId={}, userId={}",
-                        subscription.getId(),
-                        subscription.getUserId());
+                        event.getSubscriptionId(),
+                        event.getUserId());
             } catch (Exception e) {
                 log.error("Failed to publish SubscriptionExpiredEvent "
                         + "for subscriptionId={}: {}",
-                        subscription.getId(), e.getMessage(), e);
+                        event.getSubscriptionId(), e.getMessage(), e);
             }
         }
-
-        pendingEvents.clear();
     }
 
     @Override
     public void afterChunkError(ChunkContext context) {
+        List<SubscriptionExpiredEvent> discarded = pendingEvents.remove(stepExecutionId(context));
         log.warn("Chunk failed -- discarding {} pending Kafka events "
                 + "to prevent phantom notifications",
-                pendingEvents.size());
-        pendingEvents.clear();
+                discarded == null ? 0 : discarded.size());
     }
 
-    // -- Called by the writer after successful persist --
+    // -- Called by the expiry step after successful persist --
 
     /**
-     * Register a subscription that was successfully expired and persisted.
-     * Called by the job config or writer to buffer events for Kafka publishing.
+     * Register subscriptions that were successfully expired in the current chunk.
      *
-     * @param subscription the expired subscription entity (post-persist)
+     * @param context the chunk context of the worker step that expired them
+     * @param expired the rows returned by the expiry statement
      */
-    public void registerExpiredSubscription(Subscription subscription) {
-        pendingEvents.add(subscription);
+    public void registerExpiredSubscriptions(ChunkContext context, List<ExpiredSubscription> expired) {
+        List<SubscriptionExpiredEvent> buffer =
+                pendingEvents.computeIfAbsent(stepExecutionId(context), id -> new ArrayList<>());
+        for (ExpiredSubscription row : expired) {
+            buffer.add(SubscriptionExpiredEvent.of(
+                    row.subscriptionId(),
+                    row.userId(),
+                    row.familyMemberId(),
+                    row.familyId(),
+                    row.associationId(),
+                    row.activityId(),
+                    row.expiredAt()));
+        }
+    }
+
+    private static Long stepExecutionId(ChunkContext context) {
+        return context.getStepContext().getStepExecution().getId();
     }
 }
@@ -0,0 +1,82 @@
+package com.familyhobbies.associationservice.batch.partitioner;
+
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.repository.SubscriptionIdRange;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits the ACTIVE subscriptions past their end date into contiguous id ranges,
+ * one per worker step of {@code subscriptionExpiryJob}.
+ *
+ * <p>Each partition's {@link ExecutionContext} holds:
+ * <ul>
+ *   <li>{@value #CUTOFF_KEY} -- ISO date shared by all partitions, fixed when the job starts</li>
+ *   <li>{@value #MIN_ID_KEY} / {@value #MAX_ID_KEY} -- inclusive id bounds</li>
+ * </ul>
+ *
+ * <p>Ranges are computed from the lowest and highest matching ids, so they are equal in
+ * width, not in row count. The contexts are persisted with the worker step executions:
+ * on restart Spring Batch reuses them and only re-runs the partitions that did not complete.
+ */
+public class SubscriptionExpiryPartitioner implements Partitioner {
+
+    public static final String CUTOFF_KEY = "cutoff";
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SubscriptionExpiryPartitioner.class);
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    public SubscriptionExpiryPartitioner(SubscriptionRepository subscriptionRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        LocalDate cutoff = LocalDate.now();
+        SubscriptionIdRange range = subscriptionRepository.findIdRangeByStatusAndEndDateBefore(
+                SubscriptionStatus.ACTIVE, cutoff);
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (range == null || range.getMinId() == null) {
+            // Nothing to expire: a single empty range keeps the step and its listener callbacks uniform
+            partitions.put(PARTITION_PREFIX + 0, context(cutoff, 0L, -1L));
+            return partitions;
+        }
+
+        long minId = range.getMinId();
+        long maxId = range.getMaxId();
+        int partitionCount = Math.max(1, gridSize);
+        long width = (maxId - minId + partitionCount) / partitionCount;
+
+        int index = 0;
+        for (long start = minId; start <= maxId; start += width) {
+            long end = Math.min(start + width - 1, maxId);
+            partitions.put(PARTITION_PREFIX + index++, context(cutoff, start, end));
+        }
+
+        log.info("Subscription expiry partitioned: cutoff={}, ids=[{}, {}], partitions={}",
+                cutoff, minId, maxId, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext context(LocalDate cutoff, long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putString(CUTOFF_KEY, cutoff.toString());
+        context.putLong(MIN_ID_KEY, minId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+}
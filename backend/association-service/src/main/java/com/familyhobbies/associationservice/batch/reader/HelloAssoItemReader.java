@@ -1,99 +1,165 @@
 package com.familyhobbies.associationservice.batch.reader;
 
 import com.familyhobbies.associationservice.adapter.HelloAssoClient;
-import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryRequest;
-import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryResponse;
 import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.batch.reader.HelloAssoPagePrefetcher.Cursor;
+import com.familyhobbies.associationservice.batch.reader.HelloAssoPagePrefetcher.FetchedPage;
+import com.familyhobbies.common.config.HelloAssoProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.stereotype.Component;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Queue;
 
 /**
  * Paginated reader for the HelloAsso organization directory.
  *
- * <p>Fetches pages of {@value #PAGE_SIZE} organizations via
- * {@link HelloAssoClient#searchOrganizations} and buffers them
- * in an internal queue. Returns {@code null} when all pages are
- * exhausted (signals end-of-data to Spring Batch).
+ * <p>Pages of {@value #PAGE_SIZE} organizations are fetched by a
+ * {@link HelloAssoPagePrefetcher}, up to {@code helloasso.sync.read-ahead} pages ahead of
+ * the step, so network latency overlaps processing instead of adding to it. Returns
+ * {@code null} when all pages are exhausted (signals end-of-data to Spring Batch).
+ *
+ * <p>A failed page fetch is thrown from {@link #read()}, where the step's skip policy
+ * applies. The next call re-requests the failed page, so a skipped transient error amounts
+ * to a retry of that page.
+ *
+ * <p>Restartable: on every chunk commit the step {@link ExecutionContext} records the page
+ * being read (index and continuation token) and how many of its organizations were already
+ * read. A restarted step requests that page again and drops the organizations read before
+ * the crash, so at most one page is fetched twice. If the directory changed in between, the
+ * offset may land a few organizations early or late; the slug upsert makes a repeat harmless.
  */
 @Component
 @StepScope
-public class HelloAssoItemReader implements ItemReader<HelloAssoOrganization> {
+public class HelloAssoItemReader implements ItemStreamReader<HelloAssoOrganization> {
 
     private static final Logger log = LoggerFactory.getLogger(HelloAssoItemReader.class);
     private static final int PAGE_SIZE = 50;
 
+    static final String PAGE_INDEX_KEY = "helloAssoItemReader.page.index";
+    static final String CONTINUATION_TOKEN_KEY = "helloAssoItemReader.page.continuationToken";
+    static final String PAGE_OFFSET_KEY = "helloAssoItemReader.page.offset";
+    static final String EXHAUSTED_KEY = "helloAssoItemReader.exhausted";
+    static final String READ_COUNT_KEY = "helloAssoItemReader.read.count";
+
     private final HelloAssoClient helloAssoClient;
+    private final int readAhead;
 
-    private int currentPageIndex = 1;
-    private String continuationToken = null;
+    private HelloAssoPagePrefetcher prefetcher;
+    private Cursor cursor = Cursor.first();
+    private int resumeOffset = 0;
     private boolean exhausted = false;
-    private final Queue<HelloAssoOrganization> buffer = new LinkedList<>();
+    private final Queue<HelloAssoOrganization> buffer = new ArrayDeque<>();
+    private Cursor bufferedPage;
+    private int bufferedPageOffset;
     private int totalRead = 0;
 
-    public HelloAssoItemReader(HelloAssoClient helloAssoClient) {
+    public HelloAssoItemReader(HelloAssoClient helloAssoClient, HelloAssoProperties properties) {
         this.helloAssoClient = helloAssoClient;
+        this.readAhead = properties.getSync().getReadAhead();
     }
 
     @Override
-    public HelloAssoOrganization read() {
-        if (!buffer.isEmpty()) {
-            totalRead++;
-            return buffer.poll();
+    public HelloAssoOrganization read() throws InterruptedException {
+        while (buffer.isEmpty()) {
+            if (exhausted) {
+                log.info("HelloAsso reader exhausted: totalRead={}", totalRead);
+                return null;
+            }
+            takeNextPage();
         }
 
-        if (exhausted) {
-            log.info("HelloAsso reader exhausted: totalRead={}", totalRead);
-            return null;
+        totalRead++;
+        bufferedPageOffset++;
+        return buffer.poll();
+    }
+
+    /**
+     * Resumes from the checkpoint of a failed execution, if any: the next page requested is
+     * the one being read at the last commit, without the organizations read before it.
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(EXHAUSTED_KEY)) {
+            cursor = null;
+            exhausted = true;
+        } else if (executionContext.containsKey(PAGE_INDEX_KEY)) {
+            cursor = new Cursor(executionContext.getInt(PAGE_INDEX_KEY),
+                    executionContext.getString(CONTINUATION_TOKEN_KEY, null));
+            resumeOffset = executionContext.getInt(PAGE_OFFSET_KEY, 0);
+        } else {
+            return;
         }
+        totalRead = executionContext.getInt(READ_COUNT_KEY, 0);
+        log.info("HelloAsso reader resuming: page={}, offset={}, totalRead={}",
+                cursor == null ? "none" : cursor.pageIndex(), resumeOffset, totalRead);
+    }
 
-        fetchNextPage();
+    /**
+     * Records the page being read and the offset within it. With the buffer drained, that is
+     * the next page to take (or the one whose fetch failed), plus any offset still to drop.
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        Cursor checkpoint = buffer.isEmpty() ? cursor : bufferedPage;
+        int offset = buffer.isEmpty() ? resumeOffset : bufferedPageOffset;
 
-        if (buffer.isEmpty()) {
-            log.info("HelloAsso reader exhausted (empty page): totalRead={}", totalRead);
-            exhausted = true;
-            return null;
+        executionContext.putInt(READ_COUNT_KEY, totalRead);
+        if (checkpoint == null) {
+            executionContext.putString(EXHAUSTED_KEY, "true");
+            return;
         }
+        executionContext.putInt(PAGE_INDEX_KEY, checkpoint.pageIndex());
+        if (checkpoint.continuationToken() != null) {
+            executionContext.putString(CONTINUATION_TOKEN_KEY, checkpoint.continuationToken());
+        } else {
+            executionContext.remove(CONTINUATION_TOKEN_KEY);
+        }
+        executionContext.putInt(PAGE_OFFSET_KEY, offset);
+    }
 
-        totalRead++;
-        return buffer.poll();
+    @Override
+    public void close() {
+        stopPrefetching();
     }
 
-    private void fetchNextPage() {
-        HelloAssoDirectoryRequest request = HelloAssoDirectoryRequest.builder()
-                .pageSize(PAGE_SIZE)
-                .pageIndex(continuationToken == null ? currentPageIndex : null)
-                .continuationToken(continuationToken)
-                .build();
+    private void takeNextPage() throws InterruptedException {
+        if (prefetcher == null) {
+            prefetcher = new HelloAssoPagePrefetcher(helloAssoClient, PAGE_SIZE, readAhead, cursor);
+        }
+        FetchedPage page = prefetcher.take();
 
-        log.debug("Fetching HelloAsso directory page: pageIndex={}, continuationToken={}",
-                currentPageIndex, continuationToken != null ? "present" : "null");
+        if (page.failure() != null) {
+            // The prefetcher stopped at the failed page: the next read restarts from it
+            stopPrefetching();
+            cursor = page.cursor();
+            throw page.failure();
+        }
 
-        HelloAssoDirectoryResponse response = helloAssoClient
-                .searchOrganizations(request)
-                .block();
+        // After a restart, the first page taken is the one read at the last commit
+        List<HelloAssoOrganization> organizations = page.organizations();
+        int offset = Math.min(resumeOffset, organizations.size());
+        resumeOffset = 0;
 
-        if (response == null || response.data() == null || response.data().isEmpty()) {
-            exhausted = true;
-            return;
-        }
+        buffer.addAll(organizations.subList(offset, organizations.size()));
+        bufferedPage = page.cursor();
+        bufferedPageOffset = offset;
+        cursor = page.next();
+        exhausted = cursor == null;
 
-        buffer.addAll(response.data());
-        currentPageIndex++;
+        log.debug("Took {} organizations from HelloAsso (page {}, from offset {}), exhausted={}",
+                organizations.size(), page.cursor().pageIndex(), offset, exhausted);
+    }
 
-        if (response.pagination() != null
-                && response.pagination().continuationToken() != null) {
-            continuationToken = response.pagination().continuationToken();
-        } else {
-            exhausted = true;
+    private void stopPrefetching() {
+        if (prefetcher != null) {
+            prefetcher.close();
+            prefetcher = null;
         }
-
-        log.debug("Fetched {} organizations from HelloAsso (page {}), exhausted={}",
-                response.data().size(), currentPageIndex - 1, exhausted);
     }
 }
@@ -0,0 +1,139 @@
+package com.familyhobbies.associationservice.batch.reader;
+
+import com.familyhobbies.associationservice.adapter.HelloAssoClient;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryRequest;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryResponse;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fetches HelloAsso directory pages ahead of {@link HelloAssoItemReader}.
+ *
+ * <p>One worker follows the continuation token page after page and hands every page to a
+ * bounded queue; once {@code readAhead} pages are waiting, it blocks until the reader takes
+ * one. Each page's token comes from the previous response, so a single request is in flight
+ * at a time: the gain comes from fetching while the step processes and writes earlier pages.
+ *
+ * <p>A failed fetch is handed over like a page, carrying the exception and the cursor of the
+ * page that failed, and ends the worker.
+ */
+class HelloAssoPagePrefetcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HelloAssoPagePrefetcher.class);
+
+    private final HelloAssoClient helloAssoClient;
+    private final int pageSize;
+    private final BlockingQueue<FetchedPage> pages;
+    private final Disposable worker;
+
+    private volatile boolean closed;
+
+    HelloAssoPagePrefetcher(HelloAssoClient helloAssoClient, int pageSize, int readAhead, Cursor start) {
+        this.helloAssoClient = helloAssoClient;
+        this.pageSize = pageSize;
+        this.pages = new ArrayBlockingQueue<>(readAhead);
+        this.worker = Schedulers.boundedElastic().schedule(() -> fetchFrom(start));
+    }
+
+    /**
+     * Waits for the next page, in directory order.
+     */
+    FetchedPage take() throws InterruptedException {
+        return pages.take();
+    }
+
+    /**
+     * Stops the worker, interrupting a request or a wait for queue space. Pages not taken
+     * yet are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.dispose();
+        pages.clear();
+    }
+
+    private void fetchFrom(Cursor start) {
+        Cursor cursor = start;
+        try {
+            while (cursor != null && !closed) {
+                HelloAssoDirectoryResponse response = helloAssoClient
+                        .searchOrganizations(cursor.toRequest(pageSize))
+                        .block();
+                FetchedPage page = FetchedPage.of(cursor, response);
+                pages.put(page);
+                log.debug("Prefetched HelloAsso directory page {}: {} organizations, last={}",
+                        cursor.pageIndex(), page.organizations().size(), page.next() == null);
+                cursor = page.next();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            if (!closed) {
+                handOver(FetchedPage.failed(cursor, e));
+            }
+        }
+    }
+
+    /**
+     * Queues the failure behind the pages already fetched, waiting for space like a page.
+     */
+    private void handOver(FetchedPage failure) {
+        try {
+            pages.put(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Position of a directory page: its index and the continuation token that requests it,
+     * {@code null} for the first page.
+     */
+    record Cursor(int pageIndex, String continuationToken) {
+
+        static Cursor first() {
+            return new Cursor(1, null);
+        }
+
+        HelloAssoDirectoryRequest toRequest(int pageSize) {
+            return HelloAssoDirectoryRequest.builder()
+                    .pageSize(pageSize)
+                    .pageIndex(continuationToken == null ? pageIndex : null)
+                    .continuationToken(continuationToken)
+                    .build();
+        }
+    }
+
+    /**
+     * A page taken from the directory, or the failure to fetch it.
+     *
+     * @param next    cursor of the following page, {@code null} when this page is the last
+     * @param failure why the page could not be fetched, {@code null} when it was
+     */
+    record FetchedPage(Cursor cursor, List<HelloAssoOrganization> organizations, Cursor next,
+                       RuntimeException failure) {
+
+        static FetchedPage of(Cursor cursor, HelloAssoDirectoryResponse response) {
+            if (response == null || response.data() == null || response.data().isEmpty()) {
+                return new FetchedPage(cursor, List.of(), null, null);
+            }
+            Cursor next = response.pagination() != null
+                    && response.pagination().continuationToken() != null
+                    ? new Cursor(cursor.pageIndex() + 1, response.pagination().continuationToken())
+                    : null;
+            return new FetchedPage(cursor, response.data(), next, null);
+        }
+
+        static FetchedPage failed(Cursor cursor, RuntimeException failure) {
+            return new FetchedPage(cursor, List.of(), null, failure);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.familyhobbies.associationservice.batch.tasklet;
+
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Set-based tasklet that rebuilds {@code t_attendance_counter} from {@code t_attendance}.
+ *
+ * <p>Runs once, in the step transaction: every counter is deleted and re-inserted from a
+ * single {@code GROUP BY family_member_id, status} (see
+ * {@link AttendanceCounterRepository#rebuildAll}). Readers keep seeing the previous
+ * counters until the transaction commits.
+ *
+ * <p>Used to repair counters after attendance rows were written outside
+ * {@code AttendanceServiceImpl} (manual SQL, data imports).
+ */
+public class AttendanceCounterRebuildTasklet implements Tasklet {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(AttendanceCounterRebuildTasklet.class);
+
+    private final AttendanceCounterRepository attendanceCounterRepository;
+
+    public AttendanceCounterRebuildTasklet(AttendanceCounterRepository attendanceCounterRepository) {
+        this.attendanceCounterRepository = attendanceCounterRepository;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        int counters = attendanceCounterRepository.rebuildAll();
+        contribution.incrementWriteCount(counters);
+
+        log.info("Attendance counters rebuilt: {} counter rows", counters);
+
+        return RepeatStatus.FINISHED;
+    }
+}
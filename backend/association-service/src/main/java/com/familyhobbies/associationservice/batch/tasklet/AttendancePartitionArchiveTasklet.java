@@ -0,0 +1,134 @@
+package com.familyhobbies.associationservice.batch.tasklet;
+
+import com.familyhobbies.associationservice.repository.AttendanceArchiveRow;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tasklet archiving the monthly {@code t_attendance} partitions older than the retention
+ * period to gzip-compressed CSV files, then detaching and dropping them.
+ *
+ * <p>One partition per invocation: the tasklet returns {@code CONTINUABLE} while older
+ * partitions remain, so each partition is archived and dropped in its own transaction.
+ * Within it the partition is locked against writes, exported to
+ * {@code attendance-YYYY-MM.csv.gz} (written to a temporary file, then moved into place),
+ * and only then subtracted from the attendance counters and bitmaps, detached and dropped.
+ * If the export fails nothing is dropped; if the transaction fails after the export the
+ * file is rewritten on the next run.
+ *
+ * <p>{@code t_attendance} stays the source of truth for the aggregates (changeset 028):
+ * once a month is archived, counters and bitmaps only cover the retained months, exactly
+ * what {@code attendanceCounterRebuildJob} would recompute.
+ *
+ * <p>Does nothing when {@code t_attendance} is not partitioned (H2).
+ */
+public class AttendancePartitionArchiveTasklet implements Tasklet {
+
+    static final String CSV_HEADER = "id,session_id,family_member_id,subscription_id,session_date,"
+            + "status,note,marked_by,created_at,updated_at,client_mark_id,modified_at";
+
+    private static final Logger log =
+            LoggerFactory.getLogger(AttendancePartitionArchiveTasklet.class);
+
+    private final AttendanceRepository attendanceRepository;
+    private final int retentionMonths;
+    private final Path archiveDirectory;
+
+    public AttendancePartitionArchiveTasklet(AttendanceRepository attendanceRepository,
+                                             int retentionMonths,
+                                             Path archiveDirectory) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("Attendance retention must be at least one month: "
+                    + retentionMonths);
+        }
+        this.attendanceRepository = attendanceRepository;
+        this.retentionMonths = retentionMonths;
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        if (!attendanceRepository.isPartitioned()) {
+            log.info("t_attendance is not partitioned, no partition to archive");
+            return RepeatStatus.FINISHED;
+        }
+
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths);
+        List<YearMonth> expired = attendanceRepository.findMonthlyPartitions().stream()
+                .filter(month -> month.isBefore(oldestRetained))
+                .toList();
+        if (expired.isEmpty()) {
+            log.info("No attendance partition older than {}", oldestRetained);
+            return RepeatStatus.FINISHED;
+        }
+
+        YearMonth month = expired.get(0);
+        Path archive = archiveDirectory.resolve("attendance-" + month + ".csv.gz");
+        long rows = export(month, archive);
+        attendanceRepository.subtractFromAggregates(month);
+        attendanceRepository.dropMonthlyPartition(month);
+        contribution.incrementWriteCount(rows);
+
+        log.info("Attendance partition {} archived: {} rows to {}", month, rows, archive);
+
+        return expired.size() > 1 ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+    }
+
+    private long export(YearMonth month, Path archive) throws IOException {
+        Files.createDirectories(archiveDirectory);
+        Path temporary = archive.resolveSibling(archive.getFileName() + ".tmp");
+
+        long rows;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            rows = attendanceRepository.streamPartition(month, row -> writeRow(writer, row));
+        } catch (IOException | UncheckedIOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+
+        Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rows;
+    }
+
+    private static void writeRow(Writer writer, AttendanceArchiveRow row) {
+        try {
+            writer.write(row.id() + "," + row.sessionId() + "," + row.familyMemberId() + ","
+                    + row.subscriptionId() + "," + row.sessionDate() + "," + row.status() + ",");
+            if (row.note() != null) {
+                writer.write('"' + row.note().replace("\"", "\"\"") + '"');
+            }
+            writer.write("," + row.markedBy() + "," + row.createdAt() + "," + row.updatedAt() + ","
+                    + orEmpty(row.clientMarkId()) + "," + orEmpty(row.modifiedAt()) + "\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sync columns are null for marks written online; an empty field keeps them apart from text.
+     */
+    private static String orEmpty(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
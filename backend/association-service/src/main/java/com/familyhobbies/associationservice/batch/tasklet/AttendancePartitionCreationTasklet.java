@@ -0,0 +1,59 @@
+package com.familyhobbies.associationservice.batch.tasklet;
+
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tasklet creating the monthly {@code t_attendance} partitions of the current month and
+ * the next {@code monthsAhead} months, so that attendance never lands in the default
+ * partition. Months that already have a partition are left untouched; the tasklet is
+ * safe to run any number of times.
+ *
+ * <p>Does nothing when {@code t_attendance} is not partitioned (H2).
+ */
+public class AttendancePartitionCreationTasklet implements Tasklet {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(AttendancePartitionCreationTasklet.class);
+
+    private final AttendanceRepository attendanceRepository;
+    private final int monthsAhead;
+
+    public AttendancePartitionCreationTasklet(AttendanceRepository attendanceRepository, int monthsAhead) {
+        this.attendanceRepository = attendanceRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (!attendanceRepository.isPartitioned()) {
+            log.info("t_attendance is not partitioned, no partition to create");
+            return RepeatStatus.FINISHED;
+        }
+
+        Set<YearMonth> existing = new HashSet<>(attendanceRepository.findMonthlyPartitions());
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            if (!existing.contains(month)) {
+                attendanceRepository.createMonthlyPartition(month);
+                created++;
+            }
+        }
+        contribution.incrementWriteCount(created);
+
+        log.info("Attendance partitions created: {} (through {})", created, current.plusMonths(monthsAhead));
+
+        return RepeatStatus.FINISHED;
+    }
+}
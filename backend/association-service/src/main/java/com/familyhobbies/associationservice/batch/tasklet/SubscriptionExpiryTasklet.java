@@ -0,0 +1,87 @@
+package com.familyhobbies.associationservice.batch.tasklet;
+
+import com.familyhobbies.associationservice.batch.listener.SubscriptionExpiryJobListener;
+import com.familyhobbies.associationservice.batch.partitioner.SubscriptionExpiryPartitioner;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.ExpiredSubscription;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based tasklet that expires ACTIVE subscriptions past their end date, within the
+ * id range of one partition built by {@link SubscriptionExpiryPartitioner}.
+ *
+ * <p>The cutoff date and id bounds are read from the worker step's execution context,
+ * so a single stateless instance serves every partition concurrently.
+ *
+ * <p>Each invocation runs in its own step transaction and:
+ * <ul>
+ *   <li>expires up to {@code batchSize} rows with one
+ *       {@code UPDATE ... RETURNING} (see {@link SubscriptionRepository#expireEndedBefore})</li>
+ *   <li>releases their seats with one counter update per activity, in ascending activity id
+ *       order so that partitions sharing activities lock the rows in the same order</li>
+ *   <li>hands the returned rows to {@link SubscriptionExpiryJobListener}, which publishes
+ *       the Kafka events once the transaction has committed</li>
+ * </ul>
+ *
+ * <p>Expired rows leave the predicate, so no offset is kept between invocations and no row
+ * can be skipped. The tasklet returns {@link RepeatStatus#CONTINUABLE} while full batches
+ * come back, and {@link RepeatStatus#FINISHED} on the first short batch.
+ */
+public class SubscriptionExpiryTasklet implements Tasklet {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SubscriptionExpiryTasklet.class);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final ActivityRepository activityRepository;
+    private final SubscriptionExpiryJobListener subscriptionExpiryJobListener;
+    private final int batchSize;
+
+    public SubscriptionExpiryTasklet(
+            SubscriptionRepository subscriptionRepository,
+            ActivityRepository activityRepository,
+            SubscriptionExpiryJobListener subscriptionExpiryJobListener,
+            int batchSize) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.activityRepository = activityRepository;
+        this.subscriptionExpiryJobListener = subscriptionExpiryJobListener;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext partition = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        LocalDate cutoff = LocalDate.parse(partition.getString(SubscriptionExpiryPartitioner.CUTOFF_KEY));
+        long minId = partition.getLong(SubscriptionExpiryPartitioner.MIN_ID_KEY);
+        long maxId = partition.getLong(SubscriptionExpiryPartitioner.MAX_ID_KEY);
+
+        List<ExpiredSubscription> expired =
+                subscriptionRepository.expireEndedBefore(cutoff, minId, maxId, batchSize);
+
+        if (!expired.isEmpty()) {
+            expired.stream()
+                    .collect(Collectors.groupingBy(ExpiredSubscription::activityId,
+                            TreeMap::new, Collectors.counting()))
+                    .forEach((activityId, count) ->
+                            activityRepository.releaseSeats(activityId, count.intValue()));
+            subscriptionExpiryJobListener.registerExpiredSubscriptions(chunkContext, expired);
+        }
+        contribution.incrementWriteCount(expired.size());
+
+        log.debug("Expired {} subscriptions in ids [{}, {}]", expired.size(), minId, maxId);
+
+        return expired.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
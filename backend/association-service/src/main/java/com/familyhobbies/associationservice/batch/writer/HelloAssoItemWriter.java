@@ -1,7 +1,9 @@
 package com.familyhobbies.associationservice.batch.writer;
 
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
 import com.familyhobbies.associationservice.entity.Association;
-import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService.PageResult;
 import com.familyhobbies.common.event.AssociationSyncedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,38 +15,39 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 /**
- * Batch writer that upserts Association entities to PostgreSQL
+ * Batch writer that upserts HelloAsso organizations to PostgreSQL
  * and publishes sync events to Kafka.
  *
- * <p>Uses {@link AssociationRepository#saveAll} for batch persistence.
+ * <p>Each chunk goes through {@link HelloAssoUpsertService#upsertPage}: one lookup and one
+ * batched upsert per chunk. Events are published for created and updated associations only.
  */
 @Component
-public class HelloAssoItemWriter implements ItemWriter<Association> {
+public class HelloAssoItemWriter implements ItemWriter<HelloAssoOrganization> {
 
     private static final Logger log = LoggerFactory.getLogger(HelloAssoItemWriter.class);
     private static final String TOPIC = "family-hobbies.association.synced";
 
-    private final AssociationRepository associationRepository;
+    private final HelloAssoUpsertService helloAssoUpsertService;
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
-    public HelloAssoItemWriter(AssociationRepository associationRepository,
+    public HelloAssoItemWriter(HelloAssoUpsertService helloAssoUpsertService,
                                KafkaTemplate<String, Object> kafkaTemplate) {
-        this.associationRepository = associationRepository;
+        this.helloAssoUpsertService = helloAssoUpsertService;
         this.kafkaTemplate = kafkaTemplate;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public void write(Chunk<? extends Association> chunk) {
-        List<? extends Association> items = chunk.getItems();
+    public void write(Chunk<? extends HelloAssoOrganization> chunk) {
+        List<? extends HelloAssoOrganization> items = chunk.getItems();
         if (items.isEmpty()) {
             return;
         }
 
-        List<Association> saved = associationRepository.saveAll((List<Association>) items);
-        log.info("Batch wrote {} associations to database", saved.size());
+        PageResult result = helloAssoUpsertService.upsertPage(List.copyOf(items));
+        log.info("Batch upserted {} organizations: created={}, updated={}, unchanged={}",
+                items.size(), result.created(), result.updated(), result.unchanged());
 
-        for (Association association : saved) {
+        for (Association association : result.written()) {
             try {
                 AssociationSyncedEvent event = new AssociationSyncedEvent(
                         association.getId(),
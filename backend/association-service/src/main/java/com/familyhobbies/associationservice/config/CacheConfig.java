@@ -0,0 +1,28 @@
+package com.familyhobbies.associationservice.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-process Caffeine cache for association detail reads.
+ * <p>
+ * Cache names and the Caffeine spec are configured via application.yml
+ * ({@code spring.cache.*}) and auto-configured by Spring Boot. Because the spec
+ * enables {@code recordStats}, Boot binds each cache to Micrometer
+ * ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}).
+ * <p>
+ * Caches:
+ * <ul>
+ *   <li>{@value #ASSOCIATION_DETAIL_BY_ID}: {@code AssociationDetailResponse} keyed by association id</li>
+ *   <li>{@value #ASSOCIATION_DETAIL_BY_SLUG}: {@code AssociationDetailResponse} keyed by slug</li>
+ * </ul>
+ * Entries are evicted by size and TTL, and invalidated on every replica when HelloAsso
+ * sync events are consumed (see {@code AssociationCacheInvalidationConsumer}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ASSOCIATION_DETAIL_BY_ID = "association-detail-by-id";
+    public static final String ASSOCIATION_DETAIL_BY_SLUG = "association-detail-by-slug";
+}
@@ -1,11 +1,13 @@
 package com.familyhobbies.associationservice.controller;
 
 import com.familyhobbies.associationservice.dto.request.ActivityRequest;
+import com.familyhobbies.associationservice.dto.request.ActivitySearchRequest;
 import com.familyhobbies.associationservice.dto.request.SessionRequest;
 import com.familyhobbies.associationservice.dto.response.ActivityDetailResponse;
 import com.familyhobbies.associationservice.dto.response.ActivityResponse;
 import com.familyhobbies.associationservice.dto.response.SessionResponse;
 import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
 import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.service.ActivityService;
 import com.familyhobbies.errorhandling.exception.web.ForbiddenException;
@@ -18,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -32,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -60,7 +64,8 @@ public class ActivityController {
      */
     @GetMapping
     @Operation(summary = "List activities",
-               description = "Lists activities for an association with optional category and level filters")
+               description = "Lists activities for an association with optional category, level, status, "
+                   + "age range, price range and season filters")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Activities list returned"),
         @ApiResponse(responseCode = "404", description = "Association not found")
@@ -69,11 +74,20 @@ public class ActivityController {
             @PathVariable Long associationId,
             @RequestParam(required = false) AssociationCategory category,
             @RequestParam(required = false) ActivityLevel level,
+            @RequestParam(required = false) ActivityStatus status,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) Integer minPriceCents,
+            @RequestParam(required = false) Integer maxPriceCents,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate seasonFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate seasonTo,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
+        ActivitySearchRequest filter = new ActivitySearchRequest(
+            category, level, status, minAge, maxAge, minPriceCents, maxPriceCents, seasonFrom, seasonTo);
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
-        Page<ActivityResponse> result = activityService.listActivities(associationId, category, level, pageable);
+        Page<ActivityResponse> result = activityService.listActivities(associationId, filter, pageable);
         return ResponseEntity.ok(result);
     }
 
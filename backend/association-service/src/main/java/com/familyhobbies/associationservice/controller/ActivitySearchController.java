@@ -0,0 +1,73 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.dto.request.ActivityGlobalSearchRequest;
+import com.familyhobbies.associationservice.dto.response.ActivitySearchResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.service.ActivityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalTime;
+
+/**
+ * REST controller for searching activities across all associations.
+ *
+ * Path prefix: /api/v1/activities
+ *
+ * Public endpoints: GET /search
+ */
+@RestController
+@RequestMapping("/api/v1/activities")
+@Tag(name = "Activity Search", description = "Cross-association activity search")
+public class ActivitySearchController {
+
+    private final ActivityService activityService;
+
+    public ActivitySearchController(ActivityService activityService) {
+        this.activityService = activityService;
+    }
+
+    /**
+     * Search active activities across associations with keyset (cursor) pagination.
+     * GET /api/v1/activities/search?category=SPORT&age=9&dayOfWeek=WEDNESDAY&maxPriceCents=20000&city=Lyon
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search activities",
+               description = "Searches active activities across associations by category, level, member age, "
+                   + "session day and time window, price and city. Cursor pagination ordered by name.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search slice returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or filter")
+    })
+    public ResponseEntity<CursorPageResponse<ActivitySearchResultResponse>> searchActivities(
+            @RequestParam(required = false) AssociationCategory category,
+            @RequestParam(required = false) ActivityLevel level,
+            @RequestParam(required = false) Integer age,
+            @RequestParam(required = false) DayOfWeekEnum dayOfWeek,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startsAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endsBefore,
+            @RequestParam(required = false) Integer maxPriceCents,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        ActivityGlobalSearchRequest request = new ActivityGlobalSearchRequest(
+            category, level, age, dayOfWeek, startsAfter, endsBefore, maxPriceCents, city, size
+        );
+
+        CursorPageResponse<ActivitySearchResultResponse> results =
+            activityService.searchActivities(request, cursor);
+        return ResponseEntity.ok(results);
+    }
+}
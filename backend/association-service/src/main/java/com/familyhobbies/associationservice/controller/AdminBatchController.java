@@ -31,6 +31,8 @@ import java.util.Map;
  * <ul>
  *   <li>POST /api/v1/admin/batch/helloasso-sync (S7-001)</li>
  *   <li>POST /api/v1/admin/batch/subscription-expiry (S7-002)</li>
+ *   <li>POST /api/v1/admin/batch/attendance-counter-rebuild</li>
+ *   <li>POST /api/v1/admin/batch/attendance-partition-maintenance</li>
  * </ul>
  */
 @RestController
@@ -45,14 +47,20 @@ public class AdminBatchController {
     private final JobLauncher asyncJobLauncher;
     private final Job helloAssoSyncJob;
     private final Job subscriptionExpiryJob;
+    private final Job attendanceCounterRebuildJob;
+    private final Job attendancePartitionMaintenanceJob;
 
     public AdminBatchController(
             @Qualifier("asyncJobLauncher") JobLauncher asyncJobLauncher,
             @Qualifier("helloAssoSyncJob") Job helloAssoSyncJob,
-            @Qualifier("subscriptionExpiryJob") Job subscriptionExpiryJob) {
+            @Qualifier("subscriptionExpiryJob") Job subscriptionExpiryJob,
+            @Qualifier("attendanceCounterRebuildJob") Job attendanceCounterRebuildJob,
+            @Qualifier("attendancePartitionMaintenanceJob") Job attendancePartitionMaintenanceJob) {
         this.asyncJobLauncher = asyncJobLauncher;
         this.helloAssoSyncJob = helloAssoSyncJob;
         this.subscriptionExpiryJob = subscriptionExpiryJob;
+        this.attendanceCounterRebuildJob = attendanceCounterRebuildJob;
+        this.attendancePartitionMaintenanceJob = attendancePartitionMaintenanceJob;
     }
 
     /**
@@ -92,6 +100,46 @@ public class AdminBatchController {
         return launchJob("subscriptionExpiryJob", subscriptionExpiryJob);
     }
 
+    /**
+     * Manually trigger the attendance counter rebuild job.
+     *
+     * <p>Recomputes the per-member, per-status counters behind the attendance summary
+     * from {@code t_attendance}, e.g. after a data import.
+     *
+     * @return 202 Accepted with job execution ID
+     */
+    @PostMapping("/attendance-counter-rebuild")
+    @Operation(summary = "Trigger attendance counter rebuild job",
+               description = "Launches the job that recomputes attendance summary counters")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Job launched"),
+        @ApiResponse(responseCode = "403", description = "ADMIN role required"),
+        @ApiResponse(responseCode = "500", description = "Failed to launch job")
+    })
+    public ResponseEntity<Map<String, Object>> triggerAttendanceCounterRebuild() {
+        return launchJob("attendanceCounterRebuildJob", attendanceCounterRebuildJob);
+    }
+
+    /**
+     * Manually trigger the attendance partition maintenance job.
+     *
+     * <p>Creates the upcoming monthly partitions of {@code t_attendance} and archives the
+     * partitions past the retention period to compressed files before dropping them.
+     *
+     * @return 202 Accepted with job execution ID
+     */
+    @PostMapping("/attendance-partition-maintenance")
+    @Operation(summary = "Trigger attendance partition maintenance job",
+               description = "Launches the job that creates upcoming attendance partitions and archives expired ones")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Job launched"),
+        @ApiResponse(responseCode = "403", description = "ADMIN role required"),
+        @ApiResponse(responseCode = "500", description = "Failed to launch job")
+    })
+    public ResponseEntity<Map<String, Object>> triggerAttendancePartitionMaintenance() {
+        return launchJob("attendancePartitionMaintenanceJob", attendancePartitionMaintenanceJob);
+    }
+
     private ResponseEntity<Map<String, Object>> launchJob(
             String jobName, Job job) {
         try {
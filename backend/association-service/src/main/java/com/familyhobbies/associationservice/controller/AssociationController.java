@@ -3,6 +3,7 @@ package com.familyhobbies.associationservice.controller;
 import com.familyhobbies.associationservice.dto.request.AssociationSearchRequest;
 import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
 import com.familyhobbies.associationservice.dto.response.AssociationResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.service.AssociationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,7 +39,8 @@ public class AssociationController {
      */
     @GetMapping
     @Operation(summary = "Search associations",
-               description = "Search French associations by city, category, and keyword with pagination")
+               description = "Search French associations by city, category, and keyword with pagination. "
+                   + "Keyword results are ranked by relevance; the last keyword word also matches as a prefix")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Search results returned")
     })
@@ -57,6 +59,34 @@ public class AssociationController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Search associations with keyset (cursor) pagination.
+     * GET /api/v1/associations/scroll?city=Lyon&category=SPORT&cursor=...&size=20
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll associations",
+               description = "Search associations with cursor pagination ordered by name (no total count). "
+                   + "Keyword matching is the same as the search endpoint")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search slice returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageResponse<AssociationResponse>> scrollAssociations(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) AssociationCategory category,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            city, category, keyword, null, size
+        );
+
+        CursorPageResponse<AssociationResponse> results =
+            associationService.scrollAssociations(request, cursor);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Get a single association by its database ID.
      * GET /api/v1/associations/{id}
@@ -1,17 +1,30 @@
 package com.familyhobbies.associationservice.controller;
 
+import com.familyhobbies.associationservice.dto.request.AttendanceReportRequest;
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
 import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceHeatmapResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceReportFormat;
 import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSeasonStatsResponse;
 import com.familyhobbies.associationservice.dto.response.AttendanceSummaryResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
+import com.familyhobbies.associationservice.service.AttendanceAnalyticsService;
+import com.familyhobbies.associationservice.service.AttendanceReportService;
 import com.familyhobbies.associationservice.service.AttendanceService;
 import com.familyhobbies.errorhandling.exception.web.ForbiddenException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
@@ -32,18 +46,27 @@ import java.util.List;
  *
  * Path prefix: /api/v1/attendance
  *
- * Protected endpoints: all require FAMILY role (via X-User-Id header).
+ * Protected endpoints: FAMILY role (via X-User-Id header) unless noted below.
  * Bulk endpoint also supports ASSOCIATION role.
+ * Report export, season analytics, heatmaps and session rosters require ASSOCIATION or ADMIN role.
  */
 @RestController
 @RequestMapping("/api/v1/attendance")
 @Tag(name = "Attendance", description = "Attendance tracking: mark, view, and summarize attendance records")
 public class AttendanceController {
 
+    static final String TRUNCATED_HEADER = "X-Truncated";
+
     private final AttendanceService attendanceService;
+    private final AttendanceReportService attendanceReportService;
+    private final AttendanceAnalyticsService attendanceAnalyticsService;
 
-    public AttendanceController(AttendanceService attendanceService) {
+    public AttendanceController(AttendanceService attendanceService,
+                                AttendanceReportService attendanceReportService,
+                                AttendanceAnalyticsService attendanceAnalyticsService) {
         this.attendanceService = attendanceService;
+        this.attendanceReportService = attendanceReportService;
+        this.attendanceAnalyticsService = attendanceAnalyticsService;
     }
 
     /**
@@ -92,6 +115,33 @@ public class AttendanceController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Sync attendance marks recorded offline, across sessions and dates.
+     * POST /api/v1/attendance/sync
+     *
+     * Idempotent: the latest modification of each session, member and date wins, and a
+     * replayed payload writes nothing. Always 200 once the payload is well-formed; each
+     * mark gets its own outcome, invalid marks being REJECTED without aborting the others --
+     * including marks on another family's subscription or naming another member.
+     */
+    @PostMapping("/sync")
+    @Operation(summary = "Sync offline attendance",
+               description = "Upserts attendance marks recorded offline with last-writer-wins, "
+                   + "returning one outcome per mark")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Marks synced, outcome per mark"),
+        @ApiResponse(responseCode = "400", description = "Malformed sync payload"),
+        @ApiResponse(responseCode = "403", description = "FAMILY role required")
+    })
+    public ResponseEntity<List<AttendanceSyncResultResponse>> syncAttendance(
+            @Valid @RequestBody AttendanceSyncRequest request,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateFamilyRole(roles);
+        return ResponseEntity.ok(attendanceService.syncAttendance(request, userId));
+    }
+
     /**
      * Get attendance for a session on a specific date.
      * GET /api/v1/attendance/session/{sessionId}?date=YYYY-MM-DD
@@ -115,12 +165,36 @@ public class AttendanceController {
     }
 
     /**
-     * Get attendance history for a family member.
+     * Get the roster of a session with the attendance already recorded on a date.
+     * GET /api/v1/attendance/session/{sessionId}/roster?date=YYYY-MM-DD
+     */
+    @GetMapping("/session/{sessionId}/roster")
+    @Operation(summary = "Get session roster",
+               description = "Returns every active subscriber of the session's activity with their "
+                   + "attendance status on the given date, null when not marked yet")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Roster returned"),
+        @ApiResponse(responseCode = "403", description = "ASSOCIATION or ADMIN role required"),
+        @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    public ResponseEntity<SessionRosterResponse> getSessionRoster(
+            @PathVariable Long sessionId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateAssociationOrAdminRole(roles);
+        return ResponseEntity.ok(attendanceService.getSessionRoster(sessionId, date));
+    }
+
+    /**
+     * Get the latest attendance of a family member, capped at 200 records.
      * GET /api/v1/attendance/member/{memberId}
      */
     @GetMapping("/member/{memberId}")
     @Operation(summary = "Get attendance by member",
-               description = "Returns all attendance records for a family member")
+               description = "Returns the 200 most recent attendance records of a family member, newest first. "
+                   + "When older records exist the response carries " + TRUNCATED_HEADER + ": true and a Link "
+                   + "to /member/{memberId}/history, which serves the full history")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Attendance history returned"),
         @ApiResponse(responseCode = "403", description = "FAMILY role required")
@@ -131,7 +205,33 @@ public class AttendanceController {
             @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
 
         validateFamilyRole(roles);
-        List<AttendanceResponse> results = attendanceService.findByMemberId(memberId, userId);
+        AttendanceService.HistoryList results = attendanceService.findByMemberId(memberId, userId);
+        return historyList(results, "/api/v1/attendance/member/" + memberId + "/history");
+    }
+
+    /**
+     * Scroll the attendance history of a family member with keyset (cursor) pagination.
+     * GET /api/v1/attendance/member/{memberId}/history?cursor=...&size=20
+     */
+    @GetMapping("/member/{memberId}/history")
+    @Operation(summary = "Scroll attendance by member",
+               description = "Returns a slice of a family member's attendance history ordered by session date "
+                   + "(no total count)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Attendance history slice returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "403", description = "FAMILY role required")
+    })
+    public ResponseEntity<CursorPageResponse<AttendanceResponse>> scrollMemberHistory(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateFamilyRole(roles);
+        CursorPageResponse<AttendanceResponse> results =
+            attendanceService.scrollMemberHistory(memberId, cursor, size, userId);
         return ResponseEntity.ok(results);
     }
 
@@ -157,12 +257,14 @@ public class AttendanceController {
     }
 
     /**
-     * Get attendance for a subscription.
+     * Get the latest attendance of a subscription, capped at 200 records.
      * GET /api/v1/attendance/subscription/{subscriptionId}
      */
     @GetMapping("/subscription/{subscriptionId}")
     @Operation(summary = "Get attendance by subscription",
-               description = "Returns all attendance records linked to a subscription")
+               description = "Returns the 200 most recent attendance records linked to a subscription, newest "
+                   + "first. When older records exist the response carries " + TRUNCATED_HEADER + ": true and "
+                   + "a Link to /subscription/{subscriptionId}/history, which serves the full history")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Attendance records returned"),
         @ApiResponse(responseCode = "403", description = "FAMILY role required")
@@ -173,7 +275,34 @@ public class AttendanceController {
             @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
 
         validateFamilyRole(roles);
-        List<AttendanceResponse> results = attendanceService.findBySubscriptionId(subscriptionId, userId);
+        AttendanceService.HistoryList results = attendanceService.findBySubscriptionId(subscriptionId, userId);
+        return historyList(results, "/api/v1/attendance/subscription/" + subscriptionId + "/history");
+    }
+
+    /**
+     * Scroll the attendance history of a subscription with keyset (cursor) pagination.
+     * GET /api/v1/attendance/subscription/{subscriptionId}/history?cursor=...&size=20
+     */
+    @GetMapping("/subscription/{subscriptionId}/history")
+    @Operation(summary = "Scroll attendance by subscription",
+               description = "Returns a slice of a subscription's attendance history ordered by session date "
+                   + "(no total count)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Attendance history slice returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "403", description = "FAMILY role required"),
+        @ApiResponse(responseCode = "404", description = "Subscription not found")
+    })
+    public ResponseEntity<CursorPageResponse<AttendanceResponse>> scrollSubscriptionHistory(
+            @PathVariable Long subscriptionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateFamilyRole(roles);
+        CursorPageResponse<AttendanceResponse> results =
+            attendanceService.scrollSubscriptionHistory(subscriptionId, cursor, size, userId);
         return ResponseEntity.ok(results);
     }
 
@@ -201,15 +330,125 @@ public class AttendanceController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Export attendance records of an association, activity or session over a period.
+     * GET /api/v1/attendance/report?activityId=1&from=YYYY-MM-DD&to=YYYY-MM-DD&format=CSV
+     *
+     * Rows are written to the response as they are read from the database, so the export
+     * is not buffered in memory. Written synchronously on the request thread: a season of
+     * a large association can outlast the MVC async request timeout.
+     */
+    @GetMapping("/report")
+    @Operation(summary = "Export attendance report",
+               description = "Streams the attendance records of an association, activity or session "
+                   + "between two dates, as CSV or NDJSON")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Attendance report streamed"),
+        @ApiResponse(responseCode = "400", description = "Not exactly one scope, or invalid period"),
+        @ApiResponse(responseCode = "403", description = "ASSOCIATION or ADMIN role required"),
+        @ApiResponse(responseCode = "404", description = "Association, activity or session not found")
+    })
+    public void exportReport(
+            @RequestParam(required = false) Long associationId,
+            @RequestParam(required = false) Long activityId,
+            @RequestParam(required = false) Long sessionId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") AttendanceReportFormat format,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles,
+            HttpServletResponse response) throws IOException {
+
+        validateAssociationOrAdminRole(roles);
+        AttendanceReportRequest request = new AttendanceReportRequest(associationId, activityId, sessionId, from, to);
+        attendanceReportService.validateReport(request);
+
+        response.setContentType(format.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("attendance-" + from + "_" + to + "." + format.getFileExtension())
+            .build()
+            .toString());
+        attendanceReportService.writeReport(request, format, response.getOutputStream());
+    }
+
+    /**
+     * Get the season attendance rates and streaks of every member of an activity.
+     * GET /api/v1/attendance/activity/{activityId}/season-stats?season=2025
+     */
+    @GetMapping("/activity/{activityId}/season-stats")
+    @Operation(summary = "Get activity season statistics",
+               description = "Returns attendance counts, rate and streaks per subscription over a season "
+                   + "(identified by its starting year, current season by default)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Season statistics returned"),
+        @ApiResponse(responseCode = "403", description = "ASSOCIATION or ADMIN role required"),
+        @ApiResponse(responseCode = "404", description = "Activity not found")
+    })
+    public ResponseEntity<List<AttendanceSeasonStatsResponse>> getActivitySeasonStats(
+            @PathVariable Long activityId,
+            @RequestParam(required = false) Integer season,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateAssociationOrAdminRole(roles);
+        return ResponseEntity.ok(attendanceAnalyticsService.getActivitySeasonStats(activityId, season));
+    }
+
+    /**
+     * Get the attendance of a session per weekly occurrence over a season.
+     * GET /api/v1/attendance/session/{sessionId}/heatmap?season=2025
+     */
+    @GetMapping("/session/{sessionId}/heatmap")
+    @Operation(summary = "Get session attendance heatmap",
+               description = "Returns the recorded statuses per occurrence of a weekly session over a season "
+                   + "(identified by its starting year, current season by default)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Heatmap returned"),
+        @ApiResponse(responseCode = "403", description = "ASSOCIATION or ADMIN role required"),
+        @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    public ResponseEntity<AttendanceHeatmapResponse> getSessionHeatmap(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) Integer season,
+            @RequestHeader(value = "X-User-Roles", defaultValue = "") String roles) {
+
+        validateAssociationOrAdminRole(roles);
+        return ResponseEntity.ok(attendanceAnalyticsService.getSessionHeatmap(sessionId, season));
+    }
+
     /**
      * Validates that the caller has the FAMILY role (or ADMIN which inherits FAMILY).
      *
      * @param roles comma-separated roles from X-User-Roles header
      * @throws ForbiddenException if FAMILY role is not present
      */
+    /**
+     * Flags a truncated list and links to the cursor endpoint serving the full history.
+     */
+    private ResponseEntity<List<AttendanceResponse>> historyList(AttendanceService.HistoryList list,
+                                                                 String historyPath) {
+        if (!list.truncated()) {
+            return ResponseEntity.ok(list.records());
+        }
+        return ResponseEntity.ok()
+            .header(TRUNCATED_HEADER, "true")
+            .header(HttpHeaders.LINK, "<" + historyPath + ">; rel=\"history\"")
+            .body(list.records());
+    }
+
     private void validateFamilyRole(String roles) {
         if (roles == null || (!roles.contains("FAMILY") && !roles.contains("ADMIN"))) {
             throw new ForbiddenException("FAMILY role required to access attendance endpoints");
         }
     }
+
+    /**
+     * Validates that the caller has the ASSOCIATION or ADMIN role.
+     *
+     * @param roles comma-separated roles from X-User-Roles header
+     * @throws ForbiddenException if neither role is present
+     */
+    private void validateAssociationOrAdminRole(String roles) {
+        if (roles == null || (!roles.contains("ASSOCIATION") && !roles.contains("ADMIN"))) {
+            throw new ForbiddenException("ASSOCIATION or ADMIN role required to access attendance reports and rosters");
+        }
+    }
 }
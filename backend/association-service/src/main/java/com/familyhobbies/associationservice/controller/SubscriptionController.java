@@ -1,5 +1,6 @@
 package com.familyhobbies.associationservice.controller;
 
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
 import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
 import com.familyhobbies.associationservice.dto.response.SubscriptionResponse;
 import com.familyhobbies.associationservice.service.SubscriptionService;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -62,6 +64,27 @@ public class SubscriptionController {
         return ResponseEntity.created(location).body(result);
     }
 
+    /**
+     * Subscribe several family members to several activities in one request.
+     * POST /api/v1/subscriptions/bulk
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Create subscriptions in bulk",
+               description = "Subscribes every listed family member to every listed activity, all or nothing")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Subscriptions created"),
+        @ApiResponse(responseCode = "400", description = "Invalid bulk subscription data"),
+        @ApiResponse(responseCode = "404", description = "Activity not found"),
+        @ApiResponse(responseCode = "409", description = "Activity full or member already subscribed")
+    })
+    public ResponseEntity<List<SubscriptionResponse>> createBulkSubscriptions(
+            @Valid @RequestBody BulkSubscriptionRequest request,
+            @RequestHeader("X-User-Id") Long userId) {
+
+        List<SubscriptionResponse> results = subscriptionService.createBulkSubscriptions(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(results);
+    }
+
     /**
      * List subscriptions for a family.
      * GET /api/v1/subscriptions/family/{familyId}
@@ -0,0 +1,45 @@
+package com.familyhobbies.associationservice.dto.request;
+
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+
+import java.time.LocalTime;
+
+/**
+ * Search criteria for the cross-association activity search.
+ * All filters are optional — null means "no filter on this field".
+ * Only active activities with at least one active session matching the
+ * session filters (day, time window) are returned.
+ *
+ * @param category      filter by activity category
+ * @param level         filter by activity level
+ * @param age           member age that must fall within the activity's min/max age
+ * @param dayOfWeek     day a session must take place on
+ * @param startsAfter   earliest session start time (inclusive)
+ * @param endsBefore    latest session end time (inclusive)
+ * @param maxPriceCents maximum price in cents (inclusive)
+ * @param city          association city (case-insensitive)
+ * @param size          slice size, defaults to 20, clamped to 1..100
+ */
+public record ActivityGlobalSearchRequest(
+    AssociationCategory category,
+    ActivityLevel level,
+    Integer age,
+    DayOfWeekEnum dayOfWeek,
+    LocalTime startsAfter,
+    LocalTime endsBefore,
+    Integer maxPriceCents,
+    String city,
+    Integer size
+) {
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * Returns the slice size, defaulting to 20 if null and clamped to 1..100.
+     */
+    public int sizeOrDefault() {
+        return size != null ? Math.max(1, Math.min(size, MAX_SIZE)) : DEFAULT_SIZE;
+    }
+}
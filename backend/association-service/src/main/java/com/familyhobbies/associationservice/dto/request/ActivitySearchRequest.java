@@ -1,21 +1,36 @@
 package com.familyhobbies.associationservice.dto.request;
 
 import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
 import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 
+import java.time.LocalDate;
+
 /**
- * Search criteria for filtering activities within an association.
- * All fields are optional -- null means "no filter on this field".
+ * Search criteria for filtering activities.
+ * All fields are optional — null means "no filter on this field".
+ * Range filters match activities whose own range overlaps the requested one;
+ * an activity with an open bound (null min/max age, season start/end) is treated as unbounded.
  *
- * @param category filter by activity category
- * @param level    filter by activity level
- * @param minAge   filter by minimum age
- * @param maxAge   filter by maximum age
+ * @param category      filter by activity category
+ * @param level         filter by activity level
+ * @param status        filter by activity status
+ * @param minAge        youngest age the activity must accept
+ * @param maxAge        oldest age the activity must accept
+ * @param minPriceCents minimum price in cents (inclusive)
+ * @param maxPriceCents maximum price in cents (inclusive)
+ * @param seasonFrom    start of the period the season must overlap
+ * @param seasonTo      end of the period the season must overlap
  */
 public record ActivitySearchRequest(
     AssociationCategory category,
     ActivityLevel level,
+    ActivityStatus status,
     Integer minAge,
-    Integer maxAge
+    Integer maxAge,
+    Integer minPriceCents,
+    Integer maxPriceCents,
+    LocalDate seasonFrom,
+    LocalDate seasonTo
 ) {
 }
@@ -10,7 +10,7 @@ import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
  * @param category filter by association category
  * @param keyword  free-text search across name and description
  * @param page     page number (0-based), defaults to 0
- * @param size     page size, defaults to 20
+ * @param size     page size, defaults to 20, clamped to 1..100
  */
 public record AssociationSearchRequest(
     String city,
@@ -26,10 +26,13 @@ public record AssociationSearchRequest(
         return page != null ? page : 0;
     }
 
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
     /**
-     * Returns the page size, defaulting to 20 if null.
+     * Returns the page size, defaulting to 20 if null and clamped to 1..100.
      */
     public int sizeOrDefault() {
-        return size != null ? size : 20;
+        return size != null ? Math.max(1, Math.min(size, MAX_SIZE)) : DEFAULT_SIZE;
     }
 }
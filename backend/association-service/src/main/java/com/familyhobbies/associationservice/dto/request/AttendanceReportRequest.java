@@ -0,0 +1,22 @@
+package com.familyhobbies.associationservice.dto.request;
+
+import java.time.LocalDate;
+
+/**
+ * Scope and period of an attendance report export.
+ * Exactly one of the three scope ids is set; the period bounds are inclusive.
+ *
+ * @param associationId every session of every activity of the association
+ * @param activityId    every session of the activity
+ * @param sessionId     a single session
+ * @param from          first session date included
+ * @param to            last session date included
+ */
+public record AttendanceReportRequest(
+    Long associationId,
+    Long activityId,
+    Long sessionId,
+    LocalDate from,
+    LocalDate to
+) {
+}
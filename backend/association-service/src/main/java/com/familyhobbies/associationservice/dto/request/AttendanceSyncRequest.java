@@ -0,0 +1,38 @@
+package com.familyhobbies.associationservice.dto.request;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for syncing attendance marks recorded offline, possibly across several
+ * sessions and dates. Sending the same payload again is safe.
+ */
+public record AttendanceSyncRequest(
+    @NotEmpty @Size(max = 500) @Valid List<SyncMark> marks
+) {
+
+    /**
+     * Attendance mark as recorded on the device.
+     *
+     * @param clientMarkId UUID generated by the device for this mark, echoed in the result
+     * @param modifiedAt   when the mark was last changed on the device; the latest change wins
+     */
+    public record SyncMark(
+        @NotNull UUID clientMarkId,
+        @NotNull Long sessionId,
+        @NotNull Long familyMemberId,
+        @NotNull Long subscriptionId,
+        @NotNull LocalDate sessionDate,
+        @NotNull AttendanceStatus status,
+        @Size(max = 500) String note,
+        @NotNull Instant modifiedAt
+    ) {}
+}
@@ -0,0 +1,41 @@
+package com.familyhobbies.associationservice.dto.request;
+
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request DTO for subscribing several family members to several activities at once.
+ * One subscription is created for every (member, activity) pair.
+ *
+ * @param familyId          the family (required)
+ * @param activityIds       the activities to subscribe to (1 to 10)
+ * @param members           the family members subscribing (1 to 20)
+ * @param subscriptionType  type of subscription: ADHESION or COTISATION (required)
+ * @param startDate         subscription start date (required)
+ * @param endDate           subscription end date (optional, null = ongoing)
+ */
+public record BulkSubscriptionRequest(
+    @NotNull Long familyId,
+    @NotEmpty @Size(max = 10) List<@NotNull Long> activityIds,
+    @NotEmpty @Size(max = 20) @Valid List<Member> members,
+    @NotNull SubscriptionType subscriptionType,
+    @NotNull LocalDate startDate,
+    LocalDate endDate
+) {
+
+    /**
+     * Family member within a bulk subscription request.
+     */
+    public record Member(
+        @NotNull Long familyMemberId,
+        @NotBlank @Size(max = 100) String memberFirstName,
+        @NotBlank @Size(max = 100) String memberLastName
+    ) {}
+}
@@ -0,0 +1,56 @@
+package com.familyhobbies.associationservice.dto.request;
+
+import com.familyhobbies.errorhandling.exception.web.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset (cursor) paginated query.
+ * Rows are ordered by {@code (sortKey, id)}; the next page starts strictly after this pair.
+ * Exchanged with clients as an opaque URL-safe Base64 token.
+ *
+ * @param sortKey value of the primary sort column of the last row (e.g. name, ISO date)
+ * @param id      id of the last row, used as tie-breaker
+ */
+public record KeysetCursor(
+    String sortKey,
+    Long id
+) {
+
+    private static final char SEPARATOR = '\u0000';
+
+    /**
+     * Encodes this position as an opaque token.
+     */
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor, nullable
+     * @return the decoded position, or {@code null} when the token is null or blank (first page)
+     * @throws BadRequestException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(
+                raw.substring(0, separatorIndex),
+                Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + token, e);
+        }
+    }
+}
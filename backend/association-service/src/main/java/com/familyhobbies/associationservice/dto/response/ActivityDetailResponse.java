@@ -21,6 +21,7 @@ import java.util.List;
  * @param minAge          minimum age
  * @param maxAge          maximum age
  * @param maxCapacity     maximum participants
+ * @param seatsRemaining  free seats, null when the activity has no capacity limit
  * @param priceCents      price in euro cents
  * @param seasonStart     season start date
  * @param seasonEnd       season end date
@@ -40,6 +41,7 @@ public record ActivityDetailResponse(
     Integer minAge,
     Integer maxAge,
     Integer maxCapacity,
+    Integer seatsRemaining,
     Integer priceCents,
     LocalDate seasonStart,
     LocalDate seasonEnd,
@@ -7,15 +7,16 @@ import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 /**
  * Summary response for activity list views.
  *
- * @param id           unique identifier
- * @param name         activity name
- * @param category     activity category
- * @param level        difficulty level
- * @param minAge       minimum age
- * @param maxAge       maximum age
- * @param priceCents   price in euro cents
- * @param status       current status
- * @param sessionCount number of sessions
+ * @param id             unique identifier
+ * @param name           activity name
+ * @param category       activity category
+ * @param level          difficulty level
+ * @param minAge         minimum age
+ * @param maxAge         maximum age
+ * @param priceCents     price in euro cents
+ * @param status         current status
+ * @param sessionCount   number of sessions
+ * @param seatsRemaining free seats, null when the activity has no capacity limit
  */
 public record ActivityResponse(
     Long id,
@@ -26,6 +27,7 @@ public record ActivityResponse(
     Integer maxAge,
     Integer priceCents,
     ActivityStatus status,
-    int sessionCount
+    int sessionCount,
+    Integer seatsRemaining
 ) {
 }
@@ -0,0 +1,35 @@
+package com.familyhobbies.associationservice.dto.response;
+
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+
+/**
+ * Activity row returned by the cross-association search, with the owning
+ * association so clients can render results without extra lookups.
+ *
+ * @param id              unique identifier
+ * @param associationId   owning association ID
+ * @param associationName owning association name
+ * @param city            owning association city
+ * @param name            activity name
+ * @param category        activity category
+ * @param level           difficulty level
+ * @param minAge          minimum age
+ * @param maxAge          maximum age
+ * @param priceCents      price in euro cents
+ * @param seatsRemaining  free seats, null when the activity has no capacity limit
+ */
+public record ActivitySearchResultResponse(
+    Long id,
+    Long associationId,
+    String associationName,
+    String city,
+    String name,
+    AssociationCategory category,
+    ActivityLevel level,
+    Integer minAge,
+    Integer maxAge,
+    Integer priceCents,
+    Integer seatsRemaining
+) {
+}
@@ -0,0 +1,30 @@
+package com.familyhobbies.associationservice.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for the attendance of a weekly session over a season, per occurrence.
+ *
+ * @param sessionId   session the heatmap belongs to
+ * @param seasonStart first day of the season
+ * @param occurrences occurrences with at least one recorded status, in date order
+ */
+public record AttendanceHeatmapResponse(
+    Long sessionId,
+    LocalDate seasonStart,
+    List<Occurrence> occurrences
+) {
+
+    /**
+     * Recorded statuses of one occurrence of the session.
+     */
+    public record Occurrence(
+        int occurrence,
+        LocalDate sessionDate,
+        int presentCount,
+        int absentCount,
+        int excusedCount,
+        int lateCount
+    ) {}
+}
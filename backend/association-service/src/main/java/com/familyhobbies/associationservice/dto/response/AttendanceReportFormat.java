@@ -0,0 +1,29 @@
+package com.familyhobbies.associationservice.dto.response;
+
+/**
+ * Output formats of the attendance report export.
+ */
+public enum AttendanceReportFormat {
+
+    /** RFC 4180 CSV with a header line. */
+    CSV("text/csv;charset=UTF-8", "csv"),
+
+    /** Newline-delimited JSON, one object per attendance record. */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    AttendanceReportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
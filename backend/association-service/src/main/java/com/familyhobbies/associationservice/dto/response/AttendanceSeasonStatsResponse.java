@@ -0,0 +1,32 @@
+package com.familyhobbies.associationservice.dto.response;
+
+/**
+ * Response DTO for the season attendance of one subscription to an activity.
+ *
+ * @param subscriptionId   subscription the statistics belong to
+ * @param familyMemberId   member of the subscription
+ * @param memberFirstName  member first name
+ * @param memberLastName   member last name
+ * @param recordedSessions session occurrences with a recorded status
+ * @param presentCount     occurrences marked PRESENT
+ * @param absentCount      occurrences marked ABSENT
+ * @param excusedCount     occurrences marked EXCUSED
+ * @param lateCount        occurrences marked LATE
+ * @param attendanceRate   PRESENT share of recorded occurrences, in percent
+ * @param currentStreak    latest recorded occurrences attended in a row (PRESENT or LATE)
+ * @param longestStreak    most recorded occurrences attended in a row over the season
+ */
+public record AttendanceSeasonStatsResponse(
+    Long subscriptionId,
+    Long familyMemberId,
+    String memberFirstName,
+    String memberLastName,
+    int recordedSessions,
+    int presentCount,
+    int absentCount,
+    int excusedCount,
+    int lateCount,
+    double attendanceRate,
+    int currentStreak,
+    int longestStreak
+) {}
@@ -0,0 +1,22 @@
+package com.familyhobbies.associationservice.dto.response;
+
+/**
+ * Outcome of one mark of an offline attendance sync.
+ */
+public enum AttendanceSyncOutcome {
+
+    /** No record existed for the session, member and date; the mark was inserted. */
+    CREATED,
+
+    /** The record was last changed before the mark; the mark overwrote it. */
+    UPDATED,
+
+    /** The record already holds this very mark (replay); nothing was written. */
+    UNCHANGED,
+
+    /** The record, or another mark of the same sync, was changed later; nothing was written. */
+    STALE,
+
+    /** The mark is invalid (unknown or inactive session or subscription, future date); nothing was written. */
+    REJECTED
+}
@@ -0,0 +1,19 @@
+package com.familyhobbies.associationservice.dto.response;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for one mark of an offline attendance sync, in request order.
+ *
+ * @param clientMarkId UUID the device generated for the mark
+ * @param outcome      what the sync did with the mark
+ * @param attendanceId id of the attendance record for the mark's session, member and date;
+ *                     null when rejected
+ * @param message      reason of a rejection, null otherwise
+ */
+public record AttendanceSyncResultResponse(
+    UUID clientMarkId,
+    AttendanceSyncOutcome outcome,
+    Long attendanceId,
+    String message
+) {}
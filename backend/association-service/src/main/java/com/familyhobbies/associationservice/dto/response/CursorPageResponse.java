@@ -0,0 +1,50 @@
+package com.familyhobbies.associationservice.dto.response;
+
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice-style response for keyset (cursor) paginated endpoints.
+ * Carries no total count: clients follow {@code nextCursor} until {@code hasNext} is false.
+ *
+ * @param content    the rows of the current slice
+ * @param size       requested slice size
+ * @param hasNext    whether more rows exist after this slice
+ * @param nextCursor opaque cursor to pass back for the next slice, null on the last slice
+ * @param <T>        the type of content elements
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+
+    /**
+     * Builds a slice from rows fetched with a limit of {@code size + 1}: the extra row only
+     * tells whether another slice exists, without a count query, and is left out.
+     *
+     * @param rows     up to {@code size + 1} rows in keyset order
+     * @param size     requested slice size, at least 1
+     * @param position keyset position of a row, encoded as the next cursor for the last row
+     * @param mapper   maps a row to a content element
+     * @param <R>      the type of fetched rows
+     * @param <T>      the type of content elements
+     */
+    public static <R, T> CursorPageResponse<T> fromRows(List<R> rows, int size,
+                                                        Function<R, KeysetCursor> position,
+                                                        Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? position.apply(slice.get(slice.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(
+            slice.stream().map(mapper).toList(),
+            size,
+            hasNext,
+            nextCursor
+        );
+    }
+}
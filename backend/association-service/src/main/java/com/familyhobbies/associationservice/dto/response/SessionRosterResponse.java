@@ -0,0 +1,34 @@
+package com.familyhobbies.associationservice.dto.response;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for the roster an instructor takes attendance from.
+ *
+ * @param sessionId   session the roster belongs to
+ * @param sessionDate date the attendance state was read for
+ * @param members     active subscribers of the session's activity, by last and first name
+ */
+public record SessionRosterResponse(
+    Long sessionId,
+    LocalDate sessionDate,
+    List<Member> members
+) {
+
+    /**
+     * One subscriber and their attendance on the session date.
+     * {@code attendanceId}, {@code status} and {@code note} are null until a mark is recorded.
+     */
+    public record Member(
+        Long subscriptionId,
+        Long familyMemberId,
+        String memberFirstName,
+        String memberLastName,
+        Long attendanceId,
+        AttendanceStatus status,
+        String note
+    ) {}
+}
@@ -21,6 +21,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -74,6 +75,16 @@ public class Activity {
     @Column(name = "max_capacity")
     private Integer maxCapacity;
 
+    /**
+     * Seats held by PENDING and ACTIVE subscriptions. Read-only for JPA: only changed by the
+     * conditional counter updates in {@code ActivityRepository}, so a stale entity flush
+     * can never overwrite it.
+     */
+    @Column(name = "seats_taken", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int seatsTaken = 0;
+
     @Column(name = "price_cents", nullable = false)
     @Builder.Default
     private Integer priceCents = 0;
@@ -73,12 +73,19 @@ public class Association {
     @Column(name = "logo_url", length = 500)
     private String logoUrl;
 
-    @Column(name = "helloasso_slug", length = 200)
+    @Column(name = "helloasso_slug", unique = true, length = 200)
     private String helloassoSlug;
 
     @Column(name = "helloasso_org_id", length = 100)
     private String helloassoOrgId;
 
+    /**
+     * Hash of the HelloAsso payload last synced into this row, see
+     * {@link com.familyhobbies.associationservice.mapper.AssociationMapper#contentHash}.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "category", nullable = false, length = 30)
     private AssociationCategory category;
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.UUID;
 
 /**
  * JPA entity mapping to the {@code t_attendance} table.
@@ -30,9 +32,14 @@ import java.time.LocalDate;
  *
  * Cross-service references (familyMemberId, markedBy) are stored as
  * plain BIGINT with no FK constraint (separate databases).
+ *
+ * The unique constraint mirrors the Liquibase one so that the test schema
+ * generated by Hibernate rejects duplicates too.
  */
 @Entity
-@Table(name = "t_attendance")
+@Table(name = "t_attendance", uniqueConstraints = @UniqueConstraint(
+    name = "uq_attendance_session_member_date",
+    columnNames = {"session_id", "family_member_id", "session_date"}))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -68,6 +75,17 @@ public class Attendance {
     @Column(name = "marked_by", nullable = false)
     private Long markedBy;
 
+    /** UUID generated by the device that last wrote this mark; null for marks written online. */
+    @Column(name = "client_mark_id")
+    private UUID clientMarkId;
+
+    /**
+     * When the device last changed the mark, used for last-writer-wins sync.
+     * Null for marks written online, where {@code updatedAt} stands in.
+     */
+    @Column(name = "modified_at")
+    private Instant modifiedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -0,0 +1,71 @@
+package com.familyhobbies.associationservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * JPA entity mapping to the {@code t_attendance_bitmap} table.
+ * Encodes the season attendance of one subscription on one weekly session as one
+ * bitset per status: bit n is set in the column of the status recorded for the n-th
+ * occurrence of the session since {@code seasonStart}. A season is at most 53 weeks,
+ * so each bitset fits in a {@code long}.
+ *
+ * Rows are only written through {@code AttendanceBitmapBatchRepository}
+ * (atomic upserts); the entity exists for reads. Subscription and session are kept
+ * as plain ids, as in {@link AttendanceCounter}.
+ *
+ * The unique constraint mirrors the Liquibase one so that the test schema
+ * generated by Hibernate has the upsert target too.
+ */
+@Entity
+@Table(name = "t_attendance_bitmap", uniqueConstraints = @UniqueConstraint(
+    name = "uq_attendance_bitmap_subscription_session_season",
+    columnNames = {"subscription_id", "session_id", "season_start"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AttendanceBitmap {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(name = "season_start", nullable = false)
+    private LocalDate seasonStart;
+
+    @Column(name = "present_bits", nullable = false)
+    private long presentBits;
+
+    @Column(name = "absent_bits", nullable = false)
+    private long absentBits;
+
+    @Column(name = "excused_bits", nullable = false)
+    private long excusedBits;
+
+    @Column(name = "late_bits", nullable = false)
+    private long lateBits;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
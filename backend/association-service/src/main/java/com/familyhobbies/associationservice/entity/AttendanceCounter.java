@@ -0,0 +1,64 @@
+package com.familyhobbies.associationservice.entity;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * JPA entity mapping to the {@code t_attendance_counter} table.
+ * Holds how many attendance records a family member has per status, so the
+ * member summary does not scan the member's history.
+ *
+ * Rows are only written through {@code AttendanceCounterBatchRepository}
+ * (atomic increments and rebuild); the entity exists for reads.
+ * {@code subscriptionId} is the member's latest counted subscription, kept as a
+ * plain id because it is only used to join ownership and member names.
+ *
+ * The unique constraint mirrors the Liquibase one so that the test schema
+ * generated by Hibernate has the upsert target too.
+ */
+@Entity
+@Table(name = "t_attendance_counter", uniqueConstraints = @UniqueConstraint(
+    name = "uq_attendance_counter_member_status",
+    columnNames = {"family_member_id", "status"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AttendanceCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "family_member_id", nullable = false)
+    private Long familyMemberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private AttendanceStatus status;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Column(name = "attendance_count", nullable = false)
+    private int attendanceCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
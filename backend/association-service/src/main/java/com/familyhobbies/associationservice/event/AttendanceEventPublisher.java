@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Publishes attendance-related domain events to Kafka topics.
  *
@@ -55,4 +57,21 @@ public class AttendanceEventPublisher {
                     attendance.getId(), e.getMessage(), e);
         }
     }
+
+    /**
+     * Publishes one AttendanceMarkedEvent per attendance record, then flushes the producer
+     * once so the records leave in as few produce requests as possible.
+     * Fire-and-forget: logs errors but never throws.
+     *
+     * @param attendances the marked attendance entities
+     */
+    public void publishAttendancesMarked(List<Attendance> attendances) {
+        attendances.forEach(this::publishAttendanceMarked);
+        try {
+            kafkaTemplate.flush();
+        } catch (Exception e) {
+            log.error("Failed to flush {} AttendanceMarkedEvents: {}",
+                    attendances.size(), e.getMessage(), e);
+        }
+    }
 }
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Publishes subscription-related domain events to Kafka topics.
  *
@@ -63,6 +65,23 @@ public class SubscriptionEventPublisher {
         }
     }
 
+    /**
+     * Publishes one SubscriptionCreatedEvent per subscription, then flushes the producer
+     * once so the records leave in as few produce requests as possible.
+     * Fire-and-forget: logs errors but never throws.
+     *
+     * @param subscriptions the newly created subscription entities
+     */
+    public void publishSubscriptionsCreated(List<Subscription> subscriptions) {
+        subscriptions.forEach(this::publishSubscriptionCreated);
+        try {
+            kafkaTemplate.flush();
+        } catch (Exception e) {
+            log.error("Failed to flush {} SubscriptionCreatedEvents: {}",
+                    subscriptions.size(), e.getMessage(), e);
+        }
+    }
+
     /**
      * Publishes a SubscriptionCancelledEvent to Kafka.
      * Fire-and-forget: logs errors but never throws.
@@ -0,0 +1,76 @@
+package com.familyhobbies.associationservice.listener;
+
+import com.familyhobbies.associationservice.config.CacheConfig;
+import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
+import com.familyhobbies.common.event.AssociationSyncedEvent;
+import com.familyhobbies.common.event.HelloAssoSyncCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer that keeps the association detail caches consistent across replicas.
+ * <p>
+ * Each replica listens with its own randomly suffixed consumer group, so every instance
+ * receives every event (broadcast) instead of sharing partitions. Offsets start at
+ * {@code latest}: a freshly started replica has an empty cache and nothing to replay.
+ * <ul>
+ *   <li>{@link AssociationSyncedEvent}: evicts the entries of the synced association</li>
+ *   <li>{@link HelloAssoSyncCompletedEvent}: clears both caches (covers the admin sync path,
+ *       which does not publish per-association events)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AssociationCacheInvalidationConsumer {
+
+    private final CacheManager cacheManager;
+
+    @KafkaListener(
+            topics = "family-hobbies.association.synced",
+            groupId = "association-service-cache-${random.uuid}",
+            autoStartup = "${association.cache.invalidation.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void handleAssociationSynced(AssociationSyncedEvent event) {
+        log.debug("Received AssociationSyncedEvent: associationId={}, slug={}",
+                event.getAssociationId(), event.getHelloAssoSlug());
+
+        Cache byId = cacheManager.getCache(CacheConfig.ASSOCIATION_DETAIL_BY_ID);
+        Cache bySlug = cacheManager.getCache(CacheConfig.ASSOCIATION_DETAIL_BY_SLUG);
+
+        if (event.getAssociationId() != null && byId != null) {
+            AssociationDetailResponse cached = byId.get(event.getAssociationId(), AssociationDetailResponse.class);
+            if (cached != null && bySlug != null) {
+                bySlug.evict(cached.slug());
+            }
+            byId.evict(event.getAssociationId());
+        }
+        if (event.getHelloAssoSlug() != null && bySlug != null) {
+            bySlug.evict(event.getHelloAssoSlug());
+        }
+    }
+
+    @KafkaListener(
+            topics = "helloasso-sync-completed",
+            groupId = "association-service-cache-${random.uuid}",
+            autoStartup = "${association.cache.invalidation.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void handleSyncCompleted(HelloAssoSyncCompletedEvent event) {
+        log.info("Received HelloAssoSyncCompletedEvent: totalProcessed={}, clearing association caches",
+                event.getTotalProcessed());
+
+        clear(CacheConfig.ASSOCIATION_DETAIL_BY_ID);
+        clear(CacheConfig.ASSOCIATION_DETAIL_BY_SLUG);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
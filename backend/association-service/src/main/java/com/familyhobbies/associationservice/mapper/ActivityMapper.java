@@ -4,6 +4,7 @@ import com.familyhobbies.associationservice.dto.request.ActivityRequest;
 import com.familyhobbies.associationservice.dto.request.SessionRequest;
 import com.familyhobbies.associationservice.dto.response.ActivityDetailResponse;
 import com.familyhobbies.associationservice.dto.response.ActivityResponse;
+import com.familyhobbies.associationservice.dto.response.ActivitySearchResultResponse;
 import com.familyhobbies.associationservice.dto.response.SessionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
 import com.familyhobbies.associationservice.entity.Association;
@@ -23,12 +24,25 @@ public class ActivityMapper {
 
     /**
      * Maps an activity entity to a summary response (list view).
+     * Initializes the lazy sessions collection; list pages should use
+     * {@link #toResponse(Activity, int)} with a pre-computed count instead.
      */
     public ActivityResponse toResponse(Activity entity) {
         if (entity == null) {
             return null;
         }
         int sessionCount = entity.getSessions() != null ? entity.getSessions().size() : 0;
+        return toResponse(entity, sessionCount);
+    }
+
+    /**
+     * Maps an activity entity to a summary response with a session count
+     * computed by the caller (e.g. a grouped count query for the whole page).
+     */
+    public ActivityResponse toResponse(Activity entity, int sessionCount) {
+        if (entity == null) {
+            return null;
+        }
         return new ActivityResponse(
             entity.getId(),
             entity.getName(),
@@ -38,7 +52,32 @@ public class ActivityMapper {
             entity.getMaxAge(),
             entity.getPriceCents(),
             entity.getStatus(),
-            sessionCount
+            sessionCount,
+            seatsRemaining(entity)
+        );
+    }
+
+    /**
+     * Maps an activity entity to a cross-association search result.
+     * Expects the association to be fetched with the activity.
+     */
+    public ActivitySearchResultResponse toSearchResult(Activity entity) {
+        if (entity == null) {
+            return null;
+        }
+        Association association = entity.getAssociation();
+        return new ActivitySearchResultResponse(
+            entity.getId(),
+            association != null ? association.getId() : null,
+            association != null ? association.getName() : null,
+            association != null ? association.getCity() : null,
+            entity.getName(),
+            entity.getCategory(),
+            entity.getLevel(),
+            entity.getMinAge(),
+            entity.getMaxAge(),
+            entity.getPriceCents(),
+            seatsRemaining(entity)
         );
     }
 
@@ -65,6 +104,7 @@ public class ActivityMapper {
             entity.getMinAge(),
             entity.getMaxAge(),
             entity.getMaxCapacity(),
+            seatsRemaining(entity),
             entity.getPriceCents(),
             entity.getSeasonStart(),
             entity.getSeasonEnd(),
@@ -95,6 +135,16 @@ public class ActivityMapper {
         );
     }
 
+    /**
+     * Free seats derived from the occupancy counter, or null when capacity is unlimited.
+     */
+    private Integer seatsRemaining(Activity entity) {
+        if (entity.getMaxCapacity() == null) {
+            return null;
+        }
+        return Math.max(entity.getMaxCapacity() - entity.getSeatsTaken(), 0);
+    }
+
     /**
      * Creates a new Activity entity from a request DTO.
      * The association must be set separately by the caller.
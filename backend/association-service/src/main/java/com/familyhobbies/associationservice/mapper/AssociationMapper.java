@@ -8,7 +8,11 @@ import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.OffsetDateTime;
+import java.util.HexFormat;
 import java.util.Map;
 
 /**
@@ -119,6 +123,7 @@ public class AssociationMapper {
             .helloassoSlug(org.slug())
             .category(normalizeCategory(org.category()))
             .status(AssociationStatus.ACTIVE)
+            .contentHash(contentHash(org))
             .lastSyncedAt(OffsetDateTime.now())
             .build();
     }
@@ -143,9 +148,30 @@ public class AssociationMapper {
         entity.setWebsite(org.url());
         entity.setLogoUrl(org.logo());
         entity.setCategory(normalizeCategory(org.category()));
+        entity.setContentHash(contentHash(org));
         entity.setLastSyncedAt(OffsetDateTime.now());
     }
 
+    /**
+     * Hashes the HelloAsso fields stored on an association, so that a sync can tell whether
+     * an organization changed without loading the row. Text is trimmed and blank text counts
+     * as missing; the category is hashed once normalized. Each field is length-prefixed, so
+     * no two payloads share an encoding.
+     *
+     * @param org the HelloAsso organization
+     * @return the hex-encoded SHA-256 of the normalized payload (64 characters)
+     */
+    public String contentHash(HelloAssoOrganization org) {
+        StringBuilder payload = new StringBuilder();
+        for (String field : new String[] {
+            org.name(), org.description(), org.city(), org.zipCode(), org.department(),
+            org.region(), org.url(), org.logo(), normalizeCategory(org.category()).name()}) {
+            String value = field == null || field.isBlank() ? null : field.trim();
+            payload.append(value == null ? "-" : value.length() + ":" + value).append('|');
+        }
+        return HexFormat.of().formatHex(sha256().digest(payload.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
     /**
      * Normalizes a French or English category string to an {@link AssociationCategory} enum value.
      * Returns {@link AssociationCategory#OTHER} if the category is unknown or null.
@@ -159,4 +185,12 @@ public class AssociationMapper {
         }
         return CATEGORY_MAP.getOrDefault(category.toLowerCase().trim(), AssociationCategory.OTHER);
     }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+        }
+    }
 }
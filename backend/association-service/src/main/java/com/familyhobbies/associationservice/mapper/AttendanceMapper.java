@@ -1,10 +1,15 @@
 package com.familyhobbies.associationservice.mapper;
 
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
+import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
 import com.familyhobbies.associationservice.entity.Attendance;
 import com.familyhobbies.associationservice.entity.Session;
 import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.repository.AttendanceHistoryRow;
+import com.familyhobbies.associationservice.repository.SessionRosterRow;
 import org.springframework.stereotype.Component;
 
 /**
@@ -43,6 +48,48 @@ public class AttendanceMapper {
         );
     }
 
+    /**
+     * Maps a history projection row to a response DTO.
+     * Member names were selected from the subscription by the query.
+     */
+    public AttendanceResponse toHistoryResponse(AttendanceHistoryRow row) {
+        if (row == null) {
+            return null;
+        }
+        return new AttendanceResponse(
+            row.id(),
+            row.sessionId(),
+            row.familyMemberId(),
+            row.memberFirstName(),
+            row.memberLastName(),
+            row.subscriptionId(),
+            row.sessionDate(),
+            row.status(),
+            row.note(),
+            row.markedBy(),
+            row.createdAt(),
+            row.updatedAt()
+        );
+    }
+
+    /**
+     * Maps a roster projection row to a roster member.
+     */
+    public SessionRosterResponse.Member toRosterMember(SessionRosterRow row) {
+        if (row == null) {
+            return null;
+        }
+        return new SessionRosterResponse.Member(
+            row.subscriptionId(),
+            row.familyMemberId(),
+            row.memberFirstName(),
+            row.memberLastName(),
+            row.attendanceId(),
+            row.status(),
+            row.note()
+        );
+    }
+
     /**
      * Creates a new Attendance entity from a request DTO.
      * Session, Subscription entities, and markedBy must be set by the caller.
@@ -62,4 +109,46 @@ public class AttendanceMapper {
             .markedBy(markedBy)
             .build();
     }
+
+    /**
+     * Creates a new Attendance entity for one mark of a bulk request.
+     * Session, Subscription entities, and markedBy must be set by the caller.
+     */
+    public Attendance toEntity(BulkAttendanceRequest request, BulkAttendanceRequest.AttendanceMark mark,
+                                Session session, Subscription subscription, Long markedBy) {
+        if (request == null || mark == null) {
+            return null;
+        }
+        return Attendance.builder()
+            .session(session)
+            .familyMemberId(mark.familyMemberId())
+            .subscription(subscription)
+            .sessionDate(request.sessionDate())
+            .status(mark.status())
+            .note(mark.note())
+            .markedBy(markedBy)
+            .build();
+    }
+
+    /**
+     * Creates a new Attendance entity for one mark of an offline sync.
+     * Session, Subscription entities, and markedBy must be set by the caller.
+     */
+    public Attendance toSyncEntity(AttendanceSyncRequest.SyncMark mark, Session session,
+                                Subscription subscription, Long markedBy) {
+        if (mark == null) {
+            return null;
+        }
+        return Attendance.builder()
+            .session(session)
+            .familyMemberId(mark.familyMemberId())
+            .subscription(subscription)
+            .sessionDate(mark.sessionDate())
+            .status(mark.status())
+            .note(mark.note())
+            .markedBy(markedBy)
+            .clientMarkId(mark.clientMarkId())
+            .modifiedAt(mark.modifiedAt())
+            .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.familyhobbies.associationservice.mapper;
 
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
 import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
 import com.familyhobbies.associationservice.dto.response.SubscriptionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
@@ -65,4 +66,22 @@ public class SubscriptionMapper {
             .endDate(request.endDate())
             .build();
     }
+
+    /**
+     * Creates a new Subscription entity for one (member, activity) pair of a bulk request.
+     */
+    public Subscription toEntity(BulkSubscriptionRequest request, BulkSubscriptionRequest.Member member,
+                                 Activity activity, Long userId) {
+        return Subscription.builder()
+            .activity(activity)
+            .familyMemberId(member.familyMemberId())
+            .familyId(request.familyId())
+            .userId(userId)
+            .memberFirstName(member.memberFirstName())
+            .memberLastName(member.memberLastName())
+            .subscriptionType(request.subscriptionType())
+            .startDate(request.startDate())
+            .endDate(request.endDate())
+            .build();
+    }
 }
@@ -1,34 +1,62 @@
 package com.familyhobbies.associationservice.repository;
 
 import com.familyhobbies.associationservice.entity.Activity;
-import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
 import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
-import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository for {@link Activity} entities.
  * Provides custom queries for association-scoped activity lookups.
+ * Filtered listings go through {@link ActivitySpecification}.
  */
-public interface ActivityRepository extends JpaRepository<Activity, Long> {
-
-    Page<Activity> findByAssociation_IdAndStatus(Long associationId, ActivityStatus status, Pageable pageable);
-
-    Page<Activity> findByAssociation_Id(Long associationId, Pageable pageable);
-
-    Page<Activity> findByAssociation_IdAndCategory(Long associationId, AssociationCategory category, Pageable pageable);
-
-    Page<Activity> findByAssociation_IdAndLevel(Long associationId, ActivityLevel level, Pageable pageable);
-
-    Page<Activity> findByAssociation_IdAndCategoryAndLevel(Long associationId, AssociationCategory category,
-                                                            ActivityLevel level, Pageable pageable);
+public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSpecificationExecutor<Activity> {
 
     List<Activity> findByAssociation_IdAndStatusOrderByNameAsc(Long associationId, ActivityStatus status);
 
     Optional<Activity> findByIdAndAssociation_Id(Long id, Long associationId);
+
+    /**
+     * Loads an activity with its association and sessions in a single statement,
+     * for the detail view (avoids the two lazy loads done by the mapper).
+     */
+    @EntityGraph(attributePaths = {"association", "sessions"})
+    Optional<Activity> findDetailByIdAndAssociation_Id(Long id, Long associationId);
+
+    /**
+     * Loads several activities with their association in one query (bulk subscription).
+     */
+    @EntityGraph(attributePaths = "association")
+    List<Activity> findWithAssociationByIdIn(Collection<Long> ids);
+
+    /**
+     * Atomically takes {@code seats} seats if the activity still has room for all of them (or has
+     * no capacity limit). The conditional UPDATE locks only this activity row until the caller's
+     * transaction ends, so concurrent subscribers can never push {@code seatsTaken} past
+     * {@code maxCapacity}.
+     *
+     * @return 1 if the seats were taken, 0 if the activity does not have enough room
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET a.seatsTaken = a.seatsTaken + :seats "
+        + "WHERE a.id = :activityId AND (a.maxCapacity IS NULL OR a.seatsTaken + :seats <= a.maxCapacity)")
+    int reserveSeats(@Param("activityId") Long activityId, @Param("seats") int seats);
+
+    /**
+     * Atomically gives back seats, never going below zero.
+     *
+     * @return 1 if the activity row was updated
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET a.seatsTaken = CASE WHEN a.seatsTaken > :seats "
+        + "THEN a.seatsTaken - :seats ELSE 0 END WHERE a.id = :activityId")
+    int releaseSeats(@Param("activityId") Long activityId, @Param("seats") int seats);
 }
@@ -0,0 +1,13 @@
+package com.familyhobbies.associationservice.repository;
+
+/**
+ * Projection of the number of sessions attached to an activity.
+ * Returned by {@link SessionRepository#countByActivityIds} so list views can show
+ * a session count without loading session rows.
+ */
+public interface ActivitySessionCount {
+
+    Long getActivityId();
+
+    long getSessionCount();
+}
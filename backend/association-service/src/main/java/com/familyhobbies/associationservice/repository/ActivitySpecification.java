@@ -0,0 +1,179 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.dto.request.ActivityGlobalSearchRequest;
+import com.familyhobbies.associationservice.dto.request.ActivitySearchRequest;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Specification builder for dynamic {@link Activity} search queries.
+ * Per-association searches are served by
+ * {@code idx_activity_association_status_category_level} (association_id, status,
+ * category, level). The planner uses the longest leading run of those columns that is
+ * filtered by equality, whatever the predicate order: association + status + category
+ * seeks three columns, association + category seeks association_id only and checks
+ * category on the index entries. Range filters are applied on the matched rows.
+ * Also builds the cross-association search, paginated with {@link KeysetSpecification#nameAfter}.
+ */
+public final class ActivitySpecification {
+
+    private ActivitySpecification() {
+        // Utility class — no instantiation
+    }
+
+    /**
+     * Builds a dynamic specification combining optional filters.
+     *
+     * @param associationId restrict to one association, nullable
+     * @param filter        optional filters, nullable
+     * @return a composed {@link Specification} with all non-null filters AND-ed together
+     */
+    public static Specification<Activity> withFilters(Long associationId, ActivitySearchRequest filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (associationId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("association").get("id"), associationId));
+            }
+            if (filter == null) {
+                return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+            }
+
+            if (filter.status() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
+            }
+            if (filter.category() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("category"), filter.category()));
+            }
+            if (filter.level() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("level"), filter.level()));
+            }
+
+            if (filter.minAge() != null) {
+                predicates.add(openOrAtLeast(criteriaBuilder, root.get("maxAge"), filter.minAge()));
+            }
+            if (filter.maxAge() != null) {
+                predicates.add(openOrAtMost(criteriaBuilder, root.get("minAge"), filter.maxAge()));
+            }
+
+            if (filter.minPriceCents() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.get("priceCents"), filter.minPriceCents()));
+            }
+            if (filter.maxPriceCents() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(
+                    root.get("priceCents"), filter.maxPriceCents()));
+            }
+
+            if (filter.seasonFrom() != null) {
+                predicates.add(openOrAtLeast(criteriaBuilder, root.get("seasonEnd"), filter.seasonFrom()));
+            }
+            if (filter.seasonTo() != null) {
+                predicates.add(openOrAtMost(criteriaBuilder, root.get("seasonStart"), filter.seasonTo()));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Builds the cross-association search: active activities joined to their association
+     * (fetched, for the city filter and the response) with an EXISTS semi-join on active
+     * sessions matching the day and time window. The semi-join keeps one row per activity,
+     * which keyset pagination on {@code (name, id)} requires.
+     *
+     * @param filter search criteria, nullable
+     * @return a composed {@link Specification} with all non-null filters AND-ed together
+     */
+    @SuppressWarnings("unchecked")
+    public static Specification<Activity> globalSearch(ActivityGlobalSearchRequest filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            Join<Activity, Association> association = isCountQuery(query.getResultType())
+                ? root.join("association")
+                : (Join<Activity, Association>) root.<Activity, Association>fetch("association", JoinType.INNER);
+
+            predicates.add(criteriaBuilder.equal(root.get("status"), ActivityStatus.ACTIVE));
+            if (filter != null) {
+                if (filter.category() != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("category"), filter.category()));
+                }
+                if (filter.level() != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("level"), filter.level()));
+                }
+                if (filter.age() != null) {
+                    predicates.add(openOrAtMost(criteriaBuilder, root.get("minAge"), filter.age()));
+                    predicates.add(openOrAtLeast(criteriaBuilder, root.get("maxAge"), filter.age()));
+                }
+                if (filter.maxPriceCents() != null) {
+                    predicates.add(criteriaBuilder.lessThanOrEqualTo(
+                        root.get("priceCents"), filter.maxPriceCents()));
+                }
+                if (filter.city() != null && !filter.city().isBlank()) {
+                    predicates.add(criteriaBuilder.equal(
+                        criteriaBuilder.lower(association.get("city")), filter.city().toLowerCase()));
+                }
+            }
+
+            predicates.add(criteriaBuilder.exists(activeSessions(root, query.subquery(Long.class),
+                criteriaBuilder, filter)));
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Subquery<Long> activeSessions(Root<Activity> activity, Subquery<Long> subquery,
+                                                 CriteriaBuilder criteriaBuilder,
+                                                 ActivityGlobalSearchRequest filter) {
+        Root<Session> session = subquery.from(Session.class);
+        List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(criteriaBuilder.equal(session.get("activity"), activity));
+        predicates.add(criteriaBuilder.isTrue(session.get("active")));
+        if (filter != null && filter.dayOfWeek() != null) {
+            predicates.add(criteriaBuilder.equal(session.get("dayOfWeek"), filter.dayOfWeek()));
+        }
+        if (filter != null && filter.startsAfter() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(session.get("startTime"), filter.startsAfter()));
+        }
+        if (filter != null && filter.endsBefore() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(session.get("endTime"), filter.endsBefore()));
+        }
+
+        return subquery.select(session.get("id")).where(predicates.toArray(new Predicate[0]));
+    }
+
+    private static boolean isCountQuery(Class<?> resultType) {
+        return Long.class == resultType || long.class == resultType;
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate openOrAtLeast(CriteriaBuilder criteriaBuilder,
+                                                                            Expression<Y> bound, Y value) {
+        return criteriaBuilder.or(
+            criteriaBuilder.isNull(bound),
+            criteriaBuilder.greaterThanOrEqualTo(bound, value)
+        );
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate openOrAtMost(CriteriaBuilder criteriaBuilder,
+                                                                           Expression<Y> bound, Y value) {
+        return criteriaBuilder.or(
+            criteriaBuilder.isNull(bound),
+            criteriaBuilder.lessThanOrEqualTo(bound, value)
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.familyhobbies.associationservice.repository;
+
+/**
+ * Change-detection key of a synced association, selected by a JPQL constructor expression
+ * so that the association itself is never loaded.
+ *
+ * @param contentHash null on rows not written by a hashing sync yet
+ */
+public record AssociationContentHash(
+    String helloassoSlug,
+    String contentHash
+) {}
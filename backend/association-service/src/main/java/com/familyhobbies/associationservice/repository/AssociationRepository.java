@@ -6,24 +6,107 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository for {@link Association} entities.
  * Extends {@link JpaSpecificationExecutor} for dynamic search criteria.
  * No @Repository annotation -- Spring Data auto-detects JpaRepository interfaces.
+ * HelloAsso page upserts go through {@link AssociationUpsertRepository}.
  */
 public interface AssociationRepository extends JpaRepository<Association, Long>,
-        JpaSpecificationExecutor<Association> {
+        JpaSpecificationExecutor<Association>, AssociationUpsertRepository {
 
     Optional<Association> findBySlug(String slug);
 
     Optional<Association> findByHelloassoSlug(String helloassoSlug);
 
+    /**
+     * Content hashes of the associations synced under the given HelloAsso slugs, for change
+     * detection without loading the associations. Slugs not synced yet are absent.
+     */
+    @Query("SELECT new com.familyhobbies.associationservice.repository.AssociationContentHash("
+        + "a.helloassoSlug, a.contentHash) FROM Association a WHERE a.helloassoSlug IN :slugs")
+    List<AssociationContentHash> findContentHashes(@Param("slugs") Collection<String> helloassoSlugs);
+
+    @Query("SELECT new com.familyhobbies.associationservice.repository.AssociationSyncKey("
+        + "a.helloassoSlug, a.id, a.status) FROM Association a WHERE a.helloassoSlug IN :slugs")
+    List<AssociationSyncKey> findSyncKeys(@Param("slugs") Collection<String> helloassoSlugs);
+
     long countByHelloassoSlugIsNotNull();
 
     Page<Association> findByCityIgnoreCase(String city, Pageable pageable);
 
     Page<Association> findByCategory(AssociationCategory category, Pageable pageable);
+
+    /**
+     * Keyword match shared by {@link #searchByKeyword} and {@link #scrollByKeyword}: the
+     * weighted tsvector against the web-search query or the prefix query (so "nat" matches
+     * "Natation"), or a trigram similarity on the name (small typos), plus the optional
+     * city and category filters. A null {@code :prefix} matches nothing.
+     */
+    String KEYWORD_FILTER = "WHERE (a.search_vector @@ websearch_to_tsquery('french', :keyword) "
+        + "       OR a.search_vector @@ to_tsquery('french', CAST(:prefix AS VARCHAR)) "
+        + "       OR lower(a.name) % lower(:keyword)) "
+        + "AND (CAST(:city AS VARCHAR) IS NULL OR lower(a.city) = lower(CAST(:city AS VARCHAR))) "
+        + "AND (CAST(:category AS VARCHAR) IS NULL OR a.category = CAST(:category AS VARCHAR)) ";
+
+    /**
+     * Ranked full-text keyword search backed by the {@code search_vector} GIN index
+     * and the {@code pg_trgm} index on {@code lower(name)} (changeset 014, PostgreSQL only).
+     *
+     * <p>Matches {@link #KEYWORD_FILTER}. Results are ordered by text rank, then name
+     * similarity, then name. The pageable must be unsorted: ordering is fixed by the query.
+     *
+     * @param keyword  the user keyword (web search syntax), required
+     * @param prefix   the keyword words as a {@code to_tsquery} with a prefix last term, nullable
+     * @param city     filter by city (case-insensitive), nullable
+     * @param category filter by category name, nullable
+     * @param pageable page request (unsorted)
+     * @return a page of matching associations, best match first
+     */
+    @Query(value = "SELECT a.* FROM t_association a " + KEYWORD_FILTER
+            + "ORDER BY ts_rank_cd(a.search_vector, websearch_to_tsquery('french', :keyword)) DESC, "
+            + "         similarity(lower(a.name), lower(:keyword)) DESC, "
+            + "         a.name ASC",
+           countQuery = "SELECT count(*) FROM t_association a " + KEYWORD_FILTER,
+           nativeQuery = true)
+    Page<Association> searchByKeyword(@Param("keyword") String keyword,
+                                      @Param("prefix") String prefix,
+                                      @Param("city") String city,
+                                      @Param("category") String category,
+                                      Pageable pageable);
+
+    /**
+     * Keyset slice of the associations matching {@link #KEYWORD_FILTER}, ordered by
+     * {@code (name, id)} so the cursor of the unfiltered scroll still applies.
+     *
+     * @param keyword   the user keyword (web search syntax), required
+     * @param prefix    the keyword words as a {@code to_tsquery} with a prefix last term, nullable
+     * @param city      filter by city (case-insensitive), nullable
+     * @param category  filter by category name, nullable
+     * @param afterName name of the last row of the previous slice, null for the first slice
+     * @param afterId   id of the last row of the previous slice, null for the first slice
+     * @param limit     maximum number of rows
+     * @return the matching associations after the given position, by name then id
+     */
+    @Query(value = "SELECT a.* FROM t_association a " + KEYWORD_FILTER
+            + "AND (CAST(:afterName AS VARCHAR) IS NULL "
+            + "     OR a.name > CAST(:afterName AS VARCHAR) "
+            + "     OR (a.name = CAST(:afterName AS VARCHAR) AND a.id > CAST(:afterId AS BIGINT))) "
+            + "ORDER BY a.name ASC, a.id ASC "
+            + "LIMIT :limit",
+           nativeQuery = true)
+    List<Association> scrollByKeyword(@Param("keyword") String keyword,
+                                      @Param("prefix") String prefix,
+                                      @Param("city") String city,
+                                      @Param("category") String category,
+                                      @Param("afterName") String afterName,
+                                      @Param("afterId") Long afterId,
+                                      @Param("limit") int limit);
 }
@@ -10,7 +10,9 @@ import java.util.List;
 
 /**
  * JPA Specification builder for dynamic {@link Association} search queries.
- * Combines city, category, and keyword filters into a single WHERE clause.
+ * Combines city and category filters into a single WHERE clause. Keyword searches go
+ * through the full-text {@link AssociationRepository#KEYWORD_FILTER} instead.
+ * Cursor pagination adds {@link KeysetSpecification#nameAfter}.
  */
 public final class AssociationSpecification {
 
@@ -23,12 +25,10 @@ public final class AssociationSpecification {
      *
      * @param city     filter by city (case-insensitive), nullable
      * @param category filter by association category, nullable
-     * @param keyword  search across name and description (case-insensitive LIKE), nullable
      * @return a composed {@link Specification} with all non-null filters AND-ed together
      */
     public static Specification<Association> withFilters(String city,
-                                                         AssociationCategory category,
-                                                         String keyword) {
+                                                         AssociationCategory category) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -47,19 +47,6 @@ public final class AssociationSpecification {
                 );
             }
 
-            if (keyword != null && !keyword.isBlank()) {
-                String pattern = "%" + keyword.toLowerCase() + "%";
-                Predicate nameLike = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("name")),
-                    pattern
-                );
-                Predicate descriptionLike = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("description")),
-                    pattern
-                );
-                predicates.add(criteriaBuilder.or(nameLike, descriptionLike));
-            }
-
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
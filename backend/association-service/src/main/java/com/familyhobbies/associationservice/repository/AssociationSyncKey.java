@@ -0,0 +1,13 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+
+/**
+ * Id and status of an association written by a HelloAsso page upsert, read back in one
+ * query to publish sync events.
+ */
+public record AssociationSyncKey(
+    String helloassoSlug,
+    Long id,
+    AssociationStatus status
+) {}
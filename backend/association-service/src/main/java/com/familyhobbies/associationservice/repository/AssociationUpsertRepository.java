@@ -0,0 +1,23 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Association;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AssociationRepository} for the HelloAsso directory sync.
+ * <p>
+ * Associations are upserted a page at a time on {@code uq_association_helloasso_slug},
+ * in a single JDBC batch, instead of one lookup and one save per organization.
+ */
+public interface AssociationUpsertRepository {
+
+    /**
+     * Inserts each association, or updates the row holding its {@code helloassoSlug} when
+     * its {@code contentHash} differs. Rows with the same hash are left untouched, so a page
+     * synced twice writes nothing the second time. Slug, status and {@code createdAt} of
+     * an existing row are kept. The entities are not attached to the persistence context
+     * and their ids are not set.
+     */
+    void upsertHelloAssoPage(List<Association> associations);
+}
@@ -0,0 +1,98 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Association;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AssociationUpsertRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * PostgreSQL uses {@code INSERT ... ON CONFLICT (helloasso_slug) DO UPDATE ... WHERE}, so a
+ * slug inserted concurrently by another sync turns into an update instead of a failure.
+ * H2 (tests) does not accept a conflict target; the standard {@code MERGE} is used there.
+ */
+class AssociationUpsertRepositoryImpl implements AssociationUpsertRepository {
+
+    private static final String UPSERT_SQL_POSTGRESQL =
+        "INSERT INTO t_association (name, slug, description, city, postal_code, department, region, "
+        + "website, logo_url, helloasso_slug, category, status, content_hash, last_synced_at, "
+        + "created_at, updated_at) "
+        + "VALUES (:name, :slug, :description, :city, :postalCode, :department, :region, "
+        + ":website, :logoUrl, :helloassoSlug, :category, :status, :contentHash, :syncedAt, "
+        + ":syncedAt, :syncedAt) "
+        + "ON CONFLICT (helloasso_slug) DO UPDATE SET name = EXCLUDED.name, "
+        + "description = EXCLUDED.description, city = EXCLUDED.city, postal_code = EXCLUDED.postal_code, "
+        + "department = EXCLUDED.department, region = EXCLUDED.region, website = EXCLUDED.website, "
+        + "logo_url = EXCLUDED.logo_url, category = EXCLUDED.category, "
+        + "content_hash = EXCLUDED.content_hash, last_synced_at = EXCLUDED.last_synced_at, "
+        + "updated_at = EXCLUDED.updated_at "
+        + "WHERE t_association.content_hash IS DISTINCT FROM EXCLUDED.content_hash";
+
+    private static final String UPSERT_SQL_H2 =
+        "MERGE INTO t_association a "
+        + "USING (VALUES (CAST(:name AS VARCHAR(200)), CAST(:slug AS VARCHAR(200)), "
+        + "CAST(:description AS VARCHAR), CAST(:city AS VARCHAR(100)), CAST(:postalCode AS VARCHAR(10)), "
+        + "CAST(:department AS VARCHAR(100)), CAST(:region AS VARCHAR(100)), "
+        + "CAST(:website AS VARCHAR(500)), CAST(:logoUrl AS VARCHAR(500)), "
+        + "CAST(:helloassoSlug AS VARCHAR(200)), CAST(:category AS VARCHAR(30)), "
+        + "CAST(:status AS VARCHAR(20)), CAST(:contentHash AS VARCHAR(64)), "
+        + "CAST(:syncedAt AS TIMESTAMP WITH TIME ZONE))) "
+        + "AS o (name, slug, description, city, postal_code, department, region, website, logo_url, "
+        + "helloasso_slug, category, status, content_hash, synced_at) "
+        + "ON a.helloasso_slug = o.helloasso_slug "
+        + "WHEN MATCHED AND a.content_hash IS DISTINCT FROM o.content_hash THEN UPDATE SET "
+        + "name = o.name, description = o.description, city = o.city, postal_code = o.postal_code, "
+        + "department = o.department, region = o.region, website = o.website, logo_url = o.logo_url, "
+        + "category = o.category, content_hash = o.content_hash, last_synced_at = o.synced_at, "
+        + "updated_at = o.synced_at "
+        + "WHEN NOT MATCHED THEN INSERT (name, slug, description, city, postal_code, department, region, "
+        + "website, logo_url, helloasso_slug, category, status, content_hash, last_synced_at, "
+        + "created_at, updated_at) "
+        + "VALUES (o.name, o.slug, o.description, o.city, o.postal_code, o.department, o.region, "
+        + "o.website, o.logo_url, o.helloasso_slug, o.category, o.status, o.content_hash, o.synced_at, "
+        + "o.synced_at, o.synced_at)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    AssociationUpsertRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void upsertHelloAssoPage(List<Association> associations) {
+        if (associations.isEmpty()) {
+            return;
+        }
+        OffsetDateTime timestamp = OffsetDateTime.now(ZoneOffset.UTC);
+
+        SqlParameterSource[] rows = associations.stream()
+            .map(association -> new MapSqlParameterSource()
+                .addValue("name", association.getName())
+                .addValue("slug", association.getSlug())
+                .addValue("description", association.getDescription())
+                .addValue("city", association.getCity())
+                .addValue("postalCode", association.getPostalCode())
+                .addValue("department", association.getDepartment())
+                .addValue("region", association.getRegion())
+                .addValue("website", association.getWebsite())
+                .addValue("logoUrl", association.getLogoUrl())
+                .addValue("helloassoSlug", association.getHelloassoSlug())
+                .addValue("category", association.getCategory().name())
+                .addValue("status", association.getStatus().name())
+                .addValue("contentHash", association.getContentHash())
+                .addValue("syncedAt", association.getLastSyncedAt() != null
+                    ? association.getLastSyncedAt() : timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(dialect.isPostgresql() ? UPSERT_SQL_POSTGRESQL : UPSERT_SQL_H2, rows);
+    }
+}
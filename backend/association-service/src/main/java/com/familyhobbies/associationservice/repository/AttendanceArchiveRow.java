@@ -0,0 +1,25 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One {@code t_attendance} row as stored, read from a partition about to be archived.
+ * Streamed by {@link AttendancePartitionRepository#streamPartition}.
+ * {@code clientMarkId} and {@code modifiedAt} are null for marks written online.
+ */
+public record AttendanceArchiveRow(
+    long id,
+    long sessionId,
+    long familyMemberId,
+    long subscriptionId,
+    LocalDate sessionDate,
+    String status,
+    String note,
+    long markedBy,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt,
+    UUID clientMarkId,
+    OffsetDateTime modifiedAt
+) {}
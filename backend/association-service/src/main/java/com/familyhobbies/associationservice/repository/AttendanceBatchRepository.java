@@ -0,0 +1,24 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Attendance;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AttendanceRepository} for multi-row inserts.
+ * <p>
+ * Attendance ids are IDENTITY columns, which Hibernate never batches, so bulk
+ * marking goes through JDBC instead of {@code saveAll}.
+ */
+public interface AttendanceBatchRepository {
+
+    /**
+     * Inserts all attendance records in a single JDBC batch, skipping any row that
+     * conflicts with {@code uq_attendance_session_member_date}, and sets the generated
+     * ids and timestamps of the inserted ones. The entities are not attached to the
+     * persistence context.
+     *
+     * @return the records that were not inserted because they already exist, in input order
+     */
+    List<Attendance> insertAllSkippingDuplicates(List<Attendance> attendances);
+}
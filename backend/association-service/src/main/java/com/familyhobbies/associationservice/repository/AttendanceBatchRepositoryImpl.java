@@ -0,0 +1,79 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Attendance;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link AttendanceBatchRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * {@code ON CONFLICT DO NOTHING} turns a duplicate into an update count of 0 instead of
+ * an error that would abort the whole batch. Generated keys come back for inserted rows
+ * only, in batch order, so they are matched to the rows whose update count is 1.
+ */
+class AttendanceBatchRepositoryImpl implements AttendanceBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, "
+        + "status, note, marked_by, created_at, updated_at) "
+        + "VALUES (:sessionId, :familyMemberId, :subscriptionId, :sessionDate, "
+        + ":status, :note, :markedBy, :createdAt, :updatedAt) "
+        + "ON CONFLICT DO NOTHING";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    AttendanceBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Attendance> insertAllSkippingDuplicates(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+
+        SqlParameterSource[] rows = attendances.stream()
+            .map(attendance -> new MapSqlParameterSource()
+                .addValue("sessionId", attendance.getSession().getId())
+                .addValue("familyMemberId", attendance.getFamilyMemberId())
+                .addValue("subscriptionId", attendance.getSubscription().getId())
+                .addValue("sessionDate", attendance.getSessionDate())
+                .addValue("status", attendance.getStatus().name())
+                .addValue("note", attendance.getNote())
+                .addValue("markedBy", attendance.getMarkedBy())
+                .addValue("createdAt", timestamp)
+                .addValue("updatedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, keyHolder, new String[] {"id"});
+
+        Iterator<Map<String, Object>> keys = keyHolder.getKeyList().iterator();
+        List<Attendance> duplicates = new ArrayList<>();
+        for (int i = 0; i < attendances.size(); i++) {
+            Attendance attendance = attendances.get(i);
+            if (counts[i] == 0) {
+                duplicates.add(attendance);
+                continue;
+            }
+            attendance.setId(((Number) keys.next().values().iterator().next()).longValue());
+            attendance.setCreatedAt(now);
+            attendance.setUpdatedAt(now);
+        }
+        return duplicates;
+    }
+}
@@ -0,0 +1,21 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AttendanceBitmapRepository} for bitmap writes.
+ * <p>
+ * Bits are changed with atomic upserts rather than read-modify-write through the
+ * entity, so concurrent marks on the same subscription never lose an occurrence.
+ */
+public interface AttendanceBitmapBatchRepository {
+
+    /**
+     * Records each mark in a single JDBC batch: the occurrence bit is cleared in every
+     * status column and set in the column of the mark's status, creating missing rows.
+     * Idempotent, so a status change is the same call as a first mark. Must run inside
+     * the transaction that writes the attendance rows. Marks are applied in key order
+     * so that concurrent callers lock bitmap rows in the same order.
+     */
+    void applyMarks(List<AttendanceBitmapMark> marks);
+}
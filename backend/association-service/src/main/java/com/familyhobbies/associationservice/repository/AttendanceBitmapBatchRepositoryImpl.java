@@ -0,0 +1,97 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AttendanceBitmapBatchRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * Each mark binds a keep mask (every bit but the occurrence) and the occurrence bit in
+ * the column of its status only, so every column is updated as
+ * {@code (bits & keep) | set}. PostgreSQL uses {@code INSERT ... ON CONFLICT DO UPDATE}
+ * with its bitwise operators; H2 (tests) uses {@code MERGE} with {@code BITAND}/{@code BITOR}.
+ */
+class AttendanceBitmapBatchRepositoryImpl implements AttendanceBitmapBatchRepository {
+
+    private static final String APPLY_SQL_POSTGRESQL =
+        "INSERT INTO t_attendance_bitmap (subscription_id, session_id, season_start, "
+        + "present_bits, absent_bits, excused_bits, late_bits, updated_at) "
+        + "VALUES (:subscriptionId, :sessionId, :seasonStart, "
+        + ":presentBits, :absentBits, :excusedBits, :lateBits, :updatedAt) "
+        + "ON CONFLICT (subscription_id, session_id, season_start) DO UPDATE SET "
+        + "present_bits = (t_attendance_bitmap.present_bits & :keepMask) | EXCLUDED.present_bits, "
+        + "absent_bits = (t_attendance_bitmap.absent_bits & :keepMask) | EXCLUDED.absent_bits, "
+        + "excused_bits = (t_attendance_bitmap.excused_bits & :keepMask) | EXCLUDED.excused_bits, "
+        + "late_bits = (t_attendance_bitmap.late_bits & :keepMask) | EXCLUDED.late_bits, "
+        + "updated_at = EXCLUDED.updated_at";
+
+    private static final String APPLY_SQL_H2 =
+        "MERGE INTO t_attendance_bitmap b "
+        + "USING (VALUES (CAST(:subscriptionId AS BIGINT), CAST(:sessionId AS BIGINT), "
+        + "CAST(:seasonStart AS DATE), CAST(:keepMask AS BIGINT), CAST(:presentBits AS BIGINT), "
+        + "CAST(:absentBits AS BIGINT), CAST(:excusedBits AS BIGINT), CAST(:lateBits AS BIGINT), "
+        + "CAST(:updatedAt AS TIMESTAMP WITH TIME ZONE))) "
+        + "AS d (subscription_id, session_id, season_start, keep_mask, "
+        + "present_bits, absent_bits, excused_bits, late_bits, updated_at) "
+        + "ON b.subscription_id = d.subscription_id AND b.session_id = d.session_id "
+        + "AND b.season_start = d.season_start "
+        + "WHEN MATCHED THEN UPDATE SET "
+        + "present_bits = BITOR(BITAND(b.present_bits, d.keep_mask), d.present_bits), "
+        + "absent_bits = BITOR(BITAND(b.absent_bits, d.keep_mask), d.absent_bits), "
+        + "excused_bits = BITOR(BITAND(b.excused_bits, d.keep_mask), d.excused_bits), "
+        + "late_bits = BITOR(BITAND(b.late_bits, d.keep_mask), d.late_bits), "
+        + "updated_at = d.updated_at "
+        + "WHEN NOT MATCHED THEN INSERT (subscription_id, session_id, season_start, "
+        + "present_bits, absent_bits, excused_bits, late_bits, updated_at) "
+        + "VALUES (d.subscription_id, d.session_id, d.season_start, "
+        + "d.present_bits, d.absent_bits, d.excused_bits, d.late_bits, d.updated_at)";
+
+    private static final Comparator<AttendanceBitmapMark> LOCK_ORDER =
+        Comparator.comparing(AttendanceBitmapMark::subscriptionId)
+            .thenComparing(AttendanceBitmapMark::sessionId)
+            .thenComparing(AttendanceBitmapMark::seasonStart);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    AttendanceBitmapBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void applyMarks(List<AttendanceBitmapMark> marks) {
+        if (marks.isEmpty()) {
+            return;
+        }
+        OffsetDateTime timestamp = OffsetDateTime.now(ZoneOffset.UTC);
+
+        SqlParameterSource[] rows = marks.stream()
+            .sorted(LOCK_ORDER)
+            .map(mark -> {
+                long bit = 1L << mark.occurrence();
+                return new MapSqlParameterSource()
+                    .addValue("subscriptionId", mark.subscriptionId())
+                    .addValue("sessionId", mark.sessionId())
+                    .addValue("seasonStart", mark.seasonStart())
+                    .addValue("keepMask", ~bit)
+                    .addValue("presentBits", mark.status() == AttendanceStatus.PRESENT ? bit : 0L)
+                    .addValue("absentBits", mark.status() == AttendanceStatus.ABSENT ? bit : 0L)
+                    .addValue("excusedBits", mark.status() == AttendanceStatus.EXCUSED ? bit : 0L)
+                    .addValue("lateBits", mark.status() == AttendanceStatus.LATE ? bit : 0L)
+                    .addValue("updatedAt", timestamp);
+            })
+            .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(dialect.isPostgresql() ? APPLY_SQL_POSTGRESQL : APPLY_SQL_H2, rows);
+    }
+}
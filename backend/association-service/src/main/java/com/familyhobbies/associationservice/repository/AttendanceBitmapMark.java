@@ -0,0 +1,22 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Status to record for one occurrence in a {@code t_attendance_bitmap} row.
+ *
+ * @param subscriptionId subscription the attendance was marked on
+ * @param sessionId      weekly session attended
+ * @param seasonStart    first day of the season the occurrence belongs to
+ * @param occurrence     week index of the occurrence since {@code seasonStart}, 0 to 52
+ * @param status         status recorded; replaces any status previously set for the occurrence
+ */
+public record AttendanceBitmapMark(
+    Long subscriptionId,
+    Long sessionId,
+    LocalDate seasonStart,
+    int occurrence,
+    AttendanceStatus status
+) {}
@@ -0,0 +1,37 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.AttendanceBitmap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for {@link AttendanceBitmap} entities.
+ * Serves the attendance analytics; bitmap writes go through
+ * {@link AttendanceBitmapBatchRepository}.
+ */
+public interface AttendanceBitmapRepository
+        extends JpaRepository<AttendanceBitmap, Long>, AttendanceBitmapBatchRepository {
+
+    /**
+     * Bitmaps of every subscription to an activity over one season, with member names,
+     * one row per (subscription, session) whatever the number of sessions marked.
+     */
+    @Query("SELECT new com.familyhobbies.associationservice.repository.AttendanceBitmapRow("
+        + "b.subscriptionId, s.familyMemberId, s.memberFirstName, s.memberLastName, b.sessionId, "
+        + "b.presentBits, b.absentBits, b.excusedBits, b.lateBits) "
+        + "FROM AttendanceBitmap b JOIN Subscription s ON s.id = b.subscriptionId "
+        + "WHERE s.activity.id = :activityId AND b.seasonStart = :seasonStart "
+        + "ORDER BY b.subscriptionId, b.sessionId")
+    List<AttendanceBitmapRow> findActivitySeason(@Param("activityId") Long activityId,
+                                                 @Param("seasonStart") LocalDate seasonStart);
+
+    /**
+     * Bitmaps of every subscription marked on a session over one season.
+     * One range scan on {@code idx_attendance_bitmap_session_season}.
+     */
+    List<AttendanceBitmap> findBySessionIdAndSeasonStart(Long sessionId, LocalDate seasonStart);
+}
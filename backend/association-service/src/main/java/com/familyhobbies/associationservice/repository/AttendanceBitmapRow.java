@@ -0,0 +1,17 @@
+package com.familyhobbies.associationservice.repository;
+
+/**
+ * Read model of a {@code t_attendance_bitmap} row with the member it belongs to,
+ * used by the season dashboard of an activity.
+ */
+public record AttendanceBitmapRow(
+    Long subscriptionId,
+    Long familyMemberId,
+    String memberFirstName,
+    String memberLastName,
+    Long sessionId,
+    long presentBits,
+    long absentBits,
+    long excusedBits,
+    long lateBits
+) {}
@@ -0,0 +1,28 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AttendanceCounterRepository} for counter writes.
+ * <p>
+ * Counters are changed with atomic upserts rather than read-modify-write through
+ * the entity, so concurrent marks for the same member never lose an increment.
+ */
+public interface AttendanceCounterBatchRepository {
+
+    /**
+     * Adds each delta to its (member, status) counter in a single JDBC batch, creating
+     * missing counters. Must run inside the transaction that writes the attendance rows.
+     * Deltas are applied in (member, status) order so that concurrent callers lock
+     * counter rows in the same order.
+     */
+    void applyDeltas(List<AttendanceCounterDelta> deltas);
+
+    /**
+     * Replaces every counter with a {@code GROUP BY} over {@code t_attendance}.
+     * Writers are blocked on PostgreSQL until the calling transaction commits.
+     *
+     * @return number of counter rows written
+     */
+    int rebuildAll();
+}
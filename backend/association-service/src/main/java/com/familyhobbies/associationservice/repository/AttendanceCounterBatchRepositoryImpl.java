@@ -0,0 +1,96 @@
+package com.familyhobbies.associationservice.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AttendanceCounterBatchRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * Increments use {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL, which stays
+ * atomic when two transactions create the same counter. H2 (tests) does not accept a
+ * conflict target; the standard {@code MERGE} is used there instead.
+ */
+class AttendanceCounterBatchRepositoryImpl implements AttendanceCounterBatchRepository {
+
+    private static final String APPLY_SQL_POSTGRESQL =
+        "INSERT INTO t_attendance_counter "
+        + "(family_member_id, status, subscription_id, attendance_count, updated_at) "
+        + "VALUES (:familyMemberId, :status, :subscriptionId, :delta, :updatedAt) "
+        + "ON CONFLICT (family_member_id, status) DO UPDATE SET "
+        + "attendance_count = t_attendance_counter.attendance_count + EXCLUDED.attendance_count, "
+        + "subscription_id = EXCLUDED.subscription_id, updated_at = EXCLUDED.updated_at";
+
+    private static final String APPLY_SQL_H2 =
+        "MERGE INTO t_attendance_counter c "
+        + "USING (VALUES (CAST(:familyMemberId AS BIGINT), CAST(:status AS VARCHAR(10)), "
+        + "CAST(:subscriptionId AS BIGINT), CAST(:delta AS INTEGER), "
+        + "CAST(:updatedAt AS TIMESTAMP WITH TIME ZONE))) "
+        + "AS d (family_member_id, status, subscription_id, delta, updated_at) "
+        + "ON c.family_member_id = d.family_member_id AND c.status = d.status "
+        + "WHEN MATCHED THEN UPDATE SET attendance_count = c.attendance_count + d.delta, "
+        + "subscription_id = d.subscription_id, updated_at = d.updated_at "
+        + "WHEN NOT MATCHED THEN INSERT "
+        + "(family_member_id, status, subscription_id, attendance_count, updated_at) "
+        + "VALUES (d.family_member_id, d.status, d.subscription_id, d.delta, d.updated_at)";
+
+    private static final String LOCK_SQL_POSTGRESQL =
+        "LOCK TABLE t_attendance_counter IN EXCLUSIVE MODE";
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM t_attendance_counter";
+
+    private static final String REBUILD_SQL =
+        "INSERT INTO t_attendance_counter "
+        + "(family_member_id, status, subscription_id, attendance_count, updated_at) "
+        + "SELECT family_member_id, status, MAX(subscription_id), COUNT(*), CURRENT_TIMESTAMP "
+        + "FROM t_attendance GROUP BY family_member_id, status";
+
+    private static final Comparator<AttendanceCounterDelta> LOCK_ORDER =
+        Comparator.comparing(AttendanceCounterDelta::familyMemberId)
+            .thenComparing(AttendanceCounterDelta::status);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    AttendanceCounterBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void applyDeltas(List<AttendanceCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        OffsetDateTime timestamp = OffsetDateTime.now(ZoneOffset.UTC);
+
+        SqlParameterSource[] rows = deltas.stream()
+            .sorted(LOCK_ORDER)
+            .map(delta -> new MapSqlParameterSource()
+                .addValue("familyMemberId", delta.familyMemberId())
+                .addValue("status", delta.status().name())
+                .addValue("subscriptionId", delta.subscriptionId())
+                .addValue("delta", delta.delta())
+                .addValue("updatedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(dialect.isPostgresql() ? APPLY_SQL_POSTGRESQL : APPLY_SQL_H2, rows);
+    }
+
+    @Override
+    public int rebuildAll() {
+        if (dialect.isPostgresql()) {
+            // Holds off counter writers so that no increment lands between DELETE and INSERT
+            jdbcTemplate.getJdbcTemplate().execute(LOCK_SQL_POSTGRESQL);
+        }
+        jdbcTemplate.getJdbcTemplate().update(DELETE_ALL_SQL);
+        return jdbcTemplate.getJdbcTemplate().update(REBUILD_SQL);
+    }
+}
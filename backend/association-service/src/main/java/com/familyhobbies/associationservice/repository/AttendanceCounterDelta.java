@@ -0,0 +1,18 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+/**
+ * Change to apply to one {@code t_attendance_counter} row.
+ *
+ * @param familyMemberId member whose counter changes
+ * @param status         attendance status counted
+ * @param subscriptionId subscription of the attendance that caused the change
+ * @param delta          signed number of records added to (or removed from) the status
+ */
+public record AttendanceCounterDelta(
+    Long familyMemberId,
+    AttendanceStatus status,
+    Long subscriptionId,
+    int delta
+) {}
@@ -0,0 +1,29 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.AttendanceCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository for {@link AttendanceCounter} entities.
+ * Serves the member attendance summary; counter writes go through
+ * {@link AttendanceCounterBatchRepository}.
+ */
+public interface AttendanceCounterRepository
+        extends JpaRepository<AttendanceCounter, Long>, AttendanceCounterBatchRepository {
+
+    /**
+     * Counters of a member, one row per status, with the owner and names of the
+     * member's latest counted subscription. One index range scan on
+     * {@code uq_attendance_counter_member_status}, whatever the member's history.
+     * Empty when the member has no counters yet.
+     */
+    @Query("SELECT c.status AS status, c.attendanceCount AS attendanceCount, "
+        + "s.userId AS userId, s.memberFirstName AS memberFirstName, s.memberLastName AS memberLastName "
+        + "FROM AttendanceCounter c JOIN Subscription s ON s.id = c.subscriptionId "
+        + "WHERE c.familyMemberId = :memberId")
+    List<AttendanceStatusCount> findStatusCounts(@Param("memberId") Long memberId);
+}
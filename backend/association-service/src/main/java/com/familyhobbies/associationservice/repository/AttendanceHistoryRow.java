@@ -0,0 +1,29 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Attendance history line selected by a JPQL constructor expression: the attendance
+ * columns plus the subscription's member names and owner, in one statement and without
+ * loading the session or subscription entities.
+ *
+ * @param userId owner of the subscription, used for the ownership check
+ */
+public record AttendanceHistoryRow(
+    Long id,
+    Long sessionId,
+    Long familyMemberId,
+    String memberFirstName,
+    String memberLastName,
+    Long subscriptionId,
+    LocalDate sessionDate,
+    AttendanceStatus status,
+    String note,
+    Long markedBy,
+    Instant createdAt,
+    Instant updatedAt,
+    Long userId
+) {}
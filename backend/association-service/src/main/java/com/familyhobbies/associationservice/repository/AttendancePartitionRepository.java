@@ -0,0 +1,54 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Custom fragment of {@link AttendanceRepository} managing the monthly partitions of
+ * {@code t_attendance} (PostgreSQL, changeset 022). Partitions are named
+ * {@code t_attendance_YYYY_MM} and cover one calendar month of {@code session_date}.
+ * <p>
+ * On databases without partitioning (H2 in tests) {@link #isPartitioned()} is false and
+ * callers skip maintenance.
+ */
+public interface AttendancePartitionRepository {
+
+    /**
+     * Whether {@code t_attendance} is a partitioned table on this database.
+     */
+    boolean isPartitioned();
+
+    /**
+     * Months that have a monthly partition attached, in ascending order.
+     * The default partition is not included.
+     */
+    List<YearMonth> findMonthlyPartitions();
+
+    /**
+     * Creates and attaches the partition of {@code month}, if it does not exist yet.
+     */
+    void createMonthlyPartition(YearMonth month);
+
+    /**
+     * Blocks writes to the partition of {@code month} until the end of the transaction,
+     * then passes each of its rows to {@code rowHandler} in id order.
+     *
+     * @return number of rows handled
+     */
+    long streamPartition(YearMonth month, Consumer<AttendanceArchiveRow> rowHandler);
+
+    /**
+     * Removes the rows of the partition of {@code month} from the attendance aggregates:
+     * subtracts them from {@code t_attendance_counter}, clears their occurrence bits in
+     * {@code t_attendance_bitmap} and deletes the aggregates left empty, so both still
+     * match a rebuild from the remaining {@code t_attendance} rows (changeset 028).
+     * Call after {@link #streamPartition} has locked the partition, before dropping it.
+     */
+    void subtractFromAggregates(YearMonth month);
+
+    /**
+     * Detaches the partition of {@code month} from {@code t_attendance} and drops it.
+     */
+    void dropMonthlyPartition(YearMonth month);
+}
@@ -0,0 +1,170 @@
+package com.familyhobbies.associationservice.repository;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC implementation of {@link AttendancePartitionRepository}.
+ * Runs on the connection of the surrounding transaction.
+ * <p>
+ * Partition names are built from a {@link YearMonth} only, never from caller input, so
+ * they are safe to concatenate into DDL.
+ */
+class AttendancePartitionRepositoryImpl implements AttendancePartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("t_attendance_(\\d{4})_(\\d{2})");
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String PARTITIONED_SQL =
+        "SELECT COUNT(*) FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+        + "WHERE c.relname = 't_attendance' AND c.relnamespace = to_regnamespace(current_schema())";
+
+    private static final String PARTITIONS_SQL =
+        "SELECT child.relname FROM pg_inherits i "
+        + "JOIN pg_class parent ON parent.oid = i.inhparent "
+        + "JOIN pg_class child ON child.oid = i.inhrelid "
+        + "WHERE parent.relname = 't_attendance' AND parent.relnamespace = to_regnamespace(current_schema())";
+
+    private static final String CREATE_PARTITION_SQL =
+        "CREATE TABLE IF NOT EXISTS %s PARTITION OF t_attendance FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String LOCK_PARTITION_SQL = "LOCK TABLE %s IN SHARE MODE";
+
+    private static final String STREAM_PARTITION_SQL =
+        "SELECT id, session_id, family_member_id, subscription_id, session_date, status, note, "
+        + "marked_by, created_at, updated_at, client_mark_id, modified_at FROM %s ORDER BY id";
+
+    private static final String SUBTRACT_COUNTERS_SQL =
+        "UPDATE t_attendance_counter c SET attendance_count = c.attendance_count - p.archived, "
+        + "updated_at = CURRENT_TIMESTAMP "
+        + "FROM (SELECT family_member_id, status, COUNT(*) AS archived FROM %s "
+        + "GROUP BY family_member_id, status) p "
+        + "WHERE c.family_member_id = p.family_member_id AND c.status = p.status";
+
+    private static final String DELETE_EMPTY_COUNTERS_SQL =
+        "DELETE FROM t_attendance_counter WHERE attendance_count <= 0";
+
+    // Same season start and occurrence bit as the live writes and the changeset 023 backfill
+    private static final String CLEAR_BITMAPS_SQL =
+        "UPDATE t_attendance_bitmap b SET present_bits = b.present_bits & ~p.bits, "
+        + "absent_bits = b.absent_bits & ~p.bits, excused_bits = b.excused_bits & ~p.bits, "
+        + "late_bits = b.late_bits & ~p.bits, updated_at = CURRENT_TIMESTAMP "
+        + "FROM (SELECT subscription_id, session_id, season_start, "
+        + "BIT_OR(1::BIGINT << ((session_date - season_start) / 7)) AS bits "
+        + "FROM (SELECT subscription_id, session_id, session_date, "
+        + "MAKE_DATE(EXTRACT(YEAR FROM session_date - INTERVAL '8 months')::INT, 9, 1) AS season_start "
+        + "FROM %s) dated GROUP BY subscription_id, session_id, season_start) p "
+        + "WHERE b.subscription_id = p.subscription_id AND b.session_id = p.session_id "
+        + "AND b.season_start = p.season_start";
+
+    private static final String DELETE_EMPTY_BITMAPS_SQL =
+        "DELETE FROM t_attendance_bitmap "
+        + "WHERE present_bits = 0 AND absent_bits = 0 AND excused_bits = 0 AND late_bits = 0";
+
+    private static final String DETACH_PARTITION_SQL = "ALTER TABLE t_attendance DETACH PARTITION %s";
+    private static final String DROP_PARTITION_SQL = "DROP TABLE %s";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    private volatile Boolean partitioned;
+
+    AttendancePartitionRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = dialect.isPostgresql()
+                && jdbcTemplate.getJdbcTemplate().queryForObject(PARTITIONED_SQL, Integer.class) > 0;
+        }
+        return partitioned;
+    }
+
+    @Override
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.getJdbcTemplate().queryForList(PARTITIONS_SQL, String.class).stream()
+            .map(MONTHLY_PARTITION::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    public void createMonthlyPartition(YearMonth month) {
+        jdbcTemplate.getJdbcTemplate().execute(CREATE_PARTITION_SQL.formatted(
+            partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public long streamPartition(YearMonth month, Consumer<AttendanceArchiveRow> rowHandler) {
+        String partition = partitionName(month);
+        jdbcTemplate.getJdbcTemplate().execute(LOCK_PARTITION_SQL.formatted(partition));
+
+        long[] rows = {0};
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(STREAM_PARTITION_SQL.formatted(partition),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            rowHandler.accept(mapRow(resultSet));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    @Override
+    public void subtractFromAggregates(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.getJdbcTemplate().update(SUBTRACT_COUNTERS_SQL.formatted(partition));
+        jdbcTemplate.getJdbcTemplate().update(DELETE_EMPTY_COUNTERS_SQL);
+        jdbcTemplate.getJdbcTemplate().update(CLEAR_BITMAPS_SQL.formatted(partition));
+        jdbcTemplate.getJdbcTemplate().update(DELETE_EMPTY_BITMAPS_SQL);
+    }
+
+    @Override
+    public void dropMonthlyPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.getJdbcTemplate().execute(DETACH_PARTITION_SQL.formatted(partition));
+        jdbcTemplate.getJdbcTemplate().execute(DROP_PARTITION_SQL.formatted(partition));
+    }
+
+    static String partitionName(YearMonth month) {
+        return "t_attendance_" + month.format(SUFFIX_FORMAT);
+    }
+
+    private AttendanceArchiveRow mapRow(ResultSet resultSet) throws SQLException {
+        return new AttendanceArchiveRow(
+            resultSet.getLong("id"),
+            resultSet.getLong("session_id"),
+            resultSet.getLong("family_member_id"),
+            resultSet.getLong("subscription_id"),
+            resultSet.getObject("session_date", LocalDate.class),
+            resultSet.getString("status"),
+            resultSet.getString("note"),
+            resultSet.getLong("marked_by"),
+            resultSet.getObject("created_at", OffsetDateTime.class),
+            resultSet.getObject("updated_at", OffsetDateTime.class),
+            resultSet.getObject("client_mark_id", UUID.class),
+            resultSet.getObject("modified_at", OffsetDateTime.class));
+    }
+}
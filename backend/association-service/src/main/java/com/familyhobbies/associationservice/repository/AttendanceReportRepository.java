@@ -0,0 +1,23 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.dto.request.AttendanceReportRequest;
+
+import java.util.function.Consumer;
+
+/**
+ * Custom fragment of {@link AttendanceRepository} for report exports.
+ * <p>
+ * Exports can cover a whole association over a season, so rows are handed over one
+ * at a time from a forward-only cursor instead of being collected into a list.
+ */
+public interface AttendanceReportRepository {
+
+    /**
+     * Passes every attendance record in the report scope and period to {@code rowHandler},
+     * ordered by session date then id, while the cursor is open. Must run inside a
+     * transaction for PostgreSQL to honour the fetch size.
+     *
+     * @return number of rows handled
+     */
+    long streamReport(AttendanceReportRequest request, Consumer<AttendanceReportRow> rowHandler);
+}
@@ -0,0 +1,96 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.dto.request.AttendanceReportRequest;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link AttendanceReportRepository}.
+ * Runs on the connection of the surrounding transaction.
+ * <p>
+ * The statement is forward-only and read-only with a fetch size, so the PostgreSQL driver
+ * pulls {@value #FETCH_SIZE} rows per round trip through a server-side cursor instead of
+ * buffering the whole result. Rows are mapped from the result set into a flat record: no
+ * entity, persistence context or dirty-checking snapshot is created.
+ */
+class AttendanceReportRepositoryImpl implements AttendanceReportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String REPORT_SQL =
+        "SELECT a.id, a.session_date, act.association_id, act.id AS activity_id, act.name AS activity_name, "
+        + "a.session_id, se.start_time, a.family_member_id, s.member_first_name, s.member_last_name, "
+        + "a.status, a.note, a.marked_by "
+        + "FROM t_attendance a "
+        + "JOIN t_session se ON se.id = a.session_id "
+        + "JOIN t_activity act ON act.id = se.activity_id "
+        + "JOIN t_subscription s ON s.id = a.subscription_id "
+        + "WHERE %s = ? AND a.session_date BETWEEN ? AND ? "
+        + "ORDER BY a.session_date, a.id";
+
+    private static final String BY_ASSOCIATION_SQL = REPORT_SQL.formatted("act.association_id");
+    private static final String BY_ACTIVITY_SQL = REPORT_SQL.formatted("se.activity_id");
+    private static final String BY_SESSION_SQL = REPORT_SQL.formatted("a.session_id");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    AttendanceReportRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long streamReport(AttendanceReportRequest request, Consumer<AttendanceReportRow> rowHandler) {
+        String sql;
+        long scopeId;
+        if (request.sessionId() != null) {
+            sql = BY_SESSION_SQL;
+            scopeId = request.sessionId();
+        } else if (request.activityId() != null) {
+            sql = BY_ACTIVITY_SQL;
+            scopeId = request.activityId();
+        } else {
+            sql = BY_ASSOCIATION_SQL;
+            scopeId = request.associationId();
+        }
+
+        long[] rows = {0};
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, scopeId);
+            statement.setDate(2, Date.valueOf(request.from()));
+            statement.setDate(3, Date.valueOf(request.to()));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            rowHandler.accept(mapRow(resultSet));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private AttendanceReportRow mapRow(ResultSet resultSet) throws SQLException {
+        Time startTime = resultSet.getTime("start_time");
+        return new AttendanceReportRow(
+            resultSet.getLong("id"),
+            resultSet.getDate("session_date").toLocalDate(),
+            resultSet.getLong("association_id"),
+            resultSet.getLong("activity_id"),
+            resultSet.getString("activity_name"),
+            resultSet.getLong("session_id"),
+            startTime != null ? startTime.toLocalTime() : null,
+            resultSet.getLong("family_member_id"),
+            resultSet.getString("member_first_name"),
+            resultSet.getString("member_last_name"),
+            resultSet.getString("status"),
+            resultSet.getString("note"),
+            resultSet.getLong("marked_by"));
+    }
+}
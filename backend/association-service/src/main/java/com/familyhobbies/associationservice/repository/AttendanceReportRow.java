@@ -0,0 +1,24 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One line of the attendance report, read straight from the JDBC result set.
+ * Streamed by {@link AttendanceReportRepository#streamReport} without loading entities.
+ */
+public record AttendanceReportRow(
+    long attendanceId,
+    LocalDate sessionDate,
+    long associationId,
+    long activityId,
+    String activityName,
+    long sessionId,
+    LocalTime startTime,
+    long familyMemberId,
+    String memberFirstName,
+    String memberLastName,
+    String status,
+    String note,
+    long markedBy
+) {}
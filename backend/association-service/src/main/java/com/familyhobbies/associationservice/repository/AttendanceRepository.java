@@ -1,17 +1,41 @@
 package com.familyhobbies.associationservice.repository;
 
 import com.familyhobbies.associationservice.entity.Attendance;
-import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Repository for {@link Attendance} entities.
- * Provides custom queries for session attendance, member history, and summary counts.
+ * Provides custom queries for session attendance and rosters, member history, and summary counts.
+ * History is read as {@link AttendanceHistoryRow} slices in {@code (sessionDate, id)} order.
+ * Summaries normally come from {@link AttendanceCounterRepository}.
+ * Multi-row inserts go through {@link AttendanceBatchRepository}, report exports
+ * through {@link AttendanceReportRepository}, monthly partition maintenance through
+ * {@link AttendancePartitionRepository}, offline sync upserts through
+ * {@link AttendanceSyncRepository}.
  */
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, AttendanceBatchRepository,
+        AttendanceReportRepository, AttendancePartitionRepository, AttendanceSyncRepository {
+
+    String HISTORY_SELECT = "SELECT new com.familyhobbies.associationservice.repository.AttendanceHistoryRow("
+        + "a.id, a.session.id, a.familyMemberId, s.memberFirstName, s.memberLastName, s.id, "
+        + "a.sessionDate, a.status, a.note, a.markedBy, a.createdAt, a.updatedAt, s.userId) "
+        + "FROM Attendance a JOIN a.subscription s ";
+
+    // Same rows as (sessionDate > d OR (sessionDate = d AND id > i)); the leading range
+    // predicate lets PostgreSQL prune the monthly partitions before the cursor
+    String HISTORY_AFTER =
+        "a.sessionDate >= :afterDate AND (a.sessionDate > :afterDate OR a.id > :afterId) ";
+
+    String HISTORY_ORDER = "ORDER BY a.sessionDate, a.id";
+
+    String HISTORY_LATEST_ORDER = "ORDER BY a.sessionDate DESC, a.id DESC";
 
     /**
      * Get all attendance records for a session on a specific date.
@@ -19,22 +43,76 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findBySession_IdAndSessionDate(Long sessionId, LocalDate sessionDate);
 
     /**
-     * Get all attendance records for a family member (history).
+     * Subscribers of the session's activity with the given status, each with their attendance
+     * on {@code sessionDate} if any. One statement: the subscribers come from the
+     * {@code (activity_id, status)} index, each attendance from the
+     * {@code (session_id, family_member_id, session_date)} unique key.
+     * Empty when the session does not exist.
+     */
+    @Query("SELECT new com.familyhobbies.associationservice.repository.SessionRosterRow("
+        + "s.id, s.familyMemberId, s.memberFirstName, s.memberLastName, a.id, a.status, a.note) "
+        + "FROM Session se JOIN Subscription s ON s.activity.id = se.activity.id "
+        + "LEFT JOIN Attendance a ON a.session.id = se.id AND a.familyMemberId = s.familyMemberId "
+        + "AND a.sessionDate = :sessionDate "
+        + "WHERE se.id = :sessionId AND s.status = :status "
+        + "ORDER BY s.memberLastName, s.memberFirstName, s.id")
+    List<SessionRosterRow> findSessionRoster(@Param("sessionId") Long sessionId,
+                                             @Param("sessionDate") LocalDate sessionDate,
+                                             @Param("status") SubscriptionStatus status);
+
+    /**
+     * First slice of a member's history. The page size bounds the slice;
+     * callers pass {@code PageRequest.of(0, limit)}.
+     */
+    @Query(HISTORY_SELECT + "WHERE a.familyMemberId = :memberId " + HISTORY_ORDER)
+    List<AttendanceHistoryRow> findMemberHistory(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * Most recent records of a member's history, newest first. The page size bounds the list.
+     */
+    @Query(HISTORY_SELECT + "WHERE a.familyMemberId = :memberId " + HISTORY_LATEST_ORDER)
+    List<AttendanceHistoryRow> findLatestMemberHistory(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * Slice of a member's history strictly after the {@code (sessionDate, id)} position.
+     */
+    @Query(HISTORY_SELECT + "WHERE a.familyMemberId = :memberId AND " + HISTORY_AFTER + HISTORY_ORDER)
+    List<AttendanceHistoryRow> findMemberHistoryAfter(@Param("memberId") Long memberId,
+                                                      @Param("afterDate") LocalDate afterDate,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * First slice of a subscription's history.
      */
-    List<Attendance> findByFamilyMemberId(Long familyMemberId);
+    @Query(HISTORY_SELECT + "WHERE s.id = :subscriptionId " + HISTORY_ORDER)
+    List<AttendanceHistoryRow> findSubscriptionHistory(@Param("subscriptionId") Long subscriptionId,
+                                                       Pageable pageable);
 
     /**
-     * Get all attendance records for a subscription.
+     * Most recent records of a subscription's history, newest first.
      */
-    List<Attendance> findBySubscription_Id(Long subscriptionId);
+    @Query(HISTORY_SELECT + "WHERE s.id = :subscriptionId " + HISTORY_LATEST_ORDER)
+    List<AttendanceHistoryRow> findLatestSubscriptionHistory(@Param("subscriptionId") Long subscriptionId,
+                                                             Pageable pageable);
 
     /**
-     * Count attendance records by member and status (for summary).
+     * Slice of a subscription's history strictly after the {@code (sessionDate, id)} position.
      */
-    long countByFamilyMemberIdAndStatus(Long familyMemberId, AttendanceStatus status);
+    @Query(HISTORY_SELECT + "WHERE s.id = :subscriptionId AND " + HISTORY_AFTER + HISTORY_ORDER)
+    List<AttendanceHistoryRow> findSubscriptionHistoryAfter(@Param("subscriptionId") Long subscriptionId,
+                                                            @Param("afterDate") LocalDate afterDate,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
 
     /**
-     * Count total attendance records for a member.
+     * Counts a member's attendance records per status in one {@code GROUP BY}.
+     * Summary fallback for members whose counters have not been built yet.
      */
-    long countByFamilyMemberId(Long familyMemberId);
+    @Query("SELECT a.status AS status, COUNT(a) AS attendanceCount, "
+        + "s.userId AS userId, s.memberFirstName AS memberFirstName, s.memberLastName AS memberLastName "
+        + "FROM Attendance a JOIN a.subscription s "
+        + "WHERE a.familyMemberId = :memberId "
+        + "GROUP BY a.status, s.userId, s.memberFirstName, s.memberLastName")
+    List<AttendanceStatusCount> countByStatus(@Param("memberId") Long memberId);
 }
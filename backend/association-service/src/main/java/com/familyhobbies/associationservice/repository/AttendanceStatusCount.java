@@ -0,0 +1,22 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+/**
+ * Projection of a member's attendance count for one status, with the owner and
+ * member names of the subscription it was counted on.
+ * Returned by {@link AttendanceCounterRepository#findStatusCounts} and, as a
+ * fallback, by {@link AttendanceRepository#countByStatus}.
+ */
+public interface AttendanceStatusCount {
+
+    AttendanceStatus getStatus();
+
+    long getAttendanceCount();
+
+    Long getUserId();
+
+    String getMemberFirstName();
+
+    String getMemberLastName();
+}
@@ -0,0 +1,26 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Attendance;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AttendanceRepository} for offline attendance sync.
+ * <p>
+ * Marks are upserted on {@code uq_attendance_session_member_date} with last-writer-wins on
+ * {@code modified_at}: a mark only overwrites a record last changed before it. A replayed
+ * mark is therefore a no-op that writes nothing.
+ */
+public interface AttendanceSyncRepository {
+
+    /**
+     * Upserts all attendance records, keeping for each (session, member, date) the most
+     * recently modified one. Records must carry {@code clientMarkId} and {@code modifiedAt}
+     * and must not share a (session, member, date) key. Status, note and sync columns are
+     * overwritten; session, subscription and {@code markedBy} keep their original values.
+     * The entities are not attached to the persistence context.
+     *
+     * @return one outcome per record, in input order
+     */
+    List<AttendanceSyncRow> upsertLatest(List<Attendance> attendances);
+}
@@ -0,0 +1,216 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Attendance;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link AttendanceSyncRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * On PostgreSQL the whole batch is one statement: the marks are passed as arrays and
+ * unnested, the previous state of their records is read from the statement snapshot, and
+ * {@code INSERT ... ON CONFLICT DO UPDATE ... WHERE} only overwrites older records. Rows
+ * skipped by the {@code WHERE} are not written at all, which keeps replays cheap.
+ * <p>
+ * H2 (tests) has neither {@code RETURNING} nor a conflict target: the previous state is
+ * read first, then a {@code MERGE ... WHEN MATCHED AND} batch applies the same
+ * last-writer-wins rule, and the ids are read back.
+ */
+class AttendanceSyncRepositoryImpl implements AttendanceSyncRepository {
+
+    private static final String UPSERT_SQL_POSTGRESQL =
+        "WITH input AS ("
+        + "SELECT * FROM UNNEST(?::INT[], ?::BIGINT[], ?::BIGINT[], ?::BIGINT[], ?::DATE[], ?::VARCHAR[], "
+        + "?::TEXT[], ?::BIGINT[], ?::UUID[], ?::TIMESTAMPTZ[]) "
+        + "AS i (ordinal, session_id, family_member_id, subscription_id, session_date, status, note, "
+        + "marked_by, client_mark_id, modified_at)), "
+        + "previous AS ("
+        + "SELECT i.ordinal, a.id, a.status, a.client_mark_id, COALESCE(a.modified_at, a.updated_at) AS modified_at "
+        + "FROM input i JOIN t_attendance a ON a.session_id = i.session_id "
+        + "AND a.family_member_id = i.family_member_id AND a.session_date = i.session_date), "
+        + "upserted AS ("
+        + "INSERT INTO t_attendance AS a (session_id, family_member_id, subscription_id, session_date, status, "
+        + "note, marked_by, client_mark_id, modified_at, created_at, updated_at) "
+        + "SELECT session_id, family_member_id, subscription_id, session_date, status, note, marked_by, "
+        + "client_mark_id, modified_at, NOW(), NOW() FROM input "
+        + "ON CONFLICT (session_id, family_member_id, session_date) DO UPDATE SET "
+        + "status = EXCLUDED.status, note = EXCLUDED.note, client_mark_id = EXCLUDED.client_mark_id, "
+        + "modified_at = EXCLUDED.modified_at, updated_at = EXCLUDED.updated_at "
+        + "WHERE COALESCE(a.modified_at, a.updated_at) < EXCLUDED.modified_at "
+        + "RETURNING a.id, a.session_id, a.family_member_id, a.session_date) "
+        + "SELECT i.ordinal, COALESCE(u.id, p.id) AS id, u.id IS NOT NULL AS applied, "
+        + "p.status AS previous_status, p.client_mark_id AS previous_client_mark_id, "
+        + "p.modified_at AS previous_modified_at "
+        + "FROM input i "
+        + "LEFT JOIN upserted u ON u.session_id = i.session_id AND u.family_member_id = i.family_member_id "
+        + "AND u.session_date = i.session_date "
+        + "LEFT JOIN previous p ON p.ordinal = i.ordinal "
+        + "ORDER BY i.ordinal";
+
+    private static final String SELECT_SQL_H2 =
+        "SELECT id, session_id, family_member_id, session_date, status, client_mark_id, "
+        + "COALESCE(modified_at, updated_at) AS modified_at "
+        + "FROM t_attendance WHERE (session_id, family_member_id, session_date) IN (:keys)";
+
+    private static final String MERGE_SQL_H2 =
+        "MERGE INTO t_attendance a "
+        + "USING (VALUES (CAST(:sessionId AS BIGINT), CAST(:familyMemberId AS BIGINT), "
+        + "CAST(:subscriptionId AS BIGINT), CAST(:sessionDate AS DATE), CAST(:status AS VARCHAR(10)), "
+        + "CAST(:note AS VARCHAR), CAST(:markedBy AS BIGINT), CAST(:clientMarkId AS UUID), "
+        + "CAST(:modifiedAt AS TIMESTAMP WITH TIME ZONE), CAST(:updatedAt AS TIMESTAMP WITH TIME ZONE))) "
+        + "AS i (session_id, family_member_id, subscription_id, session_date, status, note, marked_by, "
+        + "client_mark_id, modified_at, updated_at) "
+        + "ON a.session_id = i.session_id AND a.family_member_id = i.family_member_id "
+        + "AND a.session_date = i.session_date "
+        + "WHEN MATCHED AND COALESCE(a.modified_at, a.updated_at) < i.modified_at THEN UPDATE SET "
+        + "status = i.status, note = i.note, client_mark_id = i.client_mark_id, "
+        + "modified_at = i.modified_at, updated_at = i.updated_at "
+        + "WHEN NOT MATCHED THEN INSERT (session_id, family_member_id, subscription_id, session_date, status, "
+        + "note, marked_by, client_mark_id, modified_at, created_at, updated_at) "
+        + "VALUES (i.session_id, i.family_member_id, i.subscription_id, i.session_date, i.status, i.note, "
+        + "i.marked_by, i.client_mark_id, i.modified_at, i.updated_at, i.updated_at)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    AttendanceSyncRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public List<AttendanceSyncRow> upsertLatest(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return List.of();
+        }
+        return dialect.isPostgresql() ? upsertPostgresql(attendances) : upsertH2(attendances);
+    }
+
+    private List<AttendanceSyncRow> upsertPostgresql(List<Attendance> attendances) {
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<AttendanceSyncRow>>) connection -> {
+            int size = attendances.size();
+            Object[][] columns = new Object[10][size];
+            for (int i = 0; i < size; i++) {
+                Attendance attendance = attendances.get(i);
+                columns[0][i] = i;
+                columns[1][i] = attendance.getSession().getId();
+                columns[2][i] = attendance.getFamilyMemberId();
+                columns[3][i] = attendance.getSubscription().getId();
+                columns[4][i] = attendance.getSessionDate().toString();
+                columns[5][i] = attendance.getStatus().name();
+                columns[6][i] = attendance.getNote();
+                columns[7][i] = attendance.getMarkedBy();
+                columns[8][i] = attendance.getClientMarkId().toString();
+                columns[9][i] = OffsetDateTime.ofInstant(attendance.getModifiedAt(), ZoneOffset.UTC).toString();
+            }
+            String[] types = {"int4", "int8", "int8", "int8", "text", "text", "text", "int8", "text", "text"};
+
+            List<AttendanceSyncRow> rows = new ArrayList<>(size);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL_POSTGRESQL)) {
+                for (int column = 0; column < columns.length; column++) {
+                    statement.setArray(column + 1, connection.createArrayOf(types[column], columns[column]));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new AttendanceSyncRow(
+                            resultSet.getObject("id", Long.class),
+                            resultSet.getBoolean("applied"),
+                            status(resultSet.getString("previous_status")),
+                            resultSet.getObject("previous_client_mark_id", UUID.class),
+                            instant(resultSet.getObject("previous_modified_at", OffsetDateTime.class))));
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    private List<AttendanceSyncRow> upsertH2(List<Attendance> attendances) {
+        Map<Key, Previous> previous = findByKeys(attendances);
+
+        OffsetDateTime timestamp = OffsetDateTime.now(ZoneOffset.UTC);
+        SqlParameterSource[] rows = attendances.stream()
+            .map(attendance -> new MapSqlParameterSource()
+                .addValue("sessionId", attendance.getSession().getId())
+                .addValue("familyMemberId", attendance.getFamilyMemberId())
+                .addValue("subscriptionId", attendance.getSubscription().getId())
+                .addValue("sessionDate", attendance.getSessionDate())
+                .addValue("status", attendance.getStatus().name())
+                .addValue("note", attendance.getNote())
+                .addValue("markedBy", attendance.getMarkedBy())
+                .addValue("clientMarkId", attendance.getClientMarkId())
+                .addValue("modifiedAt", OffsetDateTime.ofInstant(attendance.getModifiedAt(), ZoneOffset.UTC))
+                .addValue("updatedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(MERGE_SQL_H2, rows);
+
+        Map<Key, Previous> current = findByKeys(attendances);
+        List<AttendanceSyncRow> results = new ArrayList<>(attendances.size());
+        for (int i = 0; i < attendances.size(); i++) {
+            Key key = Key.of(attendances.get(i));
+            Previous before = previous.get(key);
+            Previous after = current.get(key);
+            results.add(new AttendanceSyncRow(
+                after == null ? null : after.id(),
+                counts[i] > 0,
+                before == null ? null : before.status(),
+                before == null ? null : before.clientMarkId(),
+                before == null ? null : before.modifiedAt()));
+        }
+        return results;
+    }
+
+    private Map<Key, Previous> findByKeys(List<Attendance> attendances) {
+        List<Object[]> keys = attendances.stream()
+            .map(attendance -> new Object[] {
+                attendance.getSession().getId(), attendance.getFamilyMemberId(), attendance.getSessionDate()})
+            .toList();
+
+        Map<Key, Previous> records = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL_H2, new MapSqlParameterSource("keys", keys), resultSet -> {
+            records.put(
+                new Key(resultSet.getLong("session_id"), resultSet.getLong("family_member_id"),
+                    resultSet.getObject("session_date", LocalDate.class)),
+                new Previous(resultSet.getLong("id"), status(resultSet.getString("status")),
+                    resultSet.getObject("client_mark_id", UUID.class),
+                    instant(resultSet.getObject("modified_at", OffsetDateTime.class))));
+        });
+        return records;
+    }
+
+    private static AttendanceStatus status(String status) {
+        return status == null ? null : AttendanceStatus.valueOf(status);
+    }
+
+    private static Instant instant(OffsetDateTime timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private record Key(Long sessionId, Long familyMemberId, LocalDate sessionDate) {
+
+        static Key of(Attendance attendance) {
+            return new Key(attendance.getSession().getId(), attendance.getFamilyMemberId(),
+                attendance.getSessionDate());
+        }
+    }
+
+    private record Previous(Long id, AttendanceStatus status, UUID clientMarkId, Instant modifiedAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outcome of one mark of an offline sync upsert, with the record as it was before.
+ *
+ * @param id                   id of the attendance record, null if it could not be read back
+ * @param applied              whether the mark was inserted or overwrote the record
+ * @param previousStatus       status before the upsert, null if the record did not exist
+ * @param previousClientMarkId device UUID of the previous write, null if none
+ * @param previousModifiedAt   last-writer-wins timestamp before the upsert, null if the record did not exist
+ */
+public record AttendanceSyncRow(
+    Long id,
+    boolean applied,
+    AttendanceStatus previousStatus,
+    UUID previousClientMarkId,
+    Instant previousModifiedAt
+) {}
@@ -0,0 +1,33 @@
+package com.familyhobbies.associationservice.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the JDBC repository fragments which database they run on, so each can pick its
+ * PostgreSQL statement or its H2 (tests) fallback.
+ * <p>
+ * The product name is read from the connection metadata on first use and cached for the
+ * lifetime of the data source.
+ */
+@Component
+class DatabaseDialect {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgresql;
+
+    DatabaseDialect(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    boolean isPostgresql() {
+        if (postgresql == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            postgresql = "PostgreSQL".equals(product);
+        }
+        return postgresql;
+    }
+}
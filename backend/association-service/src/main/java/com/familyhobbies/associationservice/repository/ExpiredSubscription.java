@@ -0,0 +1,19 @@
+package com.familyhobbies.associationservice.repository;
+
+import java.time.Instant;
+
+/**
+ * Row returned by {@link SubscriptionBatchRepository#expireEndedBefore}: the identifiers
+ * needed to publish a {@code SubscriptionExpiredEvent} and to release the activity seat,
+ * without loading the subscription entity.
+ */
+public record ExpiredSubscription(
+    Long subscriptionId,
+    Long userId,
+    Long familyMemberId,
+    Long familyId,
+    Long activityId,
+    Long associationId,
+    Instant expiredAt
+) {
+}
@@ -0,0 +1,33 @@
+package com.familyhobbies.associationservice.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset predicates shared by the cursor-paginated searches ordered by {@code (name, id)},
+ * backed by {@code idx_association_name_id} and {@code idx_activity_status_category_name_id}.
+ */
+public final class KeysetSpecification {
+
+    private KeysetSpecification() {
+        // Utility class — no instantiation
+    }
+
+    /**
+     * Keyset predicate for cursor pagination ordered by {@code (name, id)}:
+     * {@code name > :name OR (name = :name AND id > :id)}.
+     *
+     * @param name name of the last row of the previous slice
+     * @param id   id of the last row of the previous slice
+     * @param <T>  entity type, which must map {@code name} and {@code id}
+     * @return a {@link Specification} selecting rows strictly after the given position
+     */
+    public static <T> Specification<T> nameAfter(String name, Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+            criteriaBuilder.greaterThan(root.get("name"), name),
+            criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("name"), name),
+                criteriaBuilder.greaterThan(root.get("id"), id)
+            )
+        );
+    }
+}
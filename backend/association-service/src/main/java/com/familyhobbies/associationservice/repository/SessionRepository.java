@@ -3,7 +3,10 @@ package com.familyhobbies.associationservice.repository;
 import com.familyhobbies.associationservice.entity.Session;
 import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +23,12 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
     Optional<Session> findByIdAndActivity_Id(Long id, Long activityId);
 
     List<Session> findByDayOfWeekAndActiveTrue(DayOfWeekEnum dayOfWeek);
+
+    /**
+     * Counts sessions per activity in a single grouped query.
+     * Activities without sessions are absent from the result.
+     */
+    @Query("SELECT s.activity.id AS activityId, COUNT(s) AS sessionCount FROM Session s "
+        + "WHERE s.activity.id IN :activityIds GROUP BY s.activity.id")
+    List<ActivitySessionCount> countByActivityIds(@Param("activityIds") Collection<Long> activityIds);
 }
@@ -0,0 +1,20 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+
+/**
+ * Roster line selected by a JPQL constructor expression: one subscriber of the session's
+ * activity, left-joined to their attendance on the requested date.
+ *
+ * @param attendanceId null when no attendance has been recorded for that date yet
+ * @param status       null when no attendance has been recorded for that date yet
+ */
+public record SessionRosterRow(
+    Long subscriptionId,
+    Long familyMemberId,
+    String memberFirstName,
+    String memberLastName,
+    Long attendanceId,
+    AttendanceStatus status,
+    String note
+) {}
@@ -0,0 +1,33 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Subscription;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link SubscriptionRepository} for set-based writes.
+ * <p>
+ * Subscription ids are IDENTITY columns, which Hibernate never batches, so bulk
+ * creation goes through JDBC instead of {@code saveAll}. Expiry updates rows in
+ * place and reads back what changed in the same statement.
+ */
+public interface SubscriptionBatchRepository {
+
+    /**
+     * Inserts all subscriptions in a single JDBC batch and sets their generated ids
+     * and timestamps. The entities are not attached to the persistence context.
+     */
+    void insertAll(List<Subscription> subscriptions);
+
+    /**
+     * Expires up to {@code limit} ACTIVE subscriptions whose end date is before {@code cutoff}
+     * and whose id lies in {@code [minId, maxId]}, in a single statement, and returns the
+     * expired rows.
+     * <p>
+     * On PostgreSQL candidate rows are locked with {@code FOR UPDATE SKIP LOCKED}, so concurrent callers
+     * never wait on or expire the same rows. Expired rows leave the predicate, so calling
+     * this again returns the next batch; an empty list means nothing is left in the range.
+     */
+    List<ExpiredSubscription> expireEndedBefore(LocalDate cutoff, long minId, long maxId, int limit);
+}
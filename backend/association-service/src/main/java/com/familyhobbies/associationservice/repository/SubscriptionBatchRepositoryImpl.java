@@ -0,0 +1,126 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Subscription;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link SubscriptionBatchRepository}.
+ * Runs on the connection of the surrounding JPA transaction.
+ * <p>
+ * Expiry reads the updated rows back with {@code UPDATE ... RETURNING} on PostgreSQL.
+ * H2 (tests) has no {@code RETURNING}; the UPDATE is wrapped in a
+ * {@code FINAL TABLE (...)} data change delta table instead, and limited with
+ * {@code FETCH FIRST} because H2 re-evaluates a limited {@code IN (SELECT ...)}
+ * for every candidate row.
+ */
+class SubscriptionBatchRepositoryImpl implements SubscriptionBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+        + "subscription_type, status, start_date, end_date, member_first_name, member_last_name, "
+        + "created_at, updated_at) "
+        + "VALUES (:activityId, :familyMemberId, :familyId, :userId, "
+        + ":subscriptionType, :status, :startDate, :endDate, :memberFirstName, :memberLastName, "
+        + ":createdAt, :updatedAt)";
+
+    private static final String EXPIRE_SET_SQL =
+        "UPDATE t_subscription "
+        + "SET status = 'EXPIRED', expired_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP ";
+
+    private static final String EXPIRED_COLUMNS =
+        "e.id, e.user_id, e.family_member_id, e.family_id, e.activity_id, a.association_id, e.expired_at";
+
+    private static final String EXPIRE_SQL_POSTGRESQL =
+        "WITH e AS (" + EXPIRE_SET_SQL
+        + "WHERE id IN ("
+        + "SELECT id FROM t_subscription "
+        + "WHERE status = 'ACTIVE' AND end_date < :cutoff AND id BETWEEN :minId AND :maxId "
+        + "ORDER BY end_date, id LIMIT :limit "
+        + "FOR UPDATE SKIP LOCKED) "
+        + "RETURNING id, user_id, family_member_id, family_id, activity_id, expired_at) "
+        + "SELECT " + EXPIRED_COLUMNS + " FROM e JOIN t_activity a ON a.id = e.activity_id";
+
+    private static final String EXPIRE_SQL_H2 =
+        "SELECT " + EXPIRED_COLUMNS + " FROM FINAL TABLE (" + EXPIRE_SET_SQL
+        + "WHERE status = 'ACTIVE' AND end_date < :cutoff AND id BETWEEN :minId AND :maxId "
+        + "FETCH FIRST :limit ROWS ONLY) e "
+        + "JOIN t_activity a ON a.id = e.activity_id";
+
+    private static final RowMapper<ExpiredSubscription> EXPIRED_ROW_MAPPER = (rs, rowNum) ->
+        new ExpiredSubscription(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getLong("family_member_id"),
+            rs.getLong("family_id"),
+            rs.getLong("activity_id"),
+            rs.getLong("association_id"),
+            rs.getObject("expired_at", OffsetDateTime.class).toInstant());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect dialect;
+
+    SubscriptionBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void insertAll(List<Subscription> subscriptions) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+
+        SqlParameterSource[] rows = subscriptions.stream()
+            .map(subscription -> new MapSqlParameterSource()
+                .addValue("activityId", subscription.getActivity().getId())
+                .addValue("familyMemberId", subscription.getFamilyMemberId())
+                .addValue("familyId", subscription.getFamilyId())
+                .addValue("userId", subscription.getUserId())
+                .addValue("subscriptionType", subscription.getSubscriptionType().name())
+                .addValue("status", subscription.getStatus().name())
+                .addValue("startDate", subscription.getStartDate())
+                .addValue("endDate", subscription.getEndDate())
+                .addValue("memberFirstName", subscription.getMemberFirstName())
+                .addValue("memberLastName", subscription.getMemberLastName())
+                .addValue("createdAt", timestamp)
+                .addValue("updatedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, keyHolder, new String[] {"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < subscriptions.size(); i++) {
+            Subscription subscription = subscriptions.get(i);
+            subscription.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            subscription.setCreatedAt(now);
+            subscription.setUpdatedAt(now);
+        }
+    }
+
+    @Override
+    public List<ExpiredSubscription> expireEndedBefore(LocalDate cutoff, long minId, long maxId, int limit) {
+        return jdbcTemplate.query(dialect.isPostgresql() ? EXPIRE_SQL_POSTGRESQL : EXPIRE_SQL_H2,
+            new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("minId", minId)
+                .addValue("maxId", maxId)
+                .addValue("limit", limit),
+            EXPIRED_ROW_MAPPER);
+    }
+}
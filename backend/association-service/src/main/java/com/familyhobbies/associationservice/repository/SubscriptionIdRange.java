@@ -0,0 +1,14 @@
+package com.familyhobbies.associationservice.repository;
+
+/**
+ * Projection of the lowest and highest subscription ids matching a filter.
+ * Returned by {@link SubscriptionRepository#findIdRangeByStatusAndEndDateBefore} so the
+ * expiry partitioner can split the work into id ranges without loading rows.
+ * Both ids are {@code null} when no row matches.
+ */
+public interface SubscriptionIdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
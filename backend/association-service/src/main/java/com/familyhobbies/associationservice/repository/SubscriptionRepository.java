@@ -15,8 +15,9 @@ import java.util.Optional;
 /**
  * Repository for {@link Subscription} entities.
  * Provides custom queries for subscription lookups by family, member, activity.
+ * Multi-row inserts go through {@link SubscriptionBatchRepository}.
  */
-public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long>, SubscriptionBatchRepository {
 
     List<Subscription> findByFamilyId(Long familyId);
 
@@ -24,9 +25,6 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
 
     Optional<Subscription> findByIdAndUserId(Long id, Long userId);
 
-    List<Subscription> findByActivity_IdAndFamilyMemberIdAndStatusIn(
-            Long activityId, Long familyMemberId, List<SubscriptionStatus> statuses);
-
     List<Subscription> findByActivity_Id(Long activityId);
 
     List<Subscription> findByUserId(Long userId);
@@ -55,4 +53,15 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     long countByStatusAndEndDateBefore(
             SubscriptionStatus status,
             LocalDate cutoff);
+
+    /**
+     * Lowest and highest ids of the subscriptions with the given status whose end date
+     * is before the cutoff, in a single aggregate query.
+     * Used by the subscription expiry partitioner to split the job into id ranges.
+     */
+    @Query("SELECT MIN(s.id) AS minId, MAX(s.id) AS maxId FROM Subscription s "
+        + "WHERE s.status = :status AND s.endDate < :cutoff")
+    SubscriptionIdRange findIdRangeByStatusAndEndDateBefore(
+            @Param("status") SubscriptionStatus status,
+            @Param("cutoff") LocalDate cutoff);
 }
@@ -1,12 +1,14 @@
 package com.familyhobbies.associationservice.service;
 
+import com.familyhobbies.associationservice.dto.request.ActivityGlobalSearchRequest;
 import com.familyhobbies.associationservice.dto.request.ActivityRequest;
+import com.familyhobbies.associationservice.dto.request.ActivitySearchRequest;
 import com.familyhobbies.associationservice.dto.request.SessionRequest;
 import com.familyhobbies.associationservice.dto.response.ActivityDetailResponse;
 import com.familyhobbies.associationservice.dto.response.ActivityResponse;
+import com.familyhobbies.associationservice.dto.response.ActivitySearchResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.dto.response.SessionResponse;
-import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
-import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -18,10 +20,21 @@ import java.util.List;
 public interface ActivityService {
 
     /**
-     * Lists activities for an association with optional filters.
+     * Lists activities for an association with optional filters
+     * (category, level, status, age range, price range, season).
      */
-    Page<ActivityResponse> listActivities(Long associationId, AssociationCategory category,
-                                           ActivityLevel level, Pageable pageable);
+    Page<ActivityResponse> listActivities(Long associationId, ActivitySearchRequest filter, Pageable pageable);
+
+    /**
+     * Searches active activities across all associations with keyset (cursor) pagination,
+     * ordered by name then id.
+     *
+     * @param request search criteria
+     * @param cursor  opaque cursor returned by the previous slice, null for the first slice
+     * @throws com.familyhobbies.errorhandling.exception.web.BadRequestException if the cursor is malformed
+     */
+    CursorPageResponse<ActivitySearchResultResponse> searchActivities(ActivityGlobalSearchRequest request,
+                                                                      String cursor);
 
     /**
      * Gets activity detail with embedded sessions.
@@ -3,6 +3,7 @@ package com.familyhobbies.associationservice.service;
 import com.familyhobbies.associationservice.dto.request.AssociationSearchRequest;
 import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
 import com.familyhobbies.associationservice.dto.response.AssociationResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import org.springframework.data.domain.Page;
 
 /**
@@ -19,6 +20,20 @@ public interface AssociationService {
      */
     Page<AssociationResponse> searchAssociations(AssociationSearchRequest request);
 
+    /**
+     * Searches associations with keyset (cursor) pagination ordered by name then id.
+     * Unlike {@link #searchAssociations}, no count query is issued and deep pages
+     * cost the same as the first one. The request page number is ignored.
+     * A keyword matches the same full-text predicate as {@link #searchAssociations},
+     * but results stay ordered by name rather than relevance.
+     *
+     * @param request the search criteria (page size is used, page number is ignored)
+     * @param cursor  opaque cursor from the previous slice, null for the first slice
+     * @return a slice of association summary responses with the next cursor
+     * @throws com.familyhobbies.errorhandling.exception.web.BadRequestException if the cursor is malformed
+     */
+    CursorPageResponse<AssociationResponse> scrollAssociations(AssociationSearchRequest request, String cursor);
+
     /**
      * Retrieves a single association by its database ID.
      *
@@ -0,0 +1,25 @@
+package com.familyhobbies.associationservice.service;
+
+import com.familyhobbies.associationservice.dto.response.AttendanceHeatmapResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSeasonStatsResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for season attendance analytics, computed from the attendance bitsets.
+ * Seasons are identified by the year they start in (September 1st); a null season means
+ * the current one.
+ */
+public interface AttendanceAnalyticsService {
+
+    /**
+     * Rates and streaks of every subscription to an activity that has recorded attendance
+     * over the season, ordered by subscription id.
+     */
+    List<AttendanceSeasonStatsResponse> getActivitySeasonStats(Long activityId, Integer season);
+
+    /**
+     * Recorded statuses per occurrence of a weekly session over the season.
+     */
+    AttendanceHeatmapResponse getSessionHeatmap(Long sessionId, Integer season);
+}
@@ -0,0 +1,25 @@
+package com.familyhobbies.associationservice.service;
+
+import com.familyhobbies.associationservice.dto.request.AttendanceReportRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceReportFormat;
+
+import java.io.OutputStream;
+
+/**
+ * Service interface for attendance report exports.
+ */
+public interface AttendanceReportService {
+
+    /**
+     * Checks the report scope and period. Called before anything is written to the
+     * response, so that errors still map to a regular error body.
+     */
+    void validateReport(AttendanceReportRequest request);
+
+    /**
+     * Streams the attendance records of the report to {@code outputStream}.
+     *
+     * @return number of attendance records written
+     */
+    long writeReport(AttendanceReportRequest request, AttendanceReportFormat format, OutputStream outputStream);
+}
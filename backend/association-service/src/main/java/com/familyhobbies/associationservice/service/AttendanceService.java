@@ -1,9 +1,13 @@
 package com.familyhobbies.associationservice.service;
 
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
 import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
 import com.familyhobbies.associationservice.dto.response.AttendanceSummaryResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +17,14 @@ import java.util.List;
  */
 public interface AttendanceService {
 
+    /**
+     * A capped list of attendance records.
+     *
+     * @param truncated whether older records were left out of the list
+     */
+    record HistoryList(List<AttendanceResponse> records, boolean truncated) {
+    }
+
     /**
      * Marks a single attendance record.
      */
@@ -23,15 +35,39 @@ public interface AttendanceService {
      */
     List<AttendanceResponse> markBulkAttendance(BulkAttendanceRequest request, Long userId);
 
+    /**
+     * Upserts marks recorded offline, keeping the most recently modified mark per session,
+     * member and date. Invalid marks are reported without aborting the others.
+     *
+     * @return one result per mark, in request order
+     */
+    List<AttendanceSyncResultResponse> syncAttendance(AttendanceSyncRequest request, Long userId);
+
     /**
      * Gets attendance records for a session on a specific date.
      */
     List<AttendanceResponse> findBySessionAndDate(Long sessionId, LocalDate date, Long userId);
 
     /**
-     * Gets attendance history for a family member.
+     * Gets the active subscribers of a session's activity with their attendance on a date,
+     * null for members not marked yet.
      */
-    List<AttendanceResponse> findByMemberId(Long memberId, Long userId);
+    SessionRosterResponse getSessionRoster(Long sessionId, LocalDate date);
+
+    /**
+     * Gets the most recent attendance records of a family member, newest first, capped at
+     * 200 records. Use {@link #scrollMemberHistory} for the full history.
+     */
+    HistoryList findByMemberId(Long memberId, Long userId);
+
+    /**
+     * Gets a slice of a family member's attendance history, ordered by session date then id.
+     *
+     * @param cursor opaque cursor from the previous slice, null for the first slice
+     * @param size   slice size, defaults to 20, capped at 100
+     */
+    CursorPageResponse<AttendanceResponse> scrollMemberHistory(Long memberId, String cursor, Integer size,
+                                                               Long userId);
 
     /**
      * Gets attendance summary stats for a family member.
@@ -39,9 +75,19 @@ public interface AttendanceService {
     AttendanceSummaryResponse getMemberSummary(Long memberId, Long userId);
 
     /**
-     * Gets attendance records for a subscription.
+     * Gets the most recent attendance records of a subscription, newest first, capped at
+     * 200 records. Use {@link #scrollSubscriptionHistory} for the full history.
+     */
+    HistoryList findBySubscriptionId(Long subscriptionId, Long userId);
+
+    /**
+     * Gets a slice of a subscription's attendance history, ordered by session date then id.
+     *
+     * @param cursor opaque cursor from the previous slice, null for the first slice
+     * @param size   slice size, defaults to 20, capped at 100
      */
-    List<AttendanceResponse> findBySubscriptionId(Long subscriptionId, Long userId);
+    CursorPageResponse<AttendanceResponse> scrollSubscriptionHistory(Long subscriptionId, String cursor,
+                                                                     Integer size, Long userId);
 
     /**
      * Updates an existing attendance record.
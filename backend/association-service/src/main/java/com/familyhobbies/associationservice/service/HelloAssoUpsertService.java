@@ -0,0 +1,37 @@
+package com.familyhobbies.associationservice.service;
+
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.entity.Association;
+
+import java.util.List;
+
+/**
+ * Upserts HelloAsso organizations into the local association table, one directory page
+ * at a time. Shared by the on-demand directory sync and the {@code helloAssoSyncJob} batch.
+ */
+public interface HelloAssoUpsertService {
+
+    /**
+     * Creates the organizations not known yet and updates those whose content hash
+     * changed, with one lookup and one batched upsert for the whole page. Organizations
+     * without a slug are skipped; a slug listed twice keeps its last occurrence.
+     *
+     * @param organizations one page of the HelloAsso directory
+     * @return counts per outcome and the associations written
+     */
+    PageResult upsertPage(List<HelloAssoOrganization> organizations);
+
+    /**
+     * Outcome of one page. {@code unchanged} also counts skipped and duplicate
+     * organizations, so the three counts add up to the page size.
+     *
+     * @param written associations created or updated, with their ids, not attached to
+     *                the persistence context
+     */
+    record PageResult(int created, int updated, int unchanged, List<Association> written) {
+
+        public int total() {
+            return created + updated + unchanged;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.familyhobbies.associationservice.service;
 
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
 import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
 import com.familyhobbies.associationservice.dto.response.SubscriptionResponse;
 
@@ -15,6 +16,11 @@ public interface SubscriptionService {
      */
     SubscriptionResponse createSubscription(SubscriptionRequest request, Long userId);
 
+    /**
+     * Subscribes every requested family member to every requested activity, all or nothing.
+     */
+    List<SubscriptionResponse> createBulkSubscriptions(BulkSubscriptionRequest request, Long userId);
+
     /**
      * Lists all subscriptions for a family.
      */
@@ -1,28 +1,38 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.ActivityGlobalSearchRequest;
 import com.familyhobbies.associationservice.dto.request.ActivityRequest;
+import com.familyhobbies.associationservice.dto.request.ActivitySearchRequest;
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
 import com.familyhobbies.associationservice.dto.request.SessionRequest;
 import com.familyhobbies.associationservice.dto.response.ActivityDetailResponse;
 import com.familyhobbies.associationservice.dto.response.ActivityResponse;
+import com.familyhobbies.associationservice.dto.response.ActivitySearchResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.dto.response.SessionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
 import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.associationservice.entity.Session;
-import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
 import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
-import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.mapper.ActivityMapper;
 import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.ActivitySessionCount;
+import com.familyhobbies.associationservice.repository.ActivitySpecification;
+import com.familyhobbies.associationservice.repository.KeysetSpecification;
 import com.familyhobbies.associationservice.repository.AssociationRepository;
 import com.familyhobbies.associationservice.repository.SessionRepository;
 import com.familyhobbies.associationservice.service.ActivityService;
 import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link ActivityService}.
@@ -48,29 +58,43 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
-    public Page<ActivityResponse> listActivities(Long associationId, AssociationCategory category,
-                                                  ActivityLevel level, Pageable pageable) {
+    public Page<ActivityResponse> listActivities(Long associationId, ActivitySearchRequest filter,
+                                                  Pageable pageable) {
         verifyAssociationExists(associationId);
 
-        Page<Activity> activities;
-        if (category != null && level != null) {
-            activities = activityRepository.findByAssociation_IdAndCategoryAndLevel(
-                associationId, category, level, pageable);
-        } else if (category != null) {
-            activities = activityRepository.findByAssociation_IdAndCategory(
-                associationId, category, pageable);
-        } else if (level != null) {
-            activities = activityRepository.findByAssociation_IdAndLevel(
-                associationId, level, pageable);
-        } else {
-            activities = activityRepository.findByAssociation_Id(associationId, pageable);
+        Page<Activity> activities = activityRepository.findAll(
+            ActivitySpecification.withFilters(associationId, filter), pageable);
+        Map<Long, Long> sessionCounts = countSessions(activities);
+        return activities.map(activity -> activityMapper.toResponse(
+            activity, sessionCounts.getOrDefault(activity.getId(), 0L).intValue()));
+    }
+
+    @Override
+    public CursorPageResponse<ActivitySearchResultResponse> searchActivities(ActivityGlobalSearchRequest request,
+                                                                             String cursor) {
+        int size = request.sizeOrDefault();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        Specification<Activity> spec = ActivitySpecification.globalSearch(request);
+        if (position != null) {
+            spec = spec.and(KeysetSpecification.nameAfter(position.sortKey(), position.id()));
         }
-        return activities.map(activityMapper::toResponse);
+
+        // Fetch one extra row to know whether another slice exists, without a count query
+        List<Activity> rows = activityRepository.findBy(spec, query -> query
+            .sortBy(Sort.by(Sort.Direction.ASC, "name", "id"))
+            .limit(size + 1)
+            .all());
+
+        return CursorPageResponse.fromRows(rows, size,
+            activity -> new KeysetCursor(activity.getName(), activity.getId()),
+            activityMapper::toSearchResult);
     }
 
     @Override
     public ActivityDetailResponse getActivityDetail(Long associationId, Long activityId) {
-        Activity activity = findActivityByAssociation(associationId, activityId);
+        Activity activity = activityRepository.findDetailByIdAndAssociation_Id(activityId, associationId)
+            .orElseThrow(() -> ResourceNotFoundException.of("Activity", activityId));
         return activityMapper.toDetailResponse(activity);
     }
 
@@ -140,6 +164,19 @@ public class ActivityServiceImpl implements ActivityService {
         sessionRepository.save(session);
     }
 
+    /**
+     * Loads session counts for a whole page in one grouped query,
+     * instead of initializing each activity's lazy sessions collection.
+     */
+    private Map<Long, Long> countSessions(Page<Activity> activities) {
+        if (activities.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> activityIds = activities.map(Activity::getId).toList();
+        return sessionRepository.countByActivityIds(activityIds).stream()
+            .collect(Collectors.toMap(ActivitySessionCount::getActivityId, ActivitySessionCount::getSessionCount));
+    }
+
     private Activity findActivityByAssociation(Long associationId, Long activityId) {
         return activityRepository.findByIdAndAssociation_Id(activityId, associationId)
             .orElseThrow(() -> ResourceNotFoundException.of("Activity", activityId));
@@ -1,14 +1,19 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.config.CacheConfig;
 import com.familyhobbies.associationservice.dto.request.AssociationSearchRequest;
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
 import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
 import com.familyhobbies.associationservice.dto.response.AssociationResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.associationservice.mapper.AssociationMapper;
 import com.familyhobbies.associationservice.repository.AssociationRepository;
 import com.familyhobbies.associationservice.repository.AssociationSpecification;
+import com.familyhobbies.associationservice.repository.KeysetSpecification;
 import com.familyhobbies.associationservice.service.AssociationService;
 import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,14 +22,24 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 /**
  * Implementation of {@link AssociationService}.
  * Handles association search and retrieval with JPA Specifications.
+ * Keyword searches, paged or scrolled, go through the PostgreSQL full-text index instead of
+ * LIKE scans; the last keyword word also matches as a prefix.
+ * Detail lookups are cached in-process; associations only change through HelloAsso sync,
+ * whose events invalidate the caches.
  */
 @Service
 @Transactional(readOnly = true)
 public class AssociationServiceImpl implements AssociationService {
 
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final AssociationRepository associationRepository;
     private final AssociationMapper associationMapper;
 
@@ -36,23 +51,110 @@ public class AssociationServiceImpl implements AssociationService {
 
     @Override
     public Page<AssociationResponse> searchAssociations(AssociationSearchRequest request) {
+        if (hasKeyword(request)) {
+            return searchByKeyword(request);
+        }
+
         Pageable pageable = PageRequest.of(
             request.pageOrDefault(),
             request.sizeOrDefault(),
             Sort.by(Sort.Direction.ASC, "name")
         );
 
+        return associationRepository.findAll(filterSpec(request, null), pageable)
+            .map(associationMapper::toResponse);
+    }
+
+    @Override
+    public CursorPageResponse<AssociationResponse> scrollAssociations(AssociationSearchRequest request,
+                                                                      String cursor) {
+        int size = request.sizeOrDefault();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another slice exists, without a count query
+        List<Association> rows = hasKeyword(request)
+            ? scrollByKeyword(request, position, size + 1)
+            : associationRepository.findBy(filterSpec(request, position), query -> query
+                .sortBy(Sort.by(Sort.Direction.ASC, "name", "id"))
+                .limit(size + 1)
+                .all());
+
+        return CursorPageResponse.fromRows(rows, size,
+            association -> new KeysetCursor(association.getName(), association.getId()),
+            associationMapper::toResponse);
+    }
+
+    private Specification<Association> filterSpec(AssociationSearchRequest request, KeysetCursor position) {
         Specification<Association> spec = AssociationSpecification.withFilters(
             request.city(),
-            request.category(),
-            request.keyword()
+            request.category()
         );
+        if (position != null) {
+            spec = spec.and(KeysetSpecification.nameAfter(position.sortKey(), position.id()));
+        }
+        return spec;
+    }
 
-        return associationRepository.findAll(spec, pageable)
+    /**
+     * Ranked full-text search. Ordering is computed by the query (relevance first),
+     * so the page request is left unsorted.
+     */
+    private Page<AssociationResponse> searchByKeyword(AssociationSearchRequest request) {
+        Pageable pageable = PageRequest.of(request.pageOrDefault(), request.sizeOrDefault());
+        String keyword = request.keyword().trim();
+
+        return associationRepository.searchByKeyword(
+                keyword,
+                prefixQuery(keyword),
+                cityOrNull(request),
+                categoryOrNull(request),
+                pageable)
             .map(associationMapper::toResponse);
     }
 
+    /**
+     * Full-text scroll: same match as {@link #searchByKeyword}, ordered by name then id
+     * so the keyset cursor stays stable.
+     */
+    private List<Association> scrollByKeyword(AssociationSearchRequest request, KeysetCursor position, int limit) {
+        String keyword = request.keyword().trim();
+
+        return associationRepository.scrollByKeyword(
+            keyword,
+            prefixQuery(keyword),
+            cityOrNull(request),
+            categoryOrNull(request),
+            position != null ? position.sortKey() : null,
+            position != null ? position.id() : null,
+            limit);
+    }
+
+    /**
+     * Builds a {@code to_tsquery} requiring every word of the keyword, the last one as a
+     * prefix: {@code "lyon nat"} becomes {@code "lyon & nat:*"}. Punctuation is dropped so
+     * user input cannot break the query syntax. Returns null when no word is left.
+     */
+    static String prefixQuery(String keyword) {
+        String words = NON_WORD.splitAsStream(keyword)
+            .filter(word -> !word.isEmpty())
+            .collect(Collectors.joining(" & "));
+        return words.isEmpty() ? null : words + ":*";
+    }
+
+    private static boolean hasKeyword(AssociationSearchRequest request) {
+        return request.keyword() != null && !request.keyword().isBlank();
+    }
+
+    private static String cityOrNull(AssociationSearchRequest request) {
+        return request.city() != null && !request.city().isBlank() ? request.city() : null;
+    }
+
+    private static String categoryOrNull(AssociationSearchRequest request) {
+        return request.category() != null ? request.category().name() : null;
+    }
+
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSOCIATION_DETAIL_BY_ID, key = "#id")
     public AssociationDetailResponse getAssociationById(Long id) {
         Association association = associationRepository.findById(id)
             .orElseThrow(() -> ResourceNotFoundException.of("Association", id));
@@ -60,6 +162,7 @@ public class AssociationServiceImpl implements AssociationService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ASSOCIATION_DETAIL_BY_SLUG, key = "#slug")
     public AssociationDetailResponse getAssociationBySlug(String slug) {
         Association association = associationRepository.findBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException(
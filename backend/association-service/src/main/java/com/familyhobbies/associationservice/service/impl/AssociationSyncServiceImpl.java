@@ -6,9 +6,9 @@ import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryRespon
 import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
 import com.familyhobbies.associationservice.dto.response.SyncResultResponse;
 import com.familyhobbies.associationservice.entity.Association;
-import com.familyhobbies.associationservice.mapper.AssociationMapper;
-import com.familyhobbies.associationservice.repository.AssociationRepository;
 import com.familyhobbies.associationservice.service.AssociationSyncService;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService.PageResult;
 import com.familyhobbies.common.config.HelloAssoProperties;
 import com.familyhobbies.common.event.HelloAssoSyncCompletedEvent;
 import com.familyhobbies.errorhandling.exception.container.ExternalApiException;
@@ -16,21 +16,29 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link AssociationSyncService}.
  * Synchronizes HelloAsso directory data into the local association database.
  * <p>
- * Iterates configured cities, paginates the HelloAsso directory API,
- * and upserts associations. Publishes a Kafka event on completion.
+ * Fans out across the configured cities and their directory pages, with at most
+ * {@code helloasso.sync.concurrency} page requests in flight, and upserts each city through
+ * {@link HelloAssoUpsertService} once all its pages have arrived, in its own transaction
+ * that never waits on HTTP.
+ * Publishes a Kafka event on completion.
  */
 @Service
 public class AssociationSyncServiceImpl implements AssociationSyncService {
@@ -40,50 +48,56 @@ public class AssociationSyncServiceImpl implements AssociationSyncService {
     private static final String SYNC_TOPIC = "helloasso-sync-completed";
 
     private final HelloAssoClient helloAssoClient;
-    private final AssociationRepository associationRepository;
-    private final AssociationMapper associationMapper;
+    private final HelloAssoUpsertService helloAssoUpsertService;
     private final HelloAssoProperties properties;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     public AssociationSyncServiceImpl(HelloAssoClient helloAssoClient,
-                                       AssociationRepository associationRepository,
-                                       AssociationMapper associationMapper,
+                                       HelloAssoUpsertService helloAssoUpsertService,
                                        HelloAssoProperties properties,
-                                       KafkaTemplate<String, Object> kafkaTemplate) {
+                                       KafkaTemplate<String, Object> kafkaTemplate,
+                                       PlatformTransactionManager transactionManager) {
         this.helloAssoClient = helloAssoClient;
-        this.associationRepository = associationRepository;
-        this.associationMapper = associationMapper;
+        this.helloAssoUpsertService = helloAssoUpsertService;
         this.properties = properties;
         this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Not transactional: every city commits on its own, so a failure leaves the cities
+     * already synced in place, cancels the requests still in flight and fails the call.
+     */
     @Override
-    @Transactional
     public SyncResultResponse syncDirectory() {
-        log.info("Starting HelloAsso directory sync for cities: {}", properties.getSync().getCities());
+        List<String> cities = properties.getSync().getCities();
+        int concurrency = properties.getSync().getConcurrency();
+        log.info("Starting HelloAsso directory sync for cities: {} (concurrency {})", cities, concurrency);
         long startTime = System.currentTimeMillis();
 
-        AtomicInteger created = new AtomicInteger(0);
-        AtomicInteger updated = new AtomicInteger(0);
-        AtomicInteger unchanged = new AtomicInteger(0);
-
-        for (String city : properties.getSync().getCities()) {
-            syncCity(city, created, updated, unchanged);
+        // Cities are persisted on this thread as they complete while the others are fetched;
+        // closing the stream cancels the pending requests when a city fails
+        SyncCounts counts = SyncCounts.NONE;
+        try (Stream<CityDirectory> directories = directory(cities, concurrency).toStream(concurrency)) {
+            Iterator<CityDirectory> iterator = directories.iterator();
+            while (iterator.hasNext()) {
+                counts = counts.plus(persistCity(iterator.next()));
+            }
         }
 
         long durationMs = System.currentTimeMillis() - startTime;
-        int totalProcessed = created.get() + updated.get() + unchanged.get();
         Instant syncedAt = Instant.now();
 
         SyncResultResponse result = new SyncResultResponse(
-            created.get(), updated.get(), unchanged.get(),
-            totalProcessed, syncedAt, durationMs
+            counts.created(), counts.updated(), counts.unchanged(),
+            counts.total(), syncedAt, durationMs
         );
 
         publishSyncEvent(result);
 
         log.info("HelloAsso directory sync completed: created={}, updated={}, unchanged={}, duration={}ms",
-            created.get(), updated.get(), unchanged.get(), durationMs);
+            counts.created(), counts.updated(), counts.unchanged(), durationMs);
 
         return result;
     }
@@ -102,16 +116,13 @@ public class AssociationSyncServiceImpl implements AssociationSyncService {
                 "HelloAsso", 0);
         }
 
-        UpsertResult upsertResult = upsertAssociation(org);
+        PageResult upsertResult = helloAssoUpsertService.upsertPage(List.of(org));
 
         long durationMs = System.currentTimeMillis() - startTime;
         Instant syncedAt = Instant.now();
 
-        int created = upsertResult == UpsertResult.CREATED ? 1 : 0;
-        int updated = upsertResult == UpsertResult.UPDATED ? 1 : 0;
-        int unchanged = upsertResult == UpsertResult.UNCHANGED ? 1 : 0;
-
-        return new SyncResultResponse(created, updated, unchanged, 1, syncedAt, durationMs);
+        return new SyncResultResponse(upsertResult.created(), upsertResult.updated(),
+            upsertResult.unchanged(), 1, syncedAt, durationMs);
     }
 
     @Override
@@ -123,74 +134,77 @@ public class AssociationSyncServiceImpl implements AssociationSyncService {
             .isBefore(OffsetDateTime.now().minusHours(STALE_THRESHOLD_HOURS));
     }
 
-    private void syncCity(String city, AtomicInteger created, AtomicInteger updated, AtomicInteger unchanged) {
-        log.debug("Syncing city: {}", city);
-        int pageIndex = 0;
-        boolean hasMore = true;
-
-        while (hasMore) {
-            HelloAssoDirectoryRequest request = HelloAssoDirectoryRequest.builder()
-                .city(city)
-                .pageIndex(pageIndex)
-                .pageSize(properties.getSync().getPageSize())
-                .build();
-
-            HelloAssoDirectoryResponse response = helloAssoClient.searchOrganizations(request).block();
+    /**
+     * The directory of every city, in completion order. Cities are fetched at most
+     * {@code concurrency} at a time; a city's first page gives its page count and the others
+     * are then requested in parallel. All page requests of the run share {@code concurrency}
+     * permits, so no more than {@code concurrency} requests are ever in flight.
+     */
+    private Flux<CityDirectory> directory(List<String> cities, int concurrency) {
+        Semaphore requests = new Semaphore(concurrency);
+        return Flux.fromIterable(cities)
+            .flatMap(city -> cityDirectory(city, requests, concurrency), concurrency);
+    }
 
-            if (response == null || response.data() == null || response.data().isEmpty()) {
-                hasMore = false;
-                continue;
-            }
+    private Mono<CityDirectory> cityDirectory(String city, Semaphore requests, int concurrency) {
+        log.debug("Fetching city: {}", city);
+        return fetchPage(city, 0, requests).flatMap(firstPage -> {
+            int pageCount = hasData(firstPage) && firstPage.pagination() != null
+                ? Math.max(firstPage.pagination().totalPages(), 1)
+                : 1;
+            return Flux.range(1, pageCount - 1)
+                .flatMapSequential(pageIndex -> fetchPage(city, pageIndex, requests), concurrency)
+                .startWith(firstPage)
+                .filter(this::hasData)
+                .map(HelloAssoDirectoryResponse::data)
+                .collectList()
+                .map(pages -> new CityDirectory(city, pages));
+        });
+    }
 
-            List<HelloAssoOrganization> organizations = response.data();
-            for (HelloAssoOrganization org : organizations) {
-                UpsertResult result = upsertAssociation(org);
-                switch (result) {
-                    case CREATED -> created.incrementAndGet();
-                    case UPDATED -> updated.incrementAndGet();
-                    case UNCHANGED -> unchanged.incrementAndGet();
-                }
-            }
+    /**
+     * The client resolves its bearer token, possibly blocking, when the request is built:
+     * deferred to a worker thread rather than a Netty event loop, which also waits there for
+     * a request permit. The permit is released on completion, error or cancellation.
+     */
+    private Mono<HelloAssoDirectoryResponse> fetchPage(String city, int pageIndex, Semaphore requests) {
+        HelloAssoDirectoryRequest request = HelloAssoDirectoryRequest.builder()
+            .city(city)
+            .pageIndex(pageIndex)
+            .pageSize(properties.getSync().getPageSize())
+            .build();
+        return Mono.using(
+                () -> {
+                    requests.acquireUninterruptibly();
+                    return requests;
+                },
+                permit -> helloAssoClient.searchOrganizations(request),
+                Semaphore::release)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
 
-            hasMore = response.pagination() != null
-                && pageIndex < response.pagination().totalPages() - 1;
-            pageIndex++;
-        }
+    private boolean hasData(HelloAssoDirectoryResponse response) {
+        return response.data() != null && !response.data().isEmpty();
     }
 
-    private UpsertResult upsertAssociation(HelloAssoOrganization org) {
-        if (org.slug() == null || org.slug().isBlank()) {
-            log.warn("Skipping organization with null/empty slug: {}", org.name());
-            return UpsertResult.UNCHANGED;
+    /**
+     * Upserts the pages of one city, page by page in one transaction. Cities without any
+     * organization open no transaction.
+     */
+    private SyncCounts persistCity(CityDirectory directory) {
+        if (directory.pages().isEmpty()) {
+            return SyncCounts.NONE;
         }
-
-        Optional<Association> existing = associationRepository.findByHelloassoSlug(org.slug());
-
-        if (existing.isPresent()) {
-            Association entity = existing.get();
-            if (hasChanges(entity, org)) {
-                associationMapper.updateFromHelloAsso(entity, org);
-                associationRepository.save(entity);
-                return UpsertResult.UPDATED;
+        SyncCounts cityCounts = transactionTemplate.execute(status -> {
+            SyncCounts counts = SyncCounts.NONE;
+            for (List<HelloAssoOrganization> page : directory.pages()) {
+                counts = counts.plus(helloAssoUpsertService.upsertPage(page));
             }
-            return UpsertResult.UNCHANGED;
-        }
-
-        Association newEntity = associationMapper.fromHelloAsso(org);
-        associationRepository.save(newEntity);
-        return UpsertResult.CREATED;
-    }
-
-    private boolean hasChanges(Association entity, HelloAssoOrganization org) {
-        return !Objects.equals(entity.getName(), org.name())
-            || !Objects.equals(entity.getDescription(), org.description())
-            || !Objects.equals(entity.getCity(), org.city())
-            || !Objects.equals(entity.getPostalCode(), org.zipCode())
-            || !Objects.equals(entity.getDepartment(), org.department())
-            || !Objects.equals(entity.getRegion(), org.region())
-            || !Objects.equals(entity.getWebsite(), org.url())
-            || !Objects.equals(entity.getLogoUrl(), org.logo())
-            || entity.getCategory() != associationMapper.normalizeCategory(org.category());
+            return counts;
+        });
+        log.debug("Synced city {}: created={}, updated={}, unchanged={}",
+            directory.city(), cityCounts.created(), cityCounts.updated(), cityCounts.unchanged());
+        return cityCounts;
     }
 
     private void publishSyncEvent(SyncResultResponse result) {
@@ -206,9 +220,23 @@ public class AssociationSyncServiceImpl implements AssociationSyncService {
         }
     }
 
-    private enum UpsertResult {
-        CREATED,
-        UPDATED,
-        UNCHANGED
+    private record CityDirectory(String city, List<List<HelloAssoOrganization>> pages) {}
+
+    private record SyncCounts(int created, int updated, int unchanged) {
+
+        static final SyncCounts NONE = new SyncCounts(0, 0, 0);
+
+        SyncCounts plus(PageResult page) {
+            return new SyncCounts(created + page.created(), updated + page.updated(),
+                unchanged + page.unchanged());
+        }
+
+        SyncCounts plus(SyncCounts other) {
+            return new SyncCounts(created + other.created, updated + other.updated, unchanged + other.unchanged);
+        }
+
+        int total() {
+            return created + updated + unchanged;
+        }
     }
 }
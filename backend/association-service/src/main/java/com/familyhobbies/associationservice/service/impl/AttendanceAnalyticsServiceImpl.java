@@ -0,0 +1,138 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.response.AttendanceHeatmapResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSeasonStatsResponse;
+import com.familyhobbies.associationservice.entity.AttendanceBitmap;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRepository;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRow;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.service.AttendanceAnalyticsService;
+import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link AttendanceAnalyticsService}.
+ * Reads one {@code t_attendance_bitmap} row per subscription and session instead of one
+ * attendance row per occurrence, and derives counts, streaks and heatmaps with bitwise
+ * operations (see {@link AttendanceBitset}).
+ */
+@Service
+@Transactional(readOnly = true)
+public class AttendanceAnalyticsServiceImpl implements AttendanceAnalyticsService {
+
+    private final AttendanceBitmapRepository attendanceBitmapRepository;
+    private final ActivityRepository activityRepository;
+    private final SessionRepository sessionRepository;
+
+    public AttendanceAnalyticsServiceImpl(AttendanceBitmapRepository attendanceBitmapRepository,
+                                          ActivityRepository activityRepository,
+                                          SessionRepository sessionRepository) {
+        this.attendanceBitmapRepository = attendanceBitmapRepository;
+        this.activityRepository = activityRepository;
+        this.sessionRepository = sessionRepository;
+    }
+
+    @Override
+    public List<AttendanceSeasonStatsResponse> getActivitySeasonStats(Long activityId, Integer season) {
+        if (!activityRepository.existsById(activityId)) {
+            throw ResourceNotFoundException.of("Activity", activityId);
+        }
+        return toSeasonStats(attendanceBitmapRepository.findActivitySeason(activityId, seasonStart(season)));
+    }
+
+    @Override
+    public AttendanceHeatmapResponse getSessionHeatmap(Long sessionId, Integer season) {
+        Session session = sessionRepository.findById(sessionId)
+            .orElseThrow(() -> ResourceNotFoundException.of("Session", sessionId));
+        LocalDate seasonStart = seasonStart(season);
+
+        int[] present = new int[AttendanceBitset.OCCURRENCES_PER_SEASON];
+        int[] absent = new int[AttendanceBitset.OCCURRENCES_PER_SEASON];
+        int[] excused = new int[AttendanceBitset.OCCURRENCES_PER_SEASON];
+        int[] late = new int[AttendanceBitset.OCCURRENCES_PER_SEASON];
+        long recorded = 0;
+        for (AttendanceBitmap bitmap : attendanceBitmapRepository.findBySessionIdAndSeasonStart(sessionId, seasonStart)) {
+            AttendanceBitset.addOccurrences(bitmap.getPresentBits(), present);
+            AttendanceBitset.addOccurrences(bitmap.getAbsentBits(), absent);
+            AttendanceBitset.addOccurrences(bitmap.getExcusedBits(), excused);
+            AttendanceBitset.addOccurrences(bitmap.getLateBits(), late);
+            recorded |= bitmap.getPresentBits() | bitmap.getAbsentBits()
+                | bitmap.getExcusedBits() | bitmap.getLateBits();
+        }
+
+        List<AttendanceHeatmapResponse.Occurrence> occurrences = new ArrayList<>(Long.bitCount(recorded));
+        for (long remaining = recorded; remaining != 0; remaining &= remaining - 1) {
+            int occurrence = Long.numberOfTrailingZeros(remaining);
+            occurrences.add(new AttendanceHeatmapResponse.Occurrence(
+                occurrence,
+                AttendanceBitset.occurrenceDate(seasonStart, occurrence, session.getDayOfWeek()),
+                present[occurrence],
+                absent[occurrence],
+                excused[occurrence],
+                late[occurrence]));
+        }
+        return new AttendanceHeatmapResponse(sessionId, seasonStart, occurrences);
+    }
+
+    /**
+     * Folds bitmap rows, ordered by subscription, into one entry per subscription.
+     * Counts add up over the subscription's sessions; streaks are those of its best
+     * session, since occurrences of two weekly sessions do not form one sequence.
+     */
+    static List<AttendanceSeasonStatsResponse> toSeasonStats(List<AttendanceBitmapRow> rows) {
+        List<AttendanceSeasonStatsResponse> stats = new ArrayList<>();
+        int index = 0;
+        while (index < rows.size()) {
+            AttendanceBitmapRow first = rows.get(index);
+            int present = 0;
+            int absent = 0;
+            int excused = 0;
+            int late = 0;
+            int currentStreak = 0;
+            int longestStreak = 0;
+            for (; index < rows.size() && rows.get(index).subscriptionId().equals(first.subscriptionId()); index++) {
+                AttendanceBitmapRow row = rows.get(index);
+                present += Long.bitCount(row.presentBits());
+                absent += Long.bitCount(row.absentBits());
+                excused += Long.bitCount(row.excusedBits());
+                late += Long.bitCount(row.lateBits());
+
+                long recorded = row.presentBits() | row.absentBits() | row.excusedBits() | row.lateBits();
+                long attended = AttendanceBitset.compress(row.presentBits() | row.lateBits(), recorded);
+                currentStreak = Math.max(currentStreak,
+                    AttendanceBitset.currentRun(attended, Long.bitCount(recorded)));
+                longestStreak = Math.max(longestStreak, AttendanceBitset.longestRun(attended));
+            }
+
+            int total = present + absent + excused + late;
+            double attendanceRate = total > 0 ? (double) present / total * 100.0 : 0.0;
+            stats.add(new AttendanceSeasonStatsResponse(
+                first.subscriptionId(),
+                first.familyMemberId(),
+                first.memberFirstName(),
+                first.memberLastName(),
+                total,
+                present,
+                absent,
+                excused,
+                late,
+                attendanceRate,
+                currentStreak,
+                longestStreak));
+        }
+        return stats;
+    }
+
+    private LocalDate seasonStart(Integer season) {
+        return season == null
+            ? AttendanceBitset.seasonStart(LocalDate.now())
+            : AttendanceBitset.seasonStart(season);
+    }
+}
@@ -0,0 +1,105 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Encoding of season attendance as bitsets, as stored in {@code t_attendance_bitmap}.
+ *
+ * <p>A season runs from September 1st to August 31st. Bit n of a bitset stands for the
+ * n-th weekly occurrence of a session since the season start (0 to 52), so one
+ * {@code long} holds a whole season. Counts are population counts; streaks are runs of
+ * ones in the attended bits, once the occurrences without any recorded status (holidays,
+ * cancelled sessions) have been squeezed out.
+ */
+final class AttendanceBitset {
+
+    /** Weekly occurrences in a season: 366 days span at most 53 weeks. */
+    static final int OCCURRENCES_PER_SEASON = 53;
+
+    private AttendanceBitset() {
+    }
+
+    /**
+     * First day of the season {@code date} belongs to.
+     */
+    static LocalDate seasonStart(LocalDate date) {
+        LocalDate start = seasonStart(date.getYear());
+        return date.isBefore(start) ? start.minusYears(1) : start;
+    }
+
+    /**
+     * First day of the season starting in {@code seasonYear}.
+     */
+    static LocalDate seasonStart(int seasonYear) {
+        return LocalDate.of(seasonYear, Month.SEPTEMBER, 1);
+    }
+
+    /**
+     * Index of the weekly occurrence held on {@code sessionDate}.
+     */
+    static int occurrence(LocalDate seasonStart, LocalDate sessionDate) {
+        return (int) (ChronoUnit.DAYS.between(seasonStart, sessionDate) / 7);
+    }
+
+    /**
+     * Date of the n-th occurrence of a session held on {@code dayOfWeek}.
+     */
+    static LocalDate occurrenceDate(LocalDate seasonStart, int occurrence, DayOfWeekEnum dayOfWeek) {
+        return seasonStart.plusWeeks(occurrence)
+            .with(TemporalAdjusters.nextOrSame(DayOfWeek.valueOf(dayOfWeek.name())));
+    }
+
+    /**
+     * Gathers the bits of {@code value} selected by {@code mask} into the low bits of the
+     * result, keeping their order (software equivalent of {@code Long.compress}, Java 19+).
+     */
+    static long compress(long value, long mask) {
+        long result = 0;
+        int position = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            if ((value & Long.lowestOneBit(remaining)) != 0) {
+                result |= 1L << position;
+            }
+            position++;
+        }
+        return result;
+    }
+
+    /**
+     * Length of the longest run of ones: each {@code bits & (bits << 1)} shortens every
+     * run by one, so the number of rounds until zero is the longest run.
+     */
+    static int longestRun(long bits) {
+        int run = 0;
+        while (bits != 0) {
+            bits &= bits << 1;
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Length of the run of ones ending at the highest of the {@code length} low bits.
+     */
+    static int currentRun(long bits, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        return Math.min(length, Long.numberOfLeadingZeros(~(bits << (Long.SIZE - length))));
+    }
+
+    /**
+     * Adds one to {@code counts[n]} for each bit n set in {@code bits}.
+     */
+    static void addOccurrences(long bits, int[] counts) {
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            counts[Long.numberOfTrailingZeros(remaining)]++;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.AttendanceReportRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceReportFormat;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.service.AttendanceReportService;
+import com.familyhobbies.errorhandling.exception.web.BadRequestException;
+import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link AttendanceReportService}.
+ * <p>
+ * Rows are written to the output stream from the JDBC cursor one by one. The read-only
+ * transaction keeps the PostgreSQL cursor open for the whole export; without it the
+ * driver ignores the fetch size and buffers the full result.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AttendanceReportServiceImpl implements AttendanceReportService {
+
+    private final AttendanceRepository attendanceRepository;
+    private final AssociationRepository associationRepository;
+    private final ActivityRepository activityRepository;
+    private final SessionRepository sessionRepository;
+    private final ObjectMapper objectMapper;
+
+    public AttendanceReportServiceImpl(AttendanceRepository attendanceRepository,
+                                       AssociationRepository associationRepository,
+                                       ActivityRepository activityRepository,
+                                       SessionRepository sessionRepository,
+                                       ObjectMapper objectMapper) {
+        this.attendanceRepository = attendanceRepository;
+        this.associationRepository = associationRepository;
+        this.activityRepository = activityRepository;
+        this.sessionRepository = sessionRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void validateReport(AttendanceReportRequest request) {
+        long scopes = Stream.of(request.associationId(), request.activityId(), request.sessionId())
+            .filter(id -> id != null)
+            .count();
+        if (scopes != 1) {
+            throw new BadRequestException("Exactly one of associationId, activityId or sessionId is required");
+        }
+        if (request.from().isAfter(request.to())) {
+            throw new BadRequestException("Report start date " + request.from()
+                + " is after end date " + request.to());
+        }
+
+        if (request.associationId() != null && !associationRepository.existsById(request.associationId())) {
+            throw ResourceNotFoundException.of("Association", request.associationId());
+        }
+        if (request.activityId() != null && !activityRepository.existsById(request.activityId())) {
+            throw ResourceNotFoundException.of("Activity", request.activityId());
+        }
+        if (request.sessionId() != null && !sessionRepository.existsById(request.sessionId())) {
+            throw ResourceNotFoundException.of("Session", request.sessionId());
+        }
+    }
+
+    @Override
+    public long writeReport(AttendanceReportRequest request, AttendanceReportFormat format,
+                            OutputStream outputStream) {
+        AttendanceReportWriter writer =
+            new AttendanceReportWriter(format, outputStream, objectMapper.getFactory());
+        writer.writeHeader();
+        long rows = attendanceRepository.streamReport(request, writer::writeRow);
+        writer.flush();
+
+        log.info("Attendance report exported: {} rows as {} for {}", rows, format, request);
+        return rows;
+    }
+}
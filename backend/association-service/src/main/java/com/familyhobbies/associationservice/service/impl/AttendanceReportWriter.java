@@ -0,0 +1,168 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.response.AttendanceReportFormat;
+import com.familyhobbies.associationservice.repository.AttendanceReportRow;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes attendance report rows to the response stream as they come off the cursor.
+ * Only a fixed-size write buffer is held in memory, whatever the number of rows.
+ * <p>
+ * Not thread-safe: one instance per export.
+ */
+class AttendanceReportWriter {
+
+    static final String CSV_HEADER = "attendance_id,session_date,association_id,activity_id,activity_name,"
+        + "session_id,start_time,family_member_id,member_first_name,member_last_name,status,note,marked_by";
+
+    private static final String CSV_LINE_END = "\r\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AttendanceReportFormat format;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    AttendanceReportWriter(AttendanceReportFormat format, OutputStream outputStream, JsonFactory jsonFactory) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.json = format == AttendanceReportFormat.NDJSON ? createGenerator(jsonFactory) : null;
+    }
+
+    /**
+     * Writes the CSV header line; NDJSON has none.
+     */
+    void writeHeader() {
+        if (format == AttendanceReportFormat.CSV) {
+            write(CSV_HEADER + CSV_LINE_END);
+        }
+    }
+
+    void writeRow(AttendanceReportRow row) {
+        try {
+            if (format == AttendanceReportFormat.CSV) {
+                writeCsv(row);
+            } else {
+                writeJson(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes buffered output. The underlying stream is left open for the servlet container.
+     */
+    void flush() {
+        try {
+            if (json != null) {
+                json.flush();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(AttendanceReportRow row) throws IOException {
+        writer.write(Long.toString(row.attendanceId()));
+        writer.write(',');
+        writer.write(row.sessionDate().toString());
+        writer.write(',');
+        writer.write(Long.toString(row.associationId()));
+        writer.write(',');
+        writer.write(Long.toString(row.activityId()));
+        writer.write(',');
+        writeCsvField(row.activityName());
+        writer.write(',');
+        writer.write(Long.toString(row.sessionId()));
+        writer.write(',');
+        writeCsvField(row.startTime() != null ? row.startTime().toString() : null);
+        writer.write(',');
+        writer.write(Long.toString(row.familyMemberId()));
+        writer.write(',');
+        writeCsvField(row.memberFirstName());
+        writer.write(',');
+        writeCsvField(row.memberLastName());
+        writer.write(',');
+        writer.write(row.status());
+        writer.write(',');
+        writeCsvField(row.note());
+        writer.write(',');
+        writer.write(Long.toString(row.markedBy()));
+        writer.write(CSV_LINE_END);
+    }
+
+    /**
+     * Writes a field, quoted per RFC 4180 only when it contains a separator, quote or line break.
+     */
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeJson(AttendanceReportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("attendanceId", row.attendanceId());
+        json.writeStringField("sessionDate", row.sessionDate().toString());
+        json.writeNumberField("associationId", row.associationId());
+        json.writeNumberField("activityId", row.activityId());
+        json.writeStringField("activityName", row.activityName());
+        json.writeNumberField("sessionId", row.sessionId());
+        json.writeStringField("startTime", row.startTime() != null ? row.startTime().toString() : null);
+        json.writeNumberField("familyMemberId", row.familyMemberId());
+        json.writeStringField("memberFirstName", row.memberFirstName());
+        json.writeStringField("memberLastName", row.memberLastName());
+        json.writeStringField("status", row.status());
+        json.writeStringField("note", row.note());
+        json.writeNumberField("markedBy", row.markedBy());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private JsonGenerator createGenerator(JsonFactory jsonFactory) {
+        try {
+            JsonGenerator generator = jsonFactory.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Objects are separated by the newline written after each one, not by a space
+            generator.setRootValueSeparator(null);
+            return generator;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String value) {
+        try {
+            writer.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
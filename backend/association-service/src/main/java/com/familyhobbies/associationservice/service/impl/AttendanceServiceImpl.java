@@ -1,9 +1,15 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
 import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
 import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
 import com.familyhobbies.associationservice.dto.response.AttendanceSummaryResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncOutcome;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
 import com.familyhobbies.associationservice.entity.Attendance;
 import com.familyhobbies.associationservice.entity.Session;
 import com.familyhobbies.associationservice.entity.Subscription;
@@ -11,8 +17,16 @@ import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
 import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
 import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
 import com.familyhobbies.associationservice.mapper.AttendanceMapper;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapMark;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRepository;
+import com.familyhobbies.associationservice.repository.AttendanceCounterDelta;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import com.familyhobbies.associationservice.repository.AttendanceHistoryRow;
 import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.AttendanceStatusCount;
+import com.familyhobbies.associationservice.repository.AttendanceSyncRow;
 import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SessionRosterRow;
 import com.familyhobbies.associationservice.repository.SubscriptionRepository;
 import com.familyhobbies.associationservice.service.AttendanceService;
 import com.familyhobbies.errorhandling.exception.web.BadRequestException;
@@ -20,33 +34,64 @@ import com.familyhobbies.errorhandling.exception.web.ConflictException;
 import com.familyhobbies.errorhandling.exception.web.ForbiddenException;
 import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link AttendanceService}.
  * Handles attendance marking with business rules enforcement.
+ * Every attendance write also updates the member's counters in
+ * {@code t_attendance_counter} and its season bitsets in {@code t_attendance_bitmap},
+ * in the same transaction.
+ * History is read through DTO projections, one statement per slice.
+ * Offline marks are synced with last-writer-wins on the device modification time.
  */
 @Service
 @Transactional(readOnly = true)
 public class AttendanceServiceImpl implements AttendanceService {
 
+    /** Maximum number of records returned by the non-paginated history lists. */
+    static final int HISTORY_LIST_LIMIT = 200;
+
+    private static final int DEFAULT_HISTORY_SIZE = 20;
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    /** How far ahead of the server clock a device modification time may be. */
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceCounterRepository attendanceCounterRepository;
+    private final AttendanceBitmapRepository attendanceBitmapRepository;
     private final SessionRepository sessionRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final AttendanceMapper attendanceMapper;
     private final AttendanceEventPublisher eventPublisher;
 
     public AttendanceServiceImpl(AttendanceRepository attendanceRepository,
+                                  AttendanceCounterRepository attendanceCounterRepository,
+                                  AttendanceBitmapRepository attendanceBitmapRepository,
                                   SessionRepository sessionRepository,
                                   SubscriptionRepository subscriptionRepository,
                                   AttendanceMapper attendanceMapper,
                                   AttendanceEventPublisher eventPublisher) {
         this.attendanceRepository = attendanceRepository;
+        this.attendanceCounterRepository = attendanceCounterRepository;
+        this.attendanceBitmapRepository = attendanceBitmapRepository;
         this.sessionRepository = sessionRepository;
         this.subscriptionRepository = subscriptionRepository;
         this.attendanceMapper = attendanceMapper;
@@ -62,17 +107,27 @@ public class AttendanceServiceImpl implements AttendanceService {
         validateSessionIsActive(session);
         validateSubscriptionIsActive(subscription);
         validateSubscriptionOwnership(subscription, userId);
+        validateMemberMatchesSubscription(subscription, request.familyMemberId());
         validateSessionDateNotFuture(request.sessionDate());
 
         Attendance attendance = attendanceMapper.toEntity(request, session, subscription, userId);
 
         Attendance saved = saveAttendanceHandlingDuplicates(attendance);
+        attendanceCounterRepository.applyDeltas(List.of(counterDelta(saved, saved.getStatus(), 1)));
+        attendanceBitmapRepository.applyMarks(List.of(bitmapMark(saved)));
 
         eventPublisher.publishAttendanceMarked(saved);
 
         return attendanceMapper.toResponse(saved);
     }
 
+    /**
+     * Set-based variant of {@link #markAttendance}: five round trips whatever the number of
+     * marks -- the session, every subscription through one {@code findAllById}, one JDBC
+     * insert batch, one counter batch and one bitmap batch -- then one batched Kafka send.
+     * A mark that already exists rejects the whole request with a conflict, as in the
+     * single-mark path.
+     */
     @Override
     @Transactional
     public List<AttendanceResponse> markBulkAttendance(BulkAttendanceRequest request, Long userId) {
@@ -80,30 +135,122 @@ public class AttendanceServiceImpl implements AttendanceService {
         validateSessionIsActive(session);
         validateSessionDateNotFuture(request.sessionDate());
 
-        List<AttendanceResponse> results = new ArrayList<>();
+        Map<Long, Subscription> subscriptions = findSubscriptionsOrThrow(request.marks());
 
-        for (BulkAttendanceRequest.AttendanceMark mark : request.marks()) {
-            Subscription subscription = findSubscriptionOrThrow(mark.subscriptionId());
-            validateSubscriptionIsActive(subscription);
+        List<Attendance> attendances = request.marks().stream()
+            .map(mark -> attendanceMapper.toEntity(
+                request, mark, session, subscriptions.get(mark.subscriptionId()), userId))
+            .toList();
 
-            Attendance attendance = Attendance.builder()
-                .session(session)
-                .familyMemberId(mark.familyMemberId())
-                .subscription(subscription)
-                .sessionDate(request.sessionDate())
-                .status(mark.status())
-                .note(mark.note())
-                .markedBy(userId)
-                .build();
+        List<Attendance> duplicates = attendanceRepository.insertAllSkippingDuplicates(attendances);
+        if (!duplicates.isEmpty()) {
+            throw duplicateAttendance(duplicates.get(0));
+        }
+        attendanceCounterRepository.applyDeltas(counterIncrements(attendances));
+        attendanceBitmapRepository.applyMarks(attendances.stream().map(this::bitmapMark).toList());
 
-            Attendance saved = saveAttendanceHandlingDuplicates(attendance);
+        eventPublisher.publishAttendancesMarked(attendances);
 
-            eventPublisher.publishAttendanceMarked(saved);
+        return attendances.stream().map(attendanceMapper::toResponse).toList();
+    }
 
-            results.add(attendanceMapper.toResponse(saved));
+    /**
+     * Each mark is validated on its own, including ownership of its subscription and the
+     * member it names; an invalid one is reported as REJECTED and the others
+     * are still written. {@code modifiedAt} is first truncated to microseconds, the precision
+     * of {@code timestamptz}, so that a replay compares equal to the stored record and two
+     * marks of one request are ordered as they will be stored. Marks sharing a session,
+     * member and date are reduced to the latest one, the others being STALE. Round trips: sessions and subscriptions through one
+     * {@code findAllById} each, one upsert statement, then one counter batch, one bitmap batch
+     * and one Kafka send for the marks that were applied -- none on a replay.
+     */
+    @Override
+    @Transactional
+    public List<AttendanceSyncResultResponse> syncAttendance(AttendanceSyncRequest request, Long userId) {
+        List<AttendanceSyncRequest.SyncMark> marks = request.marks().stream()
+            .map(AttendanceServiceImpl::withStoredPrecision)
+            .toList();
+        Map<Long, Session> sessions = sessionRepository.findAllById(
+                marks.stream().map(AttendanceSyncRequest.SyncMark::sessionId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Session::getId, Function.identity()));
+        Map<Long, Subscription> subscriptions = subscriptionRepository.findAllById(
+                marks.stream().map(AttendanceSyncRequest.SyncMark::subscriptionId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Subscription::getId, Function.identity()));
+        Instant latestModification = Instant.now().plus(MAX_CLOCK_SKEW);
+
+        AttendanceSyncResultResponse[] results = new AttendanceSyncResultResponse[marks.size()];
+        Map<List<Object>, Integer> latestByKey = new LinkedHashMap<>();
+        for (int i = 0; i < marks.size(); i++) {
+            AttendanceSyncRequest.SyncMark mark = marks.get(i);
+            try {
+                validateSyncMark(mark, sessions, subscriptions, latestModification, userId);
+            } catch (BadRequestException | ForbiddenException | ResourceNotFoundException e) {
+                results[i] = new AttendanceSyncResultResponse(
+                    mark.clientMarkId(), AttendanceSyncOutcome.REJECTED, null, e.getMessage());
+                continue;
+            }
+            latestByKey.merge(List.of(mark.sessionId(), mark.familyMemberId(), mark.sessionDate()), i,
+                (current, candidate) -> marks.get(candidate).modifiedAt().isBefore(marks.get(current).modifiedAt())
+                    ? current : candidate);
         }
 
-        return results;
+        List<Integer> indexes = List.copyOf(latestByKey.values());
+        List<Attendance> attendances = indexes.stream()
+            .map(marks::get)
+            .map(mark -> attendanceMapper.toSyncEntity(mark, sessions.get(mark.sessionId()),
+                subscriptions.get(mark.subscriptionId()), userId))
+            .toList();
+        List<AttendanceSyncRow> rows = attendanceRepository.upsertLatest(attendances);
+
+        List<Attendance> created = new ArrayList<>();
+        List<AttendanceCounterDelta> deltas = new ArrayList<>();
+        List<AttendanceBitmapMark> bitmapMarks = new ArrayList<>();
+        for (int j = 0; j < indexes.size(); j++) {
+            Attendance attendance = attendances.get(j);
+            AttendanceSyncRow row = rows.get(j);
+            attendance.setId(row.id());
+
+            AttendanceSyncOutcome outcome;
+            if (!row.applied()) {
+                boolean replay = Objects.equals(attendance.getClientMarkId(), row.previousClientMarkId())
+                    && Objects.equals(attendance.getModifiedAt(), row.previousModifiedAt());
+                outcome = replay ? AttendanceSyncOutcome.UNCHANGED : AttendanceSyncOutcome.STALE;
+            } else if (row.previousStatus() == null) {
+                outcome = AttendanceSyncOutcome.CREATED;
+                created.add(attendance);
+                deltas.add(counterDelta(attendance, attendance.getStatus(), 1));
+                bitmapMarks.add(bitmapMark(attendance));
+            } else {
+                outcome = AttendanceSyncOutcome.UPDATED;
+                if (row.previousStatus() != attendance.getStatus()) {
+                    deltas.add(counterDelta(attendance, row.previousStatus(), -1));
+                    deltas.add(counterDelta(attendance, attendance.getStatus(), 1));
+                    bitmapMarks.add(bitmapMark(attendance));
+                }
+            }
+            results[indexes.get(j)] = new AttendanceSyncResultResponse(
+                attendance.getClientMarkId(), outcome, row.id(), null);
+        }
+
+        // Marks superseded by a later mark of the same request point to the record it wrote
+        for (int i = 0; i < marks.size(); i++) {
+            if (results[i] == null) {
+                AttendanceSyncRequest.SyncMark mark = marks.get(i);
+                int latest = latestByKey.get(List.of(mark.sessionId(), mark.familyMemberId(), mark.sessionDate()));
+                results[i] = new AttendanceSyncResultResponse(
+                    mark.clientMarkId(), AttendanceSyncOutcome.STALE, results[latest].attendanceId(), null);
+            }
+        }
+
+        attendanceCounterRepository.applyDeltas(deltas);
+        attendanceBitmapRepository.applyMarks(bitmapMarks);
+        if (!created.isEmpty()) {
+            eventPublisher.publishAttendancesMarked(created);
+        }
+
+        return List.of(results);
     }
 
     @Override
@@ -113,35 +260,77 @@ public class AttendanceServiceImpl implements AttendanceService {
         return records.stream().map(attendanceMapper::toResponse).toList();
     }
 
+    /**
+     * One statement for an existing session; the session is only looked up on its own
+     * to tell an empty roster from an unknown session.
+     */
     @Override
-    public List<AttendanceResponse> findByMemberId(Long memberId, Long userId) {
-        List<Attendance> records = attendanceRepository.findByFamilyMemberId(memberId);
-        validateMemberOwnership(records, userId);
-        return records.stream().map(attendanceMapper::toResponse).toList();
+    public SessionRosterResponse getSessionRoster(Long sessionId, LocalDate date) {
+        List<SessionRosterRow> rows =
+            attendanceRepository.findSessionRoster(sessionId, date, SubscriptionStatus.ACTIVE);
+        if (rows.isEmpty()) {
+            findSessionOrThrow(sessionId);
+        }
+        return new SessionRosterResponse(sessionId, date,
+            rows.stream().map(attendanceMapper::toRosterMember).toList());
     }
 
+    @Override
+    public HistoryList findByMemberId(Long memberId, Long userId) {
+        // One extra row tells whether older records were left out
+        List<AttendanceHistoryRow> rows =
+            attendanceRepository.findLatestMemberHistory(memberId, PageRequest.of(0, HISTORY_LIST_LIMIT + 1));
+        validateMemberOwnership(rows, userId);
+        return toHistoryList(rows);
+    }
+
+    @Override
+    public CursorPageResponse<AttendanceResponse> scrollMemberHistory(Long memberId, String cursor, Integer size,
+                                                                      Long userId) {
+        int sliceSize = historySize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another slice exists, without a count query
+        PageRequest limit = PageRequest.of(0, sliceSize + 1);
+        List<AttendanceHistoryRow> rows = position == null
+            ? attendanceRepository.findMemberHistory(memberId, limit)
+            : attendanceRepository.findMemberHistoryAfter(
+                memberId, cursorDate(position, cursor), position.id(), limit);
+        validateMemberOwnership(rows, userId);
+
+        return toHistorySlice(rows, sliceSize);
+    }
+
+    /**
+     * Served from the member's counters: one indexed lookup whatever the size of the history.
+     * Members without counters (attendance written before they existed, until
+     * {@code attendanceCounterRebuildJob} runs) fall back to one {@code GROUP BY status}.
+     */
     @Override
     public AttendanceSummaryResponse getMemberSummary(Long memberId, Long userId) {
-        List<Attendance> records = attendanceRepository.findByFamilyMemberId(memberId);
-        validateMemberOwnership(records, userId);
+        List<AttendanceStatusCount> counts = attendanceCounterRepository.findStatusCounts(memberId);
+        if (counts.isEmpty()) {
+            counts = attendanceRepository.countByStatus(memberId);
+        }
+        validateSummaryOwnership(counts, userId);
 
-        // Extract member names from the first attendance record's subscription
+        // Member names come from the subscription the counts were recorded on
         String memberFirstName = null;
         String memberLastName = null;
-        if (!records.isEmpty() && records.get(0).getSubscription() != null) {
-            memberFirstName = records.get(0).getSubscription().getMemberFirstName();
-            memberLastName = records.get(0).getSubscription().getMemberLastName();
+        if (!counts.isEmpty()) {
+            memberFirstName = counts.get(0).getMemberFirstName();
+            memberLastName = counts.get(0).getMemberLastName();
         }
 
-        int total = (int) attendanceRepository.countByFamilyMemberId(memberId);
-        int presentCount = (int) attendanceRepository.countByFamilyMemberIdAndStatus(
-            memberId, AttendanceStatus.PRESENT);
-        int absentCount = (int) attendanceRepository.countByFamilyMemberIdAndStatus(
-            memberId, AttendanceStatus.ABSENT);
-        int excusedCount = (int) attendanceRepository.countByFamilyMemberIdAndStatus(
-            memberId, AttendanceStatus.EXCUSED);
-        int lateCount = (int) attendanceRepository.countByFamilyMemberIdAndStatus(
-            memberId, AttendanceStatus.LATE);
+        Map<AttendanceStatus, Integer> countByStatus = new EnumMap<>(AttendanceStatus.class);
+        counts.forEach(count ->
+            countByStatus.merge(count.getStatus(), (int) count.getAttendanceCount(), Integer::sum));
+
+        int total = countByStatus.values().stream().mapToInt(Integer::intValue).sum();
+        int presentCount = countByStatus.getOrDefault(AttendanceStatus.PRESENT, 0);
+        int absentCount = countByStatus.getOrDefault(AttendanceStatus.ABSENT, 0);
+        int excusedCount = countByStatus.getOrDefault(AttendanceStatus.EXCUSED, 0);
+        int lateCount = countByStatus.getOrDefault(AttendanceStatus.LATE, 0);
 
         double attendanceRate = total > 0 ? (double) presentCount / total * 100.0 : 0.0;
 
@@ -159,11 +348,29 @@ public class AttendanceServiceImpl implements AttendanceService {
     }
 
     @Override
-    public List<AttendanceResponse> findBySubscriptionId(Long subscriptionId, Long userId) {
+    public HistoryList findBySubscriptionId(Long subscriptionId, Long userId) {
         Subscription subscription = findSubscriptionOrThrow(subscriptionId);
         validateSubscriptionOwnership(subscription, userId);
-        List<Attendance> records = attendanceRepository.findBySubscription_Id(subscriptionId);
-        return records.stream().map(attendanceMapper::toResponse).toList();
+        List<AttendanceHistoryRow> rows = attendanceRepository.findLatestSubscriptionHistory(
+            subscriptionId, PageRequest.of(0, HISTORY_LIST_LIMIT + 1));
+        return toHistoryList(rows);
+    }
+
+    @Override
+    public CursorPageResponse<AttendanceResponse> scrollSubscriptionHistory(Long subscriptionId, String cursor,
+                                                                            Integer size, Long userId) {
+        Subscription subscription = findSubscriptionOrThrow(subscriptionId);
+        validateSubscriptionOwnership(subscription, userId);
+        int sliceSize = historySize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        PageRequest limit = PageRequest.of(0, sliceSize + 1);
+        List<AttendanceHistoryRow> rows = position == null
+            ? attendanceRepository.findSubscriptionHistory(subscriptionId, limit)
+            : attendanceRepository.findSubscriptionHistoryAfter(
+                subscriptionId, cursorDate(position, cursor), position.id(), limit);
+
+        return toHistorySlice(rows, sliceSize);
     }
 
     @Override
@@ -174,10 +381,20 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         validateSubscriptionOwnership(attendance.getSubscription(), userId);
 
+        AttendanceStatus previousStatus = attendance.getStatus();
         attendance.setStatus(request.status());
         attendance.setNote(request.note());
+        // Written online: updatedAt becomes the last-writer-wins timestamp for later syncs
+        attendance.setClientMarkId(null);
+        attendance.setModifiedAt(null);
 
         Attendance saved = attendanceRepository.save(attendance);
+        if (previousStatus != saved.getStatus()) {
+            attendanceCounterRepository.applyDeltas(List.of(
+                counterDelta(saved, previousStatus, -1),
+                counterDelta(saved, saved.getStatus(), 1)));
+            attendanceBitmapRepository.applyMarks(List.of(bitmapMark(saved)));
+        }
         return attendanceMapper.toResponse(saved);
     }
 
@@ -191,6 +408,72 @@ public class AttendanceServiceImpl implements AttendanceService {
             .orElseThrow(() -> ResourceNotFoundException.of("Subscription", subscriptionId));
     }
 
+    /**
+     * Loads the subscriptions of all marks in one query and checks that each exists,
+     * is active and was taken for the member the mark names, reporting the first
+     * offending mark in request order.
+     */
+    private Map<Long, Subscription> findSubscriptionsOrThrow(List<BulkAttendanceRequest.AttendanceMark> marks) {
+        Map<Long, Subscription> subscriptions = subscriptionRepository.findAllById(
+                marks.stream().map(BulkAttendanceRequest.AttendanceMark::subscriptionId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Subscription::getId, Function.identity()));
+
+        for (BulkAttendanceRequest.AttendanceMark mark : marks) {
+            Subscription subscription = subscriptions.get(mark.subscriptionId());
+            if (subscription == null) {
+                throw ResourceNotFoundException.of("Subscription", mark.subscriptionId());
+            }
+            validateSubscriptionIsActive(subscription);
+            validateMemberMatchesSubscription(subscription, mark.familyMemberId());
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Same rules as the online paths, plus a bound on the device clock: a modification
+     * time far in the future would win every later sync.
+     */
+    private void validateSyncMark(AttendanceSyncRequest.SyncMark mark, Map<Long, Session> sessions,
+                                  Map<Long, Subscription> subscriptions, Instant latestModification,
+                                  Long userId) {
+        Session session = sessions.get(mark.sessionId());
+        if (session == null) {
+            throw ResourceNotFoundException.of("Session", mark.sessionId());
+        }
+        Subscription subscription = subscriptions.get(mark.subscriptionId());
+        if (subscription == null) {
+            throw ResourceNotFoundException.of("Subscription", mark.subscriptionId());
+        }
+        validateSubscriptionOwnership(subscription, userId);
+        validateMemberMatchesSubscription(subscription, mark.familyMemberId());
+        validateSessionIsActive(session);
+        validateSubscriptionIsActive(subscription);
+        validateSessionDateNotFuture(mark.sessionDate());
+        if (mark.modifiedAt().isAfter(latestModification)) {
+            throw new BadRequestException(
+                "Cannot sync a mark modified in the future: " + mark.modifiedAt());
+        }
+    }
+
+    private static AttendanceSyncRequest.SyncMark withStoredPrecision(AttendanceSyncRequest.SyncMark mark) {
+        return new AttendanceSyncRequest.SyncMark(mark.clientMarkId(), mark.sessionId(), mark.familyMemberId(),
+            mark.subscriptionId(), mark.sessionDate(), mark.status(), mark.note(),
+            mark.modifiedAt().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    /**
+     * The member a mark names must be the one the subscription was taken for: it keys the
+     * attendance row, the member counters and the bitmaps, so a foreign member would be
+     * counted under another family's subscription.
+     */
+    private void validateMemberMatchesSubscription(Subscription subscription, Long familyMemberId) {
+        if (!subscription.getFamilyMemberId().equals(familyMemberId)) {
+            throw new BadRequestException("Member " + familyMemberId
+                + " does not match subscription " + subscription.getId());
+        }
+    }
+
     private void validateSessionIsActive(Session session) {
         if (!session.isActive()) {
             throw new BadRequestException(
@@ -220,25 +503,94 @@ public class AttendanceServiceImpl implements AttendanceService {
         }
     }
 
-    private void validateMemberOwnership(List<Attendance> records, Long userId) {
-        if (!records.isEmpty()) {
-            Subscription subscription = records.get(0).getSubscription();
-            if (!subscription.getUserId().equals(userId)) {
-                throw new ForbiddenException(
-                    "You do not have permission to view attendance for this member");
-            }
+    private void validateMemberOwnership(List<AttendanceHistoryRow> rows, Long userId) {
+        if (rows.stream().anyMatch(row -> !userId.equals(row.userId()))) {
+            throw new ForbiddenException(
+                "You do not have permission to view attendance for this member");
+        }
+    }
+
+    private void validateSummaryOwnership(List<AttendanceStatusCount> counts, Long userId) {
+        if (counts.stream().anyMatch(count -> !userId.equals(count.getUserId()))) {
+            throw new ForbiddenException(
+                "You do not have permission to view attendance for this member");
         }
     }
 
+    private int historySize(Integer size) {
+        if (size == null) {
+            return DEFAULT_HISTORY_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+    }
+
+    /**
+     * History cursors carry the ISO session date of the last row as sort key.
+     */
+    private LocalDate cursorDate(KeysetCursor position, String cursor) {
+        try {
+            return LocalDate.parse(position.sortKey());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private CursorPageResponse<AttendanceResponse> toHistorySlice(List<AttendanceHistoryRow> rows, int size) {
+        return CursorPageResponse.fromRows(rows, size,
+            row -> new KeysetCursor(row.sessionDate().toString(), row.id()),
+            attendanceMapper::toHistoryResponse);
+    }
+
+    private HistoryList toHistoryList(List<AttendanceHistoryRow> rows) {
+        boolean truncated = rows.size() > HISTORY_LIST_LIMIT;
+        List<AttendanceHistoryRow> list = truncated ? rows.subList(0, HISTORY_LIST_LIMIT) : rows;
+        return new HistoryList(list.stream().map(attendanceMapper::toHistoryResponse).toList(), truncated);
+    }
+
+    private AttendanceCounterDelta counterDelta(Attendance attendance, AttendanceStatus status, int delta) {
+        return new AttendanceCounterDelta(
+            attendance.getFamilyMemberId(), status, attendance.getSubscription().getId(), delta);
+    }
+
+    private AttendanceBitmapMark bitmapMark(Attendance attendance) {
+        LocalDate seasonStart = AttendanceBitset.seasonStart(attendance.getSessionDate());
+        return new AttendanceBitmapMark(
+            attendance.getSubscription().getId(),
+            attendance.getSession().getId(),
+            seasonStart,
+            AttendanceBitset.occurrence(seasonStart, attendance.getSessionDate()),
+            attendance.getStatus());
+    }
+
+    /**
+     * One increment per (member, status) pair of the inserted records.
+     */
+    private List<AttendanceCounterDelta> counterIncrements(List<Attendance> attendances) {
+        Map<List<Object>, AttendanceCounterDelta> increments = new LinkedHashMap<>();
+        for (Attendance attendance : attendances) {
+            increments.merge(
+                List.of(attendance.getFamilyMemberId(), attendance.getStatus()),
+                counterDelta(attendance, attendance.getStatus(), 1),
+                (current, added) -> new AttendanceCounterDelta(
+                    current.familyMemberId(), current.status(), added.subscriptionId(),
+                    current.delta() + added.delta()));
+        }
+        return List.copyOf(increments.values());
+    }
+
     private Attendance saveAttendanceHandlingDuplicates(Attendance attendance) {
         try {
             return attendanceRepository.save(attendance);
         } catch (DataIntegrityViolationException e) {
-            throw new ConflictException(
-                "Attendance record already exists for member "
-                + attendance.getFamilyMemberId()
-                + " on session " + attendance.getSession().getId()
-                + " for date " + attendance.getSessionDate());
+            throw duplicateAttendance(attendance);
         }
     }
+
+    private ConflictException duplicateAttendance(Attendance attendance) {
+        return new ConflictException(
+            "Attendance record already exists for member "
+            + attendance.getFamilyMemberId()
+            + " on session " + attendance.getSession().getId()
+            + " for date " + attendance.getSessionDate());
+    }
 }
@@ -0,0 +1,100 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.mapper.AssociationMapper;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AssociationSyncKey;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link HelloAssoUpsertService}.
+ * <p>
+ * Reads the {@code (helloasso_slug, content_hash)} pairs of a page with a single {@code IN}
+ * query and compares them with {@link AssociationMapper#contentHash}: unchanged organizations
+ * are never loaded nor mapped. Only new and changed rows are handed to
+ * {@link AssociationRepository#upsertHelloAssoPage}, which writes them in one JDBC batch and
+ * re-checks the hash itself, so a concurrent sync of the same page is harmless.
+ */
+@Service
+public class HelloAssoUpsertServiceImpl implements HelloAssoUpsertService {
+
+    private static final Logger log = LoggerFactory.getLogger(HelloAssoUpsertServiceImpl.class);
+
+    private final AssociationRepository associationRepository;
+    private final AssociationMapper associationMapper;
+
+    public HelloAssoUpsertServiceImpl(AssociationRepository associationRepository,
+                                      AssociationMapper associationMapper) {
+        this.associationRepository = associationRepository;
+        this.associationMapper = associationMapper;
+    }
+
+    @Override
+    @Transactional
+    public PageResult upsertPage(List<HelloAssoOrganization> organizations) {
+        Map<String, HelloAssoOrganization> bySlug = new LinkedHashMap<>();
+        for (HelloAssoOrganization org : organizations) {
+            if (org.slug() == null || org.slug().isBlank()) {
+                log.warn("Skipping organization with null/empty slug: {}", org.name());
+                continue;
+            }
+            bySlug.put(org.slug(), org);
+        }
+        if (bySlug.isEmpty()) {
+            return new PageResult(0, 0, organizations.size(), List.of());
+        }
+
+        Map<String, String> knownHashes = new HashMap<>();
+        associationRepository.findContentHashes(bySlug.keySet())
+            .forEach(known -> knownHashes.put(known.helloassoSlug(), known.contentHash()));
+
+        int created = 0;
+        List<Association> written = new ArrayList<>();
+        for (HelloAssoOrganization org : bySlug.values()) {
+            if (!knownHashes.containsKey(org.slug())) {
+                created++;
+                written.add(associationMapper.fromHelloAsso(org));
+            } else if (!associationMapper.contentHash(org).equals(knownHashes.get(org.slug()))) {
+                written.add(associationMapper.fromHelloAsso(org));
+            }
+        }
+
+        associationRepository.upsertHelloAssoPage(written);
+        resolveKeys(written);
+
+        return new PageResult(created, written.size() - created,
+            organizations.size() - written.size(), written);
+    }
+
+    /**
+     * The batched upsert does not return generated keys, and keeps the status of existing
+     * rows: both are read back in one query for the rows written.
+     */
+    private void resolveKeys(List<Association> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        Map<String, AssociationSyncKey> keys = associationRepository.findSyncKeys(
+                written.stream().map(Association::getHelloassoSlug).toList())
+            .stream()
+            .collect(Collectors.toMap(AssociationSyncKey::helloassoSlug, Function.identity()));
+        for (Association row : written) {
+            AssociationSyncKey key = keys.get(row.getHelloassoSlug());
+            row.setId(key.id());
+            row.setStatus(key.status());
+        }
+    }
+}
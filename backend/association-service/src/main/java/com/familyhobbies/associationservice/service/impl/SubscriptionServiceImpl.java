@@ -1,5 +1,6 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
 import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
 import com.familyhobbies.associationservice.dto.response.SubscriptionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
@@ -15,11 +16,18 @@ import com.familyhobbies.errorhandling.exception.web.BadRequestException;
 import com.familyhobbies.errorhandling.exception.web.ConflictException;
 import com.familyhobbies.errorhandling.exception.web.ForbiddenException;
 import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link SubscriptionService}.
@@ -29,6 +37,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class SubscriptionServiceImpl implements SubscriptionService {
 
+    /** Subscription statuses that occupy a seat in {@code Activity.seatsTaken}. */
+    private static final List<SubscriptionStatus> HOLDS_SEAT =
+        List.of(SubscriptionStatus.PENDING, SubscriptionStatus.ACTIVE);
+
     private final SubscriptionRepository subscriptionRepository;
     private final ActivityRepository activityRepository;
     private final SubscriptionMapper subscriptionMapper;
@@ -51,16 +63,59 @@ public class SubscriptionServiceImpl implements SubscriptionService {
             .orElseThrow(() -> ResourceNotFoundException.of("Activity", request.activityId()));
 
         validateActivityIsActive(activity);
-        validateNoDuplicateSubscription(request.activityId(), request.familyMemberId());
+        reserveSeats(activity, 1);
 
         Subscription subscription = subscriptionMapper.toEntity(request, activity, userId);
-        Subscription saved = subscriptionRepository.save(subscription);
+        Subscription saved = saveSubscriptionHandlingDuplicates(subscription);
 
         eventPublisher.publishSubscriptionCreated(saved);
 
         return subscriptionMapper.toResponse(saved);
     }
 
+    /**
+     * Set-based variant of {@link #createSubscription}: one query loads every activity with its
+     * association, one conditional UPDATE per activity takes all its seats (in id order, so
+     * concurrent bulk requests lock rows in the same order), and every row is inserted in a
+     * single JDBC batch. Any missing activity, full activity or existing subscription rejects
+     * the whole request.
+     */
+    @Override
+    @Transactional
+    public List<SubscriptionResponse> createBulkSubscriptions(BulkSubscriptionRequest request, Long userId) {
+        List<Long> activityIds = request.activityIds().stream().distinct().sorted().toList();
+        validateDistinctMembers(request.members());
+
+        Map<Long, Activity> activities = activityRepository.findWithAssociationByIdIn(activityIds).stream()
+            .collect(Collectors.toMap(Activity::getId, Function.identity()));
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (Long activityId : activityIds) {
+            Activity activity = activities.get(activityId);
+            if (activity == null) {
+                throw ResourceNotFoundException.of("Activity", activityId);
+            }
+            validateActivityIsActive(activity);
+            reserveSeats(activity, request.members().size());
+
+            for (BulkSubscriptionRequest.Member member : request.members()) {
+                subscriptions.add(subscriptionMapper.toEntity(request, member, activity, userId));
+            }
+        }
+
+        try {
+            subscriptionRepository.insertAll(subscriptions);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(
+                "A family member already has an active or pending subscription for one of activities "
+                + activityIds);
+        }
+
+        eventPublisher.publishSubscriptionsCreated(subscriptions);
+
+        return subscriptions.stream().map(subscriptionMapper::toResponse).toList();
+    }
+
     @Override
     public List<SubscriptionResponse> findByFamilyId(Long familyId, Long userId) {
         List<Subscription> subscriptions = subscriptionRepository.findByFamilyId(familyId);
@@ -90,6 +145,9 @@ public class SubscriptionServiceImpl implements SubscriptionService {
             .orElseThrow(() -> ResourceNotFoundException.of("Subscription", subscriptionId));
         validateSingleOwnership(subscription, userId);
 
+        if (HOLDS_SEAT.contains(subscription.getStatus())) {
+            activityRepository.releaseSeats(subscription.getActivity().getId(), 1);
+        }
         subscription.setStatus(SubscriptionStatus.CANCELLED);
         subscription.setCancellationReason(reason);
         subscription.setCancelledAt(Instant.now());
@@ -124,14 +182,43 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         }
     }
 
-    private void validateNoDuplicateSubscription(Long activityId, Long familyMemberId) {
-        List<SubscriptionStatus> activeStatuses = List.of(SubscriptionStatus.PENDING, SubscriptionStatus.ACTIVE);
-        List<Subscription> existing = subscriptionRepository
-            .findByActivity_IdAndFamilyMemberIdAndStatusIn(activityId, familyMemberId, activeStatuses);
+    private void validateDistinctMembers(List<BulkSubscriptionRequest.Member> members) {
+        Set<Long> seen = new HashSet<>();
+        for (BulkSubscriptionRequest.Member member : members) {
+            if (!seen.add(member.familyMemberId())) {
+                throw new BadRequestException(
+                    "Family member " + member.familyMemberId() + " is listed more than once");
+            }
+        }
+    }
+
+    /**
+     * Inserts the subscription and relies on the partial unique index
+     * {@code uq_subscription_member_activity} (family_member_id, activity_id WHERE status IN
+     * ('PENDING', 'ACTIVE')) to reject duplicates. Unlike a read-then-insert check, this cannot
+     * be raced by concurrent requests and costs no extra query. The violation rolls back the
+     * whole transaction, including the seat taken by {@link #reserveSeats(Activity, int)}.
+     */
+    private Subscription saveSubscriptionHandlingDuplicates(Subscription subscription) {
+        try {
+            return subscriptionRepository.save(subscription);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(
+                "Family member " + subscription.getFamilyMemberId()
+                + " already has an active or pending subscription for activity "
+                + subscription.getActivity().getId());
+        }
+    }
 
-        if (!existing.isEmpty()) {
+    /**
+     * Takes seats with a single conditional UPDATE. Concurrent subscribers serialize on the
+     * activity row, so the capacity check and the increment cannot interleave; a full activity
+     * updates no row and the request fails before anything is inserted.
+     */
+    private void reserveSeats(Activity activity, int seats) {
+        if (activityRepository.reserveSeats(activity.getId(), seats) == 0) {
             throw new ConflictException(
-                "Family member " + familyMemberId + " already has an active or pending subscription for activity " + activityId);
+                "Activity " + activity.getId() + " is full (max capacity " + activity.getMaxCapacity() + ")");
         }
     }
 
@@ -0,0 +1,246 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Attendance;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the PostgreSQL branch of AttendanceSyncRepositoryImpl against a real server: the
+ * regular suite runs on H2, which only exercises the MERGE fallback.
+ *
+ * - First upsert inserts every mark; the same marks again are not applied and report the
+ *   stored client mark id and modified_at, equal to the microsecond-precision input
+ * - A newer mark overwrites the record and reports its previous state; an older one is
+ *   not applied
+ * - A record written online (modified_at null) is compared on updated_at
+ *
+ * The schema is built by the Liquibase changelog, so starting the context also checks
+ * every PostgreSQL-only changeset. Needs Docker:
+ * mvn -pl association-service -am -P postgresql test -Dtest=AttendanceSyncRepositoryPostgresqlTest
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class AttendanceSyncRepositoryPostgresqlTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDate SESSION_DATE = LocalDate.of(2025, 9, 3);
+    private static final Instant MODIFIED_AT = Instant.parse("2025-09-03T14:55:00.123456Z");
+
+    @DynamicPropertySource
+    static void postgresql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @MockBean
+    private AttendanceEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Session testSession;
+    private List<Subscription> subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole-postgresql")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Activity activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+        testSession = sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .active(true)
+            .build());
+        subscriptions = List.of(subscription(activity, 10L), subscription(activity, 11L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_insertOnceAndReportStoredMark_when_upsertingSameMarksTwice")
+    void should_insertOnceAndReportStoredMark_when_upsertingSameMarksTwice() {
+        // Given
+        List<Attendance> marks = subscriptions.stream()
+            .map(subscription -> mark(subscription, AttendanceStatus.PRESENT, MODIFIED_AT))
+            .toList();
+
+        // When
+        List<AttendanceSyncRow> first = attendanceRepository.upsertLatest(marks);
+        List<AttendanceSyncRow> replay = attendanceRepository.upsertLatest(marks);
+
+        // Then
+        assertThat(first).hasSize(2).allSatisfy(row -> {
+            assertThat(row.applied()).isTrue();
+            assertThat(row.id()).isNotNull();
+            assertThat(row.previousStatus()).isNull();
+        });
+        assertThat(replay).extracting(AttendanceSyncRow::applied).containsExactly(false, false);
+        assertThat(replay).extracting(AttendanceSyncRow::id)
+            .containsExactlyElementsOf(first.stream().map(AttendanceSyncRow::id).toList());
+        assertThat(replay).extracting(AttendanceSyncRow::previousClientMarkId)
+            .containsExactlyElementsOf(marks.stream().map(Attendance::getClientMarkId).toList());
+        assertThat(replay).extracting(AttendanceSyncRow::previousModifiedAt)
+            .containsOnly(MODIFIED_AT);
+        assertThat(attendanceRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should_overwriteOnlyOlderRecords_when_marksConflict")
+    void should_overwriteOnlyOlderRecords_when_marksConflict() {
+        // Given
+        Subscription subscription = subscriptions.get(0);
+        attendanceRepository.upsertLatest(List.of(mark(subscription, AttendanceStatus.PRESENT, MODIFIED_AT)));
+        Attendance newer = mark(subscription, AttendanceStatus.ABSENT, MODIFIED_AT.plusSeconds(60));
+        Attendance older = mark(subscription, AttendanceStatus.EXCUSED, MODIFIED_AT.minusSeconds(60));
+
+        // When
+        AttendanceSyncRow applied = attendanceRepository.upsertLatest(List.of(newer)).get(0);
+        AttendanceSyncRow skipped = attendanceRepository.upsertLatest(List.of(older)).get(0);
+
+        // Then
+        assertThat(applied.applied()).isTrue();
+        assertThat(applied.previousStatus()).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(applied.previousModifiedAt()).isEqualTo(MODIFIED_AT);
+        assertThat(skipped.applied()).isFalse();
+        assertThat(skipped.id()).isEqualTo(applied.id());
+        assertThat(skipped.previousStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(skipped.previousModifiedAt()).isEqualTo(newer.getModifiedAt());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM t_attendance WHERE id = ?", String.class, applied.id()))
+            .isEqualTo("ABSENT");
+    }
+
+    @Test
+    @DisplayName("should_compareOnUpdatedAt_when_recordWasMarkedOnline")
+    void should_compareOnUpdatedAt_when_recordWasMarkedOnline() {
+        // Given
+        Subscription subscription = subscriptions.get(0);
+        jdbcTemplate.update(
+            "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, status, "
+                + "marked_by, created_at, updated_at) VALUES (?, ?, ?, ?, 'PRESENT', 100, ?, ?)",
+            testSession.getId(), subscription.getFamilyMemberId(), subscription.getId(), SESSION_DATE,
+            Timestamp.from(MODIFIED_AT), Timestamp.from(MODIFIED_AT));
+
+        // When
+        AttendanceSyncRow older = attendanceRepository.upsertLatest(
+            List.of(mark(subscription, AttendanceStatus.ABSENT, MODIFIED_AT.minusSeconds(60)))).get(0);
+        AttendanceSyncRow newer = attendanceRepository.upsertLatest(
+            List.of(mark(subscription, AttendanceStatus.ABSENT, MODIFIED_AT.plusSeconds(60)))).get(0);
+
+        // Then
+        assertThat(older.applied()).isFalse();
+        assertThat(older.previousClientMarkId()).isNull();
+        assertThat(older.previousModifiedAt()).isEqualTo(MODIFIED_AT);
+        assertThat(newer.applied()).isTrue();
+        assertThat(newer.previousStatus()).isEqualTo(AttendanceStatus.PRESENT);
+    }
+
+    private Subscription subscription(Activity activity, Long familyMemberId) {
+        return subscriptionRepository.save(Subscription.builder()
+            .activity(activity)
+            .familyMemberId(familyMemberId)
+            .familyId(5L)
+            .userId(100L)
+            .memberFirstName("Lucas")
+            .memberLastName("Dupont")
+            .subscriptionType(SubscriptionType.ADHESION)
+            .status(SubscriptionStatus.ACTIVE)
+            .startDate(LocalDate.of(2025, 9, 1))
+            .build());
+    }
+
+    private Attendance mark(Subscription subscription, AttendanceStatus status, Instant modifiedAt) {
+        return Attendance.builder()
+            .session(testSession)
+            .familyMemberId(subscription.getFamilyMemberId())
+            .subscription(subscription)
+            .sessionDate(SESSION_DATE)
+            .status(status)
+            .markedBy(100L)
+            .clientMarkId(UUID.randomUUID())
+            .modifiedAt(modifiedAt)
+            .build();
+    }
+}
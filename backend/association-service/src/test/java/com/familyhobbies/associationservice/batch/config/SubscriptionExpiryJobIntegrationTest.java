@@ -0,0 +1,283 @@
+package com.familyhobbies.associationservice.batch.config;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.common.event.SubscriptionExpiredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for the set-based {@code subscriptionExpiryJob} against H2.
+ *
+ * - Only ACTIVE rows past their end date are expired, across several batches and
+ *   partitions, seats are released and one Kafka event is sent per expired row
+ * - A failed partition fails the job; restarting it re-runs only that partition
+ * - Throughput benchmark: expires {@code expiry.benchmark.rows} rows (default 100000,
+ *   run with -Dexpiry.benchmark.rows=1000000 for the full measurement) and logs rows/s;
+ *   compare grid sizes with -Dbatch.subscription-expiry.grid-size=N
+ *
+ * KafkaTemplate is mocked: without a broker every send blocks on metadata.
+ * ActivityRepository is spied to make one partition fail.
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SubscriptionExpiryJobIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionExpiryJobIntegrationTest.class);
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("expiry.benchmark.rows", 100_000);
+
+    private static final String MANAGER_STEP = "processExpiredSubscriptionsStep";
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    @Qualifier("jobLauncher")
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("subscriptionExpiryJob")
+    private Job subscriptionExpiryJob;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @SpyBean
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Association testAssociation;
+
+    private Activity testActivity;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        testAssociation = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+
+        testActivity = createActivity("Natation enfants");
+    }
+
+    @Test
+    @DisplayName("should_expireOnlyEndedActiveSubscriptions_when_jobRuns")
+    void should_expireOnlyEndedActiveSubscriptions_when_jobRuns() throws Exception {
+        // Given
+        insertSubscriptions(1, 2500, "ACTIVE", -1);
+        insertSubscriptions(2501, 2520, "ACTIVE", 30);
+        insertSubscriptions(2521, 2530, "PENDING", -1);
+        setSeatsTaken(2530);
+
+        // When
+        JobExecution execution = runJob();
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(countByStatus("EXPIRED")).isEqualTo(2500);
+        assertThat(countByStatus("ACTIVE")).isEqualTo(20);
+        assertThat(countByStatus("PENDING")).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM t_subscription WHERE status = 'EXPIRED' AND expired_at IS NULL", Long.class))
+            .isZero();
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken())
+            .isEqualTo(30);
+        assertThat(managerStep(execution).getWriteCount()).isEqualTo(2500L);
+        assertThat(workerSteps(execution)).hasSize(4);
+        verify(kafkaTemplate, times(2500)).send(anyString(), anyString(), any(SubscriptionExpiredEvent.class));
+    }
+
+    @Test
+    @DisplayName("should_rerunOnlyFailedPartition_when_jobRestarted")
+    void should_rerunOnlyFailedPartition_when_jobRestarted() throws Exception {
+        // Given -- 400 rows of testActivity then 200 of waterPolo: partitions 2 and 3 release
+        // waterPolo seats, which fails until the spy is reset
+        Activity waterPolo = createActivity("Water-polo");
+        insertSubscriptions(1, 200, "ACTIVE", -1);
+        insertSubscriptions(testActivity, 201, 400, "ACTIVE", -1);
+        insertSubscriptions(waterPolo, 1, 200, "ACTIVE", -1);
+        setSeatsTaken(testActivity, 400);
+        setSeatsTaken(waterPolo, 200);
+        doThrow(new IllegalStateException("Simulated failure"))
+            .when(activityRepository).releaseSeats(eq(waterPolo.getId()), anyInt());
+        JobParameters parameters = new JobParametersBuilder()
+            .addLong("run.id", System.nanoTime())
+            .toJobParameters();
+
+        // When
+        JobExecution failed = jobLauncher.run(subscriptionExpiryJob, parameters);
+        long expiredAfterFailure = countByStatus("EXPIRED");
+        reset(activityRepository);
+        JobExecution restarted = jobLauncher.run(subscriptionExpiryJob, parameters);
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(workerSteps(failed))
+            .filteredOn(step -> step.getStatus() == BatchStatus.FAILED)
+            .extracting(StepExecution::getStepName)
+            .containsExactlyInAnyOrder(
+                "expireSubscriptionsPartitionStep:partition2",
+                "expireSubscriptionsPartitionStep:partition3");
+        assertThat(expiredAfterFailure).isEqualTo(300);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+        assertThat(workerSteps(jobExplorer.getJobExecution(restarted.getId())))
+            .as("Completed partitions are not run again")
+            .extracting(StepExecution::getStepName)
+            .containsExactlyInAnyOrder(
+                "expireSubscriptionsPartitionStep:partition2",
+                "expireSubscriptionsPartitionStep:partition3");
+        assertThat(countByStatus("EXPIRED")).isEqualTo(600);
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken()).isZero();
+        assertThat(activityRepository.findById(waterPolo.getId()).orElseThrow().getSeatsTaken()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_reportThroughput_when_expiringManySubscriptions")
+    void should_reportThroughput_when_expiringManySubscriptions() throws Exception {
+        // Given
+        insertSubscriptions(1, BENCHMARK_ROWS, "ACTIVE", -1);
+        setSeatsTaken(BENCHMARK_ROWS);
+
+        // When
+        JobExecution execution = runJob();
+
+        // Then
+        Duration duration = Duration.between(execution.getStartTime(), execution.getEndTime());
+        log.info("Subscription expiry: {} rows in {} ms ({} rows/s) over {} partitions",
+            BENCHMARK_ROWS, duration.toMillis(), BENCHMARK_ROWS * 1000L / Math.max(1, duration.toMillis()),
+            workerSteps(execution).size());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(countByStatus("EXPIRED")).isEqualTo(BENCHMARK_ROWS);
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken()).isZero();
+    }
+
+    private JobExecution runJob() throws Exception {
+        return jobLauncher.run(subscriptionExpiryJob, new JobParametersBuilder()
+            .addLong("run.id", System.nanoTime())
+            .toJobParameters());
+    }
+
+    private StepExecution managerStep(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+            .filter(step -> step.getStepName().equals(MANAGER_STEP))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private List<StepExecution> workerSteps(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+            .filter(step -> !step.getStepName().equals(MANAGER_STEP))
+            .toList();
+    }
+
+    private void insertSubscriptions(int from, int to, String status, int endDateOffsetDays) {
+        insertSubscriptions(testActivity, from, to, status, endDateOffsetDays);
+    }
+
+    /**
+     * Inserts one subscription per family member id in [from, to], all ending
+     * {@code endDateOffsetDays} days from today, in a single statement.
+     */
+    private void insertSubscriptions(Activity activity, int from, int to, String status, int endDateOffsetDays) {
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, end_date, created_at, updated_at) "
+                + "SELECT ?, \"X\", \"X\", 100, 'ADHESION', ?, DATEADD('YEAR', -1, CURRENT_DATE), "
+                + "DATEADD('DAY', ?, CURRENT_DATE), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(?, ?)",
+            activity.getId(), status, endDateOffsetDays, from, to);
+    }
+
+    private void setSeatsTaken(int seats) {
+        setSeatsTaken(testActivity, seats);
+    }
+
+    private void setSeatsTaken(Activity activity, int seats) {
+        jdbcTemplate.update("UPDATE t_activity SET seats_taken = ? WHERE id = ?", seats, activity.getId());
+    }
+
+    private Activity createActivity(String name) {
+        return activityRepository.save(Activity.builder()
+            .association(testAssociation)
+            .name(name)
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+    }
+
+    private long countByStatus(String status) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM t_subscription WHERE status = ?", Long.class, status);
+    }
+}
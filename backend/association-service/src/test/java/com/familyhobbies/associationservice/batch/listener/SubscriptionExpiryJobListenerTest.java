@@ -1,10 +1,6 @@
 package com.familyhobbies.associationservice.batch.listener;
 
-import com.familyhobbies.associationservice.entity.Activity;
-import com.familyhobbies.associationservice.entity.Association;
-import com.familyhobbies.associationservice.entity.Subscription;
-import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
-import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.repository.ExpiredSubscription;
 import com.familyhobbies.common.event.SubscriptionExpiredEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +10,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 
 import java.time.Instant;
-import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +32,7 @@ import static org.mockito.Mockito.verify;
  *   <li>Kafka events published after chunk with correct topic and payload</li>
  *   <li>No events published when no subscriptions were registered</li>
  *   <li>Pending events cleared after chunk error</li>
+ *   <li>Each partition's pending events kept apart from the others</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +41,6 @@ class SubscriptionExpiryJobListenerTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
-    @Mock
     private ChunkContext chunkContext;
 
     private SubscriptionExpiryJobListener listener;
@@ -50,6 +48,7 @@ class SubscriptionExpiryJobListenerTest {
     @BeforeEach
     void setUp() {
         listener = new SubscriptionExpiryJobListener(kafkaTemplate);
+        chunkContext = chunkContext(1L);
     }
 
     @Test
@@ -57,19 +56,18 @@ class SubscriptionExpiryJobListenerTest {
             + "for each registered subscription after chunk")
     void shouldPublishKafkaEventsAfterChunk() {
         // Given
-        Subscription sub1 = createExpiredSubscription(1L);
-        Subscription sub2 = createExpiredSubscription(2L);
+        ExpiredSubscription sub1 = createExpiredSubscription(1L);
+        ExpiredSubscription sub2 = createExpiredSubscription(2L);
 
         listener.beforeChunk(chunkContext);
-        listener.registerExpiredSubscription(sub1);
-        listener.registerExpiredSubscription(sub2);
+        listener.registerExpiredSubscriptions(chunkContext, List.of(sub1, sub2));
 
         // When
         listener.afterChunk(chunkContext);
 
         // Then
         verify(kafkaTemplate, times(2)).send(
-                eq("subscription.expired"),
+                eq("family-hobbies.subscription.expired"),
                 any(String.class),
                 any(SubscriptionExpiredEvent.class));
 
@@ -77,14 +75,14 @@ class SubscriptionExpiryJobListenerTest {
         ArgumentCaptor<String> keyCaptor =
                 ArgumentCaptor.forClass(String.class);
         verify(kafkaTemplate, times(2)).send(
-                eq("subscription.expired"),
+                eq("family-hobbies.subscription.expired"),
                 keyCaptor.capture(),
                 any(SubscriptionExpiredEvent.class));
 
         assertThat(keyCaptor.getAllValues())
                 .containsExactly(
-                        sub1.getId().toString(),
-                        sub2.getId().toString());
+                        sub1.subscriptionId().toString(),
+                        sub2.subscriptionId().toString());
     }
 
     @Test
@@ -109,7 +107,7 @@ class SubscriptionExpiryJobListenerTest {
     void shouldClearEventsOnChunkError() {
         // Given
         listener.beforeChunk(chunkContext);
-        listener.registerExpiredSubscription(createExpiredSubscription(1L));
+        listener.registerExpiredSubscriptions(chunkContext, List.of(createExpiredSubscription(1L)));
 
         // When -- chunk fails
         listener.afterChunkError(chunkContext);
@@ -134,27 +132,12 @@ class SubscriptionExpiryJobListenerTest {
         Long associationId = 5L;
         Instant expiredAt = Instant.now();
 
-        Association association = new Association();
-        association.setId(associationId);
-
-        Activity activity = new Activity();
-        activity.setId(activityId);
-        activity.setAssociation(association);
-
-        Subscription subscription = new Subscription();
-        subscription.setId(subscriptionId);
-        subscription.setUserId(userId);
-        subscription.setFamilyMemberId(familyMemberId);
-        subscription.setFamilyId(familyId);
-        subscription.setActivity(activity);
-        subscription.setStatus(SubscriptionStatus.EXPIRED);
-        subscription.setExpiredAt(expiredAt);
-        subscription.setSubscriptionType(SubscriptionType.ADHESION);
-        subscription.setStartDate(LocalDate.now().minusYears(1));
-        subscription.setEndDate(LocalDate.now().minusDays(1));
+        ExpiredSubscription subscription = new ExpiredSubscription(
+                subscriptionId, userId, familyMemberId, familyId,
+                activityId, associationId, expiredAt);
 
         listener.beforeChunk(chunkContext);
-        listener.registerExpiredSubscription(subscription);
+        listener.registerExpiredSubscriptions(chunkContext, List.of(subscription));
 
         // When
         listener.afterChunk(chunkContext);
@@ -163,7 +146,7 @@ class SubscriptionExpiryJobListenerTest {
         ArgumentCaptor<SubscriptionExpiredEvent> eventCaptor =
                 ArgumentCaptor.forClass(SubscriptionExpiredEvent.class);
         verify(kafkaTemplate).send(
-                eq("subscription.expired"),
+                eq("family-hobbies.subscription.expired"),
                 eq(subscriptionId.toString()),
                 eventCaptor.capture());
 
@@ -178,24 +161,37 @@ class SubscriptionExpiryJobListenerTest {
         assertThat(event.getOccurredAt()).isNotNull();
     }
 
-    private Subscription createExpiredSubscription(Long id) {
-        Activity activity = new Activity();
-        activity.setId(10L);
-        Association association = new Association();
-        association.setId(5L);
-        activity.setAssociation(association);
-
-        Subscription subscription = new Subscription();
-        subscription.setId(id);
-        subscription.setUserId(100L);
-        subscription.setFamilyMemberId(200L);
-        subscription.setFamilyId(300L);
-        subscription.setActivity(activity);
-        subscription.setStatus(SubscriptionStatus.EXPIRED);
-        subscription.setExpiredAt(Instant.now());
-        subscription.setSubscriptionType(SubscriptionType.ADHESION);
-        subscription.setStartDate(LocalDate.now().minusYears(1));
-        subscription.setEndDate(LocalDate.now().minusDays(1));
-        return subscription;
+    @Test
+    @DisplayName("Should keep pending events of concurrent partitions apart")
+    void shouldKeepPartitionBuffersApart() {
+        // Given
+        ChunkContext failingPartition = chunkContext(2L);
+        listener.beforeChunk(chunkContext);
+        listener.beforeChunk(failingPartition);
+        listener.registerExpiredSubscriptions(chunkContext, List.of(createExpiredSubscription(1L)));
+        listener.registerExpiredSubscriptions(failingPartition, List.of(createExpiredSubscription(2L)));
+
+        // When -- one partition fails, the other commits
+        listener.afterChunkError(failingPartition);
+        listener.afterChunk(chunkContext);
+
+        // Then -- only the committed partition's event is published
+        verify(kafkaTemplate).send(
+                any(String.class),
+                eq("1"),
+                any(SubscriptionExpiredEvent.class));
+        verify(kafkaTemplate, never()).send(
+                any(String.class),
+                eq("2"),
+                any());
+    }
+
+    private ChunkContext chunkContext(Long stepExecutionId) {
+        return new ChunkContext(new StepContext(MetaDataInstanceFactory.createStepExecution(
+                "expireSubscriptionsPartitionStep:partition" + stepExecutionId, stepExecutionId)));
+    }
+
+    private ExpiredSubscription createExpiredSubscription(Long id) {
+        return new ExpiredSubscription(id, 100L, 200L, 300L, 10L, 5L, Instant.now());
     }
 }
@@ -0,0 +1,138 @@
+package com.familyhobbies.associationservice.batch.partitioner;
+
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.repository.SubscriptionIdRange;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SubscriptionExpiryPartitioner}.
+ *
+ * <p>Verifies:
+ * <ul>
+ *   <li>Id range split into contiguous, non-overlapping partitions covering every id</li>
+ *   <li>No more partitions than ids</li>
+ *   <li>Single empty partition when nothing is to expire</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+class SubscriptionExpiryPartitionerTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    private SubscriptionExpiryPartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new SubscriptionExpiryPartitioner(subscriptionRepository);
+    }
+
+    @Test
+    @DisplayName("Should split the id range into contiguous partitions sharing one cutoff")
+    void shouldSplitIdRangeIntoContiguousPartitions() {
+        // Given
+        givenIdRange(101L, 1100L);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(partitions).containsOnlyKeys("partition0", "partition1", "partition2", "partition3");
+        assertThat(bounds(partitions)).containsExactly(
+                List.of(101L, 350L),
+                List.of(351L, 600L),
+                List.of(601L, 850L),
+                List.of(851L, 1100L));
+        assertThat(partitions.values())
+                .extracting(context -> context.getString(SubscriptionExpiryPartitioner.CUTOFF_KEY))
+                .containsOnly(LocalDate.now().toString());
+    }
+
+    @Test
+    @DisplayName("Should cover the last id when the range does not divide evenly")
+    void shouldCoverLastIdWhenRangeDoesNotDivideEvenly() {
+        // Given
+        givenIdRange(1L, 10L);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(bounds(partitions)).containsExactly(
+                List.of(1L, 3L),
+                List.of(4L, 6L),
+                List.of(7L, 9L),
+                List.of(10L, 10L));
+    }
+
+    @Test
+    @DisplayName("Should create one partition per id when there are fewer ids than the grid size")
+    void shouldNotCreateMorePartitionsThanIds() {
+        // Given
+        givenIdRange(7L, 8L);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(bounds(partitions)).containsExactly(
+                List.of(7L, 7L),
+                List.of(8L, 8L));
+    }
+
+    @Test
+    @DisplayName("Should create a single empty partition when nothing is to expire")
+    void shouldCreateSingleEmptyPartitionWhenNothingToExpire() {
+        // Given
+        givenIdRange(null, null);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(partitions).containsOnlyKeys("partition0");
+        ExecutionContext context = partitions.get("partition0");
+        assertThat(context.getLong(SubscriptionExpiryPartitioner.MIN_ID_KEY))
+                .isGreaterThan(context.getLong(SubscriptionExpiryPartitioner.MAX_ID_KEY));
+    }
+
+    private void givenIdRange(Long minId, Long maxId) {
+        when(subscriptionRepository.findIdRangeByStatusAndEndDateBefore(
+                eq(SubscriptionStatus.ACTIVE), any(LocalDate.class)))
+                .thenReturn(new SubscriptionIdRange() {
+                    @Override
+                    public Long getMinId() {
+                        return minId;
+                    }
+
+                    @Override
+                    public Long getMaxId() {
+                        return maxId;
+                    }
+                });
+    }
+
+    private List<List<Long>> bounds(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .map(context -> List.of(
+                        context.getLong(SubscriptionExpiryPartitioner.MIN_ID_KEY),
+                        context.getLong(SubscriptionExpiryPartitioner.MAX_ID_KEY)))
+                .toList();
+    }
+}
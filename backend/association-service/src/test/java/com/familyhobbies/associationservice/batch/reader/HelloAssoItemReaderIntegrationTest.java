@@ -0,0 +1,248 @@
+package com.familyhobbies.associationservice.batch.reader;
+
+import com.familyhobbies.associationservice.adapter.HelloAssoClient;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryRequest;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryResponse;
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.common.config.HelloAssoProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the prefetching HelloAsso directory reader, against a local
+ * HelloAsso stub answering every page after {@value #LATENCY_MS} ms.
+ *
+ * - {@value #PAGES} pages chained by continuation token: every organization read once,
+ *   in order, never more than one request in flight
+ * - Benchmark, only with -P benchmark (or -Dbenchmark=true): each page followed by
+ *   {@value #PROCESSING_MS} ms of simulated chunk processing, compared with fetching each
+ *   page only once the previous one is processed; wall-clock times logged, not asserted:
+ *   shared CI runners make timings noisy
+ *
+ * Kafka publishing is mocked.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HelloAssoItemReaderIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HelloAssoItemReaderIntegrationTest.class);
+
+    private static final long LATENCY_MS = 100;
+    private static final long PROCESSING_MS = 100;
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final HelloAssoStub STUB = new HelloAssoStub();
+    private static final MockWebServer SERVER = startServer();
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private HelloAssoClient helloAssoClient;
+
+    @Autowired
+    private HelloAssoProperties properties;
+
+    @DynamicPropertySource
+    static void helloAssoProperties(DynamicPropertyRegistry registry) {
+        registry.add("helloasso.base-url", () -> SERVER.url("/v5").toString());
+        registry.add("helloasso.token-url", () -> SERVER.url("/oauth2/token").toString());
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SERVER.shutdown();
+    }
+
+    @Test
+    @DisplayName("should_readEveryOrganizationOnceInOrder_when_readingAhead")
+    void should_readEveryOrganizationOnceInOrder_when_readingAhead() throws Exception {
+        // Given
+        HelloAssoItemReader reader = new HelloAssoItemReader(helloAssoClient, properties);
+        List<String> slugs = new ArrayList<>();
+        STUB.reset();
+
+        // When
+        try {
+            for (HelloAssoOrganization org = reader.read(); org != null; org = reader.read()) {
+                slugs.add(org.slug());
+            }
+        } finally {
+            reader.close();
+        }
+
+        // Then
+        assertThat(slugs).hasSize(PAGES * PAGE_SIZE).doesNotHaveDuplicates();
+        assertThat(slugs.get(0)).isEqualTo("club-1-0");
+        assertThat(slugs.get(slugs.size() - 1)).isEqualTo("club-" + PAGES + "-" + (PAGE_SIZE - 1));
+        assertThat(STUB.requests.get()).isEqualTo(PAGES);
+        assertThat(STUB.peakInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("should_overlapFetchingAndProcessing_when_readingAhead")
+    void should_overlapFetchingAndProcessing_when_readingAhead() throws Exception {
+        // Given
+        int organizations = PAGES * PAGE_SIZE;
+        // Warms up the connection pool and the bearer token, so both runs start alike
+        helloAssoClient.searchOrganizations(pageRequest(null)).block();
+
+        // When
+        STUB.reset();
+        long serialStartedAt = System.nanoTime();
+        List<String> serialSlugs = readPageByPage();
+        long serialMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - serialStartedAt);
+
+        STUB.reset();
+        HelloAssoItemReader reader = new HelloAssoItemReader(helloAssoClient, properties);
+        List<String> slugs = new ArrayList<>();
+        long prefetchStartedAt = System.nanoTime();
+        try {
+            for (HelloAssoOrganization org = reader.read(); org != null; org = reader.read()) {
+                slugs.add(org.slug());
+                if (slugs.size() % PAGE_SIZE == 0) {
+                    Thread.sleep(PROCESSING_MS);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        long prefetchMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - prefetchStartedAt);
+
+        log.info("HelloAsso reader over {} pages ({} ms network + {} ms processing each): "
+                + "{} ms fetching on demand, {} ms reading {} pages ahead (x{})",
+            PAGES, LATENCY_MS, PROCESSING_MS, serialMs, prefetchMs,
+            properties.getSync().getReadAhead(), String.format("%.1f", (double) serialMs / prefetchMs));
+
+        // Then
+        assertThat(slugs).hasSize(organizations).doesNotHaveDuplicates().isEqualTo(serialSlugs);
+        assertThat(STUB.requests.get()).isEqualTo(PAGES);
+        assertThat(STUB.peakInFlight.get()).isEqualTo(1);
+    }
+
+    /**
+     * The former reader's behaviour, as the baseline: the next page is requested only
+     * once the previous one has been processed.
+     */
+    private List<String> readPageByPage() throws InterruptedException {
+        List<String> slugs = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            HelloAssoDirectoryResponse page =
+                helloAssoClient.searchOrganizations(pageRequest(continuationToken)).block();
+            page.data().forEach(org -> slugs.add(org.slug()));
+            Thread.sleep(PROCESSING_MS);
+            continuationToken = page.pagination().continuationToken();
+        } while (continuationToken != null);
+        return slugs;
+    }
+
+    private HelloAssoDirectoryRequest pageRequest(String continuationToken) {
+        return HelloAssoDirectoryRequest.builder()
+            .pageSize(PAGE_SIZE)
+            .pageIndex(continuationToken == null ? 1 : null)
+            .continuationToken(continuationToken)
+            .build();
+    }
+
+    private static MockWebServer startServer() {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(STUB);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return server;
+    }
+
+    /**
+     * Serves the token endpoint and {@value #PAGES} directory pages chained by continuation
+     * token, each after {@value #LATENCY_MS} ms, counting the directory requests in flight.
+     */
+    private static final class HelloAssoStub extends Dispatcher {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        void reset() {
+            peakInFlight.set(0);
+            requests.set(0);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            if (request.getPath().endsWith("/oauth2/token")) {
+                return json("{\"access_token\":\"stub-token\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(LATENCY_MS);
+                JsonNode search = JSON.readTree(request.getBody().readUtf8());
+                String token = search.path("continuationToken").asText(null);
+                return json(directoryPage(token == null ? 1 : Integer.parseInt(token.substring(5))));
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private String directoryPage(int pageIndex) {
+            ObjectNode page = JSON.createObjectNode();
+            ArrayNode data = page.putArray("data");
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                data.addObject()
+                    .put("name", "Club " + pageIndex + "-" + i)
+                    .put("slug", "club-" + pageIndex + "-" + i)
+                    .put("city", "Lyon");
+            }
+            page.putObject("pagination")
+                .put("pageIndex", pageIndex)
+                .put("pageSize", PAGE_SIZE)
+                .put("totalCount", PAGES * PAGE_SIZE)
+                .put("totalPages", PAGES)
+                .put("continuationToken", pageIndex < PAGES ? "page-" + (pageIndex + 1) : null);
+            return page.toString();
+        }
+
+        private MockResponse json(String body) {
+            return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+        }
+    }
+}
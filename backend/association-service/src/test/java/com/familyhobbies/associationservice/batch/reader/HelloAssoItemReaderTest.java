@@ -5,17 +5,26 @@ import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryReques
 import com.familyhobbies.associationservice.adapter.dto.HelloAssoDirectoryResponse;
 import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
 import com.familyhobbies.associationservice.adapter.dto.HelloAssoPagination;
+import com.familyhobbies.common.config.HelloAssoProperties;
+import com.familyhobbies.errorhandling.exception.container.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -29,7 +38,12 @@ class HelloAssoItemReaderTest {
 
     @BeforeEach
     void setUp() {
-        reader = new HelloAssoItemReader(helloAssoClient);
+        reader = new HelloAssoItemReader(helloAssoClient, properties(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.close();
     }
 
     @Test
@@ -105,4 +119,149 @@ class HelloAssoItemReaderTest {
         HelloAssoOrganization result = reader.read();
         assertThat(result).isNull();
     }
+
+    @Test
+    @DisplayName("Should fetch pages ahead of the consumer up to the read-ahead limit")
+    void shouldReadAheadUpToLimit() throws Exception {
+        List<String> requested = new CopyOnWriteArrayList<>();
+        CountDownLatch fourRequests = new CountDownLatch(4);
+        when(helloAssoClient.searchOrganizations(any(HelloAssoDirectoryRequest.class)))
+                .thenAnswer(invocation -> {
+                    HelloAssoDirectoryRequest request = invocation.getArgument(0);
+                    requested.add(String.valueOf(request.continuationToken()));
+                    fourRequests.countDown();
+                    return Mono.just(directoryPage(requested.size(), 10));
+                });
+
+        HelloAssoOrganization first = reader.read();
+
+        // Page 1 taken, pages 2-3 queued, page 4 fetched and waiting for queue space
+        assertThat(fourRequests.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(first.slug()).isEqualTo("club-1");
+        assertThat(requested).containsExactly("null", "token-2", "token-3", "token-4");
+
+        assertThat(reader.read().slug()).isEqualTo("club-2");
+        assertThat(reader.read().slug()).isEqualTo("club-3");
+    }
+
+    @Test
+    @DisplayName("Should throw a failed page fetch from read and re-request that page on the next read")
+    void shouldThrowFetchFailureThenRetryPage() throws Exception {
+        List<String> requested = new CopyOnWriteArrayList<>();
+        when(helloAssoClient.searchOrganizations(any(HelloAssoDirectoryRequest.class)))
+                .thenAnswer(invocation -> {
+                    HelloAssoDirectoryRequest request = invocation.getArgument(0);
+                    requested.add(String.valueOf(request.continuationToken()));
+                    if (requested.size() == 2) {
+                        return Mono.error(ExternalApiException.forApi("HelloAsso", 503, "Server error"));
+                    }
+                    int pageIndex = request.continuationToken() == null
+                            ? 1 : Integer.parseInt(request.continuationToken().substring(6));
+                    return Mono.just(directoryPage(pageIndex, 2));
+                });
+
+        assertThat(reader.read().slug()).isEqualTo("club-1");
+        assertThatThrownBy(() -> reader.read()).isInstanceOf(ExternalApiException.class);
+        assertThat(reader.read().slug()).isEqualTo("club-2");
+        assertThat(reader.read()).isNull();
+
+        assertThat(requested).containsExactly("null", "token-2", "token-2");
+    }
+
+    @Test
+    @DisplayName("Should checkpoint the page being read and the offset within it")
+    void shouldCheckpointPageAndOffset() throws Exception {
+        when(helloAssoClient.searchOrganizations(any(HelloAssoDirectoryRequest.class)))
+                .thenAnswer(invocation -> {
+                    HelloAssoDirectoryRequest request = invocation.getArgument(0);
+                    return Mono.just(request.continuationToken() == null
+                            ? directoryPage(1, 2, 3) : directoryPage(2, 2, 3));
+                });
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+
+        reader.read();
+        reader.read();
+        reader.update(context);
+        assertThat(context.getInt(HelloAssoItemReader.PAGE_INDEX_KEY)).isEqualTo(1);
+        assertThat(context.containsKey(HelloAssoItemReader.CONTINUATION_TOKEN_KEY)).isFalse();
+        assertThat(context.getInt(HelloAssoItemReader.PAGE_OFFSET_KEY)).isEqualTo(2);
+
+        reader.read();
+        reader.update(context);
+        assertThat(context.getInt(HelloAssoItemReader.PAGE_INDEX_KEY)).isEqualTo(2);
+        assertThat(context.getString(HelloAssoItemReader.CONTINUATION_TOKEN_KEY)).isEqualTo("token-2");
+        assertThat(context.getInt(HelloAssoItemReader.PAGE_OFFSET_KEY)).isZero();
+
+        reader.read();
+        reader.update(context);
+        assertThat(context.getInt(HelloAssoItemReader.PAGE_OFFSET_KEY)).isEqualTo(1);
+        assertThat(context.getInt(HelloAssoItemReader.READ_COUNT_KEY)).isEqualTo(4);
+
+        while (reader.read() != null) {
+            // drain the directory
+        }
+        reader.update(context);
+        assertThat(context.containsKey(HelloAssoItemReader.EXHAUSTED_KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should resume from the checkpointed page and skip organizations already read")
+    void shouldResumeFromCheckpoint() throws Exception {
+        List<String> requested = new CopyOnWriteArrayList<>();
+        when(helloAssoClient.searchOrganizations(any(HelloAssoDirectoryRequest.class)))
+                .thenAnswer(invocation -> {
+                    HelloAssoDirectoryRequest request = invocation.getArgument(0);
+                    requested.add(String.valueOf(request.continuationToken()));
+                    return Mono.just(directoryPage(2, 2, 3));
+                });
+        ExecutionContext context = new ExecutionContext();
+        context.putInt(HelloAssoItemReader.PAGE_INDEX_KEY, 2);
+        context.putString(HelloAssoItemReader.CONTINUATION_TOKEN_KEY, "token-2");
+        context.putInt(HelloAssoItemReader.PAGE_OFFSET_KEY, 1);
+        context.putInt(HelloAssoItemReader.READ_COUNT_KEY, 4);
+        reader.open(context);
+
+        assertThat(reader.read().slug()).isEqualTo("club-2-1");
+        assertThat(reader.read().slug()).isEqualTo("club-2-2");
+        assertThat(reader.read()).isNull();
+
+        assertThat(requested).containsExactly("token-2");
+        reader.update(context);
+        assertThat(context.getInt(HelloAssoItemReader.READ_COUNT_KEY)).isEqualTo(6);
+    }
+
+    private HelloAssoProperties properties(int readAhead) {
+        HelloAssoProperties properties = new HelloAssoProperties();
+        properties.getSync().setReadAhead(readAhead);
+        return properties;
+    }
+
+    /**
+     * Page {@code pageIndex} of {@code totalPages}, holding one organization and the token
+     * of the next page unless it is the last.
+     */
+    private HelloAssoDirectoryResponse directoryPage(int pageIndex, int totalPages) {
+        HelloAssoOrganization org = HelloAssoOrganization.builder()
+                .name("Club " + pageIndex).slug("club-" + pageIndex).build();
+        String nextToken = pageIndex < totalPages ? "token-" + (pageIndex + 1) : null;
+        return new HelloAssoDirectoryResponse(List.of(org),
+                new HelloAssoPagination(pageIndex, 50, totalPages, totalPages, nextToken));
+    }
+
+    /**
+     * Page {@code pageIndex} of {@code totalPages}, holding {@code size} organizations
+     * slugged {@code club-<page>-<position>}.
+     */
+    private HelloAssoDirectoryResponse directoryPage(int pageIndex, int totalPages, int size) {
+        List<HelloAssoOrganization> orgs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            orgs.add(HelloAssoOrganization.builder()
+                    .name("Club " + pageIndex + "-" + i).slug("club-" + pageIndex + "-" + i).build());
+        }
+        String nextToken = pageIndex < totalPages ? "token-" + (pageIndex + 1) : null;
+        return new HelloAssoDirectoryResponse(orgs,
+                new HelloAssoPagination(pageIndex, 50, size * totalPages, totalPages, nextToken));
+    }
 }
@@ -0,0 +1,215 @@
+package com.familyhobbies.associationservice.batch.reader;
+
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for restarting {@code helloAssoSyncJob} from the reader's checkpoint,
+ * against a local HelloAsso stub serving {@value #PAGES} pages of {@value #PAGE_SIZE}
+ * organizations chained by continuation token.
+ *
+ * - The stub rejects page {@value #FAILING_PAGE} with a non-skippable 400, killing the step
+ *   halfway through page {@value #FAILING_PAGE} - 1 (chunks of 50 do not line up with pages
+ *   of 75). Restarting the same job instance requests that page again, then the rest of the
+ *   directory: one page fetched twice, every organization stored, none read twice in the
+ *   committed chunks
+ *
+ * Kafka publishing is mocked.
+ *
+ * Tests: 1 test method
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HelloAssoSyncJobRestartIntegrationTest {
+
+    private static final int PAGES = 8;
+    private static final int PAGE_SIZE = 75;
+    private static final int FAILING_PAGE = 6;
+    private static final int CHUNK_SIZE = 50;
+    private static final String STEP = "fetchOrganizationsStep";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final HelloAssoStub STUB = new HelloAssoStub();
+    private static final MockWebServer SERVER = startServer();
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    @Qualifier("jobLauncher")
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("helloAssoSyncJob")
+    private Job helloAssoSyncJob;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @DynamicPropertySource
+    static void helloAssoProperties(DynamicPropertyRegistry registry) {
+        registry.add("helloasso.base-url", () -> SERVER.url("/v5").toString());
+        registry.add("helloasso.token-url", () -> SERVER.url("/oauth2/token").toString());
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SERVER.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_refetchOnlyCheckpointedPage_when_jobRestartedAfterCrash")
+    void should_refetchOnlyCheckpointedPage_when_jobRestartedAfterCrash() throws Exception {
+        // Given
+        int organizations = PAGES * PAGE_SIZE;
+        int committed = (FAILING_PAGE - 1) * PAGE_SIZE / CHUNK_SIZE * CHUNK_SIZE;
+        int checkpointPage = committed / PAGE_SIZE + 1;
+        JobParameters parameters = new JobParametersBuilder()
+            .addLong("run.id", System.nanoTime())
+            .toJobParameters();
+
+        // When
+        STUB.failPage(FAILING_PAGE);
+        JobExecution failed = jobLauncher.run(helloAssoSyncJob, parameters);
+        long storedAfterFailure = associationRepository.count();
+        ExecutionContext checkpoint = step(failed).getExecutionContext();
+
+        STUB.failPage(0);
+        JobExecution restarted = jobLauncher.run(helloAssoSyncJob, parameters);
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(storedAfterFailure).isEqualTo(committed);
+        assertThat(checkpoint.getInt(HelloAssoItemReader.PAGE_INDEX_KEY)).isEqualTo(checkpointPage);
+        assertThat(checkpoint.getInt(HelloAssoItemReader.PAGE_OFFSET_KEY))
+            .isEqualTo(committed - (checkpointPage - 1) * PAGE_SIZE);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+        assertThat(STUB.servedSinceReset)
+            .as("Restart resumes at the checkpointed page instead of page 1")
+            .containsExactly(checkpointPage, FAILING_PAGE, FAILING_PAGE + 1, PAGES);
+        assertThat(step(restarted).getReadCount()).isEqualTo(organizations - committed);
+        assertThat(associationRepository.count()).isEqualTo(organizations);
+    }
+
+    private StepExecution step(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+            .filter(step -> step.getStepName().equals(STEP))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static MockWebServer startServer() {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(STUB);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return server;
+    }
+
+    /**
+     * Serves the token endpoint and {@value #PAGES} directory pages chained by continuation
+     * token, recording the index of every page served since the last {@link #failPage} call.
+     */
+    private static final class HelloAssoStub extends Dispatcher {
+
+        private final List<Integer> servedSinceReset = new CopyOnWriteArrayList<>();
+        private volatile int failingPage;
+
+        void failPage(int pageIndex) {
+            failingPage = pageIndex;
+            servedSinceReset.clear();
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            if (request.getPath().endsWith("/oauth2/token")) {
+                return json("{\"access_token\":\"stub-token\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+            }
+            try {
+                JsonNode search = JSON.readTree(request.getBody().readUtf8());
+                String token = search.path("continuationToken").asText(null);
+                int pageIndex = token == null ? 1 : Integer.parseInt(token.substring(5));
+                if (pageIndex == failingPage) {
+                    return new MockResponse().setResponseCode(400);
+                }
+                servedSinceReset.add(pageIndex);
+                return json(directoryPage(pageIndex));
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            }
+        }
+
+        private String directoryPage(int pageIndex) {
+            ObjectNode page = JSON.createObjectNode();
+            ArrayNode data = page.putArray("data");
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                data.addObject()
+                    .put("name", "Club " + pageIndex + "-" + i)
+                    .put("slug", "club-" + pageIndex + "-" + i)
+                    .put("city", "Lyon")
+                    .put("category", "Sport");
+            }
+            ObjectNode pagination = page.putObject("pagination")
+                .put("pageIndex", pageIndex)
+                .put("pageSize", PAGE_SIZE)
+                .put("totalCount", PAGES * PAGE_SIZE)
+                .put("totalPages", PAGES);
+            if (pageIndex < PAGES) {
+                pagination.put("continuationToken", "page-" + (pageIndex + 1));
+            }
+            return page.toString();
+        }
+
+        private MockResponse json(String body) {
+            return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.familyhobbies.associationservice.batch.tasklet;
+
+import com.familyhobbies.associationservice.repository.AttendanceArchiveRow;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AttendancePartitionArchiveTasklet}.
+ *
+ * <p>Verifies:
+ * <ul>
+ *   <li>Oldest expired partition exported as gzip CSV before it is dropped, sync columns included</li>
+ *   <li>Archived rows subtracted from the counters and bitmaps between export and drop</li>
+ *   <li>CONTINUABLE while expired partitions remain, FINISHED after the last one</li>
+ *   <li>Nothing dropped when the export fails</li>
+ *   <li>No-op when the table is not partitioned or nothing is past retention</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendancePartitionArchiveTaskletTest {
+
+    private static final int RETENTION_MONTHS = 36;
+    private static final OffsetDateTime MARKED_AT = OffsetDateTime.of(2021, 9, 1, 18, 0, 0, 0, ZoneOffset.UTC);
+    private static final UUID CLIENT_MARK_ID = UUID.fromString("6f1c2a9e-3b4d-4e5f-8a7b-1c2d3e4f5a6b");
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private AttendancePartitionArchiveTasklet tasklet;
+    private StepContribution contribution;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new AttendancePartitionArchiveTasklet(attendanceRepository, RETENTION_MONTHS, archiveDirectory);
+        contribution = mock(StepContribution.class);
+    }
+
+    @Test
+    @DisplayName("Should export the oldest expired partition before dropping it and continue with the next")
+    void shouldArchiveOldestExpiredPartitionThenContinue() throws Exception {
+        // Given
+        YearMonth oldest = YearMonth.now().minusMonths(RETENTION_MONTHS + 2);
+        YearMonth next = oldest.plusMonths(1);
+        when(attendanceRepository.isPartitioned()).thenReturn(true);
+        when(attendanceRepository.findMonthlyPartitions())
+                .thenReturn(List.of(oldest, next, YearMonth.now()));
+        givenPartitionRows(oldest,
+                row(1L, oldest.atDay(1), null, null),
+                row(2L, oldest.atDay(8), "Arrived \"late\", by bus", CLIENT_MARK_ID));
+
+        // When
+        RepeatStatus status = tasklet.execute(contribution, null);
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(readArchive(oldest)).containsExactly(
+                AttendancePartitionArchiveTasklet.CSV_HEADER,
+                "1,10,20,30," + oldest.atDay(1) + ",PRESENT,,100," + MARKED_AT + "," + MARKED_AT + ",,",
+                "2,10,20,30," + oldest.atDay(8) + ",PRESENT,\"Arrived \"\"late\"\", by bus\",100,"
+                        + MARKED_AT + "," + MARKED_AT + "," + CLIENT_MARK_ID + "," + MARKED_AT);
+        InOrder order = inOrder(attendanceRepository);
+        order.verify(attendanceRepository).streamPartition(eq(oldest), any());
+        order.verify(attendanceRepository).subtractFromAggregates(oldest);
+        order.verify(attendanceRepository).dropMonthlyPartition(oldest);
+        verify(attendanceRepository, never()).dropMonthlyPartition(next);
+        verify(contribution).incrementWriteCount(2L);
+    }
+
+    @Test
+    @DisplayName("Should finish after archiving the last expired partition")
+    void shouldFinishAfterLastExpiredPartition() throws Exception {
+        // Given
+        YearMonth expired = YearMonth.now().minusMonths(RETENTION_MONTHS + 1);
+        when(attendanceRepository.isPartitioned()).thenReturn(true);
+        when(attendanceRepository.findMonthlyPartitions())
+                .thenReturn(List.of(expired, YearMonth.now().minusMonths(RETENTION_MONTHS)));
+        givenPartitionRows(expired);
+
+        // When
+        RepeatStatus status = tasklet.execute(contribution, null);
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(readArchive(expired)).containsExactly(AttendancePartitionArchiveTasklet.CSV_HEADER);
+        verify(attendanceRepository).dropMonthlyPartition(expired);
+    }
+
+    @Test
+    @DisplayName("Should keep the partition and leave no file behind when the export fails")
+    void shouldNotDropPartitionWhenExportFails() {
+        // Given
+        YearMonth expired = YearMonth.now().minusMonths(RETENTION_MONTHS + 1);
+        when(attendanceRepository.isPartitioned()).thenReturn(true);
+        when(attendanceRepository.findMonthlyPartitions()).thenReturn(List.of(expired));
+        when(attendanceRepository.streamPartition(eq(expired), any()))
+                .thenThrow(new UncheckedIOException(new IOException("Disk full")));
+
+        // When / Then
+        assertThatThrownBy(() -> tasklet.execute(contribution, null))
+                .isInstanceOf(UncheckedIOException.class);
+        verify(attendanceRepository, never()).subtractFromAggregates(any());
+        verify(attendanceRepository, never()).dropMonthlyPartition(any());
+        assertThat(archiveDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no partition is past retention")
+    void shouldDoNothingWhenNoPartitionExpired() throws Exception {
+        // Given
+        when(attendanceRepository.isPartitioned()).thenReturn(true);
+        when(attendanceRepository.findMonthlyPartitions())
+                .thenReturn(List.of(YearMonth.now().minusMonths(RETENTION_MONTHS), YearMonth.now()));
+
+        // When
+        RepeatStatus status = tasklet.execute(contribution, null);
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(attendanceRepository, never()).streamPartition(any(), any());
+        verify(attendanceRepository, never()).dropMonthlyPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the attendance table is not partitioned")
+    void shouldDoNothingWhenTableNotPartitioned() throws Exception {
+        // Given
+        when(attendanceRepository.isPartitioned()).thenReturn(false);
+
+        // When
+        RepeatStatus status = tasklet.execute(contribution, null);
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(attendanceRepository, never()).findMonthlyPartitions();
+        verify(attendanceRepository, never()).dropMonthlyPartition(any());
+    }
+
+    private void givenPartitionRows(YearMonth month, AttendanceArchiveRow... rows) {
+        when(attendanceRepository.streamPartition(eq(month), any())).thenAnswer(invocation -> {
+            Consumer<AttendanceArchiveRow> consumer = invocation.getArgument(1);
+            for (AttendanceArchiveRow row : rows) {
+                consumer.accept(row);
+            }
+            return (long) rows.length;
+        });
+    }
+
+    private AttendanceArchiveRow row(Long id, LocalDate sessionDate, String note, UUID clientMarkId) {
+        return new AttendanceArchiveRow(id, 10L, 20L, 30L, sessionDate, "PRESENT", note, 100L,
+                MARKED_AT, MARKED_AT, clientMarkId, clientMarkId == null ? null : MARKED_AT);
+    }
+
+    private List<String> readArchive(YearMonth month) throws IOException {
+        Path archive = archiveDirectory.resolve("attendance-" + month + ".csv.gz");
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archive))) {
+            return List.of(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\r\n"));
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.familyhobbies.associationservice.batch.writer;
 
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
 import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
-import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService.PageResult;
+import com.familyhobbies.common.event.AssociationSyncedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,9 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,7 +29,7 @@ import static org.mockito.Mockito.when;
 class HelloAssoItemWriterTest {
 
     @Mock
-    private AssociationRepository associationRepository;
+    private HelloAssoUpsertService helloAssoUpsertService;
 
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
@@ -32,24 +38,43 @@ class HelloAssoItemWriterTest {
 
     @BeforeEach
     void setUp() {
-        writer = new HelloAssoItemWriter(associationRepository, kafkaTemplate);
+        writer = new HelloAssoItemWriter(helloAssoUpsertService, kafkaTemplate);
     }
 
     @Test
-    @DisplayName("Should saveAll and publish Kafka events for each association")
-    void shouldSaveAllAndPublishEvents() throws Exception {
+    @DisplayName("Should upsert the chunk as one page and publish Kafka events for written associations")
+    void shouldUpsertChunkAndPublishEvents() throws Exception {
+        HelloAssoOrganization created = HelloAssoOrganization.builder()
+                .name("Test Association").slug("test-slug").build();
+        HelloAssoOrganization unchanged = HelloAssoOrganization.builder()
+                .name("Unchanged Association").slug("unchanged-slug").build();
         Association assoc = new Association();
         assoc.setId(1L);
         assoc.setName("Test Association");
         assoc.setHelloassoSlug("test-slug");
         assoc.setStatus(AssociationStatus.ACTIVE);
 
-        when(associationRepository.saveAll(any(List.class))).thenReturn(List.of(assoc));
+        when(helloAssoUpsertService.upsertPage(List.of(created, unchanged)))
+                .thenReturn(new PageResult(1, 0, 1, List.of(assoc)));
 
-        Chunk<Association> chunk = new Chunk<>(assoc);
-        writer.write(chunk);
+        writer.write(new Chunk<>(created, unchanged));
 
-        verify(associationRepository).saveAll(any(List.class));
-        verify(kafkaTemplate).send(anyString(), anyString(), any());
+        verify(helloAssoUpsertService).upsertPage(List.of(created, unchanged));
+        verify(kafkaTemplate).send(eq("family-hobbies.association.synced"), eq("test-slug"),
+                argThat(event -> ((AssociationSyncedEvent) event).getAssociationId().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("Should publish nothing when the whole chunk is unchanged")
+    void shouldPublishNothingWhenChunkUnchanged() throws Exception {
+        HelloAssoOrganization unchanged = HelloAssoOrganization.builder()
+                .name("Unchanged Association").slug("unchanged-slug").build();
+
+        when(helloAssoUpsertService.upsertPage(List.of(unchanged)))
+                .thenReturn(new PageResult(0, 0, 1, List.of()));
+
+        writer.write(new Chunk<>(unchanged));
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
     }
 }
@@ -0,0 +1,193 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query-count regression tests for the activity read endpoints.
+ *
+ * - GET /api/v1/associations/{id}/activities: every filter combination must run a
+ *   constant number of statements regardless of page size (association existence
+ *   check + page select + one grouped session count).
+ * - GET /api/v1/associations/{id}/activities/{activityId}: a single statement loading
+ *   the activity, its association and its sessions.
+ *
+ * Relies on hibernate.generate_statistics (enabled in application-test.yml).
+ *
+ * Tests: 5 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ActivityQueryCountIntegrationTest {
+
+    private static final long EXPECTED_LIST_STATEMENTS = 3;
+    private static final int SESSIONS_PER_ACTIVITY = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Association testAssociation;
+    private Activity testActivity;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        testAssociation = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+
+        testActivity = createActivity("Natation adultes", AssociationCategory.SPORT, ActivityLevel.ALL_LEVELS);
+        for (int i = 0; i < 4; i++) {
+            createActivity("Natation " + i, AssociationCategory.SPORT, ActivityLevel.BEGINNER);
+            createActivity("Danse " + i, AssociationCategory.DANCE, ActivityLevel.BEGINNER);
+            createActivity("Judo " + i, AssociationCategory.SPORT, ActivityLevel.ADVANCED);
+        }
+    }
+
+    @Test
+    @DisplayName("should run constant query count when listing without filters")
+    void should_runConstantQueryCount_when_noFilters() {
+        assertListedWithConstantQueries("", 13);
+    }
+
+    @Test
+    @DisplayName("should run constant query count when filtering by category")
+    void should_runConstantQueryCount_when_categoryFilter() {
+        assertListedWithConstantQueries("?category=SPORT", 9);
+    }
+
+    @Test
+    @DisplayName("should run constant query count when filtering by level")
+    void should_runConstantQueryCount_when_levelFilter() {
+        assertListedWithConstantQueries("?level=BEGINNER", 8);
+    }
+
+    @Test
+    @DisplayName("should run constant query count when filtering by category and level")
+    void should_runConstantQueryCount_when_categoryAndLevelFilter() {
+        assertListedWithConstantQueries("?category=SPORT&level=ADVANCED", 4);
+    }
+
+    @Test
+    @DisplayName("should load activity detail in a single statement")
+    void should_loadDetailInSingleStatement_when_gettingById() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "/api/v1/associations/" + testAssociation.getId() + "/activities/" + testActivity.getId(),
+            String.class);
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("Lyon Natation Metropole"),
+            "Detail must include the association name");
+        assertEquals(SESSIONS_PER_ACTIVITY,
+            response.getBody().split("\"dayOfWeek\"", -1).length - 1,
+            "Detail must include every session of the activity");
+        assertEquals(1, statements,
+            "Activity detail must be loaded with a single statement");
+    }
+
+    private void assertListedWithConstantQueries(String query, int expectedActivities) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "/api/v1/associations/" + testAssociation.getId() + "/activities" + query, String.class);
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("\"totalElements\":" + expectedActivities),
+            "Response must report " + expectedActivities + " activities");
+        assertEquals(expectedActivities,
+            response.getBody().split("\"sessionCount\":" + SESSIONS_PER_ACTIVITY, -1).length - 1,
+            "Every listed activity must report its session count");
+        assertEquals(EXPECTED_LIST_STATEMENTS, statements,
+            "Listing activities must not issue per-activity session queries");
+    }
+
+    private Activity createActivity(String name, AssociationCategory category, ActivityLevel level) {
+        Activity activity = activityRepository.save(Activity.builder()
+            .association(testAssociation)
+            .name(name)
+            .category(category)
+            .level(level)
+            .priceCents(15000)
+            .seasonStart(LocalDate.of(2025, 9, 1))
+            .seasonEnd(LocalDate.of(2026, 6, 30))
+            .status(ActivityStatus.ACTIVE)
+            .build());
+
+        for (int i = 0; i < SESSIONS_PER_ACTIVITY; i++) {
+            sessionRepository.save(Session.builder()
+                .activity(activity)
+                .dayOfWeek(DayOfWeekEnum.TUESDAY)
+                .startTime(LocalTime.of(17 + i, 0))
+                .endTime(LocalTime.of(18 + i, 0))
+                .active(true)
+                .build());
+        }
+        return activity;
+    }
+}
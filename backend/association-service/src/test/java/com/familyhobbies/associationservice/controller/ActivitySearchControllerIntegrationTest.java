@@ -0,0 +1,211 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Integration tests for ActivitySearchController.
+ *
+ * These tests verify the full HTTP round-trip:
+ * - GET /api/v1/activities/search with combined filters -> only matching activities
+ * - GET /api/v1/activities/search with a time window -> session time filter applied
+ * - GET /api/v1/activities/search with cursors -> every activity exactly once
+ * - GET /api/v1/activities/search with a malformed cursor -> 400 Bad Request
+ *
+ * Tests: 4 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ActivitySearchControllerIntegrationTest {
+
+    private static final Pattern NAME = Pattern.compile("\"name\":\"([^\"]+)\"");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        Association lyon = createAssociation("Lyon Judo Club", "lyon-judo-club", "Lyon");
+        Association paris = createAssociation("Paris Judo Club", "paris-judo-club", "Paris");
+
+        Activity judoEnfants = createActivity(lyon, "Judo enfants", 6, 12, 15000, ActivityStatus.ACTIVE);
+        createSession(judoEnfants, DayOfWeekEnum.WEDNESDAY, 14, true);
+        createSession(judoEnfants, DayOfWeekEnum.WEDNESDAY, 15, true);
+
+        createSession(createActivity(lyon, "Judo ados", 12, 16, 18000, ActivityStatus.ACTIVE),
+            DayOfWeekEnum.WEDNESDAY, 17, true);
+        createSession(createActivity(lyon, "Judo premium", 6, 12, 25000, ActivityStatus.ACTIVE),
+            DayOfWeekEnum.WEDNESDAY, 14, true);
+        createSession(createActivity(lyon, "Judo samedi", 6, 12, 15000, ActivityStatus.ACTIVE),
+            DayOfWeekEnum.SATURDAY, 10, true);
+        createSession(createActivity(lyon, "Judo annule", 6, 12, 15000, ActivityStatus.CANCELLED),
+            DayOfWeekEnum.WEDNESDAY, 14, true);
+        createSession(createActivity(lyon, "Judo sans creneau", 6, 12, 15000, ActivityStatus.ACTIVE),
+            DayOfWeekEnum.WEDNESDAY, 14, false);
+        createSession(createActivity(paris, "Judo Paris", 6, 12, 15000, ActivityStatus.ACTIVE),
+            DayOfWeekEnum.WEDNESDAY, 14, true);
+    }
+
+    @Test
+    @DisplayName("should return only matching activities when combining filters")
+    void should_returnMatchingActivities_when_combiningFilters() {
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "/api/v1/activities/search?category=SPORT&age=9&dayOfWeek=WEDNESDAY&maxPriceCents=20000&city=lyon",
+            String.class);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Activity search must return 200 OK");
+        assertNotNull(response.getBody(), "Response body must not be null");
+        assertEquals(List.of("Judo enfants"), names(response.getBody()),
+            "Only the cheap Wednesday activity for 9-year-olds in Lyon must match, once");
+    }
+
+    @Test
+    @DisplayName("should apply session time window when searching")
+    void should_applySessionTimeWindow_when_searching() {
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "/api/v1/activities/search?dayOfWeek=WEDNESDAY&startsAfter=16:00&endsBefore=19:00",
+            String.class);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Activity search must return 200 OK");
+        assertNotNull(response.getBody(), "Response body must not be null");
+        assertEquals(List.of("Judo ados"), names(response.getBody()),
+            "Only activities with a session inside the time window must match");
+    }
+
+    @Test
+    @DisplayName("should return every activity exactly once when following cursors")
+    void should_returnEveryActivityOnce_when_followingCursors() {
+        // given
+        List<String> collected = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+
+        // when
+        do {
+            String url = "/api/v1/activities/search?size=2" + (cursor != null ? "&cursor=" + cursor : "");
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode(), "Activity search must return 200 OK");
+            assertNotNull(response.getBody(), "Response body must not be null");
+
+            collected.addAll(names(response.getBody()));
+            Matcher next = NEXT_CURSOR.matcher(response.getBody());
+            cursor = next.find() ? next.group(1) : null;
+            slices++;
+        } while (cursor != null);
+
+        // then
+        assertEquals(List.of("Judo Paris", "Judo ados", "Judo enfants", "Judo premium", "Judo samedi"), collected,
+            "Cursor pages must cover all active activities with an active session, in name order");
+        assertEquals(3, slices, "Five results with size 2 must span three slices");
+    }
+
+    @Test
+    @DisplayName("should return 400 when cursor is malformed")
+    void should_return400_when_cursorMalformed() {
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "/api/v1/activities/search?cursor=not-a-cursor", String.class);
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(),
+            "A malformed cursor must return 400 Bad Request");
+    }
+
+    private List<String> names(String body) {
+        List<String> names = new ArrayList<>();
+        Matcher matcher = NAME.matcher(body);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    private Association createAssociation(String name, String slug, String city) {
+        return associationRepository.save(Association.builder()
+            .name(name)
+            .slug(slug)
+            .city(city)
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+    }
+
+    private Activity createActivity(Association association, String name, int minAge, int maxAge,
+                                    int priceCents, ActivityStatus status) {
+        return activityRepository.save(Activity.builder()
+            .association(association)
+            .name(name)
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .minAge(minAge)
+            .maxAge(maxAge)
+            .priceCents(priceCents)
+            .status(status)
+            .build());
+    }
+
+    private void createSession(Activity activity, DayOfWeekEnum dayOfWeek, int startHour, boolean active) {
+        sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(dayOfWeek)
+            .startTime(LocalTime.of(startHour, 0))
+            .endTime(LocalTime.of(startHour + 1, 0))
+            .active(active)
+            .build());
+    }
+}
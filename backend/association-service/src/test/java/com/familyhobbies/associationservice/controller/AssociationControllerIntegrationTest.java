@@ -17,21 +17,26 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Integration tests for AssociationController.
  *
  * Story: S2-003 -- Association Entity + Search
- * Tests: 4 test methods
+ * Tests: 5 test methods
  *
  * These tests verify the full HTTP round-trip:
  * - GET /api/v1/associations -> 200 OK with paginated results
  * - GET /api/v1/associations?city=Lyon -> 200 OK with filtered results
  * - GET /api/v1/associations/{id} -> 200 OK with detail
  * - GET /api/v1/associations/{id} -> 404 Not Found
+ * - GET /api/v1/associations/scroll -> 200 OK with keyset slices
  *
  * Uses @SpringBootTest with RANDOM_PORT and TestRestTemplate for full
  * integration testing with H2 database (application-test.yml).
@@ -170,4 +175,41 @@ class AssociationControllerIntegrationTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(),
             "Getting non-existent association must return 404 Not Found");
     }
+
+    @Test
+    @DisplayName("should return 200 with keyset slices when scrolling associations")
+    void should_return200WithKeysetSlices_when_scrolling() {
+        // when
+        ResponseEntity<String> first = restTemplate.getForEntity(
+            "/api/v1/associations/scroll?size=1", String.class);
+
+        // then
+        assertEquals(HttpStatus.OK, first.getStatusCode(),
+            "Scrolling associations must return 200 OK");
+        assertNotNull(first.getBody(), "Response body must not be null");
+        assertTrue(first.getBody().contains("Lyon Natation Metropole"),
+            "First slice must contain the alphabetically first association");
+        assertFalse(first.getBody().contains("Paris Athletisme Club"),
+            "First slice must not contain the second association");
+        assertTrue(first.getBody().contains("\"hasNext\":true"),
+            "First slice must report more rows");
+
+        Matcher cursor = Pattern.compile("\"nextCursor\":\"([^\"]+)\"").matcher(first.getBody());
+        assertTrue(cursor.find(), "First slice must carry a next cursor");
+
+        // when
+        ResponseEntity<String> second = restTemplate.getForEntity(
+            "/api/v1/associations/scroll?size=1&cursor=" + cursor.group(1), String.class);
+
+        // then
+        assertEquals(HttpStatus.OK, second.getStatusCode(),
+            "Scrolling with a cursor must return 200 OK");
+        assertNotNull(second.getBody(), "Response body must not be null");
+        assertTrue(second.getBody().contains("Paris Athletisme Club"),
+            "Second slice must contain the next association");
+        assertFalse(second.getBody().contains("Lyon Natation Metropole"),
+            "Second slice must not repeat rows from the first slice");
+        assertTrue(second.getBody().contains("\"hasNext\":false"),
+            "Last slice must report no more rows");
+    }
 }
@@ -18,6 +18,8 @@ import com.familyhobbies.associationservice.repository.AssociationRepository;
 import com.familyhobbies.associationservice.repository.AttendanceRepository;
 import com.familyhobbies.associationservice.repository.SessionRepository;
 import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -67,6 +69,9 @@ class AttendanceControllerIntegrationTest {
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
     private Association testAssociation;
     private Activity testActivity;
     private Session testSession;
@@ -75,11 +80,7 @@ class AttendanceControllerIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        attendanceRepository.deleteAll();
-        subscriptionRepository.deleteAll();
-        sessionRepository.deleteAll();
-        activityRepository.deleteAll();
-        associationRepository.deleteAll();
+        databaseCleaner.clear();
 
         testAssociation = associationRepository.save(Association.builder()
             .name("Lyon Natation Metropole")
@@ -119,6 +120,11 @@ class AttendanceControllerIntegrationTest {
             .build());
     }
 
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
     private HttpHeaders createHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,246 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-count regression tests for the attendance history endpoints.
+ *
+ * - GET /api/v1/attendance/member/{id}/history: following the cursor returns every record
+ *   once, in (session date, id) order, with one statement per slice
+ * - GET /api/v1/attendance/subscription/{id}/history: subscription check + one statement
+ * - The non-paginated member and subscription lists return the 200 most recent records,
+ *   newest first, flag the truncation with a Link to the cursor endpoint and run the same
+ *   projection, without per-record session or subscription loads
+ *
+ * Relies on hibernate.generate_statistics (enabled in application-test.yml).
+ *
+ * Tests: 4 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AttendanceHistoryQueryCountIntegrationTest {
+
+    private static final int HISTORY_ROWS = 250;
+    private static final int LIST_LIMIT = 200;
+    private static final long MEMBER_ID = 10L;
+    private static final LocalDate LATEST_DATE = LocalDate.of(2020, 9, 1).plusWeeks(HISTORY_ROWS - 1);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Subscription testSubscription;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole-history")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Activity activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .status(ActivityStatus.ACTIVE)
+            .priceCents(18000)
+            .build());
+        Session session = sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.TUESDAY)
+            .startTime(LocalTime.of(18, 0))
+            .endTime(LocalTime.of(19, 0))
+            .active(true)
+            .build());
+        testSubscription = subscriptionRepository.save(Subscription.builder()
+            .activity(activity)
+            .familyMemberId(MEMBER_ID)
+            .familyId(5L)
+            .userId(100L)
+            .memberFirstName("Lucas")
+            .memberLastName("Dupont")
+            .subscriptionType(SubscriptionType.ADHESION)
+            .status(SubscriptionStatus.ACTIVE)
+            .startDate(LocalDate.of(2020, 9, 1))
+            .build());
+
+        // Weekly history, inserted newest first so that id order differs from date order
+        jdbcTemplate.update(
+            "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, "
+                + "status, marked_by, created_at, updated_at) "
+                + "SELECT ?, ?, ?, DATEADD('WEEK', ? - \"X\", DATE '2020-09-01'), 'PRESENT', 100, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+            session.getId(), MEMBER_ID, testSubscription.getId(), HISTORY_ROWS, HISTORY_ROWS);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_returnEveryRecordOnceInDateOrder_when_followingMemberHistoryCursor")
+    void should_returnEveryRecordOnceInDateOrder_when_followingMemberHistoryCursor() throws Exception {
+        List<String> dates = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+
+        do {
+            statistics.clear();
+            JsonNode slice = get("/api/v1/attendance/member/" + MEMBER_ID + "/history?size=100"
+                + (cursor != null ? "&cursor=" + cursor : ""));
+            assertThat(statistics.getPrepareStatementCount())
+                .as("One projection statement per slice")
+                .isEqualTo(1);
+
+            slice.get("content").forEach(record -> {
+                dates.add(record.get("sessionDate").asText());
+                assertThat(record.get("memberFirstName").asText()).isEqualTo("Lucas");
+            });
+            cursor = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asText() : null;
+            slices++;
+        } while (cursor != null);
+
+        assertThat(slices).isEqualTo(3);
+        assertThat(dates).hasSize(HISTORY_ROWS).doesNotHaveDuplicates().isSorted();
+        assertThat(dates.get(0)).isEqualTo("2020-09-01");
+    }
+
+    @Test
+    @DisplayName("should_checkSubscriptionThenRunOneStatement_when_scrollingSubscriptionHistory")
+    void should_checkSubscriptionThenRunOneStatement_when_scrollingSubscriptionHistory() throws Exception {
+        statistics.clear();
+
+        JsonNode slice = get("/api/v1/attendance/subscription/" + testSubscription.getId() + "/history");
+
+        assertThat(slice.get("content")).hasSize(20);
+        assertThat(slice.get("hasNext").asBoolean()).isTrue();
+        assertThat(statistics.getPrepareStatementCount())
+            .as("Subscription ownership check + one projection statement")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should_capListNewestFirstInOneStatement_when_listingMemberHistory")
+    void should_capListNewestFirstInOneStatement_when_listingMemberHistory() throws Exception {
+        statistics.clear();
+
+        ResponseEntity<String> response = exchange("/api/v1/attendance/member/" + MEMBER_ID);
+
+        JsonNode records = objectMapper.readTree(response.getBody());
+        List<String> dates = new ArrayList<>();
+        records.forEach(record -> dates.add(record.get("sessionDate").asText()));
+        assertThat(dates).hasSize(LIST_LIMIT).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(dates.get(0)).isEqualTo(LATEST_DATE.toString());
+        assertThat(response.getHeaders().getFirst("X-Truncated")).isEqualTo("true");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.LINK))
+            .isEqualTo("</api/v1/attendance/member/" + MEMBER_ID + "/history>; rel=\"history\"");
+        assertThat(statistics.getPrepareStatementCount())
+            .as("No per-record session or subscription loads")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_capListNewestFirstInTwoStatements_when_listingSubscriptionHistory")
+    void should_capListNewestFirstInTwoStatements_when_listingSubscriptionHistory() throws Exception {
+        statistics.clear();
+
+        ResponseEntity<String> response = exchange("/api/v1/attendance/subscription/" + testSubscription.getId());
+
+        JsonNode records = objectMapper.readTree(response.getBody());
+        assertThat(records).hasSize(LIST_LIMIT);
+        assertThat(records.get(0).get("sessionDate").asText()).isEqualTo(LATEST_DATE.toString());
+        assertThat(response.getHeaders().getFirst("X-Truncated")).isEqualTo("true");
+        assertThat(statistics.getPrepareStatementCount())
+            .as("Subscription ownership check + one projection statement")
+            .isEqualTo(2);
+    }
+
+    private JsonNode get(String url) throws Exception {
+        return objectMapper.readTree(exchange(url).getBody());
+    }
+
+    private ResponseEntity<String> exchange(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-User-Id", "100");
+        headers.set("X-User-Roles", "FAMILY");
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response;
+    }
+}
@@ -0,0 +1,267 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for GET /api/v1/attendance/report.
+ *
+ * - CSV by association: rows of every activity within the inclusive period, in date order
+ * - NDJSON by session: only that session's rows
+ * - FAMILY role -> 403, two scopes -> 400, unknown activity -> 404
+ * - Streaming throughput over report.benchmark.rows rows (default 100000), read line by
+ *   line by the client and logged. Not asserted: in-memory H2 on a shared CI runner says
+ *   little about PostgreSQL throughput
+ *
+ * Tests: 6 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AttendanceReportIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceReportIntegrationTest.class);
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("report.benchmark.rows", 100_000);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Association testAssociation;
+    private Activity swimming;
+    private Session swimmingSession;
+    private Session judoSession;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        testAssociation = associationRepository.save(Association.builder()
+            .name("Lyon Sports Metropole")
+            .slug("lyon-sports-metropole-report")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        swimming = saveActivity("Natation enfants");
+        Activity judo = saveActivity("Judo, ceinture blanche");
+        swimmingSession = saveSession(swimming, DayOfWeekEnum.TUESDAY);
+        judoSession = saveSession(judo, DayOfWeekEnum.WEDNESDAY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_streamEveryActivityWithinPeriod_when_exportingAssociationAsCsv")
+    void should_streamEveryActivityWithinPeriod_when_exportingAssociationAsCsv() {
+        // Given
+        insertAttendance(swimmingSession, 10L, 40);
+        insertAttendance(judoSession, 11L, 40);
+
+        // When
+        ResponseEntity<String> response = exchange(
+            "associationId=" + testAssociation.getId() + "&from=2020-01-05&to=2020-01-14", "ASSOCIATION");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(response.getHeaders().getContentDisposition().getFilename())
+            .isEqualTo("attendance-2020-01-05_2020-01-14.csv");
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines.get(0)).startsWith("attendance_id,session_date,");
+        assertThat(lines).hasSize(1 + 20);
+        assertThat(lines.get(1)).contains(",2020-01-05,");
+        assertThat(lines.get(20)).contains(",2020-01-14,");
+        assertThat(lines).anyMatch(line -> line.contains(",\"Judo, ceinture blanche\","));
+    }
+
+    @Test
+    @DisplayName("should_streamOnlyThatSession_when_exportingSessionAsNdjson")
+    void should_streamOnlyThatSession_when_exportingSessionAsNdjson() {
+        // Given
+        insertAttendance(swimmingSession, 10L, 5);
+        insertAttendance(judoSession, 11L, 5);
+
+        // When
+        ResponseEntity<String> response = exchange(
+            "sessionId=" + judoSession.getId() + "&from=2020-01-01&to=2020-12-31&format=NDJSON", "ADMIN");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines).allMatch(line -> line.contains("\"sessionId\":" + judoSession.getId()));
+    }
+
+    @Test
+    @DisplayName("should_return403_when_exportingWithFamilyRole")
+    void should_return403_when_exportingWithFamilyRole() {
+        ResponseEntity<String> response = exchange(
+            "activityId=" + swimming.getId() + "&from=2020-01-01&to=2020-12-31", "FAMILY");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("should_return400_when_exportingWithTwoScopes")
+    void should_return400_when_exportingWithTwoScopes() {
+        ResponseEntity<String> response = exchange("activityId=" + swimming.getId()
+            + "&sessionId=" + swimmingSession.getId() + "&from=2020-01-01&to=2020-12-31", "ASSOCIATION");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("should_return404_when_exportingUnknownActivity")
+    void should_return404_when_exportingUnknownActivity() {
+        ResponseEntity<String> response = exchange(
+            "activityId=999999&from=2020-01-01&to=2020-12-31", "ASSOCIATION");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("should_streamEveryRow_when_exportingLargeActivity")
+    void should_streamEveryRow_when_exportingLargeActivity() {
+        // Given
+        insertAttendance(swimmingSession, 10L, BENCHMARK_ROWS);
+        HttpHeaders headers = headers("ASSOCIATION");
+        String url = "/api/v1/attendance/report?activityId=" + swimming.getId() + "&from=2020-01-01&to=2999-12-31";
+
+        // When
+        long startedAt = System.nanoTime();
+        long[] linesAndBytes = restTemplate.getRestTemplate().execute(
+            restTemplate.getRootUri() + url, HttpMethod.GET,
+            request -> request.getHeaders().putAll(headers),
+            response -> {
+                long lines = 0;
+                long bytes = 0;
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        lines++;
+                        bytes += line.length() + 2;
+                    }
+                }
+                return new long[] {lines, bytes};
+            });
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        // Then
+        log.info("Attendance report: {} rows, {} KB in {} ms ({} rows/s, {} MB/s)",
+            BENCHMARK_ROWS, linesAndBytes[1] / 1024, elapsedMillis,
+            BENCHMARK_ROWS * 1000L / elapsedMillis,
+            String.format("%.1f", linesAndBytes[1] / 1024.0 / 1024.0 * 1000.0 / elapsedMillis));
+        assertThat(linesAndBytes[0]).isEqualTo(1L + BENCHMARK_ROWS);
+    }
+
+    private ResponseEntity<String> exchange(String query, String roles) {
+        return restTemplate.exchange("/api/v1/attendance/report?" + query,
+            HttpMethod.GET, new HttpEntity<>(headers(roles)), String.class);
+    }
+
+    private HttpHeaders headers(String roles) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-User-Id", "100");
+        headers.set("X-User-Roles", roles);
+        return headers;
+    }
+
+    private Activity saveActivity(String name) {
+        return activityRepository.save(Activity.builder()
+            .association(testAssociation)
+            .name(name)
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .status(ActivityStatus.ACTIVE)
+            .priceCents(18000)
+            .build());
+    }
+
+    private Session saveSession(Activity activity, DayOfWeekEnum dayOfWeek) {
+        return sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(dayOfWeek)
+            .startTime(LocalTime.of(18, 0))
+            .endTime(LocalTime.of(19, 0))
+            .active(true)
+            .build());
+    }
+
+    /**
+     * Inserts a subscription for {@code memberId} to the session's activity and {@code rows}
+     * attendance records for it, one per day from 2020-01-01.
+     */
+    private void insertAttendance(Session session, Long memberId, int rows) {
+        Long activityId = session.getActivity().getId();
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, member_first_name, member_last_name, "
+                + "created_at, updated_at) "
+                + "VALUES (?, ?, 5, 100, 'ADHESION', 'ACTIVE', DATE '2020-01-01', 'Lucas', 'Dupont', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            activityId, memberId);
+        Long subscriptionId = jdbcTemplate.queryForObject(
+            "SELECT id FROM t_subscription WHERE activity_id = ? AND family_member_id = ?",
+            Long.class, activityId, memberId);
+        jdbcTemplate.update(
+            "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, "
+                + "status, marked_by, created_at, updated_at) "
+                + "SELECT ?, ?, ?, DATEADD('DAY', \"X\" - 1, DATE '2020-01-01'), 'PRESENT', 100, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+            session.getId(), memberId, subscriptionId, rows);
+    }
+}
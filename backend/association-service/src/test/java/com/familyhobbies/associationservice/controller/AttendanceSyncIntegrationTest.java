@@ -0,0 +1,389 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
+import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncOutcome;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncResultResponse;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Attendance;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRepository;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.AttendanceStatusCount;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.AttendanceService;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for POST /api/v1/attendance/sync.
+ *
+ * - First upload creates every mark; replaying the same payload changes nothing
+ * - Last write wins on modifiedAt: an older mark is STALE, a newer one UPDATED, and of two
+ *   marks for the same record in one request only the latest is written
+ * - A mark modified offline before an online update is STALE
+ * - Invalid marks are REJECTED one by one, the rest of the batch is written
+ * - Marks on another family's subscription, or naming another member than the
+ *   subscription's, are REJECTED and leave the other family's record untouched
+ * - ASSOCIATION role -> 403
+ *
+ * Kafka publishing is mocked, as in BulkAttendanceIntegrationTest.
+ *
+ * Tests: 6 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AttendanceSyncIntegrationTest {
+
+    private static final LocalDate SESSION_DATE = LocalDate.of(2025, 9, 3);
+    private static final Instant MODIFIED_AT = Instant.parse("2025-09-03T14:55:00.123456Z");
+
+    @MockBean
+    private AttendanceEventPublisher eventPublisher;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceCounterRepository attendanceCounterRepository;
+
+    @Autowired
+    private AttendanceBitmapRepository attendanceBitmapRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Activity activity;
+    private Session testSession;
+    private List<Subscription> subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole-sync")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+        testSession = saveSession(true);
+
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, created_at, updated_at) "
+                + "SELECT ?, \"X\", 5, 100, 'ADHESION', 'ACTIVE', DATE '2025-09-01', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 3)",
+            activity.getId());
+        subscriptions = subscriptionRepository.findByActivity_Id(activity.getId()).stream()
+            .sorted((left, right) -> left.getId().compareTo(right.getId()))
+            .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_createMarksOnceAndReportReplayAsUnchanged_when_syncingSamePayloadTwice")
+    void should_createMarksOnceAndReportReplayAsUnchanged_when_syncingSamePayloadTwice() {
+        // Given
+        List<AttendanceSyncRequest.SyncMark> marks = subscriptions.stream()
+            .map(subscription -> mark(subscription, SESSION_DATE, AttendanceStatus.PRESENT, MODIFIED_AT))
+            .toList();
+
+        // When
+        List<AttendanceSyncResultResponse> first = sync(marks);
+        List<Object> updatedAt = jdbcTemplate.queryForList(
+            "SELECT updated_at FROM t_attendance ORDER BY id", Object.class);
+        List<AttendanceSyncResultResponse> replay = sync(marks);
+
+        // Then
+        assertThat(first).extracting(AttendanceSyncResultResponse::outcome)
+            .containsOnly(AttendanceSyncOutcome.CREATED);
+        assertThat(first).extracting(AttendanceSyncResultResponse::clientMarkId)
+            .containsExactlyElementsOf(marks.stream().map(AttendanceSyncRequest.SyncMark::clientMarkId).toList());
+        assertThat(replay).extracting(AttendanceSyncResultResponse::outcome)
+            .containsOnly(AttendanceSyncOutcome.UNCHANGED);
+        assertThat(replay).extracting(AttendanceSyncResultResponse::attendanceId)
+            .containsExactlyElementsOf(first.stream().map(AttendanceSyncResultResponse::attendanceId).toList());
+
+        assertThat(attendanceRepository.count()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT updated_at FROM t_attendance ORDER BY id", Object.class))
+            .as("A replay writes nothing")
+            .isEqualTo(updatedAt);
+        Attendance stored = attendanceRepository.findById(first.get(0).attendanceId()).orElseThrow();
+        assertThat(stored.getClientMarkId()).isEqualTo(marks.get(0).clientMarkId());
+        assertThat(stored.getModifiedAt()).isEqualTo(MODIFIED_AT);
+        assertThat(counts(subscriptions.get(0))).isEqualTo(Map.of(AttendanceStatus.PRESENT, 1L));
+        assertThat(attendanceBitmapRepository.findBySessionIdAndSeasonStart(
+            testSession.getId(), LocalDate.of(2025, 9, 1))).hasSize(3);
+        verify(eventPublisher, times(1)).publishAttendancesMarked(anyList());
+    }
+
+    @Test
+    @DisplayName("should_keepLatestModification_when_marksConflict")
+    void should_keepLatestModification_when_marksConflict() {
+        // Given
+        Subscription subscription = subscriptions.get(0);
+        Long attendanceId = sync(List.of(mark(subscription, SESSION_DATE, AttendanceStatus.PRESENT, MODIFIED_AT)))
+            .get(0).attendanceId();
+
+        // When
+        AttendanceSyncResultResponse older = sync(List.of(mark(subscription, SESSION_DATE,
+            AttendanceStatus.ABSENT, MODIFIED_AT.minusSeconds(60)))).get(0);
+        AttendanceSyncRequest.SyncMark superseded =
+            mark(subscription, SESSION_DATE, AttendanceStatus.LATE, MODIFIED_AT.plusSeconds(60));
+        AttendanceSyncRequest.SyncMark latest =
+            mark(subscription, SESSION_DATE, AttendanceStatus.ABSENT, MODIFIED_AT.plusSeconds(120));
+        List<AttendanceSyncResultResponse> newer = sync(List.of(latest, superseded));
+
+        // Then
+        assertThat(older.outcome()).isEqualTo(AttendanceSyncOutcome.STALE);
+        assertThat(older.attendanceId()).isEqualTo(attendanceId);
+        assertThat(newer).extracting(AttendanceSyncResultResponse::outcome)
+            .containsExactly(AttendanceSyncOutcome.UPDATED, AttendanceSyncOutcome.STALE);
+        assertThat(newer).extracting(AttendanceSyncResultResponse::attendanceId)
+            .containsOnly(attendanceId);
+
+        Attendance stored = attendanceRepository.findById(attendanceId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(stored.getClientMarkId()).isEqualTo(latest.clientMarkId());
+        assertThat(counts(subscription)).isEqualTo(Map.of(AttendanceStatus.ABSENT, 1L));
+        assertThat(attendanceBitmapRepository.findBySessionIdAndSeasonStart(
+                testSession.getId(), LocalDate.of(2025, 9, 1)))
+            .singleElement()
+            .satisfies(bitmap -> {
+                assertThat(bitmap.getPresentBits()).isZero();
+                assertThat(bitmap.getAbsentBits()).isNotZero();
+            });
+    }
+
+    @Test
+    @DisplayName("should_reportStale_when_markModifiedBeforeOnlineUpdate")
+    void should_reportStale_when_markModifiedBeforeOnlineUpdate() {
+        // Given
+        Subscription subscription = subscriptions.get(1);
+        Long attendanceId = sync(List.of(mark(subscription, SESSION_DATE, AttendanceStatus.PRESENT,
+            Instant.now().minus(2, ChronoUnit.HOURS)))).get(0).attendanceId();
+        attendanceService.updateAttendance(attendanceId, new MarkAttendanceRequest(
+            testSession.getId(), subscription.getFamilyMemberId(), subscription.getId(), SESSION_DATE,
+            AttendanceStatus.EXCUSED, "Sick"), 100L);
+
+        // When
+        AttendanceSyncResultResponse delayed = sync(List.of(mark(subscription, SESSION_DATE,
+            AttendanceStatus.ABSENT, Instant.now().minus(1, ChronoUnit.HOURS)))).get(0);
+
+        // Then
+        assertThat(delayed.outcome()).isEqualTo(AttendanceSyncOutcome.STALE);
+        Attendance stored = attendanceRepository.findById(attendanceId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(AttendanceStatus.EXCUSED);
+        assertThat(stored.getClientMarkId()).isNull();
+        assertThat(counts(subscription)).isEqualTo(Map.of(AttendanceStatus.EXCUSED, 1L));
+    }
+
+    @Test
+    @DisplayName("should_rejectInvalidMarksOnly_when_batchMixesValidAndInvalid")
+    void should_rejectInvalidMarksOnly_when_batchMixesValidAndInvalid() {
+        // Given
+        Session inactive = saveSession(false);
+        Subscription subscription = subscriptions.get(2);
+        List<AttendanceSyncRequest.SyncMark> marks = List.of(
+            mark(subscription, SESSION_DATE, AttendanceStatus.PRESENT, MODIFIED_AT),
+            new AttendanceSyncRequest.SyncMark(UUID.randomUUID(), testSession.getId(),
+                subscription.getFamilyMemberId(), 999_999L, SESSION_DATE.plusWeeks(1),
+                AttendanceStatus.PRESENT, null, MODIFIED_AT),
+            new AttendanceSyncRequest.SyncMark(UUID.randomUUID(), inactive.getId(),
+                subscription.getFamilyMemberId(), subscription.getId(), SESSION_DATE,
+                AttendanceStatus.PRESENT, null, MODIFIED_AT),
+            mark(subscription, LocalDate.now().plusDays(7), AttendanceStatus.PRESENT, MODIFIED_AT),
+            mark(subscription, SESSION_DATE.plusWeeks(2), AttendanceStatus.PRESENT,
+                Instant.now().plus(1, ChronoUnit.DAYS)));
+
+        // When
+        List<AttendanceSyncResultResponse> results = sync(marks);
+
+        // Then
+        assertThat(results).extracting(AttendanceSyncResultResponse::outcome).containsExactly(
+            AttendanceSyncOutcome.CREATED,
+            AttendanceSyncOutcome.REJECTED,
+            AttendanceSyncOutcome.REJECTED,
+            AttendanceSyncOutcome.REJECTED,
+            AttendanceSyncOutcome.REJECTED);
+        assertThat(results.get(1).message()).contains("Subscription").contains("999999");
+        assertThat(results.subList(1, 5)).allSatisfy(result -> {
+            assertThat(result.attendanceId()).isNull();
+            assertThat(result.message()).isNotBlank();
+        });
+        assertThat(attendanceRepository.count()).isEqualTo(1);
+        assertThat(counts(subscription)).isEqualTo(Map.of(AttendanceStatus.PRESENT, 1L));
+    }
+
+    @Test
+    @DisplayName("should_rejectMarks_when_subscriptionBelongsToAnotherFamilyOrMemberMismatches")
+    void should_rejectMarks_when_subscriptionBelongsToAnotherFamilyOrMemberMismatches() {
+        // Given -- member 50 subscribed by user 200, already marked PRESENT by that family
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, created_at, updated_at) "
+                + "VALUES (?, 50, 8, 200, 'ADHESION', 'ACTIVE', DATE '2025-09-01', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            activity.getId());
+        Subscription otherFamily = subscriptionRepository.findByActivity_Id(activity.getId()).stream()
+            .filter(subscription -> subscription.getUserId() == 200L)
+            .findFirst()
+            .orElseThrow();
+        Long attendanceId = attendanceService.syncAttendance(new AttendanceSyncRequest(List.of(
+                mark(otherFamily, SESSION_DATE, AttendanceStatus.PRESENT, MODIFIED_AT))), 200L)
+            .get(0).attendanceId();
+        Subscription own = subscriptions.get(0);
+
+        // When
+        List<AttendanceSyncResultResponse> results = sync(List.of(
+            mark(otherFamily, SESSION_DATE, AttendanceStatus.ABSENT, Instant.now()),
+            new AttendanceSyncRequest.SyncMark(UUID.randomUUID(), testSession.getId(),
+                otherFamily.getFamilyMemberId(), own.getId(), SESSION_DATE,
+                AttendanceStatus.ABSENT, null, Instant.now())));
+
+        // Then
+        assertThat(results).extracting(AttendanceSyncResultResponse::outcome)
+            .containsOnly(AttendanceSyncOutcome.REJECTED);
+        assertThat(results.get(0).message()).contains("permission");
+        assertThat(results.get(1).message()).contains("does not match");
+        assertThat(attendanceRepository.count()).isEqualTo(1);
+        assertThat(attendanceRepository.findById(attendanceId).orElseThrow().getStatus())
+            .isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(counts(otherFamily)).isEqualTo(Map.of(AttendanceStatus.PRESENT, 1L));
+        assertThat(counts(own)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should_return403_when_roleIsNotFamily")
+    void should_return403_when_roleIsNotFamily() {
+        // Given
+        clearInvocations(eventPublisher);
+        AttendanceSyncRequest request = new AttendanceSyncRequest(List.of(
+            mark(subscriptions.get(0), SESSION_DATE, AttendanceStatus.PRESENT, MODIFIED_AT)));
+
+        // When
+        ResponseEntity<String> response = restTemplate.exchange("/api/v1/attendance/sync",
+            HttpMethod.POST, new HttpEntity<>(request, headers("ASSOCIATION")), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(attendanceRepository.count()).isZero();
+        verify(eventPublisher, never()).publishAttendancesMarked(anyList());
+    }
+
+    private List<AttendanceSyncResultResponse> sync(List<AttendanceSyncRequest.SyncMark> marks) {
+        ResponseEntity<AttendanceSyncResultResponse[]> response = restTemplate.exchange(
+            "/api/v1/attendance/sync", HttpMethod.POST,
+            new HttpEntity<>(new AttendanceSyncRequest(marks), headers("FAMILY")),
+            AttendanceSyncResultResponse[].class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return List.of(response.getBody());
+    }
+
+    private AttendanceSyncRequest.SyncMark mark(Subscription subscription, LocalDate sessionDate,
+                                                AttendanceStatus status, Instant modifiedAt) {
+        return new AttendanceSyncRequest.SyncMark(UUID.randomUUID(), testSession.getId(),
+            subscription.getFamilyMemberId(), subscription.getId(), sessionDate, status, null, modifiedAt);
+    }
+
+    private Map<AttendanceStatus, Long> counts(Subscription subscription) {
+        return attendanceCounterRepository.findStatusCounts(subscription.getFamilyMemberId()).stream()
+            .filter(count -> count.getAttendanceCount() > 0)
+            .collect(Collectors.toMap(AttendanceStatusCount::getStatus,
+                AttendanceStatusCount::getAttendanceCount, Long::sum));
+    }
+
+    private HttpHeaders headers(String roles) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-User-Id", "100");
+        headers.set("X-User-Roles", roles);
+        return headers;
+    }
+
+    private Session saveSession(boolean active) {
+        return sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .active(active)
+            .build());
+    }
+}
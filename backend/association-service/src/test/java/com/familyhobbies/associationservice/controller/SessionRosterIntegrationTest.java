@@ -0,0 +1,240 @@
+package com.familyhobbies.associationservice.controller;
+
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for GET /api/v1/attendance/session/{id}/roster.
+ *
+ * - 60 active subscribers: every one listed once by name, with the status recorded on the
+ *   requested date or null, in a single statement. Cancelled subscribers, other activities
+ *   and other dates are left out. Median timing logged, not asserted: in-memory H2 on a
+ *   shared CI runner says little about PostgreSQL latency
+ * - Unknown session -> 404
+ * - FAMILY role -> 403: the roster lists every subscriber, not only the caller's family
+ *
+ * Relies on hibernate.generate_statistics (enabled in application-test.yml).
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SessionRosterIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionRosterIntegrationTest.class);
+
+    private static final int MEMBERS = 60;
+    private static final int ROUNDS = 25;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Session swimmingSession;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Sports Metropole")
+            .slug("lyon-sports-metropole-roster")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Activity swimming = saveActivity(association, "Natation enfants");
+        Activity judo = saveActivity(association, "Judo");
+        swimmingSession = saveSession(swimming);
+        Session judoSession = saveSession(judo);
+
+        insertSubscriptions(swimming, 1, MEMBERS, "ACTIVE");
+        insertSubscriptions(swimming, MEMBERS + 1, MEMBERS + 5, "CANCELLED");
+        insertSubscriptions(judo, MEMBERS + 6, MEMBERS + 10, "ACTIVE");
+
+        // Odd members marked PRESENT on the roster date, every member ABSENT the week before
+        insertAttendance(swimmingSession, "2025-09-10", "PRESENT", "MOD(s.family_member_id, 2) = 1");
+        insertAttendance(swimmingSession, "2025-09-03", "ABSENT", "TRUE");
+        insertAttendance(judoSession, "2025-09-10", "LATE", "TRUE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_listEveryActiveSubscriberWithStatus_when_gettingRosterInOneStatement")
+    void should_listEveryActiveSubscriberWithStatus_when_gettingRosterInOneStatement() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String url = "/api/v1/attendance/session/" + swimmingSession.getId() + "/roster?date=2025-09-10";
+        long[] timings = new long[ROUNDS];
+        ResponseEntity<SessionRosterResponse> response = null;
+        long statements = 0;
+
+        // When
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers("ASSOCIATION")),
+                SessionRosterResponse.class);
+            timings[round] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+            statements = statistics.getPrepareStatementCount();
+        }
+
+        Arrays.sort(timings);
+        log.info("Session roster: {} members in {} us (median of {} rounds over HTTP)",
+            MEMBERS, timings[ROUNDS / 2], ROUNDS);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        SessionRosterResponse roster = response.getBody();
+        assertThat(roster.sessionId()).isEqualTo(swimmingSession.getId());
+        assertThat(roster.members()).hasSize(MEMBERS);
+        assertThat(roster.members()).extracting(SessionRosterResponse.Member::familyMemberId)
+            .doesNotHaveDuplicates()
+            .allMatch(memberId -> memberId <= MEMBERS);
+        assertThat(roster.members()).extracting(SessionRosterResponse.Member::memberLastName)
+            .isSorted();
+        assertThat(roster.members()).allSatisfy(member -> {
+            if (member.familyMemberId() % 2 == 1) {
+                assertThat(member.status()).isEqualTo(AttendanceStatus.PRESENT);
+                assertThat(member.attendanceId()).isNotNull();
+            } else {
+                assertThat(member.status()).isNull();
+                assertThat(member.attendanceId()).isNull();
+            }
+        });
+        assertThat(statements).as("Roster and attendance in one LEFT JOIN").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_return404_when_sessionNotFound")
+    void should_return404_when_sessionNotFound() {
+        // When
+        ResponseEntity<String> response = restTemplate.exchange(
+            "/api/v1/attendance/session/999999/roster?date=2025-09-10", HttpMethod.GET,
+            new HttpEntity<>(headers("ASSOCIATION")), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("should_return403_when_familyRoleRequestsRoster")
+    void should_return403_when_familyRoleRequestsRoster() {
+        // When
+        ResponseEntity<String> response = restTemplate.exchange(
+            "/api/v1/attendance/session/" + swimmingSession.getId() + "/roster?date=2025-09-10", HttpMethod.GET,
+            new HttpEntity<>(headers("FAMILY")), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private HttpHeaders headers(String roles) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-User-Id", "100");
+        headers.set("X-User-Roles", roles);
+        return headers;
+    }
+
+    private Activity saveActivity(Association association, String name) {
+        return activityRepository.save(Activity.builder()
+            .association(association)
+            .name(name)
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+    }
+
+    private Session saveSession(Activity activity) {
+        return sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .build());
+    }
+
+    /**
+     * Inserts one subscription per member id in {@code [fromMember, toMember]}, named so that
+     * last names sort in a different order than ids.
+     */
+    private void insertSubscriptions(Activity activity, int fromMember, int toMember, String status) {
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, member_first_name, member_last_name, "
+                + "created_at, updated_at) "
+                + "SELECT ?, \"X\", 5, 100, 'ADHESION', ?, DATE '2025-09-01', 'Child' || \"X\", "
+                + "'Name' || LPAD(CAST(MOD(\"X\" * 7, 97) AS VARCHAR), 2, '0'), "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(?, ?)",
+            activity.getId(), status, fromMember, toMember);
+    }
+
+    private void insertAttendance(Session session, String sessionDate, String status, String memberFilter) {
+        jdbcTemplate.update(
+            "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, "
+                + "status, marked_by, created_at, updated_at) "
+                + "SELECT ?, s.family_member_id, s.id, CAST(? AS DATE), ?, 100, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM t_subscription s "
+                + "WHERE s.activity_id = ? AND " + memberFilter,
+            session.getId(), sessionDate, status, session.getActivity().getId());
+    }
+}
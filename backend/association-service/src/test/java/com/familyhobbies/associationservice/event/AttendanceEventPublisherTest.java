@@ -16,11 +16,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,7 +31,7 @@ import static org.mockito.Mockito.when;
  * Unit tests for AttendanceEventPublisher.
  *
  * Story: S4-005 -- Attendance Kafka Events
- * Tests: 4 test methods
+ * Tests: 5 test methods
  */
 @ExtendWith(MockitoExtension.class)
 class AttendanceEventPublisherTest {
@@ -135,4 +138,29 @@ class AttendanceEventPublisherTest {
             any(AttendanceMarkedEvent.class)
         );
     }
+
+    @Test
+    @DisplayName("should_sendEveryEventThenFlushOnce_when_publishingBulkAttendance")
+    @SuppressWarnings("unchecked")
+    void should_sendEveryEventThenFlushOnce_when_publishingBulkAttendance() {
+        Attendance second = Attendance.builder()
+            .id(2L)
+            .session(Session.builder().id(1L).build())
+            .familyMemberId(11L)
+            .status(AttendanceStatus.ABSENT)
+            .build();
+
+        when(kafkaTemplate.send(any(String.class), any(String.class), any()))
+            .thenReturn(new CompletableFuture<>());
+
+        eventPublisher.publishAttendancesMarked(List.of(testAttendance, second));
+
+        var ordered = inOrder(kafkaTemplate);
+        ordered.verify(kafkaTemplate, times(2)).send(
+            eq("family-hobbies.attendance.marked"),
+            any(String.class),
+            any(AttendanceMarkedEvent.class)
+        );
+        ordered.verify(kafkaTemplate).flush();
+    }
 }
@@ -0,0 +1,101 @@
+package com.familyhobbies.associationservice.listener;
+
+import com.familyhobbies.associationservice.config.CacheConfig;
+import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.common.event.AssociationSyncedEvent;
+import com.familyhobbies.common.event.HelloAssoSyncCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AssociationCacheInvalidationConsumer.
+ *
+ * Uses a real in-memory ConcurrentMapCacheManager -- no Spring context loaded.
+ * Tests: 3 test methods
+ */
+class AssociationCacheInvalidationConsumerTest {
+
+    private Cache byId;
+    private Cache bySlug;
+    private AssociationCacheInvalidationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+            CacheConfig.ASSOCIATION_DETAIL_BY_ID, CacheConfig.ASSOCIATION_DETAIL_BY_SLUG);
+        byId = cacheManager.getCache(CacheConfig.ASSOCIATION_DETAIL_BY_ID);
+        bySlug = cacheManager.getCache(CacheConfig.ASSOCIATION_DETAIL_BY_SLUG);
+        consumer = new AssociationCacheInvalidationConsumer(cacheManager);
+
+        cache(1L, "lyon-natation-metropole");
+        cache(2L, "paris-athletisme-club");
+    }
+
+    @Test
+    @DisplayName("should_evictSyncedAssociationOnly_when_associationSynced")
+    void should_evictSyncedAssociationOnly_when_associationSynced() {
+        // Given
+        AssociationSyncedEvent event = new AssociationSyncedEvent(
+            1L, "lyon-natation-metropole", "Lyon Natation Metropole", "ACTIVE");
+
+        // When
+        consumer.handleAssociationSynced(event);
+
+        // Then
+        assertThat(byId.get(1L)).isNull();
+        assertThat(bySlug.get("lyon-natation-metropole")).isNull();
+        assertThat(byId.get(2L)).isNotNull();
+        assertThat(bySlug.get("paris-athletisme-club")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should_evictCachedSlug_when_slugDiffersFromHelloAssoSlug")
+    void should_evictCachedSlug_when_slugDiffersFromHelloAssoSlug() {
+        // Given
+        cache(3L, "local-slug");
+        AssociationSyncedEvent event = new AssociationSyncedEvent(
+            3L, "helloasso-slug", "Renamed Club", "ACTIVE");
+
+        // When
+        consumer.handleAssociationSynced(event);
+
+        // Then
+        assertThat(byId.get(3L)).isNull();
+        assertThat(bySlug.get("local-slug")).isNull();
+    }
+
+    @Test
+    @DisplayName("should_clearBothCaches_when_syncCompleted")
+    void should_clearBothCaches_when_syncCompleted() {
+        // Given
+        HelloAssoSyncCompletedEvent event = new HelloAssoSyncCompletedEvent(
+            1, 1, 0, 2, Instant.now(), 1200L, 100L);
+
+        // When
+        consumer.handleSyncCompleted(event);
+
+        // Then
+        assertThat(byId.get(1L)).isNull();
+        assertThat(byId.get(2L)).isNull();
+        assertThat(bySlug.get("lyon-natation-metropole")).isNull();
+        assertThat(bySlug.get("paris-athletisme-club")).isNull();
+    }
+
+    private void cache(Long id, String slug) {
+        AssociationDetailResponse response = new AssociationDetailResponse(
+            id, "Club " + id, slug, null, null, "Lyon", null, null, null,
+            null, null, null, null, slug, AssociationCategory.SPORT,
+            AssociationStatus.ACTIVE, null, null, null);
+        byId.put(id, response);
+        bySlug.put(slug, response);
+    }
+}
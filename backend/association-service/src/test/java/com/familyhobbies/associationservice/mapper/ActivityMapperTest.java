@@ -76,6 +76,7 @@ class ActivityMapperTest {
             .minAge(6)
             .maxAge(10)
             .maxCapacity(25)
+            .seatsTaken(7)
             .priceCents(18000)
             .seasonStart(LocalDate.of(2025, 9, 1))
             .seasonEnd(LocalDate.of(2026, 6, 30))
@@ -127,6 +128,7 @@ class ActivityMapperTest {
         assertEquals(6, response.minAge());
         assertEquals(10, response.maxAge());
         assertEquals(25, response.maxCapacity());
+        assertEquals(18, response.seatsRemaining());
         assertEquals(18000, response.priceCents());
         assertEquals(LocalDate.of(2025, 9, 1), response.seasonStart());
         assertEquals(LocalDate.of(2026, 6, 30), response.seasonEnd());
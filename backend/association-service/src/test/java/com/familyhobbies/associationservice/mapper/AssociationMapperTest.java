@@ -0,0 +1,94 @@
+package com.familyhobbies.associationservice.mapper;
+
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.entity.Association;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Unit tests for {@link AssociationMapper}.
+ *
+ * Tests: 4 test methods covering contentHash and fromHelloAsso.
+ */
+class AssociationMapperTest {
+
+    private AssociationMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new AssociationMapper();
+    }
+
+    @Test
+    @DisplayName("should_returnSameHash_when_payloadOnlyDiffersByWhitespaceOrCategorySpelling")
+    void should_returnSameHash_when_payloadOnlyDiffersByWhitespaceOrCategorySpelling() {
+        // Given
+        HelloAssoOrganization organization = organization("Lyon Natation Metropole", "Sport", null, null);
+        HelloAssoOrganization reformatted = organization("  Lyon Natation Metropole ", "sports", "   ", "");
+
+        // When
+        String hash = mapper.contentHash(organization);
+
+        // Then
+        assertEquals(64, hash.length());
+        assertEquals(hash, mapper.contentHash(organization));
+        assertEquals(hash, mapper.contentHash(reformatted));
+    }
+
+    @Test
+    @DisplayName("should_returnDifferentHash_when_syncedFieldChanges")
+    void should_returnDifferentHash_when_syncedFieldChanges() {
+        // Given
+        String hash = mapper.contentHash(organization("Lyon Natation Metropole", "Sport", null, null));
+
+        // When / Then
+        assertNotEquals(hash, mapper.contentHash(organization("Lyon Natation", "Sport", null, null)));
+        assertNotEquals(hash, mapper.contentHash(organization("Lyon Natation Metropole", "Danse", null, null)));
+        assertNotEquals(hash, mapper.contentHash(
+            organization("Lyon Natation Metropole", "Sport", "Auvergne-Rhone-Alpes", null)));
+        assertNotEquals(hash, mapper.contentHash(
+            organization("Lyon Natation Metropole", "Sport", null, "https://cdn.helloasso.com/logo.png")));
+    }
+
+    @Test
+    @DisplayName("should_returnDifferentHash_when_valuesShiftBetweenFields")
+    void should_returnDifferentHash_when_valuesShiftBetweenFields() {
+        // Given
+        HelloAssoOrganization first = HelloAssoOrganization.builder().name("Lyon").city("|Paris").build();
+        HelloAssoOrganization second = HelloAssoOrganization.builder().name("Lyon|").city("Paris").build();
+
+        // When / Then
+        assertNotEquals(mapper.contentHash(first), mapper.contentHash(second));
+    }
+
+    @Test
+    @DisplayName("should_storeContentHash_when_fromHelloAsso")
+    void should_storeContentHash_when_fromHelloAsso() {
+        // Given
+        HelloAssoOrganization organization = organization("Lyon Natation Metropole", "Sport", null, null);
+
+        // When
+        Association association = mapper.fromHelloAsso(organization);
+
+        // Then
+        assertEquals(mapper.contentHash(organization), association.getContentHash());
+    }
+
+    private HelloAssoOrganization organization(String name, String category, String region, String logo) {
+        return HelloAssoOrganization.builder()
+            .name(name)
+            .slug("lyon-natation-metropole")
+            .description("Club de natation")
+            .city("Lyon")
+            .zipCode("69003")
+            .region(region)
+            .url("https://lyon-natation.fr")
+            .logo(logo)
+            .category(category)
+            .build();
+    }
+}
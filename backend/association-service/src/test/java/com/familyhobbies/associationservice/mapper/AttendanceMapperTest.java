@@ -13,6 +13,7 @@ import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
 import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
 import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
 import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.repository.AttendanceHistoryRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,8 +29,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 /**
  * Unit tests for {@link AttendanceMapper}.
  *
- * Tests: 4 test methods covering toResponse (with member names from subscription)
- * and toEntity (from request with session, subscription, markedBy).
+ * Tests: 5 test methods covering toResponse (with member names from subscription),
+ * toHistoryResponse (from a projection row) and toEntity (from request with session,
+ * subscription, markedBy).
  */
 class AttendanceMapperTest {
 
@@ -114,6 +116,19 @@ class AttendanceMapperTest {
         assertNull(mapper.toResponse(null));
     }
 
+    @Test
+    @DisplayName("should_mapAllFields_when_toHistoryResponse")
+    void should_mapAllFields_when_toHistoryResponse() {
+        Instant now = Instant.now();
+        AttendanceHistoryRow row = new AttendanceHistoryRow(1L, 10L, 100L, "Lucas", "Dupont", 50L,
+            LocalDate.of(2025, 10, 15), AttendanceStatus.LATE, "Bus", 200L, now, now, 300L);
+
+        AttendanceResponse response = mapper.toHistoryResponse(row);
+
+        assertEquals(new AttendanceResponse(1L, 10L, 100L, "Lucas", "Dupont", 50L,
+            LocalDate.of(2025, 10, 15), AttendanceStatus.LATE, "Bus", 200L, now, now), response);
+    }
+
     @Test
     @DisplayName("should_createEntityFromRequest_when_toEntity")
     void should_createEntityFromRequest_when_toEntity() {
@@ -0,0 +1,177 @@
+package com.familyhobbies.associationservice.repository;
+
+import com.familyhobbies.associationservice.dto.request.ActivitySearchRequest;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ActivitySpecification against H2.
+ *
+ * Verifies each filter and, through EXPLAIN, that the equality filters are served
+ * by idx_activity_association_status_category_level. The test schema is generated by
+ * Hibernate (Liquibase disabled), so the index from changeset 016 is created here.
+ *
+ * Tests: 6 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ActivitySpecificationIntegrationTest {
+
+    private static final String COMPOSITE_INDEX = "idx_activity_association_status_category_level";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Association testAssociation;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + COMPOSITE_INDEX
+            + " ON t_activity (association_id, status, category, level)");
+
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        testAssociation = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Association otherAssociation = associationRepository.save(Association.builder()
+            .name("Paris Danse Club")
+            .slug("paris-danse-club")
+            .category(AssociationCategory.DANCE)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+
+        createActivity(testAssociation, "Bebes nageurs", AssociationCategory.SPORT, ActivityLevel.BEGINNER,
+            ActivityStatus.ACTIVE, 1, 3, 12000, LocalDate.of(2025, 9, 1), LocalDate.of(2026, 6, 30));
+        createActivity(testAssociation, "Natation enfants", AssociationCategory.SPORT, ActivityLevel.BEGINNER,
+            ActivityStatus.ACTIVE, 6, 10, 18000, LocalDate.of(2025, 9, 1), LocalDate.of(2026, 6, 30));
+        createActivity(testAssociation, "Natation adultes", AssociationCategory.SPORT, ActivityLevel.ADVANCED,
+            ActivityStatus.ACTIVE, 18, null, 25000, null, null);
+        createActivity(testAssociation, "Aquagym ete", AssociationCategory.SPORT, ActivityLevel.ALL_LEVELS,
+            ActivityStatus.CANCELLED, 16, null, 9000, LocalDate.of(2026, 7, 1), LocalDate.of(2026, 8, 31));
+        createActivity(otherAssociation, "Danse classique", AssociationCategory.DANCE, ActivityLevel.BEGINNER,
+            ActivityStatus.ACTIVE, 6, 12, 20000, LocalDate.of(2025, 9, 1), LocalDate.of(2026, 6, 30));
+    }
+
+    @Test
+    @DisplayName("should_returnAssociationActivities_when_noFilter")
+    void should_returnAssociationActivities_when_noFilter() {
+        assertThat(search(null)).containsExactly(
+            "Aquagym ete", "Bebes nageurs", "Natation adultes", "Natation enfants");
+    }
+
+    @Test
+    @DisplayName("should_combineEqualityFilters_when_statusCategoryAndLevelSet")
+    void should_combineEqualityFilters_when_statusCategoryAndLevelSet() {
+        ActivitySearchRequest filter = new ActivitySearchRequest(
+            AssociationCategory.SPORT, ActivityLevel.BEGINNER, ActivityStatus.ACTIVE,
+            null, null, null, null, null, null);
+
+        assertThat(search(filter)).containsExactly("Bebes nageurs", "Natation enfants");
+    }
+
+    @Test
+    @DisplayName("should_matchOverlappingAgeRange_when_ageFilterSet")
+    void should_matchOverlappingAgeRange_when_ageFilterSet() {
+        ActivitySearchRequest filter = new ActivitySearchRequest(
+            null, null, null, 8, 17, null, null, null, null);
+
+        assertThat(search(filter)).containsExactly("Aquagym ete", "Natation enfants");
+    }
+
+    @Test
+    @DisplayName("should_matchPriceRange_when_priceFilterSet")
+    void should_matchPriceRange_when_priceFilterSet() {
+        ActivitySearchRequest filter = new ActivitySearchRequest(
+            null, null, null, null, null, 10000, 20000, null, null);
+
+        assertThat(search(filter)).containsExactly("Bebes nageurs", "Natation enfants");
+    }
+
+    @Test
+    @DisplayName("should_matchOverlappingSeason_when_seasonFilterSet")
+    void should_matchOverlappingSeason_when_seasonFilterSet() {
+        ActivitySearchRequest filter = new ActivitySearchRequest(
+            null, null, null, null, null, null, null, LocalDate.of(2026, 7, 14), LocalDate.of(2026, 7, 20));
+
+        assertThat(search(filter)).containsExactly("Aquagym ete", "Natation adultes");
+    }
+
+    @Test
+    @DisplayName("should_useCompositeIndex_when_explainingEqualityFilters")
+    void should_useCompositeIndex_when_explainingEqualityFilters() {
+        String plan = jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT a.id, a.name FROM t_activity a"
+                + " WHERE a.association_id = " + testAssociation.getId()
+                + " AND a.status = 'ACTIVE' AND a.category = 'SPORT' AND a.level = 'BEGINNER'"
+                + " ORDER BY a.name",
+            String.class);
+
+        assertThat(plan).containsIgnoringCase(COMPOSITE_INDEX);
+    }
+
+    private List<String> search(ActivitySearchRequest filter) {
+        return activityRepository.findAll(
+                ActivitySpecification.withFilters(testAssociation.getId(), filter),
+                Sort.by(Sort.Direction.ASC, "name"))
+            .stream()
+            .map(Activity::getName)
+            .toList();
+    }
+
+    private void createActivity(Association association, String name, AssociationCategory category,
+                                ActivityLevel level, ActivityStatus status, Integer minAge, Integer maxAge,
+                                int priceCents, LocalDate seasonStart, LocalDate seasonEnd) {
+        activityRepository.save(Activity.builder()
+            .association(association)
+            .name(name)
+            .category(category)
+            .level(level)
+            .status(status)
+            .minAge(minAge)
+            .maxAge(maxAge)
+            .priceCents(priceCents)
+            .seasonStart(seasonStart)
+            .seasonEnd(seasonEnd)
+            .build());
+    }
+}
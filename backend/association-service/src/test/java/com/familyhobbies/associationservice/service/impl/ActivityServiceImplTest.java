@@ -1,9 +1,12 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.ActivityGlobalSearchRequest;
 import com.familyhobbies.associationservice.dto.request.ActivityRequest;
 import com.familyhobbies.associationservice.dto.request.SessionRequest;
 import com.familyhobbies.associationservice.dto.response.ActivityDetailResponse;
 import com.familyhobbies.associationservice.dto.response.ActivityResponse;
+import com.familyhobbies.associationservice.dto.response.ActivitySearchResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.dto.response.SessionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
 import com.familyhobbies.associationservice.entity.Association;
@@ -29,6 +32,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -49,7 +53,7 @@ import static org.mockito.Mockito.when;
  * Unit tests for ActivityServiceImpl.
  *
  * Story: S3-002 -- Activity & Session Controller + API
- * Tests: 12 test methods
+ * Tests: 13 test methods
  */
 @ExtendWith(MockitoExtension.class)
 class ActivityServiceImplTest {
@@ -117,19 +121,21 @@ class ActivityServiceImplTest {
 
     @Test
     @DisplayName("should_returnPaginatedActivities_when_listActivities")
+    @SuppressWarnings("unchecked")
     void should_returnPaginatedActivities_when_listActivities() {
         Pageable pageable = PageRequest.of(0, 20);
         Page<Activity> activityPage = new PageImpl<>(List.of(testActivity));
         ActivityResponse expectedResponse = new ActivityResponse(
             1L, "Natation enfants", AssociationCategory.SPORT, ActivityLevel.BEGINNER,
-            6, 10, 18000, ActivityStatus.ACTIVE, 0
+            6, 10, 18000, ActivityStatus.ACTIVE, 0, null
         );
 
         when(associationRepository.existsById(1L)).thenReturn(true);
-        when(activityRepository.findByAssociation_Id(1L, pageable)).thenReturn(activityPage);
-        when(activityMapper.toResponse(testActivity)).thenReturn(expectedResponse);
+        when(activityRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(activityPage);
+        when(sessionRepository.countByActivityIds(List.of(1L))).thenReturn(List.of());
+        when(activityMapper.toResponse(testActivity, 0)).thenReturn(expectedResponse);
 
-        Page<ActivityResponse> result = activityService.listActivities(1L, null, null, pageable);
+        Page<ActivityResponse> result = activityService.listActivities(1L, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).name()).isEqualTo("Natation enfants");
@@ -140,21 +146,44 @@ class ActivityServiceImplTest {
     void should_throwResourceNotFound_when_associationNotFoundForList() {
         when(associationRepository.existsById(999L)).thenReturn(false);
 
-        assertThatThrownBy(() -> activityService.listActivities(999L, null, null, PageRequest.of(0, 20)))
+        assertThatThrownBy(() -> activityService.listActivities(999L, null, PageRequest.of(0, 20)))
             .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("should_clampSliceSize_when_searchSizeOutOfRange")
+    @SuppressWarnings("unchecked")
+    void should_clampSliceSize_when_searchSizeOutOfRange() {
+        ActivityGlobalSearchRequest emptySlice = new ActivityGlobalSearchRequest(
+            null, null, null, null, null, null, null, null, 0);
+        ActivityGlobalSearchRequest hugeSlice = new ActivityGlobalSearchRequest(
+            null, null, null, null, null, null, null, null, 100_000);
+
+        when(activityRepository.findBy(any(Specification.class), any()))
+            .thenReturn(List.of(testActivity, testActivity));
+
+        CursorPageResponse<ActivitySearchResultResponse> first = activityService.searchActivities(emptySlice, null);
+        CursorPageResponse<ActivitySearchResultResponse> capped = activityService.searchActivities(hugeSlice, null);
+
+        assertThat(first.size()).isEqualTo(1);
+        assertThat(first.content()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(capped.size()).isEqualTo(100);
+        assertThat(capped.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("should_returnActivityDetail_when_validIds")
     void should_returnActivityDetail_when_validIds() {
         ActivityDetailResponse expectedResponse = new ActivityDetailResponse(
             1L, 1L, "Lyon Natation Metropole", "Natation enfants", "Cours de natation pour enfants",
-            AssociationCategory.SPORT, ActivityLevel.BEGINNER, 6, 10, 15, 18000,
+            AssociationCategory.SPORT, ActivityLevel.BEGINNER, 6, 10, 15, 15, 18000,
             LocalDate.of(2025, 9, 1), LocalDate.of(2026, 6, 30), ActivityStatus.ACTIVE,
             Collections.emptyList(), Instant.now(), Instant.now()
         );
 
-        when(activityRepository.findByIdAndAssociation_Id(1L, 1L)).thenReturn(Optional.of(testActivity));
+        when(activityRepository.findDetailByIdAndAssociation_Id(1L, 1L)).thenReturn(Optional.of(testActivity));
         when(activityMapper.toDetailResponse(testActivity)).thenReturn(expectedResponse);
 
         ActivityDetailResponse result = activityService.getActivityDetail(1L, 1L);
@@ -166,7 +195,7 @@ class ActivityServiceImplTest {
     @Test
     @DisplayName("should_throwResourceNotFound_when_activityNotFound")
     void should_throwResourceNotFound_when_activityNotFound() {
-        when(activityRepository.findByIdAndAssociation_Id(999L, 1L)).thenReturn(Optional.empty());
+        when(activityRepository.findDetailByIdAndAssociation_Id(999L, 1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> activityService.getActivityDetail(1L, 999L))
             .isInstanceOf(ResourceNotFoundException.class);
@@ -182,7 +211,7 @@ class ActivityServiceImplTest {
         );
         ActivityDetailResponse expectedResponse = new ActivityDetailResponse(
             1L, 1L, "Lyon Natation Metropole", "Natation enfants", "Cours de natation",
-            AssociationCategory.SPORT, ActivityLevel.BEGINNER, 6, 10, 15, 18000,
+            AssociationCategory.SPORT, ActivityLevel.BEGINNER, 6, 10, 15, 15, 18000,
             LocalDate.of(2025, 9, 1), LocalDate.of(2026, 6, 30), ActivityStatus.ACTIVE,
             Collections.emptyList(), Instant.now(), Instant.now()
         );
@@ -221,7 +250,7 @@ class ActivityServiceImplTest {
         );
         ActivityDetailResponse expectedResponse = new ActivityDetailResponse(
             1L, 1L, "Lyon Natation Metropole", "Updated name", "Updated desc",
-            AssociationCategory.SPORT, ActivityLevel.INTERMEDIATE, 8, 14, 20, 25000,
+            AssociationCategory.SPORT, ActivityLevel.INTERMEDIATE, 8, 14, 20, 20, 25000,
             null, null, ActivityStatus.ACTIVE, Collections.emptyList(), Instant.now(), Instant.now()
         );
 
@@ -0,0 +1,233 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.response.SyncResultResponse;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.service.AssociationSyncService;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import com.familyhobbies.common.config.HelloAssoProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the concurrent HelloAsso directory sync, against a local
+ * HelloAsso stub answering every directory page after {@value #LATENCY_MS} ms.
+ *
+ * - 4 cities x 5 pages with concurrency 4: every organization stored once, never more
+ *   requests in flight than the limit
+ * - Benchmark, only with -P benchmark (or -Dbenchmark=true): same counts with concurrency
+ *   1 and 4, wall-clock speedup logged, not asserted: shared CI runners make timings noisy
+ *
+ * Kafka publishing is mocked.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AssociationDirectorySyncIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssociationDirectorySyncIntegrationTest.class);
+
+    private static final long LATENCY_MS = 100;
+    private static final int PAGES = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int CONCURRENCY = 4;
+    private static final List<String> CITIES = List.of("Paris", "Lyon", "Marseille", "Toulouse");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final HelloAssoStub STUB = new HelloAssoStub();
+    private static final MockWebServer SERVER = startServer();
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private AssociationSyncService associationSyncService;
+
+    @Autowired
+    private HelloAssoProperties properties;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private List<String> configuredCities;
+
+    @DynamicPropertySource
+    static void helloAssoProperties(DynamicPropertyRegistry registry) {
+        registry.add("helloasso.base-url", () -> SERVER.url("/v5").toString());
+        registry.add("helloasso.token-url", () -> SERVER.url("/oauth2/token").toString());
+        registry.add("helloasso.sync.page-size", () -> PAGE_SIZE);
+        registry.add("helloasso.sync.concurrency", () -> CONCURRENCY);
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SERVER.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        configuredCities = properties.getSync().getCities();
+        properties.getSync().setCities(CITIES);
+        databaseCleaner.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.getSync().setCities(configuredCities);
+        properties.getSync().setConcurrency(CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("should_storeEveryOrganizationWithinLimit_when_fetchingCitiesAndPagesConcurrently")
+    void should_storeEveryOrganizationWithinLimit_when_fetchingCitiesAndPagesConcurrently() {
+        // Given
+        int organizations = CITIES.size() * PAGES * PAGE_SIZE;
+        STUB.reset();
+
+        // When
+        SyncResultResponse result = associationSyncService.syncDirectory();
+
+        // Then
+        assertThat(result.created()).isEqualTo(organizations);
+        assertThat(associationRepository.count()).isEqualTo(organizations);
+        assertThat(STUB.requests.get()).isEqualTo(CITIES.size() * PAGES);
+        assertThat(STUB.peakInFlight.get()).isBetween(2, CONCURRENCY);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("should_syncSameDirectoryFaster_when_fetchingCitiesAndPagesConcurrently")
+    void should_syncSameDirectoryFaster_when_fetchingCitiesAndPagesConcurrently() {
+        // Given
+        int organizations = CITIES.size() * PAGES * PAGE_SIZE;
+
+        // When
+        properties.getSync().setConcurrency(1);
+        STUB.reset();
+        long serialStartedAt = System.nanoTime();
+        SyncResultResponse serial = associationSyncService.syncDirectory();
+        long serialMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - serialStartedAt);
+        int serialPeak = STUB.peakInFlight.get();
+
+        databaseCleaner.clear();
+        properties.getSync().setConcurrency(CONCURRENCY);
+        STUB.reset();
+        long concurrentStartedAt = System.nanoTime();
+        SyncResultResponse concurrent = associationSyncService.syncDirectory();
+        long concurrentMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - concurrentStartedAt);
+
+        log.info("HelloAsso directory sync of {} organizations ({} pages, {} ms each): "
+                + "{} ms serial, {} ms with concurrency {} (x{})",
+            organizations, CITIES.size() * PAGES, LATENCY_MS, serialMs, concurrentMs, CONCURRENCY,
+            String.format("%.1f", (double) serialMs / concurrentMs));
+
+        // Then
+        assertThat(serial.created()).isEqualTo(organizations);
+        assertThat(concurrent.created()).isEqualTo(organizations);
+        assertThat(concurrent.totalProcessed()).isEqualTo(serial.totalProcessed());
+        assertThat(associationRepository.count()).isEqualTo(organizations);
+        assertThat(STUB.requests.get()).isEqualTo(CITIES.size() * PAGES);
+        assertThat(serialPeak).isEqualTo(1);
+        assertThat(STUB.peakInFlight.get()).isBetween(2, CONCURRENCY);
+    }
+
+    private static MockWebServer startServer() {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(STUB);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return server;
+    }
+
+    /**
+     * Serves the token endpoint and {@value #PAGES} directory pages per city, each after
+     * {@value #LATENCY_MS} ms, counting the directory requests in flight.
+     */
+    private static final class HelloAssoStub extends Dispatcher {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        void reset() {
+            peakInFlight.set(0);
+            requests.set(0);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            if (request.getPath().endsWith("/oauth2/token")) {
+                return json("{\"access_token\":\"stub-token\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(LATENCY_MS);
+                JsonNode search = JSON.readTree(request.getBody().readUtf8());
+                return json(directoryPage(search.path("city").asText(), search.path("pageIndex").asInt()));
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private String directoryPage(String city, int pageIndex) {
+            ObjectNode page = JSON.createObjectNode();
+            ArrayNode data = page.putArray("data");
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                String slug = city.toLowerCase() + "-club-" + pageIndex + "-" + i;
+                data.addObject()
+                    .put("name", city + " club " + pageIndex + "-" + i)
+                    .put("slug", slug)
+                    .put("city", city)
+                    .put("category", "Sport");
+            }
+            page.putObject("pagination")
+                .put("pageIndex", pageIndex)
+                .put("pageSize", PAGE_SIZE)
+                .put("totalCount", PAGES * PAGE_SIZE)
+                .put("totalPages", PAGES);
+            return page.toString();
+        }
+
+        private MockResponse json(String body) {
+            return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+        }
+    }
+}
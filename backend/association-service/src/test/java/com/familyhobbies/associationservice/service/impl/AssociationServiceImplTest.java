@@ -1,13 +1,16 @@
 package com.familyhobbies.associationservice.service.impl;
 
 import com.familyhobbies.associationservice.dto.request.AssociationSearchRequest;
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
 import com.familyhobbies.associationservice.dto.response.AssociationDetailResponse;
 import com.familyhobbies.associationservice.dto.response.AssociationResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
 import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
 import com.familyhobbies.associationservice.mapper.AssociationMapper;
 import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.errorhandling.exception.web.BadRequestException;
 import com.familyhobbies.errorhandling.exception.web.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,13 +31,19 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for AssociationServiceImpl.
  *
  * Story: S2-003 -- Association Entity + Search
- * Tests: 4 test methods
+ * Tests: 11 test methods
  *
  * Uses @ExtendWith(MockitoExtension.class) -- no Spring context loaded.
  * Mocks: AssociationRepository, AssociationMapper.
@@ -122,6 +131,155 @@ class AssociationServiceImplTest {
         assertThat(result.getContent().get(0).category()).isEqualTo(AssociationCategory.SPORT);
     }
 
+    @Test
+    @DisplayName("should_useFullTextSearch_when_keywordPresent")
+    @SuppressWarnings("unchecked")
+    void should_useFullTextSearch_when_keywordPresent() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            "Lyon", AssociationCategory.SPORT, "  natation ", 0, 20
+        );
+
+        when(associationRepository.searchByKeyword(
+                eq("natation"), eq("natation:*"), eq("Lyon"), eq("SPORT"), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testAssociation)));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        Page<AssociationResponse> result = associationService.searchAssociations(request);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).name()).isEqualTo("Lyon Natation Metropole");
+        verify(associationRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("should_useSpecificationSearch_when_keywordBlank")
+    @SuppressWarnings("unchecked")
+    void should_useSpecificationSearch_when_keywordBlank() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            null, null, "   ", null, null
+        );
+
+        when(associationRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testAssociation)));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        Page<AssociationResponse> result = associationService.searchAssociations(request);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(associationRepository, never())
+            .searchByKeyword(anyString(), anyString(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("should_matchLastWordAsPrefix_when_keywordHasSeveralWords")
+    void should_matchLastWordAsPrefix_when_keywordHasSeveralWords() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            null, null, "Lyon (nat", null, null
+        );
+
+        when(associationRepository.searchByKeyword(
+                eq("Lyon (nat"), eq("Lyon & nat:*"), isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testAssociation)));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        Page<AssociationResponse> result = associationService.searchAssociations(request);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(AssociationServiceImpl.prefixQuery("!? ")).isNull();
+    }
+
+    @Test
+    @DisplayName("should_useFullTextScroll_when_keywordPresent")
+    @SuppressWarnings("unchecked")
+    void should_useFullTextScroll_when_keywordPresent() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            "Lyon", null, "nat", null, 1
+        );
+        String cursor = new KeysetCursor("Judo Club", 7L).encode();
+
+        when(associationRepository.scrollByKeyword(
+                "nat", "nat:*", "Lyon", null, "Judo Club", 7L, 2))
+            .thenReturn(List.of(testAssociation, testAssociation));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        CursorPageResponse<AssociationResponse> result = associationService.scrollAssociations(request, cursor);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(associationRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("should_throwBadRequestException_when_cursorMalformed")
+    @SuppressWarnings("unchecked")
+    void should_throwBadRequestException_when_cursorMalformed() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            null, null, null, null, 20
+        );
+
+        // When / Then
+        assertThatThrownBy(() -> associationService.scrollAssociations(request, "not-a-cursor"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("Invalid cursor");
+        verify(associationRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("should_returnOneRowSlice_when_scrollSizeZero")
+    @SuppressWarnings("unchecked")
+    void should_returnOneRowSlice_when_scrollSizeZero() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            null, null, null, null, 0
+        );
+
+        when(associationRepository.findBy(any(Specification.class), any()))
+            .thenReturn(List.of(testAssociation, testAssociation));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        CursorPageResponse<AssociationResponse> result = associationService.scrollAssociations(request, null);
+
+        // Then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_capPageSize_when_sizeAboveMaximum")
+    @SuppressWarnings("unchecked")
+    void should_capPageSize_when_sizeAboveMaximum() {
+        // Given
+        AssociationSearchRequest request = new AssociationSearchRequest(
+            null, null, null, null, 100_000
+        );
+
+        when(associationRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testAssociation)));
+        when(associationMapper.toResponse(testAssociation)).thenReturn(testResponse);
+
+        // When
+        associationService.searchAssociations(request);
+
+        // Then
+        verify(associationRepository).findAll(any(Specification.class), 
+            argThat((Pageable pageable) -> pageable.getPageSize() == 100));
+    }
+
     @Test
     @DisplayName("should_returnAssociationDetail_when_validId")
     void should_returnAssociationDetail_when_validId() {
@@ -10,7 +10,9 @@ import com.familyhobbies.associationservice.entity.Association;
 import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
 import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
 import com.familyhobbies.associationservice.mapper.AssociationMapper;
+import com.familyhobbies.associationservice.repository.AssociationContentHash;
 import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AssociationSyncKey;
 import com.familyhobbies.common.config.HelloAssoProperties;
 import com.familyhobbies.errorhandling.exception.container.ExternalApiException;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,16 +23,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -41,7 +50,7 @@ import static org.mockito.Mockito.when;
  * Unit tests for {@link AssociationSyncServiceImpl}.
  *
  * Story: S5-003 -- AssociationSyncService
- * Tests: 17 test methods
+ * Tests: 21 test methods
  */
 @ExtendWith(MockitoExtension.class)
 class AssociationSyncServiceImplTest {
@@ -55,6 +64,9 @@ class AssociationSyncServiceImplTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private AssociationMapper associationMapper;
     private HelloAssoProperties properties;
     private AssociationSyncServiceImpl syncService;
@@ -74,8 +86,8 @@ class AssociationSyncServiceImplTest {
         properties.setSync(sync);
 
         syncService = new AssociationSyncServiceImpl(
-            helloAssoClient, associationRepository, associationMapper,
-            properties, kafkaTemplate
+            helloAssoClient, new HelloAssoUpsertServiceImpl(associationRepository, associationMapper),
+            properties, kafkaTemplate, transactionManager
         );
     }
 
@@ -88,13 +100,14 @@ class AssociationSyncServiceImplTest {
         HelloAssoDirectoryResponse response = buildDirectoryResponse(List.of(org), 1, 1);
 
         when(helloAssoClient.searchOrganizations(any())).thenReturn(Mono.just(response));
-        when(associationRepository.findByHelloassoSlug("club-paris")).thenReturn(Optional.empty());
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncDirectory();
 
         assertThat(result.created()).isGreaterThanOrEqualTo(1);
-        verify(associationRepository, times(result.created())).save(any(Association.class));
+        verify(associationRepository, times(result.created())).upsertHelloAssoPage(
+            argThat(rows -> rows.size() == 1 && rows.get(0).getHelloassoSlug().equals("club-paris")));
     }
 
     @Test
@@ -105,8 +118,8 @@ class AssociationSyncServiceImplTest {
         HelloAssoDirectoryResponse response = buildDirectoryResponse(List.of(org1, org2), 1, 1);
 
         when(helloAssoClient.searchOrganizations(any())).thenReturn(Mono.just(response));
-        when(associationRepository.findByHelloassoSlug(anyString())).thenReturn(Optional.empty());
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncDirectory();
 
@@ -124,13 +137,16 @@ class AssociationSyncServiceImplTest {
 
         Association existing = buildExistingAssociation("club-paris", "Club Paris Old", "Paris");
         when(helloAssoClient.searchOrganizations(any())).thenReturn(Mono.just(response));
-        when(associationRepository.findByHelloassoSlug("club-paris")).thenReturn(Optional.of(existing));
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of(contentHash(existing)));
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncDirectory();
 
         // Updated across both cities
         assertThat(result.updated()).isGreaterThanOrEqualTo(1);
+        verify(associationRepository, times(result.updated())).upsertHelloAssoPage(
+            argThat(rows -> rows.size() == 1 && rows.get(0).getId().equals(1L)
+                && rows.get(0).getName().equals("Club Paris Updated")));
     }
 
     @Test
@@ -140,21 +156,16 @@ class AssociationSyncServiceImplTest {
         HelloAssoDirectoryResponse response = buildDirectoryResponse(List.of(org), 1, 1);
 
         Association existing = buildExistingAssociation("club-paris", "Club Paris", "Paris");
-        existing.setPostalCode(null);
-        existing.setDepartment(null);
-        existing.setRegion(null);
-        existing.setWebsite(null);
-        existing.setLogoUrl(null);
-        existing.setDescription(null);
-        existing.setCategory(AssociationCategory.SPORT);
 
         when(helloAssoClient.searchOrganizations(any())).thenReturn(Mono.just(response));
-        when(associationRepository.findByHelloassoSlug("club-paris")).thenReturn(Optional.of(existing));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of(contentHash(existing)));
 
         SyncResultResponse result = syncService.syncDirectory();
 
         // Unchanged across both cities
         assertThat(result.unchanged()).isGreaterThanOrEqualTo(1);
+        verify(associationRepository, times(2)).upsertHelloAssoPage(List.of());
+        verify(associationRepository, never()).findSyncKeys(anyCollection());
     }
 
     // ── syncDirectory — pagination ─────────────────────────────────────
@@ -173,8 +184,8 @@ class AssociationSyncServiceImplTest {
             .thenReturn(Mono.just(page2))
             .thenReturn(Mono.just(page1))
             .thenReturn(Mono.just(page2));
-        when(associationRepository.findByHelloassoSlug(anyString())).thenReturn(Optional.empty());
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncDirectory();
 
@@ -194,6 +205,99 @@ class AssociationSyncServiceImplTest {
         assertThat(result.totalProcessed()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("should_fetchEveryPageOfEveryCity_when_firstPageReportsTotalPages")
+    void should_fetchEveryPageOfEveryCity_when_firstPageReportsTotalPages() {
+        List<String> requestedPages = new CopyOnWriteArrayList<>();
+        when(helloAssoClient.searchOrganizations(any())).thenAnswer(invocation -> {
+            HelloAssoDirectoryRequest request = invocation.getArgument(0);
+            requestedPages.add(request.city() + "-" + request.pageIndex());
+            HelloAssoOrganization org = buildOrganization(
+                request.city() + "-" + request.pageIndex(), "Club", request.city(), "sport");
+            return Mono.just(buildDirectoryResponse(List.of(org), 3, request.pageIndex()))
+                .delayElement(Duration.ofMillis(20));
+        });
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
+
+        SyncResultResponse result = syncService.syncDirectory();
+
+        assertThat(requestedPages).containsExactlyInAnyOrder(
+            "Paris-0", "Paris-1", "Paris-2", "Lyon-0", "Lyon-1", "Lyon-2");
+        assertThat(result.created()).isEqualTo(6);
+        assertThat(result.totalProcessed()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should_commitEachCityInItsOwnTransaction_when_syncingDirectory")
+    void should_commitEachCityInItsOwnTransaction_when_syncingDirectory() {
+        HelloAssoOrganization org = buildOrganization("club-a", "Club A", "Paris", "sport");
+        when(helloAssoClient.searchOrganizations(any()))
+            .thenReturn(Mono.just(buildDirectoryResponse(List.of(org), 1, 0)));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
+
+        syncService.syncDirectory();
+
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("should_propagateError_when_pageFetchFails")
+    void should_propagateError_when_pageFetchFails() {
+        when(helloAssoClient.searchOrganizations(any()))
+            .thenReturn(Mono.error(ExternalApiException.forApi("HelloAsso", 503, "Server error")));
+
+        assertThatThrownBy(() -> syncService.syncDirectory())
+            .isInstanceOf(ExternalApiException.class);
+
+        verify(kafkaTemplate, never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("should_openNoTransaction_when_laterPageFetchFails")
+    void should_openNoTransaction_when_laterPageFetchFails() {
+        HelloAssoOrganization org = buildOrganization("club-a", "Club A", "Paris", "sport");
+        when(helloAssoClient.searchOrganizations(any())).thenAnswer(invocation -> {
+            HelloAssoDirectoryRequest request = invocation.getArgument(0);
+            return request.pageIndex() == 0
+                ? Mono.just(buildDirectoryResponse(List.of(org), 2, 0))
+                : Mono.error(ExternalApiException.forApi("HelloAsso", 503, "Server error"));
+        });
+
+        assertThatThrownBy(() -> syncService.syncDirectory())
+            .isInstanceOf(ExternalApiException.class);
+
+        verify(transactionManager, never()).getTransaction(any());
+        verify(associationRepository, never()).upsertHelloAssoPage(any());
+    }
+
+    @Test
+    @DisplayName("should_cancelPendingRequests_when_cityFailsToPersist")
+    void should_cancelPendingRequests_when_cityFailsToPersist() {
+        HelloAssoOrganization org = buildOrganization("club-a", "Club A", "Paris", "sport");
+        // Paris answers once the Lyon request is in flight; Lyon never answers
+        Sinks.Empty<Void> lyonRequested = Sinks.empty();
+        AtomicBoolean lyonCancelled = new AtomicBoolean();
+        when(helloAssoClient.searchOrganizations(any())).thenAnswer(invocation -> {
+            HelloAssoDirectoryRequest request = invocation.getArgument(0);
+            return request.city().equals("Paris")
+                ? lyonRequested.asMono().then(Mono.just(buildDirectoryResponse(List.of(org), 1, 0)))
+                : Mono.<HelloAssoDirectoryResponse>never()
+                    .doOnSubscribe(subscription -> lyonRequested.tryEmitEmpty())
+                    .doOnCancel(() -> lyonCancelled.set(true));
+        });
+        when(associationRepository.findContentHashes(anyCollection()))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+
+        assertThatThrownBy(() -> syncService.syncDirectory())
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(lyonCancelled).isTrue();
+        verify(transactionManager).rollback(any());
+    }
+
     // ── syncDirectory — event publishing ───────────────────────────────
 
     @Test
@@ -233,7 +337,7 @@ class AssociationSyncServiceImplTest {
 
         SyncResultResponse result = syncService.syncDirectory();
 
-        verify(associationRepository, never()).save(any());
+        verify(associationRepository, never()).upsertHelloAssoPage(any());
         assertThat(result.unchanged()).isGreaterThanOrEqualTo(1);
     }
 
@@ -248,7 +352,7 @@ class AssociationSyncServiceImplTest {
 
         SyncResultResponse result = syncService.syncDirectory();
 
-        verify(associationRepository, never()).save(any());
+        verify(associationRepository, never()).upsertHelloAssoPage(any());
     }
 
     // ── syncOrganization ───────────────────────────────────────────────
@@ -258,8 +362,8 @@ class AssociationSyncServiceImplTest {
     void should_createAssociation_when_syncSingleNewOrganization() {
         HelloAssoOrganization org = buildOrganization("new-club", "New Club", "Nantes", "musique");
         when(helloAssoClient.getOrganization("new-club")).thenReturn(Mono.just(org));
-        when(associationRepository.findByHelloassoSlug("new-club")).thenReturn(Optional.empty());
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncOrganization("new-club");
 
@@ -275,8 +379,8 @@ class AssociationSyncServiceImplTest {
         Association existing = buildExistingAssociation("existing-club", "Old Name", "Lyon");
 
         when(helloAssoClient.getOrganization("existing-club")).thenReturn(Mono.just(org));
-        when(associationRepository.findByHelloassoSlug("existing-club")).thenReturn(Optional.of(existing));
-        when(associationRepository.save(any(Association.class))).thenAnswer(i -> i.getArgument(0));
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of(contentHash(existing)));
+        stubSyncKeys();
 
         SyncResultResponse result = syncService.syncOrganization("existing-club");
 
@@ -349,7 +453,23 @@ class AssociationSyncServiceImplTest {
             .city(city)
             .category(AssociationCategory.SPORT)
             .status(AssociationStatus.ACTIVE)
+            .contentHash(associationMapper.contentHash(buildOrganization(helloassoSlug, name, city, "sport")))
             .lastSyncedAt(OffsetDateTime.now().minusHours(25))
             .build();
     }
+
+    private AssociationContentHash contentHash(Association association) {
+        return new AssociationContentHash(association.getHelloassoSlug(), association.getContentHash());
+    }
+
+    /**
+     * Answers the read-back of written rows with id 1 for every slug.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubSyncKeys() {
+        when(associationRepository.findSyncKeys(anyCollection())).thenAnswer(invocation ->
+            ((Collection<String>) invocation.getArgument(0)).stream()
+                .map(slug -> new AssociationSyncKey(slug, 1L, AssociationStatus.ACTIVE))
+                .toList());
+    }
 }
@@ -0,0 +1,256 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceHeatmapResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSeasonStatsResponse;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.AttendanceStatusCount;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.AttendanceAnalyticsService;
+import com.familyhobbies.associationservice.service.AttendanceService;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the bitset attendance analytics.
+ *
+ * Three members of a Wednesday session over ten weeks of the 2025 season, week 7 being
+ * a holiday with no marks:
+ * - Counts and rate match a GROUP BY over t_attendance, streaks skip the holiday,
+ *   and a status update moves the occurrence bit; the season stats cost two statements
+ * - The heatmap lists the nine recorded Wednesdays with their status counts
+ *
+ * Kafka publishing is mocked, as in AttendanceCounterIntegrationTest.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AttendanceAnalyticsIntegrationTest {
+
+    private static final LocalDate FIRST_WEDNESDAY = LocalDate.of(2025, 9, 3);
+    private static final int WEEKS = 10;
+    private static final int HOLIDAY_WEEK = 7;
+
+    @MockBean
+    private AttendanceEventPublisher eventPublisher;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceAnalyticsService attendanceAnalyticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Activity activity;
+    private Session testSession;
+    private List<Subscription> subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+        testSession = sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .build());
+
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, member_first_name, member_last_name, "
+                + "created_at, updated_at) "
+                + "SELECT ?, \"X\", 5, 100, 'ADHESION', 'ACTIVE', DATE '2025-09-01', "
+                + "'Child' || \"X\", 'Dupont', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, 3)",
+            activity.getId());
+        subscriptions = subscriptionRepository.findByActivity_Id(activity.getId()).stream()
+            .sorted(Comparator.comparing(Subscription::getId))
+            .toList();
+
+        markSeason();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_matchGroupByAndSkipHolidays_when_computingSeasonStats")
+    void should_matchGroupByAndSkipHolidays_when_computingSeasonStats() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<AttendanceSeasonStatsResponse> stats = attendanceAnalyticsService.getActivitySeasonStats(
+            activity.getId(), 2025);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount())
+            .as("Activity lookup and one bitmap row per member, not one row per occurrence")
+            .isEqualTo(2);
+        assertThat(stats).extracting(AttendanceSeasonStatsResponse::subscriptionId)
+            .containsExactlyElementsOf(subscriptions.stream().map(Subscription::getId).toList());
+        for (AttendanceSeasonStatsResponse stat : stats) {
+            Map<AttendanceStatus, Long> counts = counts(attendanceRepository.countByStatus(stat.familyMemberId()));
+            assertThat(stat.recordedSessions()).isEqualTo(WEEKS - 1);
+            assertThat((long) stat.presentCount()).isEqualTo(counts.getOrDefault(AttendanceStatus.PRESENT, 0L));
+            assertThat((long) stat.absentCount()).isEqualTo(counts.getOrDefault(AttendanceStatus.ABSENT, 0L));
+            assertThat((long) stat.excusedCount()).isEqualTo(counts.getOrDefault(AttendanceStatus.EXCUSED, 0L));
+            assertThat((long) stat.lateCount()).isEqualTo(counts.getOrDefault(AttendanceStatus.LATE, 0L));
+        }
+
+        AttendanceSeasonStatsResponse regular = stats.get(0);
+        assertThat(regular.memberFirstName()).isEqualTo("Child" + regular.familyMemberId());
+        assertThat(regular.attendanceRate()).isEqualTo((double) 7 / 9 * 100.0);
+        assertThat(regular.currentStreak()).as("Weeks 3-6, 8, 9 across the holiday").isEqualTo(6);
+        assertThat(regular.longestStreak()).isEqualTo(6);
+
+        AttendanceSeasonStatsResponse absent = stats.get(1);
+        assertThat(absent.attendanceRate()).isZero();
+        assertThat(absent.currentStreak()).isZero();
+        assertThat(absent.longestStreak()).isZero();
+
+        AttendanceSeasonStatsResponse excusedLast = stats.get(2);
+        assertThat(excusedLast.excusedCount()).isEqualTo(1);
+        assertThat(excusedLast.currentStreak()).isZero();
+        assertThat(excusedLast.longestStreak()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should_countStatusesPerWednesday_when_buildingSessionHeatmap")
+    void should_countStatusesPerWednesday_when_buildingSessionHeatmap() {
+        // When
+        AttendanceHeatmapResponse heatmap = attendanceAnalyticsService.getSessionHeatmap(testSession.getId(), 2025);
+
+        // Then
+        assertThat(heatmap.seasonStart()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(heatmap.occurrences()).extracting(AttendanceHeatmapResponse.Occurrence::sessionDate)
+            .containsExactly(
+                week(0), week(1), week(2), week(3), week(4), week(5), week(6), week(8), week(9));
+        assertThat(heatmap.occurrences().get(2))
+            .isEqualTo(new AttendanceHeatmapResponse.Occurrence(2, week(2), 1, 2, 0, 0));
+        assertThat(heatmap.occurrences().get(7))
+            .isEqualTo(new AttendanceHeatmapResponse.Occurrence(8, week(8), 1, 1, 0, 1));
+        assertThat(heatmap.occurrences().get(8))
+            .isEqualTo(new AttendanceHeatmapResponse.Occurrence(9, week(9), 1, 1, 1, 0));
+    }
+
+    /**
+     * Marks every week but the holiday: the first member misses week 2 and is late on
+     * week 8, the second is always absent, the third attends every week and the last
+     * mark is then changed to EXCUSED.
+     */
+    private void markSeason() {
+        Long lastMarkOfThird = null;
+        for (int week = 0; week < WEEKS; week++) {
+            if (week == HOLIDAY_WEEK) {
+                continue;
+            }
+            AttendanceStatus first = week == 2 ? AttendanceStatus.ABSENT
+                : week == 8 ? AttendanceStatus.LATE : AttendanceStatus.PRESENT;
+            List<AttendanceResponse> responses = attendanceService.markBulkAttendance(
+                new BulkAttendanceRequest(testSession.getId(), week(week), List.of(
+                    mark(subscriptions.get(0), first),
+                    mark(subscriptions.get(1), AttendanceStatus.ABSENT),
+                    mark(subscriptions.get(2), AttendanceStatus.PRESENT))), 100L);
+            lastMarkOfThird = responses.get(2).id();
+        }
+
+        Subscription third = subscriptions.get(2);
+        attendanceService.updateAttendance(lastMarkOfThird, new MarkAttendanceRequest(
+            testSession.getId(), third.getFamilyMemberId(), third.getId(), week(WEEKS - 1),
+            AttendanceStatus.EXCUSED, "Sick"), 100L);
+    }
+
+    private BulkAttendanceRequest.AttendanceMark mark(Subscription subscription, AttendanceStatus status) {
+        return new BulkAttendanceRequest.AttendanceMark(
+            subscription.getFamilyMemberId(), subscription.getId(), status, null);
+    }
+
+    private LocalDate week(int week) {
+        return FIRST_WEDNESDAY.plusWeeks(week);
+    }
+
+    private Map<AttendanceStatus, Long> counts(List<AttendanceStatusCount> statusCounts) {
+        Map<AttendanceStatus, Long> counts = new EnumMap<>(AttendanceStatus.class);
+        statusCounts.forEach(count -> counts.merge(count.getStatus(), count.getAttendanceCount(), Long::sum));
+        return counts;
+    }
+}
@@ -0,0 +1,90 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AttendanceBitset}.
+ *
+ * - Seasons start on September 1st; the last day of a leap season is occurrence 52
+ * - Occurrence dates land on the session's day of week
+ * - compress keeps the selected bits in order
+ * - Longest and current runs, including runs ending at the top of the sequence
+ * - Per-occurrence counts from set bits
+ *
+ * Tests: 5 test methods
+ */
+class AttendanceBitsetTest {
+
+    @Test
+    @DisplayName("should_startSeasonOnSeptemberFirst_when_dateIsBeforeOrAfterIt")
+    void should_startSeasonOnSeptemberFirst_when_dateIsBeforeOrAfterIt() {
+        assertThat(AttendanceBitset.seasonStart(LocalDate.of(2025, 9, 1))).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(AttendanceBitset.seasonStart(LocalDate.of(2025, 12, 24))).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(AttendanceBitset.seasonStart(LocalDate.of(2025, 8, 31))).isEqualTo(LocalDate.of(2024, 9, 1));
+
+        LocalDate leapSeason = LocalDate.of(2023, 9, 1);
+        assertThat(AttendanceBitset.occurrence(leapSeason, leapSeason)).isZero();
+        assertThat(AttendanceBitset.occurrence(leapSeason, LocalDate.of(2023, 9, 7))).isZero();
+        assertThat(AttendanceBitset.occurrence(leapSeason, LocalDate.of(2023, 9, 8))).isEqualTo(1);
+        assertThat(AttendanceBitset.occurrence(leapSeason, LocalDate.of(2024, 8, 31)))
+            .isEqualTo(AttendanceBitset.OCCURRENCES_PER_SEASON - 1);
+    }
+
+    @Test
+    @DisplayName("should_returnSessionDay_when_resolvingOccurrenceDate")
+    void should_returnSessionDay_when_resolvingOccurrenceDate() {
+        // 2025-09-01 is a Monday
+        LocalDate seasonStart = LocalDate.of(2025, 9, 1);
+
+        assertThat(AttendanceBitset.occurrenceDate(seasonStart, 0, DayOfWeekEnum.MONDAY))
+            .isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(AttendanceBitset.occurrenceDate(seasonStart, 0, DayOfWeekEnum.WEDNESDAY))
+            .isEqualTo(LocalDate.of(2025, 9, 3));
+        assertThat(AttendanceBitset.occurrenceDate(seasonStart, 6, DayOfWeekEnum.WEDNESDAY))
+            .isEqualTo(LocalDate.of(2025, 10, 15));
+        assertThat(AttendanceBitset.occurrence(seasonStart, LocalDate.of(2025, 10, 15))).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should_packSelectedBitsInOrder_when_compressing")
+    void should_packSelectedBitsInOrder_when_compressing() {
+        assertThat(AttendanceBitset.compress(0b1011_0110L, 0b1111_0110L)).isEqualTo(0b10_1111L);
+        assertThat(AttendanceBitset.compress(0b1010L, 0b0101L)).isZero();
+        assertThat(AttendanceBitset.compress(-1L, 1L << 63)).isEqualTo(1L);
+        assertThat(AttendanceBitset.compress(-1L, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("should_measureRuns_when_bitsHaveGaps")
+    void should_measureRuns_when_bitsHaveGaps() {
+        assertThat(AttendanceBitset.longestRun(0L)).isZero();
+        assertThat(AttendanceBitset.longestRun(0b0111_0011_1110L)).isEqualTo(5);
+        assertThat(AttendanceBitset.longestRun(-1L)).isEqualTo(64);
+
+        assertThat(AttendanceBitset.currentRun(0b0111_0011L, 0)).isZero();
+        assertThat(AttendanceBitset.currentRun(0b0111_0011L, 7)).isEqualTo(3);
+        assertThat(AttendanceBitset.currentRun(0b0111_0011L, 8)).isZero();
+        assertThat(AttendanceBitset.currentRun(0b1111L, 4)).isEqualTo(4);
+        assertThat(AttendanceBitset.currentRun(-1L, 64)).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("should_countEachSetBit_when_addingOccurrences")
+    void should_countEachSetBit_when_addingOccurrences() {
+        int[] counts = new int[AttendanceBitset.OCCURRENCES_PER_SEASON];
+
+        AttendanceBitset.addOccurrences(0b101L, counts);
+        AttendanceBitset.addOccurrences(0b100L | 1L << 52, counts);
+
+        assertThat(counts[0]).isEqualTo(1);
+        assertThat(counts[1]).isZero();
+        assertThat(counts[2]).isEqualTo(2);
+        assertThat(counts[52]).isEqualTo(1);
+    }
+}
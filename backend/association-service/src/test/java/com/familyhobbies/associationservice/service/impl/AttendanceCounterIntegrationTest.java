@@ -0,0 +1,267 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSummaryResponse;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.AttendanceStatusCount;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.AttendanceService;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the attendance counters behind the member summary.
+ *
+ * - Single marks, bulk marks and status updates keep the counters equal to a
+ *   GROUP BY over t_attendance
+ * - Without counters the summary falls back to the GROUP BY; once built, it costs a
+ *   single statement whatever the size of the history
+ * - attendanceCounterRebuildJob repairs counters after rows were written by SQL
+ *
+ * Kafka publishing is mocked, as in BulkAttendanceIntegrationTest.
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AttendanceCounterIntegrationTest {
+
+    private static final int HISTORY_ROWS = 1000;
+
+    @MockBean
+    private AttendanceEventPublisher eventPublisher;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    @Qualifier("jobLauncher")
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("attendanceCounterRebuildJob")
+    private Job attendanceCounterRebuildJob;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceCounterRepository attendanceCounterRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Session testSession;
+    private List<Subscription> subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Activity activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+        testSession = sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .build());
+
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, member_first_name, member_last_name, "
+                + "created_at, updated_at) "
+                + "SELECT ?, \"X\", 5, 100, 'ADHESION', 'ACTIVE', DATE '2020-01-01', "
+                + "'Child' || \"X\", 'Dupont', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, 3)",
+            activity.getId());
+        subscriptions = subscriptionRepository.findByActivity_Id(activity.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_matchGroupBy_when_markingInBulkAndUpdating")
+    void should_matchGroupBy_when_markingInBulkAndUpdating() {
+        // Given
+        Subscription first = subscriptions.get(0);
+        LocalDate monday = LocalDate.of(2025, 9, 1);
+
+        // When
+        AttendanceResponse single = attendanceService.markAttendance(new MarkAttendanceRequest(
+            testSession.getId(), first.getFamilyMemberId(), first.getId(), monday,
+            AttendanceStatus.PRESENT, null), 100L);
+        for (int week = 1; week <= 3; week++) {
+            attendanceService.markBulkAttendance(new BulkAttendanceRequest(testSession.getId(),
+                monday.plusWeeks(week),
+                subscriptions.stream()
+                    .map(subscription -> new BulkAttendanceRequest.AttendanceMark(
+                        subscription.getFamilyMemberId(), subscription.getId(),
+                        subscription == first ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT, null))
+                    .toList()), 100L);
+        }
+        attendanceService.updateAttendance(single.id(), new MarkAttendanceRequest(
+            testSession.getId(), first.getFamilyMemberId(), first.getId(), monday,
+            AttendanceStatus.EXCUSED, "Sick"), 100L);
+
+        // Then
+        for (Subscription subscription : subscriptions) {
+            Long memberId = subscription.getFamilyMemberId();
+            assertThat(counts(attendanceCounterRepository.findStatusCounts(memberId)))
+                .isEqualTo(counts(attendanceRepository.countByStatus(memberId)));
+        }
+        AttendanceSummaryResponse summary = attendanceService.getMemberSummary(first.getFamilyMemberId(), 100L);
+        assertThat(summary.totalSessions()).isEqualTo(4);
+        assertThat(summary.presentCount()).isEqualTo(3);
+        assertThat(summary.excusedCount()).isEqualTo(1);
+        assertThat(summary.memberFirstName()).isEqualTo("Child" + first.getFamilyMemberId());
+    }
+
+    @Test
+    @DisplayName("should_runOneStatement_when_summarizingLongHistoryFromCounters")
+    void should_runOneStatement_when_summarizingLongHistoryFromCounters() throws Exception {
+        // Given
+        Subscription subscription = subscriptions.get(0);
+        Long memberId = subscription.getFamilyMemberId();
+        insertHistory(subscription, HISTORY_ROWS);
+        AttendanceSummaryResponse fromGroupBy = attendanceService.getMemberSummary(memberId, 100L);
+        assertThat(runRebuildJob().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        AttendanceSummaryResponse fromCounters = attendanceService.getMemberSummary(memberId, 100L);
+
+        // Then
+        assertThat(fromCounters).isEqualTo(fromGroupBy);
+        assertThat(fromCounters.totalSessions()).isEqualTo(HISTORY_ROWS);
+        assertThat(fromCounters.presentCount()).isEqualTo(HISTORY_ROWS / 2);
+        assertThat(fromCounters.lateCount()).isEqualTo(HISTORY_ROWS / 2);
+        assertThat(statistics.getPrepareStatementCount())
+            .as("Counter lookup only, no history scan and no fallback")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_repairCounters_when_rebuildJobRuns")
+    void should_repairCounters_when_rebuildJobRuns() throws Exception {
+        // Given
+        Subscription subscription = subscriptions.get(1);
+        Long memberId = subscription.getFamilyMemberId();
+        attendanceService.markAttendance(new MarkAttendanceRequest(
+            testSession.getId(), memberId, subscription.getId(), LocalDate.of(2025, 9, 1),
+            AttendanceStatus.PRESENT, null), 100L);
+        insertHistory(subscription, 10);
+        jdbcTemplate.update("UPDATE t_attendance_counter SET attendance_count = 99");
+
+        // When
+        JobExecution execution = runRebuildJob();
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(counts(attendanceCounterRepository.findStatusCounts(memberId)))
+            .isEqualTo(Map.of(AttendanceStatus.PRESENT, 6L, AttendanceStatus.LATE, 5L));
+    }
+
+    /**
+     * Inserts {@code rows} attendance records for the subscription's member, one per day
+     * from 2020-01-01, alternating PRESENT and LATE, bypassing the service and its counters.
+     */
+    private void insertHistory(Subscription subscription, int rows) {
+        jdbcTemplate.update(
+            "INSERT INTO t_attendance (session_id, family_member_id, subscription_id, session_date, "
+                + "status, marked_by, created_at, updated_at) "
+                + "SELECT ?, ?, ?, DATEADD('DAY', \"X\", DATE '2020-01-01'), "
+                + "CASE WHEN MOD(\"X\", 2) = 0 THEN 'PRESENT' ELSE 'LATE' END, 100, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+            testSession.getId(), subscription.getFamilyMemberId(), subscription.getId(), rows);
+    }
+
+    private JobExecution runRebuildJob() throws Exception {
+        return jobLauncher.run(attendanceCounterRebuildJob, new JobParametersBuilder()
+            .addLong("timestamp", System.nanoTime())
+            .toJobParameters());
+    }
+
+    private Map<AttendanceStatus, Long> counts(List<AttendanceStatusCount> statusCounts) {
+        return statusCounts.stream()
+            .filter(count -> count.getAttendanceCount() > 0)
+            .collect(Collectors.toMap(AttendanceStatusCount::getStatus,
+                AttendanceStatusCount::getAttendanceCount, Long::sum));
+    }
+}
@@ -0,0 +1,84 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.response.AttendanceReportFormat;
+import com.familyhobbies.associationservice.repository.AttendanceReportRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AttendanceReportWriter}.
+ *
+ * - CSV: header, CRLF line ends, quoting of separators, quotes and line breaks, empty nulls
+ * - NDJSON: one JSON object per line, nulls kept as JSON null
+ *
+ * Tests: 3 test methods
+ */
+class AttendanceReportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should_writeHeaderAndPlainFields_when_formatIsCsv")
+    void should_writeHeaderAndPlainFields_when_formatIsCsv() {
+        // When
+        String output = write(AttendanceReportFormat.CSV, row("Lucas", null));
+
+        // Then
+        assertThat(output).isEqualTo(AttendanceReportWriter.CSV_HEADER + "\r\n"
+            + "7,2025-09-02,1,2,Natation enfants,3,18:00,10,Lucas,Dupont,PRESENT,,100\r\n");
+    }
+
+    @Test
+    @DisplayName("should_quoteField_when_itContainsSeparatorQuoteOrLineBreak")
+    void should_quoteField_when_itContainsSeparatorQuoteOrLineBreak() {
+        // When
+        String output = write(AttendanceReportFormat.CSV, row("Anne, \"Nanou\"", "Left early\nsick"));
+
+        // Then
+        assertThat(output).endsWith(
+            ",\"Anne, \"\"Nanou\"\"\",Dupont,PRESENT,\"Left early\nsick\",100\r\n");
+    }
+
+    @Test
+    @DisplayName("should_writeOneObjectPerLine_when_formatIsNdjson")
+    void should_writeOneObjectPerLine_when_formatIsNdjson() throws Exception {
+        // When
+        String output = write(AttendanceReportFormat.NDJSON, row("Lucas", null), row("Emma", "Late bus"));
+
+        // Then
+        String[] lines = output.split("\n");
+        assertThat(output).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("attendanceId").asLong()).isEqualTo(7L);
+        assertThat(first.get("sessionDate").asText()).isEqualTo("2025-09-02");
+        assertThat(first.get("memberFirstName").asText()).isEqualTo("Lucas");
+        assertThat(first.get("note").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).get("note").asText()).isEqualTo("Late bus");
+    }
+
+    private String write(AttendanceReportFormat format, AttendanceReportRow... rows) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AttendanceReportWriter writer = new AttendanceReportWriter(format, outputStream, objectMapper.getFactory());
+        writer.writeHeader();
+        for (AttendanceReportRow row : rows) {
+            writer.writeRow(row);
+        }
+        writer.flush();
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private AttendanceReportRow row(String firstName, String note) {
+        return new AttendanceReportRow(7L, LocalDate.of(2025, 9, 2), 1L, 2L, "Natation enfants", 3L,
+            LocalTime.of(18, 0), 10L, firstName, "Dupont", "PRESENT", note, 100L);
+    }
+}
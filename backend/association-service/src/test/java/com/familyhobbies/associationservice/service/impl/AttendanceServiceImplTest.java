@@ -1,9 +1,15 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.AttendanceSyncRequest;
 import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.request.KeysetCursor;
 import com.familyhobbies.associationservice.dto.request.MarkAttendanceRequest;
 import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
 import com.familyhobbies.associationservice.dto.response.AttendanceSummaryResponse;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncOutcome;
+import com.familyhobbies.associationservice.dto.response.AttendanceSyncResultResponse;
+import com.familyhobbies.associationservice.dto.response.CursorPageResponse;
+import com.familyhobbies.associationservice.dto.response.SessionRosterResponse;
 import com.familyhobbies.associationservice.entity.Activity;
 import com.familyhobbies.associationservice.entity.Attendance;
 import com.familyhobbies.associationservice.entity.Session;
@@ -13,9 +19,18 @@ import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
 import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
 import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
 import com.familyhobbies.associationservice.mapper.AttendanceMapper;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapMark;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRepository;
+import com.familyhobbies.associationservice.repository.AttendanceCounterDelta;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import com.familyhobbies.associationservice.repository.AttendanceHistoryRow;
 import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.AttendanceStatusCount;
+import com.familyhobbies.associationservice.repository.AttendanceSyncRow;
 import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SessionRosterRow;
 import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.AttendanceService;
 import com.familyhobbies.errorhandling.exception.web.BadRequestException;
 import com.familyhobbies.errorhandling.exception.web.ConflictException;
 import com.familyhobbies.errorhandling.exception.web.ForbiddenException;
@@ -28,12 +43,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,7 +66,7 @@ import static org.mockito.Mockito.when;
  * Unit tests for AttendanceServiceImpl.
  *
  * Story: S4-001 -- Attendance Entity + API
- * Tests: 14 test methods
+ * Tests: 32 test methods
  */
 @ExtendWith(MockitoExtension.class)
 class AttendanceServiceImplTest {
@@ -55,6 +74,12 @@ class AttendanceServiceImplTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceCounterRepository attendanceCounterRepository;
+
+    @Mock
+    private AttendanceBitmapRepository attendanceBitmapRepository;
+
     @Mock
     private SessionRepository sessionRepository;
 
@@ -139,6 +164,10 @@ class AttendanceServiceImplTest {
 
         assertThat(result.status()).isEqualTo(AttendanceStatus.PRESENT);
         assertThat(result.sessionId()).isEqualTo(1L);
+        verify(attendanceCounterRepository).applyDeltas(
+            List.of(new AttendanceCounterDelta(10L, AttendanceStatus.PRESENT, 1L, 1)));
+        verify(attendanceBitmapRepository).applyMarks(List.of(new AttendanceBitmapMark(
+            1L, 1L, LocalDate.of(2025, 9, 1), 6, AttendanceStatus.PRESENT)));
         verify(eventPublisher).publishAttendanceMarked(testAttendance);
     }
 
@@ -226,6 +255,26 @@ class AttendanceServiceImplTest {
         verify(eventPublisher, never()).publishAttendanceMarked(any());
     }
 
+    @Test
+    @DisplayName("should_throwBadRequest_when_memberDoesNotMatchSubscription")
+    void should_throwBadRequest_when_memberDoesNotMatchSubscription() {
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findById(1L)).thenReturn(Optional.of(testSubscription));
+
+        MarkAttendanceRequest otherMemberRequest = new MarkAttendanceRequest(
+            1L, 11L, 1L,
+            LocalDate.of(2025, 10, 15),
+            AttendanceStatus.PRESENT, null
+        );
+
+        assertThatThrownBy(() -> attendanceService.markAttendance(otherMemberRequest, 100L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("does not match subscription");
+
+        verify(attendanceCounterRepository, never()).applyDeltas(any());
+        verify(attendanceBitmapRepository, never()).applyMarks(any());
+    }
+
     @Test
     @DisplayName("should_throwBadRequest_when_futureDateProvided")
     void should_throwBadRequest_when_futureDateProvided() {
@@ -258,6 +307,171 @@ class AttendanceServiceImplTest {
             .hasMessageContaining("already exists");
     }
 
+    @Test
+    @DisplayName("should_insertAllMarksInOneBatch_when_bulkRequestValid")
+    void should_insertAllMarksInOneBatch_when_bulkRequestValid() {
+        Subscription secondSubscription = activeSubscription(2L, 11L);
+        BulkAttendanceRequest request = bulkRequest(1L, 2L);
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L, 2L)))
+            .thenReturn(List.of(secondSubscription, testSubscription));
+        when(attendanceMapper.toEntity(eq(request), any(BulkAttendanceRequest.AttendanceMark.class),
+            eq(testSession), any(Subscription.class), eq(100L)))
+            .thenReturn(testAttendance);
+        when(attendanceRepository.insertAllSkippingDuplicates(any())).thenReturn(List.of());
+        when(attendanceMapper.toResponse(testAttendance)).thenReturn(testResponse);
+
+        List<AttendanceResponse> result = attendanceService.markBulkAttendance(request, 100L);
+
+        assertThat(result).hasSize(2);
+        verify(attendanceMapper).toEntity(request, request.marks().get(0), testSession, testSubscription, 100L);
+        verify(attendanceMapper).toEntity(request, request.marks().get(1), testSession, secondSubscription, 100L);
+        verify(attendanceRepository).insertAllSkippingDuplicates(List.of(testAttendance, testAttendance));
+        verify(subscriptionRepository, never()).findById(any());
+        verify(attendanceCounterRepository).applyDeltas(
+            List.of(new AttendanceCounterDelta(10L, AttendanceStatus.PRESENT, 1L, 2)));
+        verify(attendanceBitmapRepository).applyMarks(any());
+        verify(eventPublisher).publishAttendancesMarked(List.of(testAttendance, testAttendance));
+    }
+
+    @Test
+    @DisplayName("should_throwResourceNotFound_when_bulkSubscriptionNotFound")
+    void should_throwResourceNotFound_when_bulkSubscriptionNotFound() {
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(testSubscription));
+
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(bulkRequest(1L, 99L), 100L))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(attendanceRepository, never()).insertAllSkippingDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("should_throwBadRequest_when_bulkSubscriptionNotActive")
+    void should_throwBadRequest_when_bulkSubscriptionNotActive() {
+        testSubscription.setStatus(SubscriptionStatus.EXPIRED);
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSubscription));
+
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(bulkRequest(1L), 100L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("active subscription");
+
+        verify(attendanceRepository, never()).insertAllSkippingDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("should_throwBadRequest_when_bulkMemberDoesNotMatchSubscription")
+    void should_throwBadRequest_when_bulkMemberDoesNotMatchSubscription() {
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L, 2L)))
+            .thenReturn(List.of(testSubscription, activeSubscription(2L, 20L)));
+
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(bulkRequest(1L, 2L), 100L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("Member 11 does not match subscription 2");
+
+        verify(attendanceRepository, never()).insertAllSkippingDuplicates(any());
+        verify(attendanceCounterRepository, never()).applyDeltas(any());
+    }
+
+    @Test
+    @DisplayName("should_throwConflict_when_bulkMarkAlreadyExists")
+    void should_throwConflict_when_bulkMarkAlreadyExists() {
+        BulkAttendanceRequest request = bulkRequest(1L);
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSubscription));
+        when(attendanceMapper.toEntity(request, request.marks().get(0), testSession, testSubscription, 100L))
+            .thenReturn(testAttendance);
+        when(attendanceRepository.insertAllSkippingDuplicates(List.of(testAttendance)))
+            .thenReturn(List.of(testAttendance));
+
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(request, 100L))
+            .isInstanceOf(ConflictException.class)
+            .hasMessageContaining("already exists for member 10");
+
+        verify(eventPublisher, never()).publishAttendancesMarked(any());
+    }
+
+    @Test
+    @DisplayName("should_reportOutcomePerMark_when_syncingOfflineMarks")
+    void should_reportOutcomePerMark_when_syncingOfflineMarks() {
+        Subscription secondSubscription = activeSubscription(2L, 11L);
+        AttendanceSyncRequest.SyncMark created = syncMark(1L, AttendanceStatus.PRESENT);
+        AttendanceSyncRequest.SyncMark stale = syncMark(2L, AttendanceStatus.ABSENT);
+        AttendanceSyncRequest.SyncMark unknown = syncMark(99L, AttendanceStatus.PRESENT);
+        Attendance createdAttendance = syncedAttendance(created, testSubscription);
+        Attendance staleAttendance = syncedAttendance(stale, secondSubscription);
+        when(sessionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L, 2L, 99L)))
+            .thenReturn(List.of(testSubscription, secondSubscription));
+        when(attendanceMapper.toSyncEntity(created, testSession, testSubscription, 100L)).thenReturn(createdAttendance);
+        when(attendanceMapper.toSyncEntity(stale, testSession, secondSubscription, 100L)).thenReturn(staleAttendance);
+        when(attendanceRepository.upsertLatest(List.of(createdAttendance, staleAttendance))).thenReturn(List.of(
+            new AttendanceSyncRow(7L, true, null, null, null),
+            new AttendanceSyncRow(8L, false, AttendanceStatus.PRESENT, UUID.randomUUID(), Instant.now())));
+
+        List<AttendanceSyncResultResponse> result = attendanceService.syncAttendance(
+            new AttendanceSyncRequest(List.of(created, stale, unknown)), 100L);
+
+        assertThat(result).extracting(AttendanceSyncResultResponse::outcome).containsExactly(
+            AttendanceSyncOutcome.CREATED, AttendanceSyncOutcome.STALE, AttendanceSyncOutcome.REJECTED);
+        assertThat(result).extracting(AttendanceSyncResultResponse::attendanceId).containsExactly(7L, 8L, null);
+        assertThat(result.get(2).message()).contains("Subscription");
+        verify(attendanceCounterRepository).applyDeltas(
+            List.of(new AttendanceCounterDelta(10L, AttendanceStatus.PRESENT, 1L, 1)));
+        verify(eventPublisher).publishAttendancesMarked(List.of(createdAttendance));
+    }
+
+    @Test
+    @DisplayName("should_moveCountersWithoutEvent_when_syncedMarkChangesStatus")
+    void should_moveCountersWithoutEvent_when_syncedMarkChangesStatus() {
+        AttendanceSyncRequest.SyncMark mark = syncMark(1L, AttendanceStatus.ABSENT);
+        Attendance attendance = syncedAttendance(mark, testSubscription);
+        when(sessionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSubscription));
+        when(attendanceMapper.toSyncEntity(mark, testSession, testSubscription, 100L)).thenReturn(attendance);
+        when(attendanceRepository.upsertLatest(List.of(attendance))).thenReturn(List.of(
+            new AttendanceSyncRow(7L, true, AttendanceStatus.PRESENT, null, null)));
+
+        List<AttendanceSyncResultResponse> result = attendanceService.syncAttendance(
+            new AttendanceSyncRequest(List.of(mark)), 100L);
+
+        assertThat(result).extracting(AttendanceSyncResultResponse::outcome)
+            .containsExactly(AttendanceSyncOutcome.UPDATED);
+        verify(attendanceCounterRepository).applyDeltas(List.of(
+            new AttendanceCounterDelta(10L, AttendanceStatus.PRESENT, 1L, -1),
+            new AttendanceCounterDelta(10L, AttendanceStatus.ABSENT, 1L, 1)));
+        verify(attendanceBitmapRepository).applyMarks(List.of(
+            new AttendanceBitmapMark(1L, 1L, LocalDate.of(2025, 9, 1), 6, AttendanceStatus.ABSENT)));
+        verify(eventPublisher, never()).publishAttendancesMarked(any());
+    }
+
+    @Test
+    @DisplayName("should_reportUnchanged_when_replayedMarkHasNanosecondPrecision")
+    void should_reportUnchanged_when_replayedMarkHasNanosecondPrecision() {
+        AttendanceSyncRequest.SyncMark stored = syncMark(1L, AttendanceStatus.PRESENT);
+        AttendanceSyncRequest.SyncMark replayed = new AttendanceSyncRequest.SyncMark(stored.clientMarkId(),
+            stored.sessionId(), stored.familyMemberId(), stored.subscriptionId(), stored.sessionDate(),
+            stored.status(), stored.note(), Instant.parse("2025-10-15T18:00:00.123456789Z"));
+        AttendanceSyncRequest.SyncMark truncated = new AttendanceSyncRequest.SyncMark(stored.clientMarkId(),
+            stored.sessionId(), stored.familyMemberId(), stored.subscriptionId(), stored.sessionDate(),
+            stored.status(), stored.note(), Instant.parse("2025-10-15T18:00:00.123456Z"));
+        Attendance attendance = syncedAttendance(truncated, testSubscription);
+        when(sessionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSession));
+        when(subscriptionRepository.findAllById(List.of(1L))).thenReturn(List.of(testSubscription));
+        when(attendanceMapper.toSyncEntity(truncated, testSession, testSubscription, 100L)).thenReturn(attendance);
+        when(attendanceRepository.upsertLatest(List.of(attendance))).thenReturn(List.of(new AttendanceSyncRow(
+            7L, false, AttendanceStatus.PRESENT, stored.clientMarkId(), truncated.modifiedAt())));
+
+        List<AttendanceSyncResultResponse> result = attendanceService.syncAttendance(
+            new AttendanceSyncRequest(List.of(replayed)), 100L);
+
+        assertThat(result).extracting(AttendanceSyncResultResponse::outcome)
+            .containsExactly(AttendanceSyncOutcome.UNCHANGED);
+        verify(eventPublisher, never()).publishAttendancesMarked(any());
+    }
+
     @Test
     @DisplayName("should_returnAttendanceList_when_findBySessionAndDate")
     void should_returnAttendanceList_when_findBySessionAndDate() {
@@ -273,54 +487,184 @@ class AttendanceServiceImplTest {
         assertThat(results.get(0).status()).isEqualTo(AttendanceStatus.PRESENT);
     }
 
+    @Test
+    @DisplayName("should_returnRosterWithoutSessionLookup_when_sessionHasSubscribers")
+    void should_returnRosterWithoutSessionLookup_when_sessionHasSubscribers() {
+        LocalDate date = LocalDate.of(2025, 10, 15);
+        SessionRosterRow marked = new SessionRosterRow(1L, 10L, "Lucas", "Dupont", 7L, AttendanceStatus.PRESENT, null);
+        SessionRosterRow unmarked = new SessionRosterRow(2L, 11L, "Emma", "Martin", null, null, null);
+        SessionRosterResponse.Member markedMember = new SessionRosterResponse.Member(
+            1L, 10L, "Lucas", "Dupont", 7L, AttendanceStatus.PRESENT, null);
+        SessionRosterResponse.Member unmarkedMember = new SessionRosterResponse.Member(
+            2L, 11L, "Emma", "Martin", null, null, null);
+        when(attendanceRepository.findSessionRoster(1L, date, SubscriptionStatus.ACTIVE))
+            .thenReturn(List.of(marked, unmarked));
+        when(attendanceMapper.toRosterMember(marked)).thenReturn(markedMember);
+        when(attendanceMapper.toRosterMember(unmarked)).thenReturn(unmarkedMember);
+
+        SessionRosterResponse result = attendanceService.getSessionRoster(1L, date);
+
+        assertThat(result.sessionId()).isEqualTo(1L);
+        assertThat(result.sessionDate()).isEqualTo(date);
+        assertThat(result.members()).containsExactly(markedMember, unmarkedMember);
+        verify(sessionRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("should_throwResourceNotFound_when_rosterSessionNotFound")
+    void should_throwResourceNotFound_when_rosterSessionNotFound() {
+        LocalDate date = LocalDate.of(2025, 10, 15);
+        when(attendanceRepository.findSessionRoster(99L, date, SubscriptionStatus.ACTIVE)).thenReturn(List.of());
+        when(sessionRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> attendanceService.getSessionRoster(99L, date))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("should_returnMemberHistory_when_findByMemberId")
     void should_returnMemberHistory_when_findByMemberId() {
-        when(attendanceRepository.findByFamilyMemberId(10L)).thenReturn(List.of(testAttendance));
-        when(attendanceMapper.toResponse(testAttendance)).thenReturn(testResponse);
+        AttendanceHistoryRow row = historyRow(1L, LocalDate.of(2025, 10, 15), 100L);
+        when(attendanceRepository.findLatestMemberHistory(
+            10L, PageRequest.of(0, AttendanceServiceImpl.HISTORY_LIST_LIMIT + 1)))
+            .thenReturn(List.of(row));
+        when(attendanceMapper.toHistoryResponse(row)).thenReturn(testResponse);
 
-        List<AttendanceResponse> results = attendanceService.findByMemberId(10L, 100L);
+        AttendanceService.HistoryList results = attendanceService.findByMemberId(10L, 100L);
 
-        assertThat(results).hasSize(1);
+        assertThat(results.records()).hasSize(1);
+        assertThat(results.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should_flagTruncatedList_when_memberHistoryExceedsLimit")
+    void should_flagTruncatedList_when_memberHistoryExceedsLimit() {
+        LocalDate latest = LocalDate.of(2025, 10, 15);
+        List<AttendanceHistoryRow> rows = LongStream
+            .rangeClosed(1, AttendanceServiceImpl.HISTORY_LIST_LIMIT + 1)
+            .mapToObj(id -> historyRow(id, latest.minusWeeks(id), 100L))
+            .toList();
+        when(attendanceRepository.findLatestMemberHistory(eq(10L), any())).thenReturn(rows);
+        when(attendanceMapper.toHistoryResponse(any())).thenReturn(testResponse);
+
+        AttendanceService.HistoryList results = attendanceService.findByMemberId(10L, 100L);
+
+        assertThat(results.records()).hasSize(AttendanceServiceImpl.HISTORY_LIST_LIMIT);
+        assertThat(results.truncated()).isTrue();
+        verify(attendanceMapper, never()).toHistoryResponse(rows.get(AttendanceServiceImpl.HISTORY_LIST_LIMIT));
     }
 
     @Test
     @DisplayName("should_throwForbidden_when_notOwnerForMemberHistory")
     void should_throwForbidden_when_notOwnerForMemberHistory() {
-        when(attendanceRepository.findByFamilyMemberId(10L)).thenReturn(List.of(testAttendance));
+        when(attendanceRepository.findLatestMemberHistory(eq(10L), any()))
+            .thenReturn(List.of(historyRow(1L, LocalDate.of(2025, 10, 15), 100L)));
 
         assertThatThrownBy(() -> attendanceService.findByMemberId(10L, 999L))
             .isInstanceOf(ForbiddenException.class);
     }
 
     @Test
-    @DisplayName("should_returnSummary_when_getMemberSummary")
-    void should_returnSummary_when_getMemberSummary() {
-        when(attendanceRepository.findByFamilyMemberId(10L)).thenReturn(List.of(testAttendance));
-        when(attendanceRepository.countByFamilyMemberId(10L)).thenReturn(4L);
-        when(attendanceRepository.countByFamilyMemberIdAndStatus(10L, AttendanceStatus.PRESENT)).thenReturn(3L);
-        when(attendanceRepository.countByFamilyMemberIdAndStatus(10L, AttendanceStatus.ABSENT)).thenReturn(0L);
-        when(attendanceRepository.countByFamilyMemberIdAndStatus(10L, AttendanceStatus.EXCUSED)).thenReturn(1L);
-        when(attendanceRepository.countByFamilyMemberIdAndStatus(10L, AttendanceStatus.LATE)).thenReturn(0L);
+    @DisplayName("should_returnSliceWithCursor_when_moreMemberHistoryRemains")
+    void should_returnSliceWithCursor_when_moreMemberHistoryRemains() {
+        AttendanceHistoryRow first = historyRow(1L, LocalDate.of(2025, 10, 1), 100L);
+        AttendanceHistoryRow second = historyRow(2L, LocalDate.of(2025, 10, 8), 100L);
+        AttendanceHistoryRow extra = historyRow(3L, LocalDate.of(2025, 10, 15), 100L);
+        when(attendanceRepository.findMemberHistoryAfter(10L, LocalDate.of(2025, 9, 24), 9L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(first, second, extra));
+        when(attendanceMapper.toHistoryResponse(any(AttendanceHistoryRow.class))).thenReturn(testResponse);
+
+        CursorPageResponse<AttendanceResponse> slice = attendanceService.scrollMemberHistory(
+            10L, new KeysetCursor("2025-09-24", 9L).encode(), 2, 100L);
+
+        assertThat(slice.content()).hasSize(2);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(slice.nextCursor())).isEqualTo(new KeysetCursor("2025-10-08", 2L));
+    }
+
+    @Test
+    @DisplayName("should_throwBadRequest_when_historyCursorHasNoDate")
+    void should_throwBadRequest_when_historyCursorHasNoDate() {
+        String cursor = new KeysetCursor("Natation", 9L).encode();
+
+        assertThatThrownBy(() -> attendanceService.scrollMemberHistory(10L, cursor, null, 100L))
+            .isInstanceOf(BadRequestException.class);
+        verify(attendanceRepository, never()).findMemberHistoryAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should_returnLastSlice_when_subscriptionHistoryFitsInOneSlice")
+    void should_returnLastSlice_when_subscriptionHistoryFitsInOneSlice() {
+        AttendanceHistoryRow row = historyRow(1L, LocalDate.of(2025, 10, 15), 100L);
+        when(subscriptionRepository.findById(1L)).thenReturn(Optional.of(testSubscription));
+        when(attendanceRepository.findSubscriptionHistory(1L, PageRequest.of(0, 21))).thenReturn(List.of(row));
+        when(attendanceMapper.toHistoryResponse(row)).thenReturn(testResponse);
+
+        CursorPageResponse<AttendanceResponse> slice =
+            attendanceService.scrollSubscriptionHistory(1L, null, null, 100L);
+
+        assertThat(slice.content()).hasSize(1);
+        assertThat(slice.size()).isEqualTo(20);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should_returnSummaryFromCounters_when_getMemberSummary")
+    void should_returnSummaryFromCounters_when_getMemberSummary() {
+        when(attendanceCounterRepository.findStatusCounts(10L)).thenReturn(List.of(
+            statusCount(AttendanceStatus.PRESENT, 3, 100L),
+            statusCount(AttendanceStatus.EXCUSED, 1, 100L)));
 
         AttendanceSummaryResponse result = attendanceService.getMemberSummary(10L, 100L);
 
         assertThat(result.totalSessions()).isEqualTo(4);
         assertThat(result.presentCount()).isEqualTo(3);
+        assertThat(result.absentCount()).isZero();
         assertThat(result.excusedCount()).isEqualTo(1);
         assertThat(result.attendanceRate()).isEqualTo(75.0);
+        assertThat(result.memberFirstName()).isEqualTo("Lucas");
+        verify(attendanceRepository, never()).countByStatus(any());
+        verify(attendanceRepository, never()).findMemberHistory(any(), any());
+    }
+
+    @Test
+    @DisplayName("should_fallBackToGroupBy_when_memberHasNoCounters")
+    void should_fallBackToGroupBy_when_memberHasNoCounters() {
+        when(attendanceCounterRepository.findStatusCounts(10L)).thenReturn(List.of());
+        when(attendanceRepository.countByStatus(10L)).thenReturn(List.of(
+            statusCount(AttendanceStatus.PRESENT, 1, 100L),
+            statusCount(AttendanceStatus.LATE, 1, 100L)));
+
+        AttendanceSummaryResponse result = attendanceService.getMemberSummary(10L, 100L);
+
+        assertThat(result.totalSessions()).isEqualTo(2);
+        assertThat(result.lateCount()).isEqualTo(1);
+        assertThat(result.attendanceRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("should_throwForbidden_when_summaryOfAnotherFamilyMember")
+    void should_throwForbidden_when_summaryOfAnotherFamilyMember() {
+        when(attendanceCounterRepository.findStatusCounts(10L)).thenReturn(List.of(
+            statusCount(AttendanceStatus.PRESENT, 3, 200L)));
+
+        assertThatThrownBy(() -> attendanceService.getMemberSummary(10L, 100L))
+            .isInstanceOf(ForbiddenException.class);
     }
 
     @Test
     @DisplayName("should_returnSubscriptionAttendance_when_findBySubscriptionId")
     void should_returnSubscriptionAttendance_when_findBySubscriptionId() {
         when(subscriptionRepository.findById(1L)).thenReturn(Optional.of(testSubscription));
-        when(attendanceRepository.findBySubscription_Id(1L)).thenReturn(List.of(testAttendance));
-        when(attendanceMapper.toResponse(testAttendance)).thenReturn(testResponse);
+        AttendanceHistoryRow row = historyRow(1L, LocalDate.of(2025, 10, 15), 100L);
+        when(attendanceRepository.findLatestSubscriptionHistory(eq(1L), any())).thenReturn(List.of(row));
+        when(attendanceMapper.toHistoryResponse(row)).thenReturn(testResponse);
 
-        List<AttendanceResponse> results = attendanceService.findBySubscriptionId(1L, 100L);
+        AttendanceService.HistoryList results = attendanceService.findBySubscriptionId(1L, 100L);
 
-        assertThat(results).hasSize(1);
+        assertThat(results.records()).hasSize(1);
+        assertThat(results.truncated()).isFalse();
     }
 
     @Test
@@ -345,5 +689,100 @@ class AttendanceServiceImplTest {
 
         assertThat(result.status()).isEqualTo(AttendanceStatus.EXCUSED);
         assertThat(result.note()).isEqualTo("Was sick");
+        verify(attendanceCounterRepository).applyDeltas(List.of(
+            new AttendanceCounterDelta(10L, AttendanceStatus.PRESENT, 1L, -1),
+            new AttendanceCounterDelta(10L, AttendanceStatus.EXCUSED, 1L, 1)));
+        verify(attendanceBitmapRepository).applyMarks(List.of(new AttendanceBitmapMark(
+            1L, 1L, LocalDate.of(2025, 9, 1), 6, AttendanceStatus.EXCUSED)));
+    }
+
+    @Test
+    @DisplayName("should_leaveCountersUntouched_when_updateKeepsStatus")
+    void should_leaveCountersUntouched_when_updateKeepsStatus() {
+        MarkAttendanceRequest updateRequest = new MarkAttendanceRequest(
+            1L, 10L, 1L, LocalDate.of(2025, 10, 15),
+            AttendanceStatus.PRESENT, "Arrived with his sister"
+        );
+
+        when(attendanceRepository.findById(1L)).thenReturn(Optional.of(testAttendance));
+        when(attendanceRepository.save(testAttendance)).thenReturn(testAttendance);
+        when(attendanceMapper.toResponse(testAttendance)).thenReturn(testResponse);
+
+        attendanceService.updateAttendance(1L, updateRequest, 100L);
+
+        verify(attendanceCounterRepository, never()).applyDeltas(any());
+        verify(attendanceBitmapRepository, never()).applyMarks(any());
+    }
+
+    private AttendanceStatusCount statusCount(AttendanceStatus status, long count, Long userId) {
+        return new AttendanceStatusCount() {
+            @Override
+            public AttendanceStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getAttendanceCount() {
+                return count;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getMemberFirstName() {
+                return "Lucas";
+            }
+
+            @Override
+            public String getMemberLastName() {
+                return "Dupont";
+            }
+        };
+    }
+
+    private AttendanceHistoryRow historyRow(Long id, LocalDate sessionDate, Long userId) {
+        return new AttendanceHistoryRow(id, 1L, 10L, "Lucas", "Dupont", 1L, sessionDate,
+            AttendanceStatus.PRESENT, null, 100L, Instant.now(), Instant.now(), userId);
+    }
+
+    private Subscription activeSubscription(Long id, Long familyMemberId) {
+        return Subscription.builder()
+            .id(id)
+            .activity(testSession.getActivity())
+            .familyMemberId(familyMemberId)
+            .familyId(5L)
+            .userId(100L)
+            .subscriptionType(SubscriptionType.ADHESION)
+            .status(SubscriptionStatus.ACTIVE)
+            .startDate(LocalDate.of(2025, 9, 1))
+            .build();
+    }
+
+    private AttendanceSyncRequest.SyncMark syncMark(Long subscriptionId, AttendanceStatus status) {
+        return new AttendanceSyncRequest.SyncMark(UUID.randomUUID(), 1L, 9L + subscriptionId, subscriptionId,
+            LocalDate.of(2025, 10, 15), status, null, Instant.parse("2025-10-15T18:00:00Z"));
+    }
+
+    private Attendance syncedAttendance(AttendanceSyncRequest.SyncMark mark, Subscription subscription) {
+        return Attendance.builder()
+            .session(testSession)
+            .familyMemberId(mark.familyMemberId())
+            .subscription(subscription)
+            .sessionDate(mark.sessionDate())
+            .status(mark.status())
+            .markedBy(100L)
+            .clientMarkId(mark.clientMarkId())
+            .modifiedAt(mark.modifiedAt())
+            .build();
+    }
+
+    private BulkAttendanceRequest bulkRequest(Long... subscriptionIds) {
+        return new BulkAttendanceRequest(1L, LocalDate.of(2025, 10, 15),
+            Arrays.stream(subscriptionIds)
+                .map(id -> new BulkAttendanceRequest.AttendanceMark(9L + id, id, AttendanceStatus.PRESENT, null))
+                .toList());
     }
 }
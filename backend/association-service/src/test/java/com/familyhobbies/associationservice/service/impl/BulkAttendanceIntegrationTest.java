@@ -0,0 +1,205 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.BulkAttendanceRequest;
+import com.familyhobbies.associationservice.dto.response.AttendanceResponse;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.Session;
+import com.familyhobbies.associationservice.entity.Subscription;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.AttendanceStatus;
+import com.familyhobbies.associationservice.entity.enums.DayOfWeekEnum;
+import com.familyhobbies.associationservice.event.AttendanceEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.AttendanceService;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import com.familyhobbies.errorhandling.exception.web.ConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for the set-based bulk attendance path.
+ *
+ * - 500 marks: every row inserted with its generated id, two Hibernate statements
+ *   (session + subscriptions) besides the JDBC insert and counter batches, median timing logged.
+ *   Not asserted: in-memory H2 on a shared CI runner says little about PostgreSQL latency
+ * - One mark already recorded -> ConflictException and nothing inserted
+ *
+ * Kafka publishing is mocked, as in SubscriptionCapacityConcurrencyIntegrationTest.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BulkAttendanceIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkAttendanceIntegrationTest.class);
+
+    private static final int MARKS = 500;
+    private static final int ROUNDS = 15;
+    private static final long EXPECTED_HIBERNATE_STATEMENTS = 2;
+
+    @MockBean
+    private AttendanceEventPublisher eventPublisher;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Session testSession;
+    private List<Subscription> subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+        Activity activity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+        testSession = sessionRepository.save(Session.builder()
+            .activity(activity)
+            .dayOfWeek(DayOfWeekEnum.WEDNESDAY)
+            .startTime(LocalTime.of(14, 0))
+            .endTime(LocalTime.of(15, 0))
+            .build());
+
+        jdbcTemplate.update(
+            "INSERT INTO t_subscription (activity_id, family_member_id, family_id, user_id, "
+                + "subscription_type, status, start_date, created_at, updated_at) "
+                + "SELECT ?, \"X\", \"X\", 100, 'ADHESION', 'ACTIVE', DATE '2025-09-01', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+            activity.getId(), MARKS);
+        subscriptions = subscriptionRepository.findByActivity_Id(activity.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_insertEveryMarkInOneBatch_when_marking500Members")
+    void should_insertEveryMarkInOneBatch_when_marking500Members() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        attendanceService.markBulkAttendance(request(LocalDate.of(2025, 9, 3)), 100L);
+        long[] timings = new long[ROUNDS];
+        long statements = 0;
+
+        // When
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            List<AttendanceResponse> responses = attendanceService.markBulkAttendance(
+                request(LocalDate.of(2025, 9, 10).plusWeeks(round)), 100L);
+            timings[round] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+            statements = statistics.getPrepareStatementCount();
+
+            assertThat(responses).hasSize(MARKS);
+            assertThat(responses).allSatisfy(response -> assertThat(response.id()).isNotNull());
+        }
+
+        Arrays.sort(timings);
+        log.info("Bulk attendance: {} marks in {} us (median of {} rounds), {} Hibernate statements",
+            MARKS, timings[ROUNDS / 2], ROUNDS, statements);
+
+        // Then
+        assertThat(attendanceRepository.count()).isEqualTo((long) MARKS * (ROUNDS + 1));
+        assertThat(statements)
+            .as("Session + subscriptions through Hibernate; inserts and counters go through JDBC batches")
+            .isEqualTo(EXPECTED_HIBERNATE_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("should_rejectWholeRequest_when_oneMarkAlreadyRecorded")
+    void should_rejectWholeRequest_when_oneMarkAlreadyRecorded() {
+        // Given
+        LocalDate sessionDate = LocalDate.of(2025, 9, 3);
+        Subscription last = subscriptions.get(MARKS - 1);
+        attendanceService.markBulkAttendance(new BulkAttendanceRequest(testSession.getId(), sessionDate,
+            List.of(new BulkAttendanceRequest.AttendanceMark(
+                last.getFamilyMemberId(), last.getId(), AttendanceStatus.PRESENT, null))), 100L);
+        clearInvocations(eventPublisher);
+
+        // When / Then
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(request(sessionDate), 100L))
+            .isInstanceOf(ConflictException.class)
+            .hasMessageContaining("already exists for member " + last.getFamilyMemberId());
+        assertThat(attendanceRepository.count()).isEqualTo(1);
+        verify(eventPublisher, never()).publishAttendancesMarked(anyList());
+    }
+
+    private BulkAttendanceRequest request(LocalDate sessionDate) {
+        return new BulkAttendanceRequest(testSession.getId(), sessionDate,
+            subscriptions.stream()
+                .map(subscription -> new BulkAttendanceRequest.AttendanceMark(
+                    subscription.getFamilyMemberId(), subscription.getId(), AttendanceStatus.PRESENT, null))
+                .toList());
+    }
+}
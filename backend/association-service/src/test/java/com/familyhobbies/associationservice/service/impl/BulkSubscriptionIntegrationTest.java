@@ -0,0 +1,243 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
+import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.event.SubscriptionEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.SubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for POST /api/v1/subscriptions/bulk.
+ *
+ * - Members x activities -> every pair created, seats taken per activity
+ * - One member already subscribed -> 409 and nothing inserted
+ * - N single calls vs one bulk call for N = 1..20, timings logged as a table
+ *
+ * Kafka publishing is mocked, as in SubscriptionCapacityConcurrencyIntegrationTest.
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BulkSubscriptionIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkSubscriptionIntegrationTest.class);
+
+    private static final int MAX_MEMBERS = 20;
+    private static final int ROUNDS = 5;
+
+    @MockBean
+    private SubscriptionEventPublisher eventPublisher;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Association testAssociation;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        testAssociation = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+    }
+
+    @Test
+    @DisplayName("should return 201 with every member-activity pair when bulk subscribing")
+    void should_return201_when_bulkSubscribing() {
+        // given
+        Activity natation = createActivity("Natation enfants", 10);
+        Activity waterPolo = createActivity("Water-polo", 10);
+        String requestBody = """
+            {
+                "familyId": 5,
+                "activityIds": [%d, %d],
+                "members": [
+                    {"familyMemberId": 10, "memberFirstName": "Lucas", "memberLastName": "Dupont"},
+                    {"familyMemberId": 11, "memberFirstName": "Emma", "memberLastName": "Dupont"},
+                    {"familyMemberId": 12, "memberFirstName": "Hugo", "memberLastName": "Dupont"}
+                ],
+                "subscriptionType": "ADHESION",
+                "startDate": "2025-09-01"
+            }
+            """.formatted(natation.getId(), waterPolo.getId());
+
+        // when
+        ResponseEntity<String> response = post(requestBody);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).contains("Lucas", "Emma", "Hugo", "Lyon Natation Metropole");
+        assertThat(subscriptionRepository.count()).isEqualTo(6);
+        assertThat(activityRepository.findById(natation.getId()).orElseThrow().getSeatsTaken()).isEqualTo(3);
+        assertThat(activityRepository.findById(waterPolo.getId()).orElseThrow().getSeatsTaken()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should return 409 and insert nothing when one member is already subscribed")
+    void should_return409_when_memberAlreadySubscribed() {
+        // given
+        Activity natation = createActivity("Natation enfants", 10);
+        subscriptionService.createSubscription(new SubscriptionRequest(
+            natation.getId(), 11L, 5L, "Emma", "Dupont", SubscriptionType.ADHESION,
+            LocalDate.of(2025, 9, 1), null), 100L);
+        String requestBody = """
+            {
+                "familyId": 5,
+                "activityIds": [%d],
+                "members": [
+                    {"familyMemberId": 10, "memberFirstName": "Lucas", "memberLastName": "Dupont"},
+                    {"familyMemberId": 11, "memberFirstName": "Emma", "memberLastName": "Dupont"}
+                ],
+                "subscriptionType": "ADHESION",
+                "startDate": "2025-09-01"
+            }
+            """.formatted(natation.getId());
+
+        // when
+        ResponseEntity<String> response = post(requestBody);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(subscriptionRepository.count()).isEqualTo(1);
+        assertThat(activityRepository.findById(natation.getId()).orElseThrow().getSeatsTaken()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should create the same rows when comparing single and bulk calls for 1 to 20 members")
+    void should_createSameRows_when_comparingSingleAndBulkCalls() {
+        // given
+        measure(MAX_MEMBERS);
+        StringBuilder table = new StringBuilder("\n members | single calls (us) | bulk call (us)");
+
+        // when / then
+        for (int members = 1; members <= MAX_MEMBERS; members++) {
+            long[] timings = measure(members);
+            table.append("\n %7d | %17d | %14d".formatted(members, timings[0], timings[1]));
+        }
+        log.info("Subscription of N members to one activity, median of {} rounds:{}", ROUNDS, table);
+    }
+
+    /**
+     * Runs ROUNDS rounds of N single calls and one bulk call for N members,
+     * each on a fresh activity, and returns the median timings in microseconds.
+     */
+    private long[] measure(int members) {
+        long[] single = new long[ROUNDS];
+        long[] bulk = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Long> memberIds = LongStream.rangeClosed(1, members).boxed().toList();
+
+            Activity singleActivity = createActivity("Single " + members + "-" + round, null);
+            long startedAt = System.nanoTime();
+            for (Long memberId : memberIds) {
+                subscriptionService.createSubscription(new SubscriptionRequest(
+                    singleActivity.getId(), memberId, 5L, "Child" + memberId, "Dupont",
+                    SubscriptionType.ADHESION, LocalDate.of(2025, 9, 1), null), 100L);
+            }
+            single[round] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+            Activity bulkActivity = createActivity("Bulk " + members + "-" + round, null);
+            BulkSubscriptionRequest request = new BulkSubscriptionRequest(
+                5L, List.of(bulkActivity.getId()),
+                memberIds.stream()
+                    .map(id -> new BulkSubscriptionRequest.Member(id, "Child" + id, "Dupont"))
+                    .toList(),
+                SubscriptionType.ADHESION, LocalDate.of(2025, 9, 1), null);
+            startedAt = System.nanoTime();
+            subscriptionService.createBulkSubscriptions(request, 100L);
+            bulk[round] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+            assertThat(subscriptionRepository.findByActivity_Id(singleActivity.getId())).hasSize(members);
+            assertThat(subscriptionRepository.findByActivity_Id(bulkActivity.getId())).hasSize(members);
+        }
+        return new long[] {median(single), median(bulk)};
+    }
+
+    private long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private ResponseEntity<String> post(String requestBody) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-User-Id", "100");
+        headers.set("X-User-Roles", "FAMILY");
+        return restTemplate.postForEntity(
+            "/api/v1/subscriptions/bulk", new HttpEntity<>(requestBody, headers), String.class);
+    }
+
+    private Activity createActivity(String name, Integer maxCapacity) {
+        return activityRepository.save(Activity.builder()
+            .association(testAssociation)
+            .name(name)
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .maxCapacity(maxCapacity)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+    }
+}
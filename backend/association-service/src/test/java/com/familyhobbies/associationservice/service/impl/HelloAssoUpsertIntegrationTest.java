@@ -0,0 +1,219 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.mapper.AssociationMapper;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService.PageResult;
+import com.familyhobbies.associationservice.support.DatabaseCleaner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the page-level HelloAsso upsert against H2.
+ *
+ * - A page synced twice writes nothing the second time and costs a single Hibernate
+ *   statement (the content hash lookup) without loading any association; renamed
+ *   organizations are updated in place, keeping their id
+ * - Throughput benchmark, only with -P benchmark (or -Dbenchmark=true): syncs
+ *   {@code helloasso.benchmark.organizations} organizations (default 5000, run with
+ *   -Dhelloasso.benchmark.organizations=50000 for the full measurement) in pages of
+ *   {@value #PAGE_SIZE}, once through the former per-organization lookup-and-save path and
+ *   once through the page upsert, then re-syncs with one organization in ten renamed.
+ *   Organizations per second logged, not asserted: in-memory H2 on a shared CI runner says
+ *   little about PostgreSQL throughput
+ *
+ * Kafka publishing is mocked.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HelloAssoUpsertIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HelloAssoUpsertIntegrationTest.class);
+
+    private static final int BENCHMARK_ORGANIZATIONS =
+        Integer.getInteger("helloasso.benchmark.organizations", 5_000);
+    private static final int PAGE_SIZE = 50;
+
+    @MockBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private HelloAssoUpsertService helloAssoUpsertService;
+
+    @Autowired
+    private AssociationMapper associationMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        databaseCleaner.clear();
+    }
+
+    @Test
+    @DisplayName("should_writeNothing_when_samePageUpsertedTwice")
+    void should_writeNothing_when_samePageUpsertedTwice() {
+        // Given
+        List<HelloAssoOrganization> page = page(0, PAGE_SIZE, "");
+        PageResult first = helloAssoUpsertService.upsertPage(page);
+        Timestamp lastUpdate = jdbcTemplate.queryForObject(
+            "SELECT MAX(updated_at) FROM t_association", Timestamp.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PageResult second = helloAssoUpsertService.upsertPage(page);
+        long statements = statistics.getPrepareStatementCount();
+        long entitiesLoaded = statistics.getEntityLoadCount();
+        Timestamp lastUpdateAfterSecond = jdbcTemplate.queryForObject(
+            "SELECT MAX(updated_at) FROM t_association", Timestamp.class);
+        List<HelloAssoOrganization> renamed = new ArrayList<>(page);
+        renamed.set(3, organization(3, " (renamed)"));
+        PageResult third = helloAssoUpsertService.upsertPage(renamed);
+
+        // Then
+        assertThat(first.created()).isEqualTo(PAGE_SIZE);
+        assertThat(first.written()).extracting(Association::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(second.unchanged()).isEqualTo(PAGE_SIZE);
+        assertThat(second.written()).isEmpty();
+        assertThat(statements).as("Content hash lookup only, nothing written").isEqualTo(1);
+        assertThat(entitiesLoaded).as("Unchanged organizations are never loaded").isZero();
+        assertThat(lastUpdateAfterSecond).isEqualTo(lastUpdate);
+        assertThat(third.updated()).isEqualTo(1);
+        assertThat(third.unchanged()).isEqualTo(PAGE_SIZE - 1);
+        Association updated = associationRepository.findByHelloassoSlug(slug(3)).orElseThrow();
+        assertThat(updated.getId()).isEqualTo(third.written().get(0).getId())
+            .isEqualTo(first.written().get(3).getId());
+        assertThat(updated.getName()).isEqualTo("Club 3 (renamed)");
+        assertThat(updated.getContentHash()).isEqualTo(associationMapper.contentHash(organization(3, " (renamed)")));
+        assertThat(associationRepository.count()).isEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("should_syncMoreOrganizationsPerSecond_when_upsertingWholePages")
+    void should_syncMoreOrganizationsPerSecond_when_upsertingWholePages() {
+        // Given
+        List<List<HelloAssoOrganization>> initial = pages("");
+        List<List<HelloAssoOrganization>> resync = pages(" (renamed)");
+
+        // When
+        long perRowLoadMs = timed(initial, this::upsertPerRow);
+        long perRowResyncMs = timed(resync, this::upsertPerRow);
+        databaseCleaner.clear();
+        long pageLoadMs = timed(initial, helloAssoUpsertService::upsertPage);
+        long pageResyncMs = timed(resync, helloAssoUpsertService::upsertPage);
+
+        log.info("HelloAsso upsert of {} organizations in pages of {}: initial load {} org/s per row, "
+                + "{} org/s per page; re-sync (10% renamed) {} org/s per row, {} org/s per page",
+            BENCHMARK_ORGANIZATIONS, PAGE_SIZE,
+            perSecond(perRowLoadMs), perSecond(pageLoadMs), perSecond(perRowResyncMs), perSecond(pageResyncMs));
+
+        // Then
+        assertThat(associationRepository.count()).isEqualTo(BENCHMARK_ORGANIZATIONS);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM t_association WHERE name LIKE '% (renamed)'", Long.class))
+            .isEqualTo(BENCHMARK_ORGANIZATIONS / 10);
+    }
+
+    /**
+     * The lookup-and-save path used before page upserts, kept here as the benchmark baseline:
+     * one query and one save per organization, one transaction per page.
+     */
+    private void upsertPerRow(List<HelloAssoOrganization> page) {
+        transactionTemplate.executeWithoutResult(status -> page.forEach(org ->
+            associationRepository.findByHelloassoSlug(org.slug()).ifPresentOrElse(entity -> {
+                if (!Objects.equals(entity.getName(), org.name())) {
+                    associationMapper.updateFromHelloAsso(entity, org);
+                    associationRepository.save(entity);
+                }
+            }, () -> associationRepository.save(associationMapper.fromHelloAsso(org)))));
+    }
+
+    private long timed(List<List<HelloAssoOrganization>> pages, Consumer<List<HelloAssoOrganization>> upsert) {
+        long startedAt = System.nanoTime();
+        pages.forEach(upsert);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private long perSecond(long durationMs) {
+        return BENCHMARK_ORGANIZATIONS * 1000L / Math.max(1, durationMs);
+    }
+
+    /**
+     * All benchmark organizations in pages; every tenth one gets {@code renamedSuffix}.
+     */
+    private List<List<HelloAssoOrganization>> pages(String renamedSuffix) {
+        List<List<HelloAssoOrganization>> pages = new ArrayList<>();
+        for (int from = 0; from < BENCHMARK_ORGANIZATIONS; from += PAGE_SIZE) {
+            pages.add(page(from, Math.min(from + PAGE_SIZE, BENCHMARK_ORGANIZATIONS), renamedSuffix));
+        }
+        return pages;
+    }
+
+    private List<HelloAssoOrganization> page(int from, int to, String renamedSuffix) {
+        return IntStream.range(from, to)
+            .mapToObj(i -> organization(i, i % 10 == 0 ? renamedSuffix : ""))
+            .toList();
+    }
+
+    private HelloAssoOrganization organization(int index, String nameSuffix) {
+        return HelloAssoOrganization.builder()
+            .name("Club " + index + nameSuffix)
+            .slug(slug(index))
+            .city("Lyon")
+            .zipCode("69001")
+            .category("Sport")
+            .description("Association sportive numero " + index)
+            .build();
+    }
+
+    private String slug(int index) {
+        return "club-" + index;
+    }
+}
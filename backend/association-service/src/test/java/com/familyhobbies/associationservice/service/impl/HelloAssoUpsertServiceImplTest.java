@@ -0,0 +1,145 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.adapter.dto.HelloAssoOrganization;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.mapper.AssociationMapper;
+import com.familyhobbies.associationservice.repository.AssociationContentHash;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AssociationSyncKey;
+import com.familyhobbies.associationservice.service.HelloAssoUpsertService.PageResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link HelloAssoUpsertServiceImpl}.
+ *
+ * Tests: 4 test methods
+ */
+@ExtendWith(MockitoExtension.class)
+class HelloAssoUpsertServiceImplTest {
+
+    @Mock
+    private AssociationRepository associationRepository;
+
+    private final AssociationMapper associationMapper = new AssociationMapper();
+
+    private HelloAssoUpsertServiceImpl upsertService;
+
+    @BeforeEach
+    void setUp() {
+        upsertService = new HelloAssoUpsertServiceImpl(associationRepository, associationMapper);
+    }
+
+    @Test
+    @DisplayName("should_writeNewAndChangedOnlyInOneBatch_when_pageMixesKnownAndUnknownSlugs")
+    @SuppressWarnings("unchecked")
+    void should_writeNewAndChangedOnlyInOneBatch_when_pageMixesKnownAndUnknownSlugs() {
+        // Given
+        HelloAssoOrganization created = organization("club-new", "Club New");
+        HelloAssoOrganization changed = organization("club-changed", "Club Changed");
+        HelloAssoOrganization same = organization("club-same", "Club Same");
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of(
+            new AssociationContentHash("club-changed", associationMapper.contentHash(organization("club-changed", "Old Name"))),
+            new AssociationContentHash("club-same", associationMapper.contentHash(same))));
+        when(associationRepository.findSyncKeys(anyCollection())).thenReturn(List.of(
+            new AssociationSyncKey("club-new", 12L, AssociationStatus.ACTIVE),
+            new AssociationSyncKey("club-changed", 10L, AssociationStatus.ACTIVE)));
+
+        // When
+        PageResult result = upsertService.upsertPage(List.of(created, changed, same));
+
+        // Then
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.written())
+            .extracting(Association::getHelloassoSlug, Association::getId, Association::getName)
+            .containsExactly(
+                tuple("club-new", 12L, "Club New"),
+                tuple("club-changed", 10L, "Club Changed"));
+        assertThat(result.written()).extracting(Association::getContentHash)
+            .containsExactly(associationMapper.contentHash(created), associationMapper.contentHash(changed));
+        ArgumentCaptor<Collection<String>> lookup = ArgumentCaptor.forClass(Collection.class);
+        verify(associationRepository).findContentHashes(lookup.capture());
+        assertThat(lookup.getValue()).containsExactly("club-new", "club-changed", "club-same");
+        ArgumentCaptor<Collection<String>> readBack = ArgumentCaptor.forClass(Collection.class);
+        verify(associationRepository).findSyncKeys(readBack.capture());
+        assertThat(readBack.getValue()).containsExactly("club-new", "club-changed");
+        verify(associationRepository).upsertHelloAssoPage(result.written());
+    }
+
+    @Test
+    @DisplayName("should_keepLastOccurrence_when_slugListedTwiceInPage")
+    void should_keepLastOccurrence_when_slugListedTwiceInPage() {
+        // Given
+        when(associationRepository.findContentHashes(anyCollection())).thenReturn(List.of());
+        when(associationRepository.findSyncKeys(anyCollection()))
+            .thenReturn(List.of(new AssociationSyncKey("club-a", 5L, AssociationStatus.ACTIVE)));
+
+        // When
+        PageResult result = upsertService.upsertPage(List.of(
+            organization("club-a", "Club A v1"), organization("club-a", "Club A v2")));
+
+        // Then
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.written()).singleElement()
+            .satisfies(row -> assertThat(row.getName()).isEqualTo("Club A v2"));
+    }
+
+    @Test
+    @DisplayName("should_updateAndReportStoredStatus_when_storedHashIsNull")
+    void should_updateAndReportStoredStatus_when_storedHashIsNull() {
+        // Given
+        when(associationRepository.findContentHashes(anyCollection()))
+            .thenReturn(List.of(new AssociationContentHash("club-b", null)));
+        when(associationRepository.findSyncKeys(anyCollection()))
+            .thenReturn(List.of(new AssociationSyncKey("club-b", 7L, AssociationStatus.INACTIVE)));
+
+        // When
+        PageResult result = upsertService.upsertPage(List.of(organization("club-b", "Club B")));
+
+        // Then
+        assertThat(result.updated()).isEqualTo(1);
+        Association row = result.written().get(0);
+        assertThat(row.getId()).isEqualTo(7L);
+        assertThat(row.getStatus()).isEqualTo(AssociationStatus.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("should_notTouchDatabase_when_noOrganizationHasSlug")
+    void should_notTouchDatabase_when_noOrganizationHasSlug() {
+        // When
+        PageResult result = upsertService.upsertPage(List.of(
+            organization(null, "No Slug"), organization(" ", "Blank Slug")));
+
+        // Then
+        assertThat(result.unchanged()).isEqualTo(2);
+        assertThat(result.written()).isEmpty();
+        verify(associationRepository, never()).findContentHashes(anyCollection());
+        verify(associationRepository, never()).upsertHelloAssoPage(any());
+    }
+
+    private HelloAssoOrganization organization(String slug, String name) {
+        return new HelloAssoOrganization(
+            name, slug, null, "Lyon", null, null, null, null, null, "sport", null, null, null);
+    }
+}
@@ -0,0 +1,183 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.event.SubscriptionEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.SubscriptionService;
+import com.familyhobbies.errorhandling.exception.web.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency test for the seat counter used by SubscriptionServiceImpl.
+ *
+ * 500 subscribers are released at once against an activity with 30 seats: exactly
+ * 30 subscriptions must be created, every other call must fail with ConflictException,
+ * and seats_taken must end at 30. Throughput is logged for comparison between runs.
+ *
+ * Kafka publishing is mocked: without a broker every send blocks on metadata while
+ * the activity row is locked, which would measure the producer timeout instead.
+ *
+ * Tests: 2 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SubscriptionCapacityConcurrencyIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionCapacityConcurrencyIntegrationTest.class);
+
+    private static final int SEATS = 30;
+    private static final int SUBSCRIBERS = 500;
+    private static final int THREADS = 32;
+
+    @MockBean
+    private SubscriptionEventPublisher eventPublisher;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Activity testActivity;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+
+        testActivity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .maxCapacity(SEATS)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+    }
+
+    @Test
+    @DisplayName("should_neverOversubscribe_when_subscribersRaceForLastSeats")
+    void should_neverOversubscribe_when_subscribersRaceForLastSeats() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            long familyMemberId = 1000L + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    subscriptionService.createSubscription(request(familyMemberId), 100L);
+                    created.incrementAndGet();
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        executor.shutdown();
+
+        log.info("Capacity race: {} subscribers for {} seats in {} ms ({} requests/s), created={}, rejected={}",
+            SUBSCRIBERS, SEATS, elapsedMs, SUBSCRIBERS * 1000L / elapsedMs, created.get(), rejected.get());
+
+        // Then
+        assertThat(created.get()).isEqualTo(SEATS);
+        assertThat(rejected.get()).isEqualTo(SUBSCRIBERS - SEATS);
+        assertThat(subscriptionRepository.count()).isEqualTo(SEATS);
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken())
+            .isEqualTo(SEATS);
+    }
+
+    @Test
+    @DisplayName("should_freeSeat_when_subscriptionCancelled")
+    void should_freeSeat_when_subscriptionCancelled() {
+        // Given
+        for (int i = 0; i < SEATS; i++) {
+            subscriptionService.createSubscription(request(1000L + i), 100L);
+        }
+        Long firstId = subscriptionRepository.findAll().get(0).getId();
+
+        // When
+        subscriptionService.cancelSubscription(firstId, 100L, "Moving away");
+        subscriptionService.createSubscription(request(2000L), 100L);
+
+        // Then
+        assertThat(subscriptionRepository.findAll())
+            .filteredOn(s -> s.getStatus() == SubscriptionStatus.PENDING)
+            .hasSize(SEATS);
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken())
+            .isEqualTo(SEATS);
+    }
+
+    private SubscriptionRequest request(long familyMemberId) {
+        return new SubscriptionRequest(
+            testActivity.getId(), familyMemberId, 5L, "Lucas", "Dupont",
+            SubscriptionType.ADHESION, LocalDate.of(2025, 9, 1), null);
+    }
+}
@@ -0,0 +1,210 @@
+package com.familyhobbies.associationservice.service.impl;
+
+import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
+import com.familyhobbies.associationservice.entity.Activity;
+import com.familyhobbies.associationservice.entity.Association;
+import com.familyhobbies.associationservice.entity.enums.ActivityLevel;
+import com.familyhobbies.associationservice.entity.enums.ActivityStatus;
+import com.familyhobbies.associationservice.entity.enums.AssociationCategory;
+import com.familyhobbies.associationservice.entity.enums.AssociationStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionStatus;
+import com.familyhobbies.associationservice.entity.enums.SubscriptionType;
+import com.familyhobbies.associationservice.event.SubscriptionEventPublisher;
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import com.familyhobbies.associationservice.service.SubscriptionService;
+import com.familyhobbies.errorhandling.exception.web.ConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the duplicate-subscription guard backed by uq_subscription_member_activity.
+ *
+ * The H2 schema gets an emulation of the PostgreSQL partial index from
+ * db/h2-constraints.sql (see application-test.yml).
+ *
+ * - Concurrent double submissions for the same member: exactly one subscription
+ * - Statement count: activity lookup + seat update + insert + association name for the
+ *   response, with no duplicate pre-check (one statement saved per call)
+ * - A cancelled subscription does not block re-subscribing
+ *
+ * Kafka publishing is mocked, as in SubscriptionCapacityConcurrencyIntegrationTest.
+ *
+ * Tests: 3 test methods
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SubscriptionDuplicateGuardIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionDuplicateGuardIntegrationTest.class);
+
+    private static final int CLICKS = 20;
+    private static final int SEQUENTIAL_CALLS = 200;
+    private static final long EXPECTED_CREATE_STATEMENTS = 4;
+
+    @MockBean
+    private SubscriptionEventPublisher eventPublisher;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AssociationRepository associationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Activity testActivity;
+
+    @BeforeEach
+    void setUp() {
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+
+        Association association = associationRepository.save(Association.builder()
+            .name("Lyon Natation Metropole")
+            .slug("lyon-natation-metropole")
+            .category(AssociationCategory.SPORT)
+            .status(AssociationStatus.ACTIVE)
+            .build());
+
+        testActivity = activityRepository.save(Activity.builder()
+            .association(association)
+            .name("Natation enfants")
+            .category(AssociationCategory.SPORT)
+            .level(ActivityLevel.BEGINNER)
+            .maxCapacity(1000)
+            .priceCents(18000)
+            .status(ActivityStatus.ACTIVE)
+            .build());
+    }
+
+    @Test
+    @DisplayName("should_createOneSubscription_when_sameMemberSubmitsConcurrently")
+    void should_createOneSubscription_when_sameMemberSubmitsConcurrently() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(CLICKS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CLICKS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    subscriptionService.createSubscription(request(10L), 100L);
+                    created.incrementAndGet();
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(CLICKS - 1);
+        assertThat(subscriptionRepository.count()).isEqualTo(1);
+        assertThat(activityRepository.findById(testActivity.getId()).orElseThrow().getSeatsTaken())
+            .as("Rejected duplicates must roll back their seat")
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_runFourStatements_when_creatingSubscription")
+    void should_runFourStatements_when_creatingSubscription() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        subscriptionService.createSubscription(request(1L), 100L);
+        statistics.clear();
+
+        // When
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SEQUENTIAL_CALLS; i++) {
+            subscriptionService.createSubscription(request(1000L + i), 100L);
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+        log.info("Duplicate guard: {} statements per createSubscription, {} us per call over {} calls",
+            statistics.getPrepareStatementCount() / SEQUENTIAL_CALLS, elapsedMicros / SEQUENTIAL_CALLS,
+            SEQUENTIAL_CALLS);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount())
+            .as("Activity lookup + seat update + insert + association load, without a duplicate pre-check")
+            .isEqualTo(EXPECTED_CREATE_STATEMENTS * SEQUENTIAL_CALLS);
+    }
+
+    @Test
+    @DisplayName("should_allowResubscribing_when_previousSubscriptionCancelled")
+    void should_allowResubscribing_when_previousSubscriptionCancelled() {
+        // Given
+        Long firstId = subscriptionService.createSubscription(request(10L), 100L).id();
+        assertThatThrownBy(() -> subscriptionService.createSubscription(request(10L), 100L))
+            .isInstanceOf(ConflictException.class);
+
+        // When
+        subscriptionService.cancelSubscription(firstId, 100L, "Wrong start date");
+        subscriptionService.createSubscription(request(10L), 100L);
+
+        // Then
+        assertThat(subscriptionRepository.findAll())
+            .extracting(s -> s.getStatus())
+            .containsExactlyInAnyOrder(SubscriptionStatus.CANCELLED, SubscriptionStatus.PENDING);
+    }
+
+    private SubscriptionRequest request(long familyMemberId) {
+        return new SubscriptionRequest(
+            testActivity.getId(), familyMemberId, 5L, "Lucas", "Dupont",
+            SubscriptionType.ADHESION, LocalDate.of(2025, 9, 1), null);
+    }
+}
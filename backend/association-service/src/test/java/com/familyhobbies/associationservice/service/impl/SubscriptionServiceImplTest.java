@@ -1,5 +1,6 @@
 package com.familyhobbies.associationservice.service.impl;
 
+import com.familyhobbies.associationservice.dto.request.BulkSubscriptionRequest;
 import com.familyhobbies.associationservice.dto.request.SubscriptionRequest;
 import com.familyhobbies.associationservice.dto.response.SubscriptionResponse;
 import com.familyhobbies.associationservice.entity.Activity;
@@ -25,9 +26,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -44,7 +47,7 @@ import static org.mockito.Mockito.when;
  * Unit tests for SubscriptionServiceImpl.
  *
  * Story: S3-003 -- Subscription Entity & Lifecycle
- * Tests: 14 test methods
+ * Tests: 18 test methods
  */
 @ExtendWith(MockitoExtension.class)
 class SubscriptionServiceImplTest {
@@ -119,8 +122,7 @@ class SubscriptionServiceImplTest {
     @DisplayName("should_createSubscription_when_validRequest")
     void should_createSubscription_when_validRequest() {
         when(activityRepository.findById(1L)).thenReturn(Optional.of(testActivity));
-        when(subscriptionRepository.findByActivity_IdAndFamilyMemberIdAndStatusIn(
-            eq(1L), eq(10L), any())).thenReturn(Collections.emptyList());
+        when(activityRepository.reserveSeats(1L, 1)).thenReturn(1);
         when(subscriptionMapper.toEntity(testRequest, testActivity, 100L)).thenReturn(testSubscription);
         when(subscriptionRepository.save(testSubscription)).thenReturn(testSubscription);
         when(subscriptionMapper.toResponse(testSubscription)).thenReturn(testResponse);
@@ -172,14 +174,78 @@ class SubscriptionServiceImplTest {
     @DisplayName("should_throwConflict_when_duplicateSubscription")
     void should_throwConflict_when_duplicateSubscription() {
         when(activityRepository.findById(1L)).thenReturn(Optional.of(testActivity));
-        when(subscriptionRepository.findByActivity_IdAndFamilyMemberIdAndStatusIn(
-            eq(1L), eq(10L), any())).thenReturn(List.of(testSubscription));
+        when(activityRepository.reserveSeats(1L, 1)).thenReturn(1);
+        when(subscriptionMapper.toEntity(testRequest, testActivity, 100L)).thenReturn(testSubscription);
+        when(subscriptionRepository.save(testSubscription))
+            .thenThrow(new DataIntegrityViolationException("uq_subscription_member_activity"));
 
         assertThatThrownBy(() -> subscriptionService.createSubscription(testRequest, 100L))
             .isInstanceOf(ConflictException.class)
             .hasMessageContaining("already has an active or pending subscription");
     }
 
+    @Test
+    @DisplayName("should_throwConflict_when_activityFull")
+    void should_throwConflict_when_activityFull() {
+        when(activityRepository.findById(1L)).thenReturn(Optional.of(testActivity));
+        when(activityRepository.reserveSeats(1L, 1)).thenReturn(0);
+
+        assertThatThrownBy(() -> subscriptionService.createSubscription(testRequest, 100L))
+            .isInstanceOf(ConflictException.class)
+            .hasMessageContaining("is full");
+
+        verify(subscriptionRepository, never()).save(any());
+        verify(eventPublisher, never()).publishSubscriptionCreated(any());
+    }
+
+    @Test
+    @DisplayName("should_createEveryPair_when_bulkRequestValid")
+    void should_createEveryPair_when_bulkRequestValid() {
+        Activity otherActivity = Activity.builder()
+            .id(2L)
+            .name("Water-polo")
+            .status(ActivityStatus.ACTIVE)
+            .priceCents(20000)
+            .build();
+        BulkSubscriptionRequest request = bulkRequest(List.of(2L, 1L), 10L, 11L);
+
+        when(activityRepository.findWithAssociationByIdIn(List.of(1L, 2L)))
+            .thenReturn(List.of(testActivity, otherActivity));
+        when(activityRepository.reserveSeats(1L, 2)).thenReturn(1);
+        when(activityRepository.reserveSeats(2L, 2)).thenReturn(1);
+        when(subscriptionMapper.toEntity(eq(request), any(), any(), eq(100L))).thenReturn(testSubscription);
+        when(subscriptionMapper.toResponse(testSubscription)).thenReturn(testResponse);
+
+        List<SubscriptionResponse> result = subscriptionService.createBulkSubscriptions(request, 100L);
+
+        assertThat(result).hasSize(4);
+        verify(subscriptionRepository).insertAll(List.of(
+            testSubscription, testSubscription, testSubscription, testSubscription));
+        verify(eventPublisher).publishSubscriptionsCreated(any());
+    }
+
+    @Test
+    @DisplayName("should_throwResourceNotFound_when_bulkActivityMissing")
+    void should_throwResourceNotFound_when_bulkActivityMissing() {
+        when(activityRepository.findWithAssociationByIdIn(List.of(1L, 999L))).thenReturn(List.of(testActivity));
+        when(activityRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        assertThatThrownBy(() -> subscriptionService.createBulkSubscriptions(
+                bulkRequest(List.of(1L, 999L), 10L), 100L))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(subscriptionRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("should_throwBadRequest_when_bulkMemberListedTwice")
+    void should_throwBadRequest_when_bulkMemberListedTwice() {
+        assertThatThrownBy(() -> subscriptionService.createBulkSubscriptions(
+                bulkRequest(List.of(1L), 10L, 10L), 100L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("more than once");
+    }
+
     @Test
     @DisplayName("should_findByFamilyId_when_validOwner")
     void should_findByFamilyId_when_validOwner() {
@@ -252,6 +318,7 @@ class SubscriptionServiceImplTest {
         assertThat(testSubscription.getStatus()).isEqualTo(SubscriptionStatus.CANCELLED);
         assertThat(testSubscription.getCancellationReason()).isEqualTo("Personal reasons");
         assertThat(testSubscription.getCancelledAt()).isNotNull();
+        verify(activityRepository).releaseSeats(1L, 1);
         verify(eventPublisher).publishSubscriptionCancelled(testSubscription);
     }
 
@@ -306,4 +373,12 @@ class SubscriptionServiceImplTest {
 
         assertThat(result).isEmpty();
     }
+
+    private BulkSubscriptionRequest bulkRequest(List<Long> activityIds, Long... memberIds) {
+        List<BulkSubscriptionRequest.Member> members = Arrays.stream(memberIds)
+            .map(id -> new BulkSubscriptionRequest.Member(id, "Child" + id, "Dupont"))
+            .toList();
+        return new BulkSubscriptionRequest(
+            5L, activityIds, members, SubscriptionType.ADHESION, LocalDate.of(2025, 9, 1), null);
+    }
 }
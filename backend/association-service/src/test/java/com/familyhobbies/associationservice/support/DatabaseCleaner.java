@@ -0,0 +1,60 @@
+package com.familyhobbies.associationservice.support;
+
+import com.familyhobbies.associationservice.repository.ActivityRepository;
+import com.familyhobbies.associationservice.repository.AssociationRepository;
+import com.familyhobbies.associationservice.repository.AttendanceBitmapRepository;
+import com.familyhobbies.associationservice.repository.AttendanceCounterRepository;
+import com.familyhobbies.associationservice.repository.AttendanceRepository;
+import com.familyhobbies.associationservice.repository.SessionRepository;
+import com.familyhobbies.associationservice.repository.SubscriptionRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Empties the association-service tables for integration tests, children before parents
+ * so that no foreign key blocks a delete.
+ *
+ * Integration tests share one in-memory database across Spring contexts: a class that
+ * writes attendance rows clears them after itself too, or classes that only clear
+ * subscriptions, activities and associations fail on the leftovers.
+ */
+@Component
+public class DatabaseCleaner {
+
+    private final AttendanceBitmapRepository attendanceBitmapRepository;
+    private final AttendanceCounterRepository attendanceCounterRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final SessionRepository sessionRepository;
+    private final ActivityRepository activityRepository;
+    private final AssociationRepository associationRepository;
+
+    public DatabaseCleaner(AttendanceBitmapRepository attendanceBitmapRepository,
+                           AttendanceCounterRepository attendanceCounterRepository,
+                           AttendanceRepository attendanceRepository,
+                           SubscriptionRepository subscriptionRepository,
+                           SessionRepository sessionRepository,
+                           ActivityRepository activityRepository,
+                           AssociationRepository associationRepository) {
+        this.attendanceBitmapRepository = attendanceBitmapRepository;
+        this.attendanceCounterRepository = attendanceCounterRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.sessionRepository = sessionRepository;
+        this.activityRepository = activityRepository;
+        this.associationRepository = associationRepository;
+    }
+
+    /**
+     * Deletes every bitmap, counter, attendance, subscription, session, activity and
+     * association, in that order.
+     */
+    public void clear() {
+        attendanceBitmapRepository.deleteAll();
+        attendanceCounterRepository.deleteAll();
+        attendanceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        sessionRepository.deleteAll();
+        activityRepository.deleteAll();
+        associationRepository.deleteAll();
+    }
+}
@@ -0,0 +1,10 @@
+-- Test-only constraints that Hibernate cannot generate from the entities.
+-- Runs after ddl-auto (spring.jpa.defer-datasource-initialization).
+
+-- H2 has no partial indexes: emulates PostgreSQL's
+-- uq_subscription_member_activity (family_member_id, activity_id) WHERE status IN ('PENDING', 'ACTIVE')
+-- with a generated column that is NULL (never conflicting) for other statuses.
+ALTER TABLE t_subscription ADD COLUMN IF NOT EXISTS holding_activity_id BIGINT
+    GENERATED ALWAYS AS (CASE WHEN status IN ('PENDING', 'ACTIVE') THEN activity_id END);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_subscription_member_activity
+    ON t_subscription (family_member_id, holding_activity_id);
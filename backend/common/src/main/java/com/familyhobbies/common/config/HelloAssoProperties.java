@@ -49,5 +49,19 @@ public class HelloAssoProperties {
 
         @Positive
         private int pageSize = 20;
+
+        /**
+         * Maximum number of HelloAsso requests in flight during a directory sync,
+         * across cities and pages.
+         */
+        @Positive
+        private int concurrency = 4;
+
+        /**
+         * Number of directory pages the {@code helloAssoSyncJob} reader fetches ahead of
+         * the step, while earlier pages are processed and written.
+         */
+        @Positive
+        private int readAhead = 4;
     }
 }